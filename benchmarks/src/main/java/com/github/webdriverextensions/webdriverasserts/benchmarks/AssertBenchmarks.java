@@ -0,0 +1,162 @@
+package com.github.webdriverextensions.webdriverasserts.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.WebDriverAssertionError;
+import com.github.webdriverextensions.webdriverasserts.WebDriverAsserts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.webdriverextensions.webdriverasserts.WebDriverAsserts.*;
+
+/**
+ * Passing asserts of the main assert families, and failing asserts with the
+ * html of the element in their message, run against a {@link FakeWebDriver}.
+ *
+ * <p>The latency of each driver command is set in microseconds with the
+ * {@code latencyMicros} parameter, e.g. {@code -p latencyMicros=0,200}.
+ * With no latency the benchmarks measure the overhead of the library itself,
+ * with latency they show what round trips cost.</p>
+ *
+ * <p>The failing asserts build their message, as a test report would, so
+ * they also count the script that renders the html of the element, one
+ * command where reading its inner html, tag name, attributes and tag name
+ * again one by one took four.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertBenchmarks {
+
+    private static final Pattern TEXT_PATTERN = Pattern.compile("Hello.*");
+
+    @Param({"0"})
+    public long latencyMicros;
+
+    FakeWebDriver driver;
+    private FakeWebElement text;
+    private FakeWebElement link;
+    private FakeWebElement select;
+    private FakeWebElement number;
+
+    @Setup
+    public void setUp() {
+        driver = new FakeWebDriver(latencyMicros, TimeUnit.MICROSECONDS);
+        text = driver.element("span").withText("Hello World");
+        link = driver.element("a")
+                .withAttribute("href", "https://github.com/webdriverextensions")
+                .withAttribute("class", "link link-primary active")
+                .withText("WebDriver Extensions");
+        select = driver.element("select")
+                .withOption("One", "1", false)
+                .withOption("Two", "2", true)
+                .withOption("Three", "3", false);
+        number = driver.element("span").withText("42.5");
+        WebDriverAsserts.setDriver(driver);
+    }
+
+    @TearDown
+    public void tearDown() {
+        WebDriverAsserts.removeDriver();
+    }
+
+    /* Text */
+    @Benchmark
+    public void textEquals() {
+        assertTextEquals("Hello World", text);
+    }
+
+    @Benchmark
+    public void textContains() {
+        assertTextContains("World", text);
+    }
+
+    @Benchmark
+    public void textMatches() {
+        assertTextMatches("Hello.*", text);
+    }
+
+    @Benchmark
+    public void textMatchesPattern() {
+        assertTextMatches(TEXT_PATTERN, text);
+    }
+
+    /* Attribute */
+    @Benchmark
+    public void attributeEquals() {
+        assertAttributeEquals("href", "https://github.com/webdriverextensions", link);
+    }
+
+    @Benchmark
+    public void hrefStartsWith() {
+        assertHrefStartsWith("https://", link);
+    }
+
+    /* Class */
+    @Benchmark
+    public void hasClass() {
+        assertHasClass("active", link);
+    }
+
+    @Benchmark
+    public void hasClassContaining() {
+        assertHasClassContaining("primary", link);
+    }
+
+    /* Option */
+    @Benchmark
+    public void hasOption() {
+        assertHasOption("Three", select);
+    }
+
+    @Benchmark
+    public void optionIsSelected() {
+        assertOptionIsSelected("Two", select);
+    }
+
+    /* Number */
+    @Benchmark
+    public void textNumberEquals() {
+        assertTextEquals(42.5, number);
+    }
+
+    @Benchmark
+    public void textNumberGreaterThan() {
+        assertTextGreaterThan(40, number);
+    }
+
+    /* Failing */
+    @Benchmark
+    public String textEqualsFailing() {
+        try {
+            assertTextEquals("Goodbye World", text);
+        } catch (WebDriverAssertionError e) {
+            return e.getMessage();
+        }
+        throw new IllegalStateException("assertTextEquals did not fail");
+    }
+
+    @Benchmark
+    public String hasClassFailing() {
+        try {
+            assertHasClass("disabled", link);
+        } catch (WebDriverAssertionError e) {
+            return e.getMessage();
+        }
+        throw new IllegalStateException("assertHasClass did not fail");
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.webdriverextensions.webdriverasserts.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the {@link AssertBenchmarks}.
+ *
+ * <p>First prints the driver commands each benchmarked assert sends, which
+ * does not depend on timing and so is exact, then runs the benchmarks with
+ * the GC profiler so that the results hold both ops/sec and allocations per
+ * assert ({@code gc.alloc.rate.norm}). Any JMH command line options are
+ * passed on, e.g. {@code java -jar target/benchmarks.jar -p latencyMicros=0,200}
+ * or {@code java -jar target/benchmarks.jar textEquals}.</p>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        printCommandsPerAssert();
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include(AssertBenchmarks.class.getName());
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+
+    private static void printCommandsPerAssert() {
+        System.out.println("# Driver commands per assert");
+        for (Method method : AssertBenchmarks.class.getMethods()) {
+            if (!method.isAnnotationPresent(Benchmark.class)) {
+                continue;
+            }
+            System.out.println(String.format("%-30s %d", method.getName(), commandsOf(method)));
+        }
+        System.out.println();
+    }
+
+    private static long commandsOf(Method method) {
+        AssertBenchmarks benchmarks = new AssertBenchmarks();
+        benchmarks.setUp();
+        try {
+            long before = benchmarks.driver.commands();
+            method.invoke(benchmarks);
+            return benchmarks.driver.commands() - before;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Benchmark " + method.getName() + " failed", e);
+        } finally {
+            benchmarks.tearDown();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.webdriverextensions.webdriverasserts.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+/**
+ * An in-process {@link WebDriver} that answers every command from memory
+ * after a configurable latency, standing in for the round trip to a real
+ * browser.
+ *
+ * <p>Counts the commands it is sent so benchmarks can report commands per
+ * assert. Answers the scripts of the library by recognizing their first
+ * statement, any other script returns null. Not thread safe, use one driver
+ * per benchmark thread.</p>
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor, HasCapabilities {
+
+    private final long latencyNanos;
+    private final Capabilities capabilities = new DesiredCapabilities("chrome", "50", Platform.LINUX);
+    private long commands;
+    private String currentUrl = "about:blank";
+    private String title = "";
+
+    public FakeWebDriver(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+    }
+
+    public FakeWebElement element(String tagName) {
+        return new FakeWebElement(this, tagName);
+    }
+
+    public long commands() {
+        return commands;
+    }
+
+    void command() {
+        commands++;
+        if (latencyNanos <= 0) {
+            return;
+        }
+        // Spin rather than sleep since sleeps are far less accurate than
+        // the microsecond latencies of a local driver
+        long end = System.nanoTime() + latencyNanos;
+        while (System.nanoTime() < end) {
+            // Wait
+        }
+    }
+
+    @Override
+    public void get(String url) {
+        command();
+        currentUrl = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        command();
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        command();
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        command();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        command();
+        throw new NoSuchElementException("Fake driver has no elements to find, create them with element(...)");
+    }
+
+    @Override
+    public String getPageSource() {
+        command();
+        return "";
+    }
+
+    @Override
+    public void close() {
+        command();
+    }
+
+    @Override
+    public void quit() {
+        command();
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        command();
+        return Collections.singleton(getWindowHandle());
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "fake";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage");
+    }
+
+    @Override
+    public Capabilities getCapabilities() {
+        command();
+        return capabilities;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        command();
+        if (script.startsWith("var select = arguments[0];")) {
+            return selectOf((FakeWebElement) args[0]);
+        }
+        if (script.startsWith("var element = arguments[0];var maxLength = arguments[1];")) {
+            return htmlOf((FakeWebElement) args[0]);
+        }
+        if (script.startsWith("var element = arguments[0];")) {
+            return snapshotOf((FakeWebElement) args[0]);
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        throw new UnsupportedOperationException("executeAsyncScript");
+    }
+
+    private static Map<String, Object> selectOf(FakeWebElement select) {
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (FakeWebElement option : select.options()) {
+            Map<String, Object> optionMap = new LinkedHashMap<>();
+            optionMap.put("text", option.text());
+            optionMap.put("value", option.attributes().get("value"));
+            optionMap.put("enabled", option.enabled());
+            optionMap.put("selected", option.selected());
+            options.add(optionMap);
+        }
+        Map<String, Object> selectMap = new LinkedHashMap<>();
+        selectMap.put("tagName", select.tagName());
+        selectMap.put("options", options);
+        return selectMap;
+    }
+
+    private static Map<String, Object> htmlOf(FakeWebElement element) {
+        StringBuilder attributes = new StringBuilder();
+        for (Map.Entry<String, String> attribute : element.attributes().entrySet()) {
+            if (attributes.length() > 0) {
+                attributes.append(' ');
+            }
+            attributes.append(attribute.getKey()).append("=\"").append(attribute.getValue()).append('"');
+        }
+        Map<String, Object> html = new LinkedHashMap<>();
+        html.put("tagName", element.tagName());
+        html.put("attributes", attributes.toString());
+        html.put("innerHtml", element.text());
+        html.put("truncated", false);
+        return html;
+    }
+
+    private static Map<String, Object> snapshotOf(FakeWebElement element) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("tagName", element.tagName());
+        snapshot.put("attributes", new LinkedHashMap<String, Object>(element.attributes()));
+        snapshot.put("text", element.displayed() ? element.text() : "");
+        snapshot.put("value", element.attributes().get("value"));
+        snapshot.put("displayed", element.displayed());
+        snapshot.put("enabled", element.enabled());
+        snapshot.put("selected", element.selected());
+        return snapshot;
+    }
+}
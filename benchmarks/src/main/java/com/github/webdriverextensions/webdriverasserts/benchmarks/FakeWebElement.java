@@ -0,0 +1,210 @@
+package com.github.webdriverextensions.webdriverasserts.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+/**
+ * A {@link WebElement} of a {@link FakeWebDriver}. Every command is counted
+ * and delayed by the driver.
+ */
+public class FakeWebElement implements WebElement {
+
+    private final FakeWebDriver driver;
+    private final String tagName;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final List<FakeWebElement> options = new ArrayList<>();
+    private String text = "";
+    private boolean displayed = true;
+    private boolean enabled = true;
+    private boolean selected;
+
+    FakeWebElement(FakeWebDriver driver, String tagName) {
+        this.driver = driver;
+        this.tagName = tagName;
+    }
+
+    public FakeWebElement withText(String text) {
+        this.text = text;
+        return this;
+    }
+
+    public FakeWebElement withAttribute(String name, String value) {
+        attributes.put(name, value);
+        return this;
+    }
+
+    public FakeWebElement withOption(String text, String value, boolean selected) {
+        FakeWebElement option = new FakeWebElement(driver, "option").withText(text).withAttribute("value", value);
+        option.selected = selected;
+        options.add(option);
+        return this;
+    }
+
+    public FakeWebElement displayed(boolean displayed) {
+        this.displayed = displayed;
+        return this;
+    }
+
+    public FakeWebElement enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public FakeWebElement selected(boolean selected) {
+        this.selected = selected;
+        return this;
+    }
+
+    String tagName() {
+        return tagName;
+    }
+
+    String text() {
+        return text;
+    }
+
+    Map<String, String> attributes() {
+        return attributes;
+    }
+
+    List<FakeWebElement> options() {
+        return options;
+    }
+
+    boolean displayed() {
+        return displayed;
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    boolean selected() {
+        return selected;
+    }
+
+    @Override
+    public void click() {
+        driver.command();
+    }
+
+    @Override
+    public void submit() {
+        driver.command();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.command();
+        StringBuilder value = new StringBuilder(attributes.containsKey("value") ? attributes.get("value") : "");
+        for (CharSequence keys : keysToSend) {
+            value.append(keys);
+        }
+        attributes.put("value", value.toString());
+    }
+
+    @Override
+    public void clear() {
+        driver.command();
+        attributes.put("value", "");
+    }
+
+    @Override
+    public String getTagName() {
+        driver.command();
+        return tagName;
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        driver.command();
+        return attributes.get(name);
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.command();
+        return selected;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.command();
+        return enabled;
+    }
+
+    @Override
+    public String getText() {
+        driver.command();
+        return displayed ? text : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        driver.command();
+        if (by.toString().equals(By.tagName("option").toString())) {
+            return Collections.<WebElement>unmodifiableList(options);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> found = findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Fake element has no element matching " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.command();
+        return displayed;
+    }
+
+    @Override
+    public Point getLocation() {
+        driver.command();
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        driver.command();
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        driver.command();
+        return new Rectangle(0, 0, 20, 100);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        driver.command();
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException("getScreenshotAs");
+    }
+
+    @Override
+    public String toString() {
+        return "<" + tagName + " " + attributes + ">" + text;
+    }
+}
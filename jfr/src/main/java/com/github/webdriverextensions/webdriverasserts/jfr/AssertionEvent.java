@@ -0,0 +1,35 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A call of an assert or action.
+ */
+@Name("webdriverasserts.Assertion")
+@Label("Assertion")
+@Category({"WebDriver Asserts"})
+@Description("A call of an assert or action, including the calls it made")
+public class AssertionEvent extends Event {
+
+    @Label("Assertion")
+    @Description("The assert or action called")
+    String assertion;
+
+    @Label("Call Time")
+    @Description("The wall time of the call, including waits")
+    @Timespan(Timespan.NANOSECONDS)
+    long callTime;
+
+    @Label("Commands")
+    @Description("The number of commands the call sent to the driver")
+    int commands;
+
+    @Label("Scripts")
+    @Description("The number of those commands that executed javascript")
+    int scripts;
+}
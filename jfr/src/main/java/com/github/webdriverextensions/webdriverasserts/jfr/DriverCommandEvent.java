@@ -0,0 +1,34 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A command other than a script execution sent to the driver, e.g.
+ * {@code getText}.
+ */
+@Name("webdriverasserts.DriverCommand")
+@Label("Driver Command")
+@Category({"WebDriver Asserts"})
+@Description("A command the asserts and actions sent to the driver")
+public class DriverCommandEvent extends Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Assertion")
+    @Description("The outermost assert or action that sent the command")
+    String assertion;
+
+    @Label("Driver Time")
+    @Description("The time the driver took to answer")
+    @Timespan(Timespan.NANOSECONDS)
+    long driverTime;
+
+    @Label("Failed")
+    boolean failed;
+}
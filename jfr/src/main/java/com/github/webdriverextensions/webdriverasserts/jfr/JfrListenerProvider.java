@@ -0,0 +1,138 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.github.webdriverextensions.webdriverasserts.AssertionListener;
+import com.github.webdriverextensions.webdriverasserts.CommandEvent;
+import com.github.webdriverextensions.webdriverasserts.CommandListener;
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+import com.github.webdriverextensions.webdriverasserts.ListenerProvider;
+import com.github.webdriverextensions.webdriverasserts.WaitListener;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Emits a {@link DriverCommandEvent} or {@link ScriptExecutionEvent} for each
+ * command, a {@link WaitEvent} for each wait and an {@link AssertionEvent} for
+ * each call of the asserts and actions.
+ *
+ * <p>Installed through {@link java.util.ServiceLoader} when the jar is on the
+ * classpath. The listeners are only registered while a recording is running,
+ * so when nothing is recorded commands are sent to the driver as if this
+ * module was not there.</p>
+ */
+public class JfrListenerProvider implements ListenerProvider {
+
+    private static final Listener LISTENER = new Listener();
+    private static boolean registered;
+
+    @Override
+    public void install() {
+        if (!FlightRecorder.isAvailable()) {
+            return;
+        }
+        FlightRecorder.register(DriverCommandEvent.class);
+        FlightRecorder.register(ScriptExecutionEvent.class);
+        FlightRecorder.register(WaitEvent.class);
+        FlightRecorder.register(AssertionEvent.class);
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                update(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update(FlightRecorder.getFlightRecorder());
+            }
+        });
+    }
+
+    private static synchronized void update(FlightRecorder recorder) {
+        boolean recording = false;
+        for (Recording candidate : recorder.getRecordings()) {
+            recording |= candidate.getState() == RecordingState.RUNNING;
+        }
+        if (recording && !registered) {
+            CommandListeners.add(LISTENER);
+            CommandListeners.addWaitListener(LISTENER);
+        } else if (!recording && registered) {
+            CommandListeners.remove(LISTENER);
+            CommandListeners.removeWaitListener(LISTENER);
+        }
+        registered = recording;
+    }
+
+    static long sizeOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof CharSequence) {
+            return ((CharSequence) result).length();
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        }
+        return 1;
+    }
+
+    private static class Listener implements CommandListener, WaitListener, AssertionListener {
+
+        @Override
+        public void onCommand(CommandEvent event) {
+            if (event.isScript()) {
+                ScriptExecutionEvent scriptExecution = new ScriptExecutionEvent();
+                if (scriptExecution.isEnabled()) {
+                    scriptExecution.command = event.getCommand();
+                    scriptExecution.assertion = event.getAssertion();
+                    scriptExecution.scriptLength = event.getScript().length();
+                    scriptExecution.resultSize = sizeOf(event.getResult());
+                    scriptExecution.driverTime = event.getDurationNanos();
+                    scriptExecution.failed = event.getFailure() != null;
+                    scriptExecution.commit();
+                }
+            } else {
+                DriverCommandEvent driverCommand = new DriverCommandEvent();
+                if (driverCommand.isEnabled()) {
+                    driverCommand.command = event.getCommand();
+                    driverCommand.assertion = event.getAssertion();
+                    driverCommand.driverTime = event.getDurationNanos();
+                    driverCommand.failed = event.getFailure() != null;
+                    driverCommand.commit();
+                }
+            }
+        }
+
+        @Override
+        public void onWait(com.github.webdriverextensions.webdriverasserts.WaitEvent event) {
+            WaitEvent wait = new WaitEvent();
+            if (wait.isEnabled()) {
+                wait.condition = event.getCondition();
+                wait.assertion = event.getAssertion();
+                wait.timeout = event.getTimeoutNanos();
+                wait.waitTime = event.getDurationNanos();
+                wait.polls = event.getPolls();
+                wait.satisfied = event.isSatisfied();
+                wait.commit();
+            }
+        }
+
+        @Override
+        public void onAssertion(com.github.webdriverextensions.webdriverasserts.AssertionEvent event) {
+            AssertionEvent assertion = new AssertionEvent();
+            if (assertion.isEnabled()) {
+                assertion.assertion = event.getAssertion();
+                assertion.callTime = event.getDurationNanos();
+                assertion.commands = event.getCommands();
+                assertion.scripts = event.getScripts();
+                assertion.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A javascript executed by the driver.
+ */
+@Name("webdriverasserts.ScriptExecution")
+@Label("Script Execution")
+@Category({"WebDriver Asserts"})
+@Description("A javascript the asserts and actions executed in the browser")
+public class ScriptExecutionEvent extends Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Assertion")
+    @Description("The outermost assert or action that executed the script")
+    String assertion;
+
+    @Label("Script Length")
+    @Description("The number of characters of the script")
+    long scriptLength;
+
+    @Label("Result Size")
+    @Description("The length of a string result or the size of a list or map result")
+    long resultSize;
+
+    @Label("Driver Time")
+    @Description("The time the driver took to answer")
+    @Timespan(Timespan.NANOSECONDS)
+    long driverTime;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,42 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A wait of the asserts and actions.
+ */
+@Name("webdriverasserts.Wait")
+@Label("Wait")
+@Category({"WebDriver Asserts"})
+@Description("A wait of the asserts and actions for a condition")
+public class WaitEvent extends Event {
+
+    @Label("Condition")
+    String condition;
+
+    @Label("Assertion")
+    @Description("The outermost assert or action that waited")
+    String assertion;
+
+    @Label("Timeout")
+    @Description("The longest time the wait was allowed to take")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeout;
+
+    @Label("Wait Time")
+    @Description("The time the wait took")
+    @Timespan(Timespan.NANOSECONDS)
+    long waitTime;
+
+    @Label("Polls")
+    @Description("The number of times the condition was checked")
+    int polls;
+
+    @Label("Satisfied")
+    boolean satisfied;
+}
@@ -0,0 +1,117 @@
+package com.github.webdriverextensions.webdriverasserts.jfr;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+import com.github.webdriverextensions.webdriverasserts.WebDriverActions;
+import com.github.webdriverextensions.webdriverasserts.WebDriverAsserts;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JfrListenerProviderTest {
+
+    @After
+    public void tearDown() {
+        WebDriverAsserts.removeDriver();
+    }
+
+    @Test
+    public void commandsScriptsWaitsAndAssertionsAreRecorded() throws Exception {
+        Path file = Files.createTempFile("webdriverasserts", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(DriverCommandEvent.class);
+            recording.enable(ScriptExecutionEvent.class);
+            recording.enable(WaitEvent.class);
+            recording.enable(AssertionEvent.class);
+            recording.start();
+
+            WebDriverAsserts.setDriver(stub(WebDriver.class, "Title", JavascriptExecutor.class));
+            WebDriverAsserts.assertTitleEquals("Title");
+            WebDriverActions.executeJavascript("return 'Title';");
+            WebDriverAsserts.assertIsDisplayed(stub(WebElement.class, true), 1);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        RecordedEvent title = only("webdriverasserts.DriverCommand", "getTitle", events);
+        assertEquals("WebDriverAsserts.assertTitleEquals", title.getString("assertion"));
+        RecordedEvent script = only("webdriverasserts.ScriptExecution", "executeScript", events);
+        assertEquals("WebDriverActions.executeJavascript", script.getString("assertion"));
+        assertEquals("return 'Title';".length(), script.getLong("scriptLength"));
+        assertEquals("Title".length(), script.getLong("resultSize"));
+        RecordedEvent wait = only("webdriverasserts.Wait", null, events);
+        assertEquals("WebDriverAsserts.assertIsDisplayed", wait.getString("assertion"));
+        assertEquals(1000000000L, wait.getLong("timeout"));
+        assertEquals(1, wait.getInt("polls"));
+        assertTrue(wait.getBoolean("satisfied"));
+        RecordedEvent assertion = only("webdriverasserts.Assertion", "assertion", "WebDriverAsserts.assertTitleEquals", events);
+        assertEquals(1, assertion.getInt("commands"));
+        assertEquals(0, assertion.getInt("scripts"));
+        assertTrue(assertion.getLong("callTime") > 0);
+    }
+
+    @Test
+    public void listenersAreOnlyRegisteredWhileRecording() {
+        assertTrue(CommandListeners.isEmpty());
+        try (Recording recording = new Recording()) {
+            recording.start();
+            assertTrue(!CommandListeners.isEmpty());
+        }
+        assertTrue(CommandListeners.isEmpty());
+    }
+
+    private static RecordedEvent only(String eventName, String command, List<RecordedEvent> events) {
+        return only(eventName, "command", command, events);
+    }
+
+    private static RecordedEvent only(String eventName, String field, String value, List<RecordedEvent> events) {
+        RecordedEvent only = null;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(eventName) && (value == null || value.equals(event.getString(field)))) {
+                assertTrue("More than one " + eventName + " " + value, only == null);
+                only = event;
+            }
+        }
+        assertTrue("No " + eventName + " " + value, only != null);
+        return only;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, final Object result, Class<?>... otherTypes) {
+        Class<?>[] types = new Class<?>[otherTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(otherTypes, 0, types, 1, otherTypes.length);
+        return (T) Proxy.newProxyInstance(JfrListenerProviderTest.class.getClassLoader(), types, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("equals")) {
+                    return proxy == args[0];
+                }
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (method.getName().equals("toString")) {
+                    return "Stub " + method.getDeclaringClass().getSimpleName();
+                }
+                return result;
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * A call of an assert or action passed to the {@link AssertionListener}s.
+ */
+public class AssertionEvent {
+
+    private final String assertion;
+    private final long durationNanos;
+    private final int commands;
+    private final int scripts;
+    private final String threadName;
+
+    public AssertionEvent(String assertion, long durationNanos, int commands, int scripts) {
+        this.assertion = assertion;
+        this.durationNanos = durationNanos;
+        this.commands = commands;
+        this.scripts = scripts;
+        this.threadName = Thread.currentThread().getName();
+    }
+
+    /**
+     * @return the assert or action called, named like
+     * {@link CommandEvent#getAssertion()}, e.g.
+     * {@code WebDriverAsserts.assertTextEquals}
+     */
+    public String getAssertion() {
+        return assertion;
+    }
+
+    /**
+     * @return the wall time of the call, including waits
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the number of commands the call sent to the driver
+     */
+    public int getCommands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of those commands that executed javascript
+     */
+    public int getScripts() {
+        return scripts;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    @Override
+    public String toString() {
+        return assertion + " sent " + commands + " commands in " + durationNanos + " ns";
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Listens to the calls of the asserts and actions, e.g. each call of
+ * {@link WebDriverAsserts#assertTextEquals(String, org.openqa.selenium.WebElement)}.
+ *
+ * <p>Register listeners with
+ * {@link CommandListeners#addAssertionListener(AssertionListener)}. Only the
+ * outermost call is passed, i.e. not the {@code assertAttributeEquals} that
+ * {@code assertIdEquals} calls. Listeners are called in the thread that made
+ * the call, right after it returned or threw, so they should be fast and
+ * must be thread safe.</p>
+ */
+public interface AssertionListener {
+
+    void onAssertion(AssertionEvent event);
+}
@@ -0,0 +1,2039 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Asserts bound to one driver that run in the background and return a
+ * future. Get one with {@link WebDriverAsserts#async(WebDriver)}.
+ *
+ * <p>The asserts of one {@link AsyncAsserts} run one after another in the
+ * order they were made, each on a pool thread with the driver set as its
+ * {@link DriverContext}, so that asserts on different drivers overlap while
+ * no driver is used by two threads at once. An assert runs whether or not
+ * the asserts before it failed. The {@link Deadline} and {@link WaitTiming}
+ * of the thread making the assert apply to it too.</p>
+ *
+ * <p>Join the futures with {@link #allOf(ListenableFuture[])}, which fails
+ * with a {@link SoftAssertionError} listing every failed assert, or with
+ * {@link #assertAll(ListenableFuture[])}, which waits and throws it.</p>
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * {@code
+ * AsyncAsserts alice = async("alice", aliceDriver);
+ * AsyncAsserts bob = async("bob", bobDriver);
+ * assertAll(
+ *         alice.assertTextEquals("Hi Bob", lastMessage),
+ *         bob.assertTextEquals("Hi Bob", lastMessage));}</pre>
+ * </p>
+ *
+ * <p>Elements must be found by, or for page factory elements initialized
+ * with, the driver the asserts are bound to.</p>
+ */
+public class AsyncAsserts {
+
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "AsyncAsserts-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final String name;
+    private final WebDriver driver;
+    private final Executor executor;
+    private ListenableFuture<?> last = Futures.immediateFuture(null);
+
+    AsyncAsserts(String name, WebDriver driver, Executor executor) {
+        if (driver == null) {
+            throw new IllegalArgumentException("driver is null");
+        }
+        this.name = name;
+        this.driver = driver;
+        this.executor = executor != null ? executor : DEFAULT_EXECUTOR;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return the name given to the asserts or null
+     */
+    public String getName() {
+        return name;
+    }
+
+    private ListenableFuture<Void> submit(String assertName, Runnable assertion) {
+        Assertion future = new Assertion(name != null ? assertName + " on " + name : assertName, driver, assertion);
+        ListenableFuture<?> previous;
+        synchronized (this) {
+            previous = last;
+            last = future;
+        }
+        previous.addListener(future, executor);
+        return future;
+    }
+
+
+
+    /* Checks */
+    /**
+     * Runs a block of asserts and actions like any assert, e.g. a check
+     * shared by several tests.
+     *
+     * @param checkName names the block in failures
+     */
+    public ListenableFuture<Void> check(String checkName, Runnable block) {
+        return submit(checkName, block);
+    }
+
+
+
+    /* Joining */
+    /**
+     * @return a future that completes when all futures have completed and
+     * fails with a {@link SoftAssertionError} listing the failed asserts in
+     * the order given if any of them failed
+     */
+    public static ListenableFuture<Void> allOf(ListenableFuture<?>... futures) {
+        return allOf(Arrays.asList(futures));
+    }
+
+    /**
+     * @see #allOf(ListenableFuture[])
+     */
+    public static ListenableFuture<Void> allOf(Collection<? extends ListenableFuture<?>> futures) {
+        final List<ListenableFuture<?>> joined = new ArrayList<>(futures);
+        final SettableFuture<Void> all = SettableFuture.create();
+        if (joined.isEmpty()) {
+            all.set(null);
+            return all;
+        }
+        final AtomicInteger pending = new AtomicInteger(joined.size());
+        Runnable completed = new Runnable() {
+            @Override
+            public void run() {
+                if (pending.decrementAndGet() == 0) {
+                    SoftAssertionError failure = failureOf(joined);
+                    if (failure == null) {
+                        all.set(null);
+                    } else {
+                        all.setException(failure);
+                    }
+                }
+            }
+        };
+        for (ListenableFuture<?> future : joined) {
+            future.addListener(completed, MoreExecutors.directExecutor());
+        }
+        return all;
+    }
+
+    /**
+     * Waits for all futures to complete.
+     *
+     * @throws SoftAssertionError if any of them failed
+     * @throws WaitInterruptedException if the thread is interrupted while it
+     * waits, the interrupt status is kept
+     */
+    public static void assertAll(ListenableFuture<?>... futures) {
+        assertAll(Arrays.asList(futures));
+    }
+
+    /**
+     * @see #assertAll(ListenableFuture[])
+     */
+    public static void assertAll(Collection<? extends ListenableFuture<?>> futures) {
+        List<ListenableFuture<?>> joined = new ArrayList<>(futures);
+        for (ListenableFuture<?> future : joined) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WaitInterruptedException("Interrupted while waiting for the asserts", e);
+            } catch (ExecutionException | CancellationException e) {
+                // Collected below
+            }
+        }
+        SoftAssertionError failure = failureOf(joined);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * @param futures completed futures
+     */
+    private static SoftAssertionError failureOf(List<ListenableFuture<?>> futures) {
+        List<String> asserts = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (ListenableFuture<?> future : futures) {
+            try {
+                Uninterruptibles.getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                asserts.add(assertNameOf(future));
+                failures.add(e.getCause());
+            } catch (CancellationException e) {
+                asserts.add(assertNameOf(future));
+                failures.add(e);
+            }
+        }
+        return failures.isEmpty() ? null : new SoftAssertionError(futures.size(), asserts, failures);
+    }
+
+    private static String assertNameOf(ListenableFuture<?> future) {
+        return future instanceof Assertion ? ((Assertion) future).assertName : future.toString();
+    }
+
+    /**
+     * An assert run with the driver, deadline and wait timing it was made
+     * with.
+     */
+    private static class Assertion extends AbstractFuture<Void> implements Runnable {
+
+        private final String assertName;
+        private final WebDriver driver;
+        private final Runnable assertion;
+        private final Deadline deadline;
+        private final WaitTiming timing;
+
+        Assertion(String assertName, WebDriver driver, Runnable assertion) {
+            this.assertName = assertName;
+            this.driver = driver;
+            this.assertion = assertion;
+            this.deadline = Deadline.current();
+            this.timing = WaitTiming.current();
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            WaitTiming runTiming = timing.isSystem() ? null : WaitTiming.open(timing.clock(), timing.sleeper());
+            Deadline runDeadline = deadline != null ? Deadline.open(Math.max(deadline.remainingNanos(), 0), TimeUnit.NANOSECONDS) : null;
+            try (DriverContext context = DriverContext.open(driver)) {
+                assertion.run();
+                set(null);
+            } catch (Throwable t) {
+                setException(t);
+            } finally {
+                if (runDeadline != null) {
+                    runDeadline.close();
+                }
+                if (runTiming != null) {
+                    runTiming.close();
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return assertName;
+        }
+    }
+
+
+
+    /* Is Displayed */
+    public ListenableFuture<Void> assertIsDisplayed(final WebElement webElement) {
+        return submit("assertIsDisplayed", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsDisplayed(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsNotDisplayed(final WebElement webElement) {
+        return submit("assertIsNotDisplayed", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsNotDisplayed(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsDisplayed(final WebElement webElement, final long secondsToWait) {
+        return submit("assertIsDisplayed", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsDisplayed(webElement, secondsToWait);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsNotDisplayed(final WebElement webElement, final long secondsToWait) {
+        return submit("assertIsNotDisplayed", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsNotDisplayed(webElement, secondsToWait);
+            }
+        });
+    }
+
+
+
+    /* Size */
+    public ListenableFuture<Void> assertSizeEquals(final int number, final Collection collection) {
+        return submit("assertSizeEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeEquals(number, collection);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertSizeNotEquals(final int number, final Collection collection) {
+        return submit("assertSizeNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeNotEquals(number, collection);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertSizeLessThan(final int number, final Collection collection) {
+        return submit("assertSizeLessThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeLessThan(number, collection);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertSizeLessThanOrEquals(final int number, final Collection collection) {
+        return submit("assertSizeLessThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeLessThanOrEquals(number, collection);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertSizeGreaterThan(final int number, final Collection collection) {
+        return submit("assertSizeGreaterThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeGreaterThan(number, collection);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertSizeGreaterThanOrEquals(final int number, final Collection collection) {
+        return submit("assertSizeGreaterThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertSizeGreaterThanOrEquals(number, collection);
+            }
+        });
+    }
+
+
+
+    /* Count */
+    public ListenableFuture<Void> assertCountEquals(final int number, final By by) {
+        return submit("assertCountEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountEquals(number, by);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCountNotEquals(final int number, final By by) {
+        return submit("assertCountNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountNotEquals(number, by);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCountLessThan(final int number, final By by) {
+        return submit("assertCountLessThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountLessThan(number, by);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCountLessThanOrEquals(final int number, final By by) {
+        return submit("assertCountLessThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountLessThanOrEquals(number, by);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCountGreaterThan(final int number, final By by) {
+        return submit("assertCountGreaterThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountGreaterThan(number, by);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCountGreaterThanOrEquals(final int number, final By by) {
+        return submit("assertCountGreaterThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCountGreaterThanOrEquals(number, by);
+            }
+        });
+    }
+
+
+
+    /* Current Url */
+    public ListenableFuture<Void> assertCurrentUrlEquals(final String url) {
+        return submit("assertCurrentUrlEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlEquals(url);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotEquals(final String url) {
+        return submit("assertCurrentUrlNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotEquals(url);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlContains(final String searchText) {
+        return submit("assertCurrentUrlContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlContains(searchText);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotContains(final String searchText) {
+        return submit("assertCurrentUrlNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotContains(searchText);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlStartsWith(final String prefix) {
+        return submit("assertCurrentUrlStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlStartsWith(prefix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotStartsWith(final String prefix) {
+        return submit("assertCurrentUrlNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotStartsWith(prefix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlEndsWith(final String suffix) {
+        return submit("assertCurrentUrlEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlEndsWith(suffix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotEndsWith(final String suffix) {
+        return submit("assertCurrentUrlNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotEndsWith(suffix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlMatches(final String regExp) {
+        return submit("assertCurrentUrlMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlMatches(final Pattern regExp) {
+        return submit("assertCurrentUrlMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotMatches(final String regExp) {
+        return submit("assertCurrentUrlNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertCurrentUrlNotMatches(final Pattern regExp) {
+        return submit("assertCurrentUrlNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            }
+        });
+    }
+
+
+
+    /* Title */
+    public ListenableFuture<Void> assertTitleEquals(final String title) {
+        return submit("assertTitleEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleEquals(title);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotEquals(final String title) {
+        return submit("assertTitleNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotEquals(title);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleContains(final String searchText) {
+        return submit("assertTitleContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleContains(searchText);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotContains(final String searchText) {
+        return submit("assertTitleNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotContains(searchText);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleStartsWith(final String prefix) {
+        return submit("assertTitleStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleStartsWith(prefix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotStartsWith(final String prefix) {
+        return submit("assertTitleNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotStartsWith(prefix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleEndsWith(final String suffix) {
+        return submit("assertTitleEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleEndsWith(suffix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotEndsWith(final String suffix) {
+        return submit("assertTitleNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotEndsWith(suffix);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleMatches(final String regExp) {
+        return submit("assertTitleMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleMatches(final Pattern regExp) {
+        return submit("assertTitleMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotMatches(final String regExp) {
+        return submit("assertTitleNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTitleNotMatches(final Pattern regExp) {
+        return submit("assertTitleNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            }
+        });
+    }
+
+
+
+    /* Tag Name */
+    public ListenableFuture<Void> assertTagNameEquals(final String value, final WebElement webElement) {
+        return submit("assertTagNameEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTagNameEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTagNameNotEquals(final String value, final WebElement webElement) {
+        return submit("assertTagNameNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTagNameNotEquals(value, webElement);
+            }
+        });
+    }
+
+
+
+    /* Attribute */
+    public ListenableFuture<Void> assertHasAttribute(final String name, final WebElement webElement) {
+        return submit("assertHasAttribute", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasAttribute(name, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotAttribute(final String name, final WebElement webElement) {
+        return submit("assertHasNotAttribute", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotAttribute(name, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeEquals(final String name, final String value, final WebElement webElement) {
+        return submit("assertAttributeEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeEquals(name, value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotEquals(final String name, final String value, final WebElement webElement) {
+        return submit("assertAttributeNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotEquals(name, value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeContains(final String name, final String searchText, final WebElement webElement) {
+        return submit("assertAttributeContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeContains(name, searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotContains(final String name, final String searchText, final WebElement webElement) {
+        return submit("assertAttributeNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotContains(name, searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeStartsWith(final String name, final String prefix, final WebElement webElement) {
+        return submit("assertAttributeStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeStartsWith(name, prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotStartsWith(final String name, final String prefix, final WebElement webElement) {
+        return submit("assertAttributeNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotStartsWith(name, prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeEndsWith(final String name, final String suffix, final WebElement webElement) {
+        return submit("assertAttributeEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeEndsWith(name, suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotEndsWith(final String name, final String suffix, final WebElement webElement) {
+        return submit("assertAttributeNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotEndsWith(name, suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeMatches(final String name, final String regExp, final WebElement webElement) {
+        return submit("assertAttributeMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        return submit("assertAttributeMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotMatches(final String name, final String regExp, final WebElement webElement) {
+        return submit("assertAttributeNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        return submit("assertAttributeNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Attribute as Number */
+    public ListenableFuture<Void> assertAttributeIsNumber(final String name, final WebElement webElement) {
+        return submit("assertAttributeIsNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeIsNumber(name, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeIsNotNumber(final String name, final WebElement webElement) {
+        return submit("assertAttributeIsNotNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeIsNotNumber(name, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeEquals(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeEquals(name, number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeNotEquals(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeNotEquals(name, number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeLessThan(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeLessThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeLessThan(name, number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeLessThanOrEquals(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeLessThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeLessThanOrEquals(name, number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeGreaterThan(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeGreaterThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeGreaterThan(name, number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAttributeGreaterThanOrEquals(final String name, final double number, final WebElement webElement) {
+        return submit("assertAttributeGreaterThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAttributeGreaterThanOrEquals(name, number, webElement);
+            }
+        });
+    }
+
+
+
+    /* Id */
+    public ListenableFuture<Void> assertIdEquals(final String value, final WebElement webElement) {
+        return submit("assertIdEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotEquals(final String value, final WebElement webElement) {
+        return submit("assertIdNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdContains(final String searchText, final WebElement webElement) {
+        return submit("assertIdContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotContains(final String searchText, final WebElement webElement) {
+        return submit("assertIdNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertIdStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertIdNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertIdEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertIdNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdMatches(final String regExp, final WebElement webElement) {
+        return submit("assertIdMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertIdMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotMatches(final String regExp, final WebElement webElement) {
+        return submit("assertIdNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIdNotMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertIdNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Name */
+    public ListenableFuture<Void> assertNameEquals(final String value, final WebElement webElement) {
+        return submit("assertNameEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotEquals(final String value, final WebElement webElement) {
+        return submit("assertNameNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameContains(final String searchText, final WebElement webElement) {
+        return submit("assertNameContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotContains(final String searchText, final WebElement webElement) {
+        return submit("assertNameNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertNameStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertNameNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertNameEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertNameNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameMatches(final String regExp, final WebElement webElement) {
+        return submit("assertNameMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertNameMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotMatches(final String regExp, final WebElement webElement) {
+        return submit("assertNameNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNameNotMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertNameNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Class */
+    public ListenableFuture<Void> assertHasClass(final WebElement webElement) {
+        return submit("assertHasClass", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClass(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClass(final WebElement webElement) {
+        return submit("assertHasNotClass", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClass(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClass(final String className, final WebElement webElement) {
+        return submit("assertHasClass", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClass(className, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClass(final String className, final WebElement webElement) {
+        return submit("assertHasNotClass", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClass(className, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClassContaining(final String searchText, final WebElement webElement) {
+        return submit("assertHasClassContaining", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClassContaining(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClassContaining(final String searchText, final WebElement webElement) {
+        return submit("assertHasNotClassContaining", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClassContaining(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClassStartingWith(final String prefix, final WebElement webElement) {
+        return submit("assertHasClassStartingWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClassStartingWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClassStartingWith(final String prefix, final WebElement webElement) {
+        return submit("assertHasNotClassStartingWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClassStartingWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClassEndingWith(final String suffix, final WebElement webElement) {
+        return submit("assertHasClassEndingWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClassEndingWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClassEndingWith(final String suffix, final WebElement webElement) {
+        return submit("assertHasNotClassEndingWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClassEndingWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClassMatching(final String regExp, final WebElement webElement) {
+        return submit("assertHasClassMatching", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasClassMatching(final Pattern regExp, final WebElement webElement) {
+        return submit("assertHasClassMatching", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClassMatching(final String regExp, final WebElement webElement) {
+        return submit("assertHasNotClassMatching", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotClassMatching(final Pattern regExp, final WebElement webElement) {
+        return submit("assertHasNotClassMatching", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Value */
+    public ListenableFuture<Void> assertValueEquals(final String value, final WebElement webElement) {
+        return submit("assertValueEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotEquals(final String value, final WebElement webElement) {
+        return submit("assertValueNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueContains(final String searchText, final WebElement webElement) {
+        return submit("assertValueContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotContains(final String searchText, final WebElement webElement) {
+        return submit("assertValueNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertValueStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertValueNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertValueEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertValueNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueMatches(final String regExp, final WebElement webElement) {
+        return submit("assertValueMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertValueMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotMatches(final String regExp, final WebElement webElement) {
+        return submit("assertValueNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertValueNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Value as Number */
+    public ListenableFuture<Void> assertValueIsNumber(final WebElement webElement) {
+        return submit("assertValueIsNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueIsNumber(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueIsNotNumber(final WebElement webElement) {
+        return submit("assertValueIsNotNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueIsNotNumber(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueEquals(final double number, final WebElement webElement) {
+        return submit("assertValueEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueNotEquals(final double number, final WebElement webElement) {
+        return submit("assertValueNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueNotEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueLessThan(final double number, final WebElement webElement) {
+        return submit("assertValueLessThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueLessThan(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueLessThanOrEquals(final double number, final WebElement webElement) {
+        return submit("assertValueLessThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueLessThanOrEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueGreaterThan(final double number, final WebElement webElement) {
+        return submit("assertValueGreaterThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueGreaterThan(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertValueGreaterThanOrEquals(final double number, final WebElement webElement) {
+        return submit("assertValueGreaterThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertValueGreaterThanOrEquals(number, webElement);
+            }
+        });
+    }
+
+
+
+    /* Href */
+    public ListenableFuture<Void> assertHrefEquals(final String value, final WebElement webElement) {
+        return submit("assertHrefEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotEquals(final String value, final WebElement webElement) {
+        return submit("assertHrefNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotEquals(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefContains(final String searchText, final WebElement webElement) {
+        return submit("assertHrefContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotContains(final String searchText, final WebElement webElement) {
+        return submit("assertHrefNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertHrefStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertHrefNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertHrefEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertHrefNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefMatches(final String regExp, final WebElement webElement) {
+        return submit("assertHrefMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertHrefMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotMatches(final String regExp, final WebElement webElement) {
+        return submit("assertHrefNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHrefNotMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertHrefNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Text */
+    public ListenableFuture<Void> assertHasText(final WebElement webElement) {
+        return submit("assertHasText", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasText(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotText(final WebElement webElement) {
+        return submit("assertHasNotText", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotText(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextEquals(final String text, final WebElement webElement) {
+        return submit("assertTextEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextEquals(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotEquals(final String text, final WebElement webElement) {
+        return submit("assertTextNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotEquals(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextEqualsIgnoreCase(final String text, final WebElement webElement) {
+        return submit("assertTextEqualsIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextEqualsIgnoreCase(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotEqualsIgnoreCase(final String text, final WebElement webElement) {
+        return submit("assertTextNotEqualsIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotEqualsIgnoreCase(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextContains(final String searchText, final WebElement webElement) {
+        return submit("assertTextContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotContains(final String searchText, final WebElement webElement) {
+        return submit("assertTextNotContains", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotContains(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        return submit("assertTextContainsIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextContainsIgnoreCase(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        return submit("assertTextNotContainsIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotContainsIgnoreCase(searchText, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertTextStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotStartsWith(final String prefix, final WebElement webElement) {
+        return submit("assertTextNotStartsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotStartsWith(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        return submit("assertTextStartsWithIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextStartsWithIgnoreCase(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        return submit("assertTextNotStartsWithIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotStartsWithIgnoreCase(prefix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertTextEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotEndsWith(final String suffix, final WebElement webElement) {
+        return submit("assertTextNotEndsWith", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotEndsWith(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        return submit("assertTextEndsWithIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextEndsWithIgnoreCase(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        return submit("assertTextNotEndsWithIgnoreCase", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotEndsWithIgnoreCase(suffix, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextMatches(final String regExp, final WebElement webElement) {
+        return submit("assertTextMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertTextMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotMatches(final String regExp, final WebElement webElement) {
+        return submit("assertTextNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotMatches(final Pattern regExp, final WebElement webElement) {
+        return submit("assertTextNotMatches", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+            }
+        });
+    }
+
+
+
+    /* Text as Number */
+    public ListenableFuture<Void> assertTextIsNumber(final WebElement webElement) {
+        return submit("assertTextIsNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextIsNumber(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextIsNotNumber(final WebElement webElement) {
+        return submit("assertTextIsNotNumber", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextIsNotNumber(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextEquals(final double number, final WebElement webElement) {
+        return submit("assertTextEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextNotEquals(final double number, final WebElement webElement) {
+        return submit("assertTextNotEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextNotEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextLessThan(final double number, final WebElement webElement) {
+        return submit("assertTextLessThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextLessThan(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextLessThanOrEquals(final double number, final WebElement webElement) {
+        return submit("assertTextLessThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextLessThanOrEquals(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextGreaterThan(final double number, final WebElement webElement) {
+        return submit("assertTextGreaterThan", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextGreaterThan(number, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertTextGreaterThanOrEquals(final double number, final WebElement webElement) {
+        return submit("assertTextGreaterThanOrEquals", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTextGreaterThanOrEquals(number, webElement);
+            }
+        });
+    }
+
+
+
+    /* Selected/Deselected */
+    public ListenableFuture<Void> assertIsSelected(final WebElement webElement) {
+        return submit("assertIsSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsSelected(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsDeselected(final WebElement webElement) {
+        return submit("assertIsDeselected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsDeselected(webElement);
+            }
+        });
+    }
+
+
+
+    /* Checked/Unchecked */
+    public ListenableFuture<Void> assertIsChecked(final WebElement webElement) {
+        return submit("assertIsChecked", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsChecked(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsUnchecked(final WebElement webElement) {
+        return submit("assertIsUnchecked", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsUnchecked(webElement);
+            }
+        });
+    }
+
+
+
+    /* Enabled/Disabled */
+    public ListenableFuture<Void> assertIsEnabled(final WebElement webElement) {
+        return submit("assertIsEnabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsEnabled(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertIsDisabled(final WebElement webElement) {
+        return submit("assertIsDisabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertIsDisabled(webElement);
+            }
+        });
+    }
+
+
+
+    /* Option */
+    public ListenableFuture<Void> assertHasOption(final String text, final WebElement webElement) {
+        return submit("assertHasOption", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasOption(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotOption(final String text, final WebElement webElement) {
+        return submit("assertHasNotOption", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotOption(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionIsEnabled(final String text, final WebElement webElement) {
+        return submit("assertOptionIsEnabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionIsEnabled(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionIsDisabled(final String text, final WebElement webElement) {
+        return submit("assertOptionIsDisabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionIsDisabled(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionIsSelected(final String text, final WebElement webElement) {
+        return submit("assertOptionIsSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionIsSelected(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionIsDeselected(final String text, final WebElement webElement) {
+        return submit("assertOptionIsDeselected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionIsDeselected(text, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertAllOptionsAreSelected(final WebElement webElement) {
+        return submit("assertAllOptionsAreSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertAllOptionsAreSelected(webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertNoOptionIsSelected(final WebElement webElement) {
+        return submit("assertNoOptionIsSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertNoOptionIsSelected(webElement);
+            }
+        });
+    }
+
+
+
+    /* Option Value */
+    public ListenableFuture<Void> assertHasOptionWithValue(final String value, final WebElement webElement) {
+        return submit("assertHasOptionWithValue", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasOptionWithValue(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotOptionWithValue(final String value, final WebElement webElement) {
+        return submit("assertHasNotOptionWithValue", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotOptionWithValue(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithValueIsEnabled(final String value, final WebElement webElement) {
+        return submit("assertOptionWithValueIsEnabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithValueIsEnabled(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithValueIsDisabled(final String value, final WebElement webElement) {
+        return submit("assertOptionWithValueIsDisabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithValueIsDisabled(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithValueIsSelected(final String value, final WebElement webElement) {
+        return submit("assertOptionWithValueIsSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithValueIsSelected(value, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithValueIsDeselected(final String value, final WebElement webElement) {
+        return submit("assertOptionWithValueIsDeselected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithValueIsDeselected(value, webElement);
+            }
+        });
+    }
+
+
+
+    /* Option Index */
+    public ListenableFuture<Void> assertHasOptionWithIndex(final int index, final WebElement webElement) {
+        return submit("assertHasOptionWithIndex", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasOptionWithIndex(index, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertHasNotOptionWithIndex(final int index, final WebElement webElement) {
+        return submit("assertHasNotOptionWithIndex", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertHasNotOptionWithIndex(index, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithIndexIsEnabled(final int index, final WebElement webElement) {
+        return submit("assertOptionWithIndexIsEnabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithIndexIsEnabled(index, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithIndexIsDisabled(final int index, final WebElement webElement) {
+        return submit("assertOptionWithIndexIsDisabled", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithIndexIsDisabled(index, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithIndexIsSelected(final int index, final WebElement webElement) {
+        return submit("assertOptionWithIndexIsSelected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithIndexIsSelected(index, webElement);
+            }
+        });
+    }
+
+    public ListenableFuture<Void> assertOptionWithIndexIsDeselected(final int index, final WebElement webElement) {
+        return submit("assertOptionWithIndexIsDeselected", new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertOptionWithIndexIsDeselected(index, webElement);
+            }
+        });
+    }
+}
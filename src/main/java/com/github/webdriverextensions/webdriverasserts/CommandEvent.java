@@ -0,0 +1,98 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+
+/**
+ * A command sent to the driver, e.g. {@code getText} or
+ * {@code executeScript}, passed to the {@link CommandListener}s.
+ */
+public class CommandEvent {
+
+    /**
+     * The assertion of commands sent outside of the asserts and actions, e.g.
+     * by the test through an element an action returned.
+     */
+    public static final String NO_ASSERTION = "(none)";
+
+    private final String command;
+    private final String script;
+    private final long durationNanos;
+    private final Object result;
+    private final Throwable failure;
+    private final String threadName;
+    private final String assertion;
+
+    public CommandEvent(String command, String script, long durationNanos, Object result, Throwable failure) {
+        this.command = command;
+        this.script = script;
+        this.durationNanos = durationNanos;
+        this.result = result;
+        this.failure = failure;
+        this.threadName = Thread.currentThread().getName();
+        this.assertion = Invocation.current();
+    }
+
+    /**
+     * @return the name of the {@link org.openqa.selenium.WebDriver} or
+     * {@link org.openqa.selenium.WebElement} method called, e.g.
+     * {@code getText}
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    public boolean isScript() {
+        return script != null;
+    }
+
+    /**
+     * @return the script if the command executed javascript, else null
+     */
+    public String getScript() {
+        return script;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return what the driver answered, null if the command failed or
+     * answered nothing
+     */
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * @return what the driver threw or null if the command succeeded
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * The assert or action that sent the command, e.g.
+     * {@code WebDriverAsserts.assertTextEquals}. Nested calls are
+     * attributed to the outermost assert or action, so commands sent by
+     * {@code assertIdEquals} are not attributed to the
+     * {@code assertAttributeEquals} it calls.
+     *
+     * <p>Taken from the call the asserts and actions track for the thread
+     * that sent the command when the event is created.</p>
+     *
+     * @return the assert or action or {@link #NO_ASSERTION}
+     */
+    public String getAssertion() {
+        return assertion;
+    }
+
+    @Override
+    public String toString() {
+        return command + (failure != null ? " failed" : "") + " in " + durationNanos + " ns";
+    }
+}
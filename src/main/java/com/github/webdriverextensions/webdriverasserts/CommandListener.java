@@ -0,0 +1,15 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Listens to the commands the asserts and actions send to the driver.
+ *
+ * <p>Register listeners with {@link CommandListeners#add(CommandListener)} or
+ * list them in a {@code META-INF/services/com.github.webdriverextensions.webdriverasserts.CommandListener}
+ * file to have them loaded when the first command is sent. Listeners are
+ * called in the thread that sends the command, right after the driver has
+ * answered, so they should be fast and must be thread safe.</p>
+ */
+public interface CommandListener {
+
+    void onCommand(CommandEvent event);
+}
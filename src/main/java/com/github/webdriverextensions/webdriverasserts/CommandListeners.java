@@ -0,0 +1,139 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Arrays;
+import java.util.ServiceLoader;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+
+/**
+ * The registered {@link CommandListener}s, {@link WaitListener}s and
+ * {@link AssertionListener}s.
+ *
+ * <p>Listeners listed as services are registered and
+ * {@link ListenerProvider}s listed as services are installed when this class
+ * is loaded. If the {@code webdriverextensions.recordcommands} system property
+ * is true a {@link CommandRecorder} is registered too and its summary is
+ * printed to standard error when the JVM exits.</p>
+ *
+ * <p>Notifying reads a volatile array so it does not lock, and when no
+ * listener is registered the commands are sent to the driver as is.</p>
+ */
+public class CommandListeners {
+
+    private static volatile CommandListener[] listeners = new CommandListener[0];
+    private static volatile WaitListener[] waitListeners = new WaitListener[0];
+    private static volatile AssertionListener[] assertionListeners = new AssertionListener[0];
+
+    static {
+        for (CommandListener listener : ServiceLoader.load(CommandListener.class)) {
+            add(listener);
+        }
+        for (WaitListener listener : ServiceLoader.load(WaitListener.class)) {
+            addWaitListener(listener);
+        }
+        for (AssertionListener listener : ServiceLoader.load(AssertionListener.class)) {
+            addAssertionListener(listener);
+        }
+        for (ListenerProvider provider : ServiceLoader.load(ListenerProvider.class)) {
+            provider.install();
+        }
+        if (Boolean.getBoolean("webdriverextensions.recordcommands")) {
+            final CommandRecorder recorder = new CommandRecorder();
+            add(recorder);
+            Runtime.getRuntime().addShutdownHook(new Thread("CommandRecorder summary") {
+                @Override
+                public void run() {
+                    System.err.println(recorder.summary());
+                }
+            });
+        }
+    }
+
+    private CommandListeners() {}
+
+    /**
+     * Registers the listener, also as an {@link AssertionListener} if it is
+     * one, e.g. a {@link CommandRecorder}.
+     */
+    public static synchronized void add(CommandListener listener) {
+        listeners = added(listeners, listener);
+        if (listener instanceof AssertionListener) {
+            addAssertionListener((AssertionListener) listener);
+        }
+    }
+
+    public static synchronized void remove(CommandListener listener) {
+        listeners = removed(listeners, listener);
+        if (listener instanceof AssertionListener) {
+            removeAssertionListener((AssertionListener) listener);
+        }
+    }
+
+    /**
+     * @return true if no listener needs the commands, i.e. neither a command
+     * listener nor an assertion listener counting them is registered
+     */
+    public static boolean isEmpty() {
+        return listeners.length == 0 && assertionListeners.length == 0;
+    }
+
+    public static void notify(CommandEvent event) {
+        Invocation.sent(event);
+        for (CommandListener listener : listeners) {
+            listener.onCommand(event);
+        }
+    }
+
+    public static synchronized void addWaitListener(WaitListener listener) {
+        waitListeners = added(waitListeners, listener);
+    }
+
+    public static synchronized void removeWaitListener(WaitListener listener) {
+        waitListeners = removed(waitListeners, listener);
+    }
+
+    public static boolean hasWaitListeners() {
+        return waitListeners.length != 0;
+    }
+
+    public static void notify(WaitEvent event) {
+        for (WaitListener listener : waitListeners) {
+            listener.onWait(event);
+        }
+    }
+
+    public static synchronized void addAssertionListener(AssertionListener listener) {
+        assertionListeners = added(assertionListeners, listener);
+    }
+
+    public static synchronized void removeAssertionListener(AssertionListener listener) {
+        assertionListeners = removed(assertionListeners, listener);
+    }
+
+    public static boolean hasAssertionListeners() {
+        return assertionListeners.length != 0;
+    }
+
+    public static void notify(AssertionEvent event) {
+        for (AssertionListener listener : assertionListeners) {
+            listener.onAssertion(event);
+        }
+    }
+
+    private static <T> T[] added(T[] listeners, T listener) {
+        T[] added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = listener;
+        return added;
+    }
+
+    private static <T> T[] removed(T[] listeners, T listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                T[] removed = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, removed, i, listeners.length - i - 1);
+                return removed;
+            }
+        }
+        return listeners;
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts the commands, the javascript executions and the time spent in the
+ * driver per assert or action and per thread, and the calls of the asserts and
+ * actions and their wall time.
+ *
+ * <p>Recording does not lock so one recorder can be shared by tests running in
+ * parallel. Command latencies and call durations are kept in histograms with
+ * eight buckets per power of two, so percentiles are accurate to within
+ * 12.5%.</p>
+ *
+ * <pre>
+ * CommandRecorder recorder = new CommandRecorder();
+ * CommandListeners.add(recorder);
+ * ...
+ * System.out.println(recorder.summary());
+ * </pre>
+ *
+ * <p>Instead of registering a recorder, tests can be run with
+ * {@code -Dwebdriverextensions.recordcommands=true}. This registers a recorder
+ * when {@link CommandListeners} is loaded and prints its summary to standard
+ * error when the JVM exits. The summary is printed by a shutdown hook, so it
+ * is not printed if the JVM is halted. Without the property nothing is
+ * registered or printed.</p>
+ */
+public class CommandRecorder implements CommandListener, AssertionListener {
+
+    private final ConcurrentMap<String, Stats> assertionStats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Stats> threadStats = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCommand(CommandEvent event) {
+        statsOf(assertionStats, event.getAssertion()).record(event);
+        statsOf(threadStats, event.getThreadName()).record(event);
+    }
+
+    @Override
+    public void onAssertion(AssertionEvent event) {
+        statsOf(assertionStats, event.getAssertion()).record(event);
+        statsOf(threadStats, event.getThreadName()).record(event);
+    }
+
+    /**
+     * @return the stats per assert or action, e.g.
+     * {@code WebDriverAsserts.assertTextEquals}, see
+     * {@link CommandEvent#getAssertion()}
+     */
+    public Map<String, Stats> getAssertionStats() {
+        return Collections.unmodifiableMap(assertionStats);
+    }
+
+    /**
+     * @return the stats per thread name
+     */
+    public Map<String, Stats> getThreadStats() {
+        return Collections.unmodifiableMap(threadStats);
+    }
+
+    public void reset() {
+        assertionStats.clear();
+        threadStats.clear();
+    }
+
+    /**
+     * @return a table of the stats per assert or action and per thread, the
+     * ones sending the most commands first
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        appendTable(summary, "Assertion", assertionStats);
+        summary.append("\n");
+        appendTable(summary, "Thread", threadStats);
+        return summary.toString();
+    }
+
+    private static Stats statsOf(ConcurrentMap<String, Stats> statsByName, String name) {
+        Stats stats = statsByName.get(name);
+        if (stats == null) {
+            Stats created = new Stats();
+            stats = statsByName.putIfAbsent(name, created);
+            if (stats == null) {
+                stats = created;
+            }
+        }
+        return stats;
+    }
+
+    private static void appendTable(StringBuilder table, String title, Map<String, Stats> statsByName) {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(statsByName.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<String, Stats>>() {
+            @Override
+            public int compare(Map.Entry<String, Stats> a, Map.Entry<String, Stats> b) {
+                int byCommands = Long.compare(b.getValue().getCommands(), a.getValue().getCommands());
+                return byCommands != 0 ? byCommands : a.getKey().compareTo(b.getKey());
+            }
+        });
+        int width = title.length();
+        for (Map.Entry<String, Stats> entry : entries) {
+            width = Math.max(width, entry.getKey().length());
+        }
+        String format = "%-" + width + "s %10s %10s %8s %12s %10s %10s %10s %8s %10s %12s %12s %12s%n";
+        table.append(String.format(format, title, "commands", "scripts", "failures", "total ms", "p50 ms", "p95 ms", "p99 ms", "calls", "cmds/call", "call p50 ms", "call p95 ms", "call p99 ms"));
+        for (Map.Entry<String, Stats> entry : entries) {
+            Stats stats = entry.getValue();
+            table.append(String.format(format,
+                    entry.getKey(),
+                    stats.getCommands(),
+                    stats.getScripts(),
+                    stats.getFailures(),
+                    millis(stats.getTotalNanos()),
+                    millis(stats.getPercentileNanos(50)),
+                    millis(stats.getPercentileNanos(95)),
+                    millis(stats.getPercentileNanos(99)),
+                    stats.getInvocations(),
+                    String.format("%.1f", stats.getCommandsPerInvocation()),
+                    millis(stats.getInvocationPercentileNanos(50)),
+                    millis(stats.getInvocationPercentileNanos(95)),
+                    millis(stats.getInvocationPercentileNanos(99))));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+
+
+    /* Stats */
+    public static class Stats {
+
+        private final AtomicLong commands = new AtomicLong();
+        private final AtomicLong scripts = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final Histogram latencies = new Histogram();
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong invocationCommands = new AtomicLong();
+        private final AtomicLong invocationNanos = new AtomicLong();
+        private final Histogram durations = new Histogram();
+
+        void record(CommandEvent event) {
+            commands.incrementAndGet();
+            if (event.isScript()) {
+                scripts.incrementAndGet();
+            }
+            if (event.getFailure() != null) {
+                failures.incrementAndGet();
+            }
+            long nanos = Math.max(0, event.getDurationNanos());
+            totalNanos.addAndGet(nanos);
+            latencies.record(nanos);
+        }
+
+        void record(AssertionEvent event) {
+            invocations.incrementAndGet();
+            invocationCommands.addAndGet(event.getCommands());
+            long nanos = Math.max(0, event.getDurationNanos());
+            invocationNanos.addAndGet(nanos);
+            durations.record(nanos);
+        }
+
+        public long getCommands() {
+            return commands.get();
+        }
+
+        /**
+         * @return the number of commands that executed javascript
+         */
+        public long getScripts() {
+            return scripts.get();
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /**
+         * @return the time spent waiting for the driver
+         */
+        public long getTotalNanos() {
+            return totalNanos.get();
+        }
+
+        /**
+         * @param percentile e.g. 99 for the 99th percentile
+         * @return the command latency at the percentile rounded up to its
+         * histogram bucket or 0 if no command has been recorded
+         */
+        public long getPercentileNanos(double percentile) {
+            return latencies.percentile(percentile);
+        }
+
+        /**
+         * @return the number of calls of the asserts and actions, calls made
+         * by another assert or action are part of the outer call
+         */
+        public long getInvocations() {
+            return invocations.get();
+        }
+
+        /**
+         * @return the average number of commands a call sent, i.e. the round
+         * trips per call, or 0 if no call has been recorded
+         */
+        public double getCommandsPerInvocation() {
+            long count = invocations.get();
+            return count == 0 ? 0 : (double) invocationCommands.get() / count;
+        }
+
+        /**
+         * @return the wall time of the calls, including waits
+         */
+        public long getInvocationNanos() {
+            return invocationNanos.get();
+        }
+
+        /**
+         * @param percentile e.g. 99 for the 99th percentile
+         * @return the wall time of a call at the percentile rounded up to its
+         * histogram bucket or 0 if no call has been recorded
+         */
+        public long getInvocationPercentileNanos(double percentile) {
+            return durations.percentile(percentile);
+        }
+
+        @Override
+        public String toString() {
+            return commands + " commands, " + scripts + " scripts, " + totalNanos + " ns, " + invocations + " calls";
+        }
+    }
+
+
+
+    /* Histogram */
+    private static class Histogram {
+
+        private static final int SUB_BUCKETS = 8;
+        private static final int BUCKETS = 62 * SUB_BUCKETS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos) {
+            counts.incrementAndGet(bucketOf(nanos));
+        }
+
+        long percentile(double percentile) {
+            long[] snapshot = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = counts.get(i);
+                count += snapshot[i];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return upperBoundOf(i);
+                }
+            }
+            return upperBoundOf(BUCKETS - 1);
+        }
+
+        private static int bucketOf(long nanos) {
+            if (nanos < SUB_BUCKETS) {
+                return (int) nanos;
+            }
+            int magnitude = 63 - Long.numberOfLeadingZeros(nanos);
+            int subBucket = (int) (nanos >>> (magnitude - 3)) & (SUB_BUCKETS - 1);
+            return Math.min(BUCKETS - 1, (magnitude - 2) * SUB_BUCKETS + subBucket);
+        }
+
+        private static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = bucket / SUB_BUCKETS - 1;
+            long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            return lowerBound + (1L << shift) - 1;
+        }
+    }
+}
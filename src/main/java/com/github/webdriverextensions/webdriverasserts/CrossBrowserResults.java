@@ -0,0 +1,159 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Whether each check of a {@link CrossBrowserRunner} passed on each browser.
+ *
+ * <p>{@link #toString()} prints the matrix with a row per check and a column
+ * per browser, e.g.</p>
+ *
+ * <pre>
+ *          chrome   firefox   edge
+ * header   passed   passed    FAILED
+ * footer   passed   passed    passed
+ * </pre>
+ */
+public class CrossBrowserResults {
+
+    private static final String COLUMN_SEPARATOR = "   ";
+
+    private final List<String> browsers;
+    private final Map<String, Map<String, Result>> results;
+
+    CrossBrowserResults(List<String> browsers, Map<String, Map<String, Result>> results) {
+        this.browsers = Collections.unmodifiableList(browsers);
+        this.results = results;
+    }
+
+    /**
+     * @return the browsers in the order the drivers were given
+     */
+    public List<String> getBrowsers() {
+        return browsers;
+    }
+
+    /**
+     * @return the checks in the order they were added
+     */
+    public List<String> getChecks() {
+        return Collections.unmodifiableList(new ArrayList<>(results.keySet()));
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no such check or browser
+     */
+    public Result get(String check, String browser) {
+        Map<String, Result> checkResults = results.get(check);
+        if (checkResults == null) {
+            throw new IllegalArgumentException("There is no check named " + check);
+        }
+        Result result = checkResults.get(browser);
+        if (result == null) {
+            throw new IllegalArgumentException("There is no browser named " + browser);
+        }
+        return result;
+    }
+
+    public boolean passed() {
+        for (Map<String, Result> checkResults : results.values()) {
+            for (Result result : checkResults.values()) {
+                if (!result.passed()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @throws SoftAssertionError listing each failed check and browser, e.g.
+     * {@code header on edge}, if any check failed on any browser
+     */
+    public void assertPassed() {
+        List<String> asserts = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        int count = 0;
+        for (Map.Entry<String, Map<String, Result>> checkResults : results.entrySet()) {
+            for (Map.Entry<String, Result> result : checkResults.getValue().entrySet()) {
+                count++;
+                if (!result.getValue().passed()) {
+                    asserts.add(checkResults.getKey() + " on " + result.getKey());
+                    failures.add(result.getValue().getFailure());
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new SoftAssertionError(count, asserts, failures);
+        }
+    }
+
+    @Override
+    public String toString() {
+        int checkWidth = 0;
+        for (String check : results.keySet()) {
+            checkWidth = Math.max(checkWidth, check.length());
+        }
+        List<Integer> widths = new ArrayList<>(browsers.size());
+        for (String browser : browsers) {
+            widths.add(Math.max(browser.length(), "FAILED".length()));
+        }
+        StringBuilder matrix = new StringBuilder();
+        appendRow(matrix, "", checkWidth, browsers, widths);
+        for (Map.Entry<String, Map<String, Result>> checkResults : results.entrySet()) {
+            List<String> cells = new ArrayList<>(browsers.size());
+            for (String browser : browsers) {
+                cells.add(checkResults.getValue().get(browser).passed() ? "passed" : "FAILED");
+            }
+            appendRow(matrix.append('\n'), checkResults.getKey(), checkWidth, cells, widths);
+        }
+        return matrix.toString();
+    }
+
+    private static void appendRow(StringBuilder matrix, String check, int checkWidth, List<String> cells, List<Integer> widths) {
+        StringBuilder row = new StringBuilder(StringUtils.rightPad(check, checkWidth));
+        for (int i = 0; i < cells.size(); i++) {
+            row.append(COLUMN_SEPARATOR).append(StringUtils.rightPad(cells.get(i), widths.get(i)));
+        }
+        matrix.append(StringUtils.stripEnd(row.toString(), " "));
+    }
+
+    /**
+     * The outcome of one check on one browser.
+     */
+    public static final class Result {
+
+        private final Throwable failure;
+        private final long durationNanos;
+
+        Result(Throwable failure, long durationNanos) {
+            this.failure = failure;
+            this.durationNanos = durationNanos;
+        }
+
+        public boolean passed() {
+            return failure == null;
+        }
+
+        /**
+         * @return what the check threw or null if it passed
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return (passed() ? "passed" : "failed: " + failure.getMessage()) + " in " + durationNanos + " ns";
+        }
+    }
+}
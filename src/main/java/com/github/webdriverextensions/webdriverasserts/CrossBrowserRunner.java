@@ -0,0 +1,212 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Runs the same checks on several drivers in parallel, e.g. on a Chrome, a
+ * Firefox and an Edge node, and collects whether each check passed on each
+ * browser in {@link CrossBrowserResults}.
+ *
+ * <p>Each driver gets a thread of its own with the driver set as its
+ * {@link DriverContext}, so the checks are written with the static asserts
+ * and actions just like in a single browser test. The checks run on each
+ * driver one after another in the order they were added, a check runs
+ * whether or not the checks before it failed. The {@link Deadline} and
+ * {@link WaitTiming} of the thread calling {@link #run()} apply to the
+ * checks.</p>
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * {@code
+ * new CrossBrowserRunner(Arrays.asList(chrome, firefox, edge))
+ *         .check("header", new Runnable() {
+ *             public void run() {
+ *                 assertTextEquals("Welcome", CrossBrowserRunner.driver().findElement(By.id("header")));
+ *             }
+ *         })
+ *         .run()
+ *         .assertPassed();}</pre>
+ * </p>
+ *
+ * <p>Elements must be found per driver, e.g. with {@code findElement} in the
+ * check or with page objects initialized with {@link #driver()}.</p>
+ */
+public class CrossBrowserRunner {
+
+    private final Map<String, WebDriver> drivers;
+    private final Map<String, Runnable> checks = new LinkedHashMap<>();
+
+    /**
+     * @param drivers the drivers by the name of their browser, the names
+     * label the results
+     */
+    public CrossBrowserRunner(Map<String, ? extends WebDriver> drivers) {
+        if (drivers.isEmpty()) {
+            throw new IllegalArgumentException("No drivers to run on");
+        }
+        this.drivers = new LinkedHashMap<String, WebDriver>(drivers);
+    }
+
+    /**
+     * The drivers are named by their browser name and version, e.g.
+     * {@code firefox 45.0}, or by their class if they have no capabilities.
+     */
+    public CrossBrowserRunner(Collection<? extends WebDriver> drivers) {
+        this(named(drivers));
+    }
+
+    /**
+     * Adds a check, i.e. a block of asserts and actions, to run on each
+     * driver.
+     */
+    public CrossBrowserRunner check(String name, Runnable check) {
+        if (checks.containsKey(name)) {
+            throw new IllegalArgumentException("There already is a check named " + name);
+        }
+        checks.put(name, check);
+        return this;
+    }
+
+    /**
+     * @return the driver of the browser the current check runs on
+     */
+    public static WebDriver driver() {
+        return WebDriverAsserts.getDriver();
+    }
+
+    /**
+     * Runs the check, named "check" in the results, on each driver and waits
+     * for the results. The checks added with
+     * {@link #check(String, Runnable)} are not run, so a runner can run one
+     * block after another.
+     */
+    public CrossBrowserResults run(Runnable check) {
+        Map<String, Runnable> checks = new LinkedHashMap<>();
+        checks.put("check", check);
+        return run(checks);
+    }
+
+    /**
+     * Runs the checks on each driver and waits for the results.
+     *
+     * @throws WaitInterruptedException if the thread is interrupted while it
+     * waits for the results, the interrupt status is kept
+     */
+    public CrossBrowserResults run() {
+        return run(checks);
+    }
+
+    private CrossBrowserResults run(Map<String, Runnable> checks) {
+        ExecutorService executor = Executors.newFixedThreadPool(drivers.size(), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "CrossBrowserRunner");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            Map<String, Map<String, ListenableFuture<Void>>> futures = new LinkedHashMap<>();
+            Map<String, Map<String, long[]>> durations = new LinkedHashMap<>();
+            for (Map.Entry<String, WebDriver> driver : drivers.entrySet()) {
+                AsyncAsserts asserts = new AsyncAsserts(driver.getKey(), driver.getValue(), executor);
+                Map<String, ListenableFuture<Void>> browserFutures = new LinkedHashMap<>();
+                Map<String, long[]> browserDurations = new LinkedHashMap<>();
+                for (Map.Entry<String, Runnable> check : checks.entrySet()) {
+                    long[] duration = new long[1];
+                    browserFutures.put(check.getKey(), asserts.check(check.getKey(), timed(check.getValue(), duration)));
+                    browserDurations.put(check.getKey(), duration);
+                }
+                futures.put(driver.getKey(), browserFutures);
+                durations.put(driver.getKey(), browserDurations);
+            }
+            List<ListenableFuture<?>> all = new ArrayList<>();
+            for (Map<String, ListenableFuture<Void>> browserFutures : futures.values()) {
+                all.addAll(browserFutures.values());
+            }
+            try {
+                AsyncAsserts.allOf(all).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WaitInterruptedException("Interrupted while waiting for the checks", e);
+            } catch (ExecutionException e) {
+                // Collected per check below
+            }
+            Map<String, Map<String, CrossBrowserResults.Result>> results = new LinkedHashMap<>();
+            for (String check : checks.keySet()) {
+                Map<String, CrossBrowserResults.Result> checkResults = new LinkedHashMap<>();
+                for (String browser : drivers.keySet()) {
+                    checkResults.put(browser, new CrossBrowserResults.Result(failureOf(futures.get(browser).get(check)), durations.get(browser).get(check)[0]));
+                }
+                results.put(check, checkResults);
+            }
+            return new CrossBrowserResults(new ArrayList<>(drivers.keySet()), results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Runnable timed(final Runnable check, final long[] duration) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                try {
+                    check.run();
+                } finally {
+                    // Read after the future completes, which publishes it
+                    duration[0] = System.nanoTime() - start;
+                }
+            }
+        };
+    }
+
+    private static Throwable failureOf(ListenableFuture<Void> future) {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (InterruptedException e) {
+            // Not reached, the future is done
+            Thread.currentThread().interrupt();
+            return e;
+        }
+    }
+
+    private static Map<String, WebDriver> named(Collection<? extends WebDriver> drivers) {
+        Map<String, WebDriver> named = new LinkedHashMap<>();
+        for (WebDriver driver : drivers) {
+            String name = nameOf(driver);
+            String uniqueName = name;
+            for (int i = 2; named.containsKey(uniqueName); i++) {
+                uniqueName = name + " (" + i + ")";
+            }
+            named.put(uniqueName, driver);
+        }
+        return named;
+    }
+
+    private static String nameOf(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return driver.getClass().getSimpleName();
+        }
+        DriverCapabilities capabilities = DriverCapabilities.of(((HasCapabilities) driver).getCapabilities());
+        String name = StringUtils.defaultIfEmpty(capabilities.getBrowserName(), driver.getClass().getSimpleName());
+        return StringUtils.isEmpty(capabilities.getVersion()) ? name : name + " " + capabilities.getVersion();
+    }
+}
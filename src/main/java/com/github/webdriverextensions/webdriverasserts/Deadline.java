@@ -0,0 +1,103 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+
+/**
+ * A point in time that bounds every wait of the asserts and actions in the
+ * current thread, e.g. the time left for a test.
+ *
+ * <p>Waits that would end after the deadline end at the deadline instead.
+ * Waits for a condition then time out as usual and
+ * {@link WebDriverActions#waitFor(double)} returns. The remaining time is
+ * also passed on to the {@code WebDriverWait}s the waits fall back to.
+ * Deadlines can be nested, a nested deadline never ends after the deadline it
+ * is opened in. Deadlines are read from the {@link WaitTiming} of the
+ * thread.</p>
+ *
+ * <pre>
+ * try (Deadline deadline = Deadline.open(30, SECONDS)) {
+ *     within(10, SECONDS).assertTextEquals("Saved", status);
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>See {@link DeadlineRule} for applying a deadline to each test.</p>
+ */
+public final class Deadline implements AutoCloseable {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long nanoTime;
+    private final Deadline previous;
+    private final Thread thread;
+    private boolean closed;
+
+    private Deadline(long nanoTime, Deadline previous) {
+        this.nanoTime = nanoTime;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Opens a deadline the time from now in the current thread.
+     */
+    public static Deadline open(double time, TimeUnit unit) {
+        long nanoTime = WaitTiming.current().nanoTime() + Math.min(BotUtils.asNanos(time, unit), Long.MAX_VALUE / 2);
+        Deadline previous = CURRENT.get();
+        if (previous != null && previous.nanoTime - nanoTime < 0) {
+            nanoTime = previous.nanoTime;
+        }
+        Deadline deadline = new Deadline(nanoTime, previous);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * @return the innermost deadline open in the current thread or null if
+     * there is none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the deadline as a {@link WaitTiming.Clock#nanoTime()} value
+     */
+    public long nanoTime() {
+        return nanoTime;
+    }
+
+    public long remainingNanos() {
+        return nanoTime - WaitTiming.current().nanoTime();
+    }
+
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Closes the deadline and restores the deadline that was open when this
+     * deadline was opened.
+     */
+    @Override
+    public void close() {
+        if (closed || thread != Thread.currentThread()) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline in " + TimeUnit.NANOSECONDS.toMillis(remainingNanos()) + " ms";
+    }
+}
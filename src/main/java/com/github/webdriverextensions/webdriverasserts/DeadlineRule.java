@@ -0,0 +1,44 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Runs each test with a {@link Deadline} so that no wait of the asserts and
+ * actions in the test ends after the time given to the test.
+ *
+ * <pre>
+ * &#64;Rule
+ * public DeadlineRule deadline = new DeadlineRule(60, SECONDS);
+ * </pre>
+ *
+ * <p>Combine it with JUnit's {@code Timeout} rule to also stop tests that hang
+ * outside of the waits, the waits throw a {@link WaitInterruptedException}
+ * when the timeout interrupts them. JUnit is not a dependency of this library,
+ * add JUnit 4 to use the rule.</p>
+ */
+public class DeadlineRule implements TestRule {
+
+    private final double time;
+    private final TimeUnit unit;
+
+    public DeadlineRule(double time, TimeUnit unit) {
+        this.time = time;
+        this.unit = unit;
+    }
+
+    @Override
+    public Statement apply(final Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try (Deadline deadline = Deadline.open(time, unit)) {
+                    base.evaluate();
+                }
+            }
+        };
+    }
+}
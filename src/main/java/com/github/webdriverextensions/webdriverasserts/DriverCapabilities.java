@@ -0,0 +1,59 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Platform;
+
+/**
+ * The browser name, version and platform of a driver resolved once from its
+ * {@link Capabilities}.
+ *
+ * <p>Held by the {@link DriverContext} of the driver so the browser and
+ * platform predicates of {@link WebDriverActions} neither ask the driver for
+ * its capabilities nor allocate.</p>
+ */
+public final class DriverCapabilities {
+
+    private final String browserName;
+    private final String version;
+    private final Platform platform;
+
+    public DriverCapabilities(String browserName, String version, Platform platform) {
+        this.browserName = browserName;
+        this.version = version;
+        this.platform = platform;
+    }
+
+    public static DriverCapabilities of(Capabilities capabilities) {
+        return new DriverCapabilities(capabilities.getBrowserName(), capabilities.getVersion(), capabilities.getPlatform());
+    }
+
+    public String getBrowserName() {
+        return browserName;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    public boolean browserIs(String browserName) {
+        return StringUtils.equalsIgnoreCase(this.browserName, browserName);
+    }
+
+    public boolean versionIs(String version) {
+        return StringUtils.equalsIgnoreCase(this.version, version);
+    }
+
+    public boolean platformIs(Platform platform) {
+        return this.platform.is(platform);
+    }
+
+    @Override
+    public String toString() {
+        return browserName + " " + version + " on " + platform;
+    }
+}
@@ -0,0 +1,177 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Instrumentation;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * The driver used by {@link WebDriverAsserts} and {@link WebDriverActions} in
+ * the current thread.
+ *
+ * <p>A context holds the driver together with its
+ * {@link JavascriptExecutor}, {@link TakesScreenshot} and
+ * {@link HasCapabilities} views and its {@link DriverCapabilities} so that
+ * looking up the driver is a single {@link ThreadLocal} read without casts. Setting the driver through either
+ * {@link WebDriverAsserts#setDriver(WebDriver)} or
+ * {@link WebDriverActions#setDriver(WebDriver)} sets it for both.</p>
+ *
+ * <p>The context is not inherited by threads started from the current
+ * thread. Use {@link #open(WebDriver)} with try-with-resources to scope a
+ * driver to a block, e.g. a task run in a thread pool, so that the thread is
+ * left as it was found when the block ends.</p>
+ *
+ * <pre>
+ * try (DriverContext context = DriverContext.open(driver)) {
+ *     assertTextEquals("Hello", greeting);
+ * }
+ * </pre>
+ */
+public final class DriverContext implements AutoCloseable {
+
+    private static final ThreadLocal<DriverContext> CURRENT = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final JavascriptExecutor javascriptExecutor;
+    private final TakesScreenshot takesScreenshot;
+    private final HasCapabilities hasCapabilities;
+    private final DriverContext previous;
+    private final Thread thread;
+    private volatile DriverCapabilities capabilities;
+
+    private DriverContext(WebDriver driver, DriverContext previous) {
+        if (driver == null) {
+            throw new IllegalArgumentException("driver is null");
+        }
+        this.driver = driver;
+        this.javascriptExecutor = driver instanceof JavascriptExecutor ? (JavascriptExecutor) driver : null;
+        this.takesScreenshot = driver instanceof TakesScreenshot ? (TakesScreenshot) driver : null;
+        this.hasCapabilities = driver instanceof HasCapabilities ? (HasCapabilities) driver : null;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Sets the driver of the current thread until the returned context is
+     * closed. Closing it restores the context that was set before.
+     */
+    public static DriverContext open(WebDriver driver) {
+        DriverContext previous = CURRENT.get();
+        DriverContext context = new DriverContext(driver, previous);
+        if (previous != null && previous.driver == driver) {
+            context.capabilities = previous.capabilities;
+        }
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Sets the driver of the current thread replacing any driver set before.
+     * Setting the driver that is already set keeps its context.
+     */
+    public static void set(WebDriver driver) {
+        if (driver == null) {
+            CURRENT.remove();
+            return;
+        }
+        DriverContext current = CURRENT.get();
+        if (current != null && current.driver == driver && current.previous == null) {
+            return;
+        }
+        CURRENT.set(new DriverContext(driver, null));
+    }
+
+    public static void remove() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the context of the current thread or null if no driver is set
+     */
+    public static DriverContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @throws WebDriverException if no driver is set in the current thread
+     */
+    public static DriverContext get() {
+        DriverContext context = CURRENT.get();
+        if (context == null) {
+            throw new WebDriverException("Driver is not set. Please set the driver with WebDriverAsserts.setDriver(...), WebDriverActions.setDriver(...) or DriverContext.open(...) before using the asserts and actions. Note that the driver will be thread safe since ThreadLocal is used so don't worry about thread safety.");
+        }
+        return context;
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    /**
+     * @throws WebDriverException if the driver cannot execute javascript
+     */
+    public JavascriptExecutor javascriptExecutor() {
+        if (javascriptExecutor == null) {
+            throw unsupported(JavascriptExecutor.class);
+        }
+        return CommandListeners.isEmpty() ? javascriptExecutor : (JavascriptExecutor) Instrumentation.instrument(driver);
+    }
+
+    /**
+     * @throws WebDriverException if the driver cannot take screenshots
+     */
+    public TakesScreenshot takesScreenshot() {
+        if (takesScreenshot == null) {
+            throw unsupported(TakesScreenshot.class);
+        }
+        return CommandListeners.isEmpty() ? takesScreenshot : (TakesScreenshot) Instrumentation.instrument(driver);
+    }
+
+    /**
+     * @throws WebDriverException if the driver has no capabilities
+     */
+    public HasCapabilities hasCapabilities() {
+        if (hasCapabilities == null) {
+            throw unsupported(HasCapabilities.class);
+        }
+        return CommandListeners.isEmpty() ? hasCapabilities : (HasCapabilities) Instrumentation.instrument(driver);
+    }
+
+    /**
+     * @return the capabilities of the driver, resolved on first use and kept
+     * for as long as the driver is set
+     * @throws WebDriverException if the driver has no capabilities
+     */
+    public DriverCapabilities capabilities() {
+        DriverCapabilities resolved = capabilities;
+        if (resolved == null) {
+            // Racing threads resolve equal descriptors, keeping either is fine
+            resolved = DriverCapabilities.of(hasCapabilities().getCapabilities());
+            capabilities = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Restores the context that was set when this context was opened. Does
+     * nothing if this context is no longer the current one, e.g. since the
+     * driver has been set or removed in the block.
+     */
+    @Override
+    public void close() {
+        if (Thread.currentThread() != thread || CURRENT.get() != this) {
+            return;
+        }
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private WebDriverException unsupported(Class<?> view) {
+        return new WebDriverException("Driver " + driver.getClass().getName() + " does not implement " + view.getSimpleName());
+    }
+}
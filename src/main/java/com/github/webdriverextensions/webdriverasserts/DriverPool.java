@@ -0,0 +1,378 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.NumberUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.Waits;
+import com.google.common.base.Supplier;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * A pool of driver sessions leased to one test at a time, so that browsers
+ * are started once per pool instead of once per test.
+ *
+ * <p>A {@link Lease} sets its driver as the driver of the leasing thread,
+ * like {@link DriverContext#open(WebDriver)}, until it is closed. Closing it
+ * resets the session, i.e. closes the windows and tabs the test opened and
+ * switches back to the first window, clears the local and session storage
+ * and the cookies of the current page and loads {@code about:blank}, and
+ * returns it to the pool. Sessions that fail to reset, e.g. since the browser crashed or
+ * the grid dropped them, are quit and replaced by new ones on demand. Storage
+ * and cookies of other origins than the one of the last page are not
+ * cleared.</p>
+ *
+ * <pre>
+ * private static final DriverPool DRIVERS = new DriverPool(4, chromeDrivers);
+ *
+ * try (DriverPool.Lease lease = DRIVERS.lease()) {
+ *     lease.driver().get(url);
+ *     assertTitleEquals("Home");
+ * }
+ * </pre>
+ *
+ * <p>Sessions are started when they are first leased or in parallel with
+ * {@link #warmUp(int)}. The pool never holds more sessions than its size,
+ * leasing blocks until a session is returned when all are leased, or until
+ * the {@link Deadline} of the thread if that comes first. Use
+ * {@link DriverPoolRule} to lease a session per JUnit test.</p>
+ */
+public class DriverPool implements AutoCloseable {
+
+    private static final double DEFAULT_LEASE_TIMEOUT_IN_SECONDS = 300;
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final int size;
+    private final Supplier<? extends WebDriver> factory;
+    private final Deque<WebDriver> idle = new ArrayDeque<>();
+    private int sessions;
+    private boolean closed;
+
+    /**
+     * @param size the most sessions the pool holds, typically the number of
+     * test threads
+     * @param factory starts a new session
+     */
+    public DriverPool(int size, Supplier<? extends WebDriver> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1 but was " + size);
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("factory is null");
+        }
+        this.size = size;
+        this.factory = factory;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of sessions started and not yet quit, leased or not
+     */
+    public synchronized int sessions() {
+        return sessions;
+    }
+
+    /**
+     * @return the number of sessions waiting to be leased
+     */
+    public synchronized int idle() {
+        return idle.size();
+    }
+
+    /**
+     * Starts sessions in parallel until the pool holds at least the given
+     * number of sessions or is full, and waits for them to start.
+     *
+     * @throws WebDriverException if a session fails to start, the sessions
+     * that did start are kept
+     */
+    public void warmUp(int count) {
+        int toStart;
+        synchronized (this) {
+            checkNotClosed();
+            toStart = Math.max(Math.min(count, size) - sessions, 0);
+            sessions += toStart;
+        }
+        if (toStart == 0) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(toStart, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "DriverPool warm up");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<WebDriver>> started = new ArrayList<>(toStart);
+            for (int i = 0; i < toStart; i++) {
+                started.add(executor.submit(new Callable<WebDriver>() {
+                    @Override
+                    public WebDriver call() {
+                        return factory.get();
+                    }
+                }));
+            }
+            RuntimeException failure = null;
+            for (Future<WebDriver> driver : started) {
+                try {
+                    WebDriver startedDriver = driver.get();
+                    if (startedDriver != null) {
+                        release(startedDriver);
+                    } else {
+                        forget();
+                        if (failure == null) {
+                            failure = factoryReturnedNull();
+                        }
+                    }
+                } catch (ExecutionException e) {
+                    forget();
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new WebDriverException("Failed to start a driver", e.getCause());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WaitInterruptedException("Interrupted while warming up the driver pool", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Leases a session, waiting at most 5 minutes for one to be returned if
+     * all are leased.
+     *
+     * @see #lease(double, TimeUnit)
+     */
+    public Lease lease() {
+        return lease(DEFAULT_LEASE_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Leases the session returned last, or starts a new one if none is idle
+     * and the pool is not full, and sets it as the driver of the current
+     * thread until the lease is closed.
+     *
+     * @throws TimeoutException if all sessions are still leased after the
+     * time, or at the {@link Deadline} of the thread if that comes first
+     * @throws WaitInterruptedException if the thread is interrupted while it
+     * waits, the interrupt status is kept
+     */
+    public Lease lease(double time, TimeUnit unit) {
+        WebDriver driver = take(BotUtils.asNanos(time, unit), time, unit);
+        if (driver == null) {
+            try {
+                driver = factory.get();
+            } catch (RuntimeException | Error e) {
+                forget();
+                throw e;
+            }
+            if (driver == null) {
+                forget();
+                throw factoryReturnedNull();
+            }
+        }
+        return new Lease(this, driver);
+    }
+
+    /**
+     * Quits the idle sessions. Leased sessions are quit when they are
+     * returned.
+     */
+    @Override
+    public void close() {
+        List<WebDriver> drivers;
+        synchronized (this) {
+            closed = true;
+            drivers = new ArrayList<>(idle);
+            sessions -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+        for (WebDriver driver : drivers) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * @return an idle session or null if a new one is to be started
+     */
+    private synchronized WebDriver take(long timeoutNanos, double time, TimeUnit unit) {
+        long deadline = Waits.deadlineAfter(timeoutNanos);
+        while (true) {
+            checkNotClosed();
+            if (!idle.isEmpty()) {
+                return idle.pollFirst();
+            }
+            if (sessions < size) {
+                sessions++;
+                return null;
+            }
+            long remainingNanos = Waits.remainingNanos(deadline);
+            if (remainingNanos <= 0) {
+                throw new TimeoutException("Timed out after " + NumberUtils.toString(BotUtils.asNanos(time, unit) / 1000000000.0) + " seconds waiting for one of the " + size + " drivers of the pool to be returned");
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WaitInterruptedException("Interrupted while waiting for a driver from the pool", e);
+            }
+        }
+    }
+
+    private void giveBack(WebDriver driver, boolean discard) {
+        if (!discard && reset(driver)) {
+            release(driver);
+        } else {
+            quit(driver);
+            forget();
+        }
+    }
+
+    private void release(WebDriver driver) {
+        synchronized (this) {
+            if (!closed) {
+                idle.addFirst(driver);
+                notifyAll();
+                return;
+            }
+        }
+        quit(driver);
+        forget();
+    }
+
+    private synchronized void forget() {
+        sessions--;
+        notifyAll();
+    }
+
+    private static WebDriverException factoryReturnedNull() {
+        return new WebDriverException("The driver factory of the pool returned null");
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The driver pool is closed");
+        }
+    }
+
+    /**
+     * @return false if the session is broken
+     */
+    private static boolean reset(WebDriver driver) {
+        try {
+            closeOtherWindows(driver);
+            if (driver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes all windows but the first and switches to it, also when the
+     * test closed the window it was on.
+     */
+    private static void closeOtherWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.isEmpty()) {
+            throw new WebDriverException("The session has no window left");
+        }
+        String first = null;
+        for (String handle : handles) {
+            if (first == null) {
+                first = handle;
+            } else {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(first);
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Already gone
+        }
+    }
+
+    /**
+     * A session leased from a {@link DriverPool}. Leases are used by the
+     * thread that leased them.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final DriverPool pool;
+        private final WebDriver driver;
+        private final DriverContext context;
+        private boolean discard;
+        private boolean closed;
+
+        private Lease(DriverPool pool, WebDriver driver) {
+            this.pool = pool;
+            this.driver = driver;
+            this.context = DriverContext.open(driver);
+        }
+
+        public WebDriver driver() {
+            return driver;
+        }
+
+        /**
+         * Quits the session instead of returning it to the pool when the
+         * lease is closed, e.g. when a test leaves the browser in a state
+         * resetting does not undo.
+         */
+        public void discard() {
+            discard = true;
+        }
+
+        /**
+         * Restores the driver the thread had before the lease and resets and
+         * returns the session to the pool. Closing a lease again does
+         * nothing.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            context.close();
+            pool.giveBack(driver, discard);
+        }
+    }
+}
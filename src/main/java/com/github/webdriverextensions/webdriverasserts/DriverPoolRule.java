@@ -0,0 +1,52 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Runs each test with a session leased from a {@link DriverPool} set as the
+ * driver of the test thread, and returns the session when the test ends.
+ *
+ * <pre>
+ * private static final DriverPool DRIVERS = new DriverPool(4, chromeDrivers);
+ *
+ * &#64;Rule
+ * public DriverPoolRule driver = new DriverPoolRule(DRIVERS);
+ * </pre>
+ *
+ * <p>The rule runs around {@code @Before} and {@code @After} methods, so they
+ * can use the driver. JUnit is not a dependency of this library, add JUnit 4
+ * to use the rule.</p>
+ */
+public class DriverPoolRule implements TestRule {
+
+    private final DriverPool pool;
+    private volatile DriverPool.Lease lease;
+
+    public DriverPoolRule(DriverPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the lease of the running test
+     */
+    public DriverPool.Lease lease() {
+        return lease;
+    }
+
+    @Override
+    public Statement apply(final Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try (DriverPool.Lease lease = pool.lease()) {
+                    DriverPoolRule.this.lease = lease;
+                    base.evaluate();
+                } finally {
+                    lease = null;
+                }
+            }
+        };
+    }
+}
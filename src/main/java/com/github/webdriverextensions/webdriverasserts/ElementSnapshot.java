@@ -0,0 +1,96 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.WebElement;
+
+/**
+ * The state of a {@link WebElement} captured with a single javascript call.
+ *
+ * <p>Create one with {@link WebDriverAsserts#snapshotOf(WebElement)} and pass
+ * it to the snapshot overloads in {@link WebDriverAsserts}. The snapshot
+ * overloads only read the captured state so asserting several properties of
+ * the same element costs one round trip to the browser instead of one per
+ * assert.</p>
+ *
+ * <p>The attributes found in the DOM are resolved like
+ * {@link WebElement#getAttribute(String)}, e.g. the {@code value} attribute
+ * holds the current value of the element, the {@code href} of a link is
+ * absolute and boolean attributes are "true". The text is the visible text
+ * trimmed the same way as in {@link WebDriverActions#textIn(WebElement)}. See
+ * {@link SoftAsserts} for where they still differ.</p>
+ */
+public class ElementSnapshot {
+
+    private final String tagName;
+    private final Map<String, String> attributes;
+    private final String text;
+    private final String value;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final boolean selected;
+
+    public ElementSnapshot(String tagName, Map<String, String> attributes, String text, String value, boolean displayed, boolean enabled, boolean selected) {
+        this.tagName = tagName;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+        this.text = StringUtils.trim(text);
+        this.value = value;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.selected = selected;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public String getAttribute(String name) {
+        if ("value".equals(name)) {
+            return value;
+        }
+        return attributes.get(name);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public List<String> getClasses() {
+        String classes = attributes.get("class");
+        if (classes == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(StringUtils.split(classes));
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    @Override
+    public String toString() {
+        return BotUtils.htmlOf(this);
+    }
+}
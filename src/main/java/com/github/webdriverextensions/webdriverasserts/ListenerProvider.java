@@ -0,0 +1,14 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Adds and removes listeners by itself, e.g. only while a profiler is
+ * recording so that commands are not instrumented otherwise.
+ *
+ * <p>Providers listed in a
+ * {@code META-INF/services/com.github.webdriverextensions.webdriverasserts.ListenerProvider}
+ * file are installed when {@link CommandListeners} is loaded.</p>
+ */
+public interface ListenerProvider {
+
+    void install();
+}
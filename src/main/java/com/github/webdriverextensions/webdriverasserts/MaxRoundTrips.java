@@ -0,0 +1,20 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the {@link RoundTripBudget} of a test or of all tests in a class,
+ * overriding the default budget of the {@link RoundTripBudgetRule}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MaxRoundTrips {
+
+    /**
+     * @return the number of commands the test may send to the driver
+     */
+    int value();
+}
@@ -0,0 +1,185 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Limits the number of commands the asserts and actions may send to the
+ * driver in a block, e.g. a page level check.
+ *
+ * <p>Counting commands rather than measuring time gives a stable measure of
+ * how expensive a check is, also on shared and noisy grids. Every command sent
+ * through {@link WebDriverAsserts}, {@link WebDriverActions} and
+ * {@link com.github.webdriverextensions.webdriverasserts.internal.BotUtils#executeJavascript(String, Object...)}
+ * in the current thread while the budget is open is counted. Commands sent by
+ * other threads are not. Budgets can be nested, a command then counts towards
+ * every open budget.</p>
+ *
+ * <pre>
+ * try (RoundTripBudget budget = RoundTripBudget.open(10)) {
+ *     assertTextEquals("Hello", greeting);
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>Closing the budget throws a {@link RoundTripBudgetExceededError} with a
+ * breakdown of the commands per assert and action if more commands than
+ * allowed were sent. See {@link RoundTripBudgetRule} for applying a budget to
+ * each test.</p>
+ */
+public final class RoundTripBudget implements AutoCloseable {
+
+    private static final ThreadLocal<RoundTripBudget> CURRENT = new ThreadLocal<>();
+    private static final CommandListener COUNTER = new CommandListener() {
+        @Override
+        public void onCommand(CommandEvent event) {
+            RoundTripBudget budget = CURRENT.get();
+            if (budget == null) {
+                return;
+            }
+            String assertion = event.getAssertion();
+            for (; budget != null; budget = budget.previous) {
+                budget.count(assertion, event);
+            }
+        }
+    };
+    private static int openBudgets;
+
+    private final int maxCommands;
+    private final RoundTripBudget previous;
+    private final Thread thread;
+    private final Map<String, Map<String, Integer>> commandsPerAssertion = new LinkedHashMap<>();
+    private int commands;
+    private int scripts;
+    private boolean closed;
+
+    private RoundTripBudget(int maxCommands, RoundTripBudget previous) {
+        this.maxCommands = maxCommands;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Opens a budget in the current thread.
+     *
+     * @param maxCommands the number of commands that may be sent before the
+     * budget is closed
+     */
+    public static RoundTripBudget open(int maxCommands) {
+        if (maxCommands < 0) {
+            throw new IllegalArgumentException("maxCommands must not be negative but was " + maxCommands);
+        }
+        RoundTripBudget budget = new RoundTripBudget(maxCommands, CURRENT.get());
+        CURRENT.set(budget);
+        listen();
+        return budget;
+    }
+
+    /**
+     * @return the innermost budget open in the current thread or null if
+     * there is none
+     */
+    public static RoundTripBudget current() {
+        return CURRENT.get();
+    }
+
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    /**
+     * @return the number of commands sent so far
+     */
+    public int getCommands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of commands sent so far that executed javascript
+     */
+    public int getScripts() {
+        return scripts;
+    }
+
+    public boolean isExceeded() {
+        return commands > maxCommands;
+    }
+
+    /**
+     * Closes the budget and restores the budget that was open when this
+     * budget was opened.
+     *
+     * @throws RoundTripBudgetExceededError if more commands than allowed
+     * were sent
+     */
+    @Override
+    public void close() {
+        if (closed || thread != Thread.currentThread()) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        unlisten();
+        if (isExceeded()) {
+            throw new RoundTripBudgetExceededError(breakdown(), maxCommands, commands);
+        }
+    }
+
+    /**
+     * @return the commands sent per assert and action, e.g.
+     * {@code WebDriverAsserts.assertTextEquals: getText 2, executeScript 1}
+     */
+    public String breakdown() {
+        StringBuilder breakdown = new StringBuilder();
+        breakdown.append(commands).append(" commands (").append(scripts).append(" scripts) sent, ")
+                .append(maxCommands).append(" allowed");
+        for (Map.Entry<String, Map<String, Integer>> assertion : commandsPerAssertion.entrySet()) {
+            breakdown.append("\n    ").append(assertion.getKey()).append(":");
+            String separator = " ";
+            for (Map.Entry<String, Integer> command : assertion.getValue().entrySet()) {
+                breakdown.append(separator).append(command.getKey()).append(" ").append(command.getValue());
+                separator = ", ";
+            }
+        }
+        return breakdown.toString();
+    }
+
+    private void count(String assertion, CommandEvent event) {
+        commands++;
+        if (event.isScript()) {
+            scripts++;
+        }
+        Map<String, Integer> commandCounts = commandsPerAssertion.get(assertion);
+        if (commandCounts == null) {
+            commandCounts = new LinkedHashMap<>();
+            commandsPerAssertion.put(assertion, commandCounts);
+        }
+        Integer count = commandCounts.get(event.getCommand());
+        commandCounts.put(event.getCommand(), count == null ? 1 : count + 1);
+    }
+
+    // The counter is only registered while a budget is open so that commands
+    // are not instrumented otherwise
+    private static synchronized void listen() {
+        if (openBudgets++ == 0) {
+            CommandListeners.add(COUNTER);
+        }
+    }
+
+    private static synchronized void unlisten() {
+        if (--openBudgets == 0) {
+            CommandListeners.remove(COUNTER);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return commands + " of " + maxCommands + " commands";
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Thrown when more commands than allowed by a {@link RoundTripBudget} were
+ * sent to the driver.
+ */
+public class RoundTripBudgetExceededError extends java.lang.AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxCommands;
+    private final int commands;
+
+    public RoundTripBudgetExceededError(String breakdown, int maxCommands, int commands) {
+        super("Round trip budget exceeded\n    " + breakdown);
+        this.maxCommands = maxCommands;
+        this.commands = commands;
+    }
+
+    public int getMaxCommands() {
+        return maxCommands;
+    }
+
+    public int getCommands() {
+        return commands;
+    }
+}
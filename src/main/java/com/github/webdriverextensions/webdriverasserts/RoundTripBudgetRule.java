@@ -0,0 +1,66 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Runs each test in a {@link RoundTripBudget} so that the test fails if it
+ * sends more commands to the driver than allowed.
+ *
+ * <pre>
+ * &#64;Rule
+ * public RoundTripBudgetRule roundTripBudget = new RoundTripBudgetRule(50);
+ *
+ * &#64;Test
+ * &#64;MaxRoundTrips(5)
+ * public void greetingIsShown() {
+ *     ...
+ * }
+ * </pre>
+ *
+ * <p>The budget of a test is taken from its {@link MaxRoundTrips} annotation,
+ * else from the annotation of its class, else the default budget of the rule
+ * is used. Tests without a budget are run as is. JUnit is not a dependency of
+ * this library, add JUnit 4 to use the rule.</p>
+ */
+public class RoundTripBudgetRule implements TestRule {
+
+    private final Integer defaultMaxCommands;
+
+    /**
+     * Creates a rule that only applies budgets to tests annotated with
+     * {@link MaxRoundTrips}.
+     */
+    public RoundTripBudgetRule() {
+        this.defaultMaxCommands = null;
+    }
+
+    public RoundTripBudgetRule(int defaultMaxCommands) {
+        this.defaultMaxCommands = defaultMaxCommands;
+    }
+
+    @Override
+    public Statement apply(final Statement base, Description description) {
+        final Integer maxCommands = maxCommandsOf(description);
+        if (maxCommands == null) {
+            return base;
+        }
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                try (RoundTripBudget budget = RoundTripBudget.open(maxCommands)) {
+                    base.evaluate();
+                }
+            }
+        };
+    }
+
+    private Integer maxCommandsOf(Description description) {
+        MaxRoundTrips maxRoundTrips = description.getAnnotation(MaxRoundTrips.class);
+        if (maxRoundTrips == null && description.getTestClass() != null) {
+            maxRoundTrips = description.getTestClass().getAnnotation(MaxRoundTrips.class);
+        }
+        return maxRoundTrips != null ? Integer.valueOf(maxRoundTrips.value()) : defaultMaxCommands;
+    }
+}
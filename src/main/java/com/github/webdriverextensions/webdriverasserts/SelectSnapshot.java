@@ -0,0 +1,198 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.WebElement;
+
+/**
+ * The options of a select {@link WebElement} captured with a single
+ * javascript call.
+ *
+ * <p>Each option holds its trimmed text, value, index and enabled/selected
+ * state so the option asserts can check any number of options without
+ * asking the browser about each option separately.</p>
+ */
+public class SelectSnapshot {
+
+    private final List<Option> options;
+
+    public SelectSnapshot(List<Option> options) {
+        this.options = Collections.unmodifiableList(new ArrayList<>(options));
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    /* Option */
+    public boolean hasOption(String text) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(text, option.getText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionIsEnabled(String text) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(text, option.getText()) && option.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionIsDisabled(String text) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(text, option.getText()) && !option.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionIsSelected(String text) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(text, option.getText()) && option.isSelected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionIsDeselected(String text) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(text, option.getText()) && !option.isSelected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean allOptionsAreSelected() {
+        for (Option option : options) {
+            if (!option.isSelected()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean noOptionIsSelected() {
+        for (Option option : options) {
+            if (option.isSelected()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* Option Value */
+    public boolean hasOptionWithValue(String value) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(value, option.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionWithValueIsEnabled(String value) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(value, option.getValue()) && option.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionWithValueIsDisabled(String value) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(value, option.getValue()) && !option.isEnabled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionWithValueIsSelected(String value) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(value, option.getValue()) && option.isSelected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean optionWithValueIsDeselected(String value) {
+        for (Option option : options) {
+            if (BotUtils.isEqual(value, option.getValue()) && !option.isSelected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* Option Index */
+    public boolean hasOptionWithIndex(int index) {
+        return index >= 0 && index < options.size();
+    }
+
+    public boolean optionWithIndexIsEnabled(int index) {
+        return hasOptionWithIndex(index) && options.get(index).isEnabled();
+    }
+
+    public boolean optionWithIndexIsDisabled(int index) {
+        return hasOptionWithIndex(index) && !options.get(index).isEnabled();
+    }
+
+    public boolean optionWithIndexIsSelected(int index) {
+        return hasOptionWithIndex(index) && options.get(index).isSelected();
+    }
+
+    public boolean optionWithIndexIsDeselected(int index) {
+        return hasOptionWithIndex(index) && !options.get(index).isSelected();
+    }
+
+    public static class Option {
+
+        private final String text;
+        private final String value;
+        private final int index;
+        private final boolean enabled;
+        private final boolean selected;
+
+        public Option(String text, String value, int index, boolean enabled, boolean selected) {
+            this.text = StringUtils.trim(text);
+            this.value = value;
+            this.index = index;
+            this.enabled = enabled;
+            this.selected = selected;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public boolean isSelected() {
+            return selected;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.webdriverextensions.webdriverasserts.internal.StringUtils;
+
+/**
+ * Thrown by {@link SoftAsserts} when any of its asserts failed. Lists every
+ * failure, the failures are also added as suppressed exceptions so that their
+ * stack traces are kept.
+ *
+ * <p>Just like for {@link WebDriverAssertionError} the message is built the
+ * first time it is read.</p>
+ */
+public class SoftAssertionError extends java.lang.AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String INDENT = "    ";
+
+    private final int assertCount;
+    private final List<String> asserts;
+    private final transient List<Throwable> failures;
+    private String message;
+
+    public SoftAssertionError(int assertCount, List<String> asserts, List<Throwable> failures) {
+        this.assertCount = assertCount;
+        this.asserts = Collections.unmodifiableList(new ArrayList<>(asserts));
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        for (Throwable failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    /**
+     * @return the failures in the order the asserts were made
+     */
+    public List<Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return the names of the failed asserts, e.g.
+     * {@code assertTextEquals}, in the same order as the failures
+     */
+    public List<String> getAsserts() {
+        return asserts;
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (message == null) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(failures.size()).append(" of ").append(assertCount).append(" asserts failed");
+            for (int i = 0; i < failures.size(); i++) {
+                builder.append(StringUtils.indent("\n" + (i + 1) + ") " + asserts.get(i) + ": " + failures.get(i).getMessage(), INDENT));
+            }
+            message = builder.toString();
+        }
+        return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
@@ -0,0 +1,3515 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Asserts that collect their failures instead of throwing on the first one.
+ * Get one with {@link WebDriverAsserts#softAsserts()}.
+ *
+ * <p>Asserts on the state of an element are recorded and evaluated when
+ * {@link #assertAll()} is called or the scope is closed. All recorded elements
+ * are then captured with a single javascript call and each assert is run
+ * against the {@link ElementSnapshot} of its element, so asserting many
+ * properties of many elements costs one round trip to the browser. Note that
+ * the asserts therefore see the state of the page at that time. Elements
+ * that cannot be captured, e.g. since they are not in the page, are asserted
+ * one by one just like by {@link WebDriverAsserts}. Other asserts, e.g. on the
+ * title or on select options, are run right away.</p>
+ *
+ * <p>The snapshots resolve attributes and text like the asserts of
+ * {@link WebDriverAsserts}, i.e. like {@link WebElement#getAttribute(String)}
+ * and {@link WebElement#getText()}: the {@code href} of links and the
+ * {@code src} of images are absolute, boolean attributes are "true" and the
+ * text is trimmed per line. They differ in that an attribute missing from the
+ * DOM is null even where {@code getAttribute} returns a property, e.g. the
+ * {@code type} of an input without one or a {@code disabled} set by script
+ * only, and that the text has no empty lines, e.g. from {@code <br><br>},
+ * since it is read from {@code innerText}.</p>
+ *
+ * <p>A {@link SoftAssertionError} listing every failure in the order the
+ * asserts were made is thrown if any assert failed. Any exception an assert
+ * throws, e.g. a {@link NumberFormatException} for a text that is not a
+ * number, counts as a failure of that assert, except a
+ * {@link WaitInterruptedException}.</p>
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * {@code
+ * try (SoftAsserts softly = softAsserts()) {
+ *     softly.assertTextEquals("Saved", statusSpan);
+ *     softly.assertHasClass("primary", saveButton);
+ *     softly.assertTitleEquals("Settings");
+ * }}</pre>
+ * </p>
+ *
+ * <p>A SoftAsserts is not thread safe, use one per thread.</p>
+ */
+public class SoftAsserts implements AutoCloseable {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    SoftAsserts() {}
+
+    /**
+     * Evaluates the recorded asserts and forgets them.
+     *
+     * @throws SoftAssertionError if any assert failed
+     */
+    public void assertAll() {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAll");
+        try {
+            List<Entry> evaluated = new ArrayList<>(entries);
+            entries.clear();
+            evaluate(evaluated);
+            List<String> asserts = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (Entry entry : evaluated) {
+                if (entry.failure != null) {
+                    asserts.add(entry.assertName);
+                    failures.add(entry.failure);
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new SoftAssertionError(evaluated.size(), asserts, failures);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    /**
+     * Same as {@link #assertAll()}.
+     */
+    @Override
+    public void close() {
+        Invocation invocation = Invocation.start("SoftAsserts.close");
+        try {
+            assertAll();
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private void defer(String assertName, WebElement webElement, ElementAssert elementAssert) {
+        entries.add(new Entry(assertName, webElement, elementAssert, null));
+    }
+
+    private void failed(String assertName, Throwable failure) {
+        if (failure instanceof WaitInterruptedException) {
+            throw (WaitInterruptedException) failure;
+        }
+        entries.add(new Entry(assertName, null, null, failure));
+    }
+
+    private static void evaluate(List<Entry> entries) {
+        // Compared by identity since equals on a page factory element would look it up
+        Map<WebElement, Integer> indexes = new IdentityHashMap<>();
+        List<WebElement> webElements = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.elementAssert != null && !indexes.containsKey(entry.webElement)) {
+                indexes.put(entry.webElement, webElements.size());
+                webElements.add(entry.webElement);
+            }
+        }
+        List<ElementSnapshot> snapshots = snapshotsOf(webElements);
+        for (Entry entry : entries) {
+            if (entry.elementAssert == null) {
+                continue;
+            }
+            ElementSnapshot snapshot = snapshots.get(indexes.get(entry.webElement));
+            try {
+                if (snapshot != null) {
+                    entry.elementAssert.assertOn(snapshot);
+                } else {
+                    entry.elementAssert.assertOn(entry.webElement);
+                }
+            } catch (WaitInterruptedException e) {
+                throw e;
+            } catch (AssertionError | RuntimeException e) {
+                // Also e.g. a text that is not a number, failing this assert only
+                entry.failure = e;
+            }
+        }
+    }
+
+    private static List<ElementSnapshot> snapshotsOf(List<WebElement> webElements) {
+        try {
+            return BotUtils.snapshotsOf(webElements);
+        } catch (WebDriverException e) {
+            // Some element could not be captured, capture them one by one
+            List<ElementSnapshot> snapshots = new ArrayList<>(webElements.size());
+            for (WebElement webElement : webElements) {
+                snapshots.add(snapshotOrNull(webElement));
+            }
+            return snapshots;
+        }
+    }
+
+    private static ElementSnapshot snapshotOrNull(WebElement webElement) {
+        try {
+            return BotUtils.snapshotOf(webElement);
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private interface ElementAssert {
+        void assertOn(ElementSnapshot snapshot);
+        void assertOn(WebElement webElement);
+    }
+
+    private static class Entry {
+
+        private final String assertName;
+        private final WebElement webElement;
+        private final ElementAssert elementAssert;
+        private Throwable failure;
+
+        Entry(String assertName, WebElement webElement, ElementAssert elementAssert, Throwable failure) {
+            this.assertName = assertName;
+            this.webElement = webElement;
+            this.elementAssert = elementAssert;
+            this.failure = failure;
+        }
+    }
+
+
+
+    /* Is Displayed */
+    public void assertIsDisplayed(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsDisplayed");
+        try {
+            defer("assertIsDisplayed", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsDisplayed(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsDisplayed(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsNotDisplayed(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsNotDisplayed");
+        try {
+            defer("assertIsNotDisplayed", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsNotDisplayed(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsNotDisplayed(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsDisplayed(WebElement webElement, long secondsToWait) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsDisplayed");
+        try {
+            try {
+                WebDriverAsserts.assertIsDisplayed(webElement, secondsToWait);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertIsDisplayed", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsNotDisplayed(WebElement webElement, long secondsToWait) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsNotDisplayed");
+        try {
+            try {
+                WebDriverAsserts.assertIsNotDisplayed(webElement, secondsToWait);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertIsNotDisplayed", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Size */
+    public void assertSizeEquals(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeEquals");
+        try {
+            try {
+                WebDriverAsserts.assertSizeEquals(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeNotEquals(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeNotEquals");
+        try {
+            try {
+                WebDriverAsserts.assertSizeNotEquals(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeNotEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeLessThan(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeLessThan");
+        try {
+            try {
+                WebDriverAsserts.assertSizeLessThan(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeLessThan", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeLessThanOrEquals(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeLessThanOrEquals");
+        try {
+            try {
+                WebDriverAsserts.assertSizeLessThanOrEquals(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeLessThanOrEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeGreaterThan(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeGreaterThan");
+        try {
+            try {
+                WebDriverAsserts.assertSizeGreaterThan(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeGreaterThan", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeGreaterThanOrEquals(int number, Collection collection) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertSizeGreaterThanOrEquals");
+        try {
+            try {
+                WebDriverAsserts.assertSizeGreaterThanOrEquals(number, collection);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertSizeGreaterThanOrEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Count */
+    public void assertCountEquals(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCountEquals(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountNotEquals(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountNotEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCountNotEquals(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountNotEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountLessThan(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountLessThan");
+        try {
+            try {
+                WebDriverAsserts.assertCountLessThan(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountLessThan", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountLessThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountLessThanOrEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCountLessThanOrEquals(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountLessThanOrEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountGreaterThan(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountGreaterThan");
+        try {
+            try {
+                WebDriverAsserts.assertCountGreaterThan(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountGreaterThan", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountGreaterThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCountGreaterThanOrEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCountGreaterThanOrEquals(number, by);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCountGreaterThanOrEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Current Url */
+    public void assertCurrentUrlEquals(String url) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlEquals(url);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotEquals(String url) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotEquals");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotEquals(url);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlContains(String searchText) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlContains");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlContains(searchText);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlContains", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotContains(String searchText) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotContains");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotContains(searchText);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotContains", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlStartsWith(String prefix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlStartsWith");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlStartsWith(prefix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlStartsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotStartsWith(String prefix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotStartsWith");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotStartsWith(prefix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotStartsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlEndsWith(String suffix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlEndsWith");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlEndsWith(suffix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlEndsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotEndsWith(String suffix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotEndsWith");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotEndsWith(suffix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotEndsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlMatches(String regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlMatches");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlMatches");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotMatches(String regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotMatches");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertCurrentUrlNotMatches");
+        try {
+            try {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertCurrentUrlNotMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Title */
+    public void assertTitleEquals(String title) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleEquals");
+        try {
+            try {
+                WebDriverAsserts.assertTitleEquals(title);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotEquals(String title) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotEquals");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotEquals(title);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotEquals", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleContains(String searchText) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleContains");
+        try {
+            try {
+                WebDriverAsserts.assertTitleContains(searchText);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleContains", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotContains(String searchText) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotContains");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotContains(searchText);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotContains", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleStartsWith(String prefix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleStartsWith");
+        try {
+            try {
+                WebDriverAsserts.assertTitleStartsWith(prefix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleStartsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotStartsWith(String prefix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotStartsWith");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotStartsWith(prefix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotStartsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleEndsWith(String suffix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleEndsWith");
+        try {
+            try {
+                WebDriverAsserts.assertTitleEndsWith(suffix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleEndsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotEndsWith(String suffix) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotEndsWith");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotEndsWith(suffix);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotEndsWith", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleMatches(String regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleMatches");
+        try {
+            try {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleMatches");
+        try {
+            try {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotMatches(String regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotMatches");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTitleNotMatches");
+        try {
+            try {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertTitleNotMatches", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Tag Name */
+    public void assertTagNameEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTagNameEquals");
+        try {
+            defer("assertTagNameEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTagNameEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTagNameEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTagNameNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTagNameNotEquals");
+        try {
+            defer("assertTagNameNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTagNameNotEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTagNameNotEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Attribute */
+    public void assertHasAttribute(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasAttribute");
+        try {
+            defer("assertHasAttribute", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasAttribute(name, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasAttribute(name, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotAttribute(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotAttribute");
+        try {
+            defer("assertHasNotAttribute", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotAttribute(name, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotAttribute(name, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEquals(final String name, final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeEquals");
+        try {
+            defer("assertAttributeEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeEquals(name, value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeEquals(name, value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEquals(final String name, final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotEquals");
+        try {
+            defer("assertAttributeNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotEquals(name, value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotEquals(name, value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeContains(final String name, final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeContains");
+        try {
+            defer("assertAttributeContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeContains(name, searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeContains(name, searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotContains(final String name, final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotContains");
+        try {
+            defer("assertAttributeNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotContains(name, searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotContains(name, searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeStartsWith(final String name, final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeStartsWith");
+        try {
+            defer("assertAttributeStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeStartsWith(name, prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeStartsWith(name, prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotStartsWith(final String name, final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotStartsWith");
+        try {
+            defer("assertAttributeNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotStartsWith(name, prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotStartsWith(name, prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEndsWith(final String name, final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeEndsWith");
+        try {
+            defer("assertAttributeEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeEndsWith(name, suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeEndsWith(name, suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEndsWith(final String name, final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotEndsWith");
+        try {
+            defer("assertAttributeNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotEndsWith(name, suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotEndsWith(name, suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeMatches(final String name, final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeMatches");
+        try {
+            defer("assertAttributeMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeMatches(name, regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeMatches");
+        try {
+            defer("assertAttributeMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeMatches(name, regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotMatches(final String name, final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotMatches");
+        try {
+            defer("assertAttributeNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotMatches(name, regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotMatches");
+        try {
+            defer("assertAttributeNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotMatches(name, regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Attribute as Number */
+    public void assertAttributeIsNumber(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeIsNumber");
+        try {
+            defer("assertAttributeIsNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeIsNumber(name, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeIsNumber(name, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeIsNotNumber(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeIsNotNumber");
+        try {
+            defer("assertAttributeIsNotNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeIsNotNumber(name, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeIsNotNumber(name, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeEquals");
+        try {
+            defer("assertAttributeEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeEquals(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeEquals(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeNotEquals");
+        try {
+            defer("assertAttributeNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeNotEquals(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeNotEquals(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeLessThan(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeLessThan");
+        try {
+            defer("assertAttributeLessThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeLessThan(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeLessThan(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeLessThanOrEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeLessThanOrEquals");
+        try {
+            defer("assertAttributeLessThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeLessThanOrEquals(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeLessThanOrEquals(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeGreaterThan(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeGreaterThan");
+        try {
+            defer("assertAttributeGreaterThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeGreaterThan(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeGreaterThan(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeGreaterThanOrEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAttributeGreaterThanOrEquals");
+        try {
+            defer("assertAttributeGreaterThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertAttributeGreaterThanOrEquals(name, number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertAttributeGreaterThanOrEquals(name, number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Id */
+    public void assertIdEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdEquals");
+        try {
+            defer("assertIdEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotEquals");
+        try {
+            defer("assertIdNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdContains");
+        try {
+            defer("assertIdContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotContains");
+        try {
+            defer("assertIdNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdStartsWith");
+        try {
+            defer("assertIdStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotStartsWith");
+        try {
+            defer("assertIdNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdEndsWith");
+        try {
+            defer("assertIdEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotEndsWith");
+        try {
+            defer("assertIdNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdMatches");
+        try {
+            defer("assertIdMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdMatches");
+        try {
+            defer("assertIdMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotMatches");
+        try {
+            defer("assertIdNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIdNotMatches");
+        try {
+            defer("assertIdNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIdNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Name */
+    public void assertNameEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameEquals");
+        try {
+            defer("assertNameEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotEquals");
+        try {
+            defer("assertNameNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameContains");
+        try {
+            defer("assertNameContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotContains");
+        try {
+            defer("assertNameNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameStartsWith");
+        try {
+            defer("assertNameStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotStartsWith");
+        try {
+            defer("assertNameNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameEndsWith");
+        try {
+            defer("assertNameEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotEndsWith");
+        try {
+            defer("assertNameNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameMatches");
+        try {
+            defer("assertNameMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameMatches");
+        try {
+            defer("assertNameMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotMatches");
+        try {
+            defer("assertNameNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNameNotMatches");
+        try {
+            defer("assertNameNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertNameNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Class */
+    public void assertHasClass(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClass");
+        try {
+            defer("assertHasClass", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClass(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClass(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClass(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClass");
+        try {
+            defer("assertHasNotClass", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClass(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClass(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClass(final String className, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClass");
+        try {
+            defer("assertHasClass", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClass(className, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClass(className, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClass(final String className, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClass");
+        try {
+            defer("assertHasNotClass", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClass(className, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClass(className, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassContaining(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClassContaining");
+        try {
+            defer("assertHasClassContaining", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClassContaining(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClassContaining(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassContaining(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClassContaining");
+        try {
+            defer("assertHasNotClassContaining", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClassContaining(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClassContaining(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassStartingWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClassStartingWith");
+        try {
+            defer("assertHasClassStartingWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClassStartingWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClassStartingWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassStartingWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClassStartingWith");
+        try {
+            defer("assertHasNotClassStartingWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClassStartingWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClassStartingWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassEndingWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClassEndingWith");
+        try {
+            defer("assertHasClassEndingWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClassEndingWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClassEndingWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassEndingWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClassEndingWith");
+        try {
+            defer("assertHasNotClassEndingWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClassEndingWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClassEndingWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassMatching(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClassMatching");
+        try {
+            defer("assertHasClassMatching", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClassMatching(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassMatching(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasClassMatching");
+        try {
+            defer("assertHasClassMatching", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasClassMatching(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassMatching(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClassMatching");
+        try {
+            defer("assertHasNotClassMatching", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClassMatching(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassMatching(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotClassMatching");
+        try {
+            defer("assertHasNotClassMatching", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotClassMatching(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value */
+    public void assertValueEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueEquals");
+        try {
+            defer("assertValueEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotEquals");
+        try {
+            defer("assertValueNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueContains");
+        try {
+            defer("assertValueContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotContains");
+        try {
+            defer("assertValueNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueStartsWith");
+        try {
+            defer("assertValueStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotStartsWith");
+        try {
+            defer("assertValueNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueEndsWith");
+        try {
+            defer("assertValueEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotEndsWith");
+        try {
+            defer("assertValueNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueMatches");
+        try {
+            defer("assertValueMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueMatches");
+        try {
+            defer("assertValueMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotMatches");
+        try {
+            defer("assertValueNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotMatches");
+        try {
+            defer("assertValueNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value as Number */
+    public void assertValueIsNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueIsNumber");
+        try {
+            defer("assertValueIsNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueIsNumber(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueIsNumber(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueIsNotNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueIsNotNumber");
+        try {
+            defer("assertValueIsNotNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueIsNotNumber(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueIsNotNumber(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueEquals");
+        try {
+            defer("assertValueEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueNotEquals");
+        try {
+            defer("assertValueNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueNotEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueNotEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueLessThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueLessThan");
+        try {
+            defer("assertValueLessThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueLessThan(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueLessThan(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueLessThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueLessThanOrEquals");
+        try {
+            defer("assertValueLessThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueLessThanOrEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueLessThanOrEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueGreaterThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueGreaterThan");
+        try {
+            defer("assertValueGreaterThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueGreaterThan(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueGreaterThan(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueGreaterThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertValueGreaterThanOrEquals");
+        try {
+            defer("assertValueGreaterThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertValueGreaterThanOrEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertValueGreaterThanOrEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Href */
+    public void assertHrefEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefEquals");
+        try {
+            defer("assertHrefEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotEquals");
+        try {
+            defer("assertHrefNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotEquals(value, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotEquals(value, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefContains");
+        try {
+            defer("assertHrefContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotContains");
+        try {
+            defer("assertHrefNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefStartsWith");
+        try {
+            defer("assertHrefStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotStartsWith");
+        try {
+            defer("assertHrefNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefEndsWith");
+        try {
+            defer("assertHrefEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotEndsWith");
+        try {
+            defer("assertHrefNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefMatches");
+        try {
+            defer("assertHrefMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefMatches");
+        try {
+            defer("assertHrefMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotMatches");
+        try {
+            defer("assertHrefNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHrefNotMatches");
+        try {
+            defer("assertHrefNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHrefNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Text */
+    public void assertHasText(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasText");
+        try {
+            defer("assertHasText", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasText(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasText(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotText(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotText");
+        try {
+            defer("assertHasNotText", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertHasNotText(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertHasNotText(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEquals(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextEquals");
+        try {
+            defer("assertTextEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextEquals(text, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextEquals(text, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEquals(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotEquals");
+        try {
+            defer("assertTextNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotEquals(text, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotEquals(text, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEqualsIgnoreCase(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextEqualsIgnoreCase");
+        try {
+            defer("assertTextEqualsIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextEqualsIgnoreCase(text, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextEqualsIgnoreCase(text, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEqualsIgnoreCase(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotEqualsIgnoreCase");
+        try {
+            defer("assertTextNotEqualsIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotEqualsIgnoreCase(text, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotEqualsIgnoreCase(text, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextContains");
+        try {
+            defer("assertTextContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotContains");
+        try {
+            defer("assertTextNotContains", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotContains(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotContains(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextContainsIgnoreCase");
+        try {
+            defer("assertTextContainsIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextContainsIgnoreCase(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextContainsIgnoreCase(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotContainsIgnoreCase");
+        try {
+            defer("assertTextNotContainsIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotContainsIgnoreCase(searchText, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotContainsIgnoreCase(searchText, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextStartsWith");
+        try {
+            defer("assertTextStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotStartsWith");
+        try {
+            defer("assertTextNotStartsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotStartsWith(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotStartsWith(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextStartsWithIgnoreCase");
+        try {
+            defer("assertTextStartsWithIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextStartsWithIgnoreCase(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextStartsWithIgnoreCase(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotStartsWithIgnoreCase");
+        try {
+            defer("assertTextNotStartsWithIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotStartsWithIgnoreCase(prefix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotStartsWithIgnoreCase(prefix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextEndsWith");
+        try {
+            defer("assertTextEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotEndsWith");
+        try {
+            defer("assertTextNotEndsWith", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotEndsWith(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotEndsWith(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextEndsWithIgnoreCase");
+        try {
+            defer("assertTextEndsWithIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextEndsWithIgnoreCase(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextEndsWithIgnoreCase(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotEndsWithIgnoreCase");
+        try {
+            defer("assertTextNotEndsWithIgnoreCase", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotEndsWithIgnoreCase(suffix, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotEndsWithIgnoreCase(suffix, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextMatches");
+        try {
+            defer("assertTextMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextMatches");
+        try {
+            defer("assertTextMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotMatches");
+        try {
+            defer("assertTextNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotMatches");
+        try {
+            defer("assertTextNotMatches", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotMatches(regExp, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Text as Number */
+    public void assertTextIsNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextIsNumber");
+        try {
+            defer("assertTextIsNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextIsNumber(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextIsNumber(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextIsNotNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextIsNotNumber");
+        try {
+            defer("assertTextIsNotNumber", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextIsNotNumber(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextIsNotNumber(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextEquals");
+        try {
+            defer("assertTextEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextNotEquals");
+        try {
+            defer("assertTextNotEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextNotEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextNotEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextLessThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextLessThan");
+        try {
+            defer("assertTextLessThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextLessThan(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextLessThan(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextLessThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextLessThanOrEquals");
+        try {
+            defer("assertTextLessThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextLessThanOrEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextLessThanOrEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextGreaterThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextGreaterThan");
+        try {
+            defer("assertTextGreaterThan", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextGreaterThan(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextGreaterThan(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextGreaterThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertTextGreaterThanOrEquals");
+        try {
+            defer("assertTextGreaterThanOrEquals", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertTextGreaterThanOrEquals(number, snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertTextGreaterThanOrEquals(number, webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Selected/Deselected */
+    public void assertIsSelected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsSelected");
+        try {
+            defer("assertIsSelected", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsSelected(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsSelected(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsDeselected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsDeselected");
+        try {
+            defer("assertIsDeselected", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsDeselected(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsDeselected(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Checked/Unchecked */
+    public void assertIsChecked(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsChecked");
+        try {
+            defer("assertIsChecked", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsChecked(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsChecked(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsUnchecked(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsUnchecked");
+        try {
+            defer("assertIsUnchecked", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsUnchecked(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsUnchecked(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Enabled/Disabled */
+    public void assertIsEnabled(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsEnabled");
+        try {
+            defer("assertIsEnabled", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsEnabled(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsEnabled(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsDisabled(final WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertIsDisabled");
+        try {
+            defer("assertIsDisabled", webElement, new ElementAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    WebDriverAsserts.assertIsDisabled(snapshot);
+                }
+
+                @Override
+                public void assertOn(WebElement webElement) {
+                    WebDriverAsserts.assertIsDisabled(webElement);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option */
+    public void assertHasOption(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasOption");
+        try {
+            try {
+                WebDriverAsserts.assertHasOption(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasOption", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOption(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotOption");
+        try {
+            try {
+                WebDriverAsserts.assertHasNotOption(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasNotOption", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsEnabled(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionIsEnabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionIsEnabled(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionIsEnabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsDisabled(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionIsDisabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionIsDisabled(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionIsDisabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsSelected(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionIsSelected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionIsSelected(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionIsSelected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsDeselected(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionIsDeselected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionIsDeselected(text, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionIsDeselected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAllOptionsAreSelected(WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertAllOptionsAreSelected");
+        try {
+            try {
+                WebDriverAsserts.assertAllOptionsAreSelected(webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertAllOptionsAreSelected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNoOptionIsSelected(WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertNoOptionIsSelected");
+        try {
+            try {
+                WebDriverAsserts.assertNoOptionIsSelected(webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertNoOptionIsSelected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option Value */
+    public void assertHasOptionWithValue(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasOptionWithValue");
+        try {
+            try {
+                WebDriverAsserts.assertHasOptionWithValue(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasOptionWithValue", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOptionWithValue(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotOptionWithValue");
+        try {
+            try {
+                WebDriverAsserts.assertHasNotOptionWithValue(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasNotOptionWithValue", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsEnabled(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithValueIsEnabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithValueIsEnabled(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithValueIsEnabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsDisabled(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithValueIsDisabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithValueIsDisabled(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithValueIsDisabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsSelected(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithValueIsSelected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithValueIsSelected(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithValueIsSelected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsDeselected(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithValueIsDeselected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithValueIsDeselected(value, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithValueIsDeselected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option Index */
+    public void assertHasOptionWithIndex(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasOptionWithIndex");
+        try {
+            try {
+                WebDriverAsserts.assertHasOptionWithIndex(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasOptionWithIndex", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOptionWithIndex(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertHasNotOptionWithIndex");
+        try {
+            try {
+                WebDriverAsserts.assertHasNotOptionWithIndex(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertHasNotOptionWithIndex", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsEnabled(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithIndexIsEnabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithIndexIsEnabled(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithIndexIsEnabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsDisabled(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithIndexIsDisabled");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithIndexIsDisabled(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithIndexIsDisabled", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsSelected(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithIndexIsSelected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithIndexIsSelected(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithIndexIsSelected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsDeselected(int index, WebElement webElement) {
+        Invocation invocation = Invocation.start("SoftAsserts.assertOptionWithIndexIsDeselected");
+        try {
+            try {
+                WebDriverAsserts.assertOptionWithIndexIsDeselected(index, webElement);
+            } catch (AssertionError | RuntimeException e) {
+                failed("assertOptionWithIndexIsDeselected", e);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+
+/**
+ * A wait of the asserts and actions passed to the {@link WaitListener}s.
+ */
+public class WaitEvent {
+
+    private final String condition;
+    private final long timeoutNanos;
+    private final long durationNanos;
+    private final int polls;
+    private final boolean satisfied;
+    private final String threadName;
+    private final String assertion;
+
+    public WaitEvent(String condition, long timeoutNanos, long durationNanos, int polls, boolean satisfied) {
+        this.condition = condition;
+        this.timeoutNanos = timeoutNanos;
+        this.durationNanos = durationNanos;
+        this.polls = polls;
+        this.satisfied = satisfied;
+        this.threadName = Thread.currentThread().getName();
+        this.assertion = Invocation.current();
+    }
+
+    /**
+     * @return what was waited for, e.g. {@code visibility}
+     */
+    public String getCondition() {
+        return condition;
+    }
+
+    /**
+     * @return the longest time the wait was allowed to take
+     */
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    /**
+     * @return the time the wait took
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the number of times the condition was checked, in the browser
+     * or in the JVM
+     */
+    public int getPolls() {
+        return polls;
+    }
+
+    /**
+     * @return true if the condition was met before the timeout
+     */
+    public boolean isSatisfied() {
+        return satisfied;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * The assert or action that waited, taken the same way as
+     * {@link CommandEvent#getAssertion()}.
+     *
+     * @return the assert or action or {@link CommandEvent#NO_ASSERTION}
+     */
+    public String getAssertion() {
+        return assertion;
+    }
+
+    @Override
+    public String toString() {
+        return "wait for " + condition + (satisfied ? "" : " timed out") + " after " + polls + " polls in " + durationNanos + " ns";
+    }
+}
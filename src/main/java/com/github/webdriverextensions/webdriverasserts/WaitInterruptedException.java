@@ -0,0 +1,20 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Thrown when a thread is interrupted while it waits, e.g. in
+ * {@link WebDriverActions#waitFor(double)} or in an assert of
+ * {@link WithinAsserts}.
+ *
+ * <p>The interrupt status of the thread is kept set so that executors and
+ * test timeouts that interrupt a thread stop it. It is not a
+ * {@link org.openqa.selenium.WebDriverException} so that it is not collected
+ * by {@link SoftAsserts} and not taken as a failed poll.</p>
+ */
+public class WaitInterruptedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WaitInterruptedException(String message, InterruptedException cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+/**
+ * Listens to the waits of the asserts and actions, e.g.
+ * {@link WebDriverActions#waitForElementToDisplay(org.openqa.selenium.WebElement)}
+ * and the asserts taking a time to wait.
+ *
+ * <p>Register listeners with
+ * {@link CommandListeners#addWaitListener(WaitListener)}. Listeners are called
+ * in the thread that waited, right after the wait ended, so they should be
+ * fast and must be thread safe.</p>
+ */
+public interface WaitListener {
+
+    void onWait(WaitEvent event);
+}
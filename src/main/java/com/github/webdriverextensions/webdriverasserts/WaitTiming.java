@@ -0,0 +1,120 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The clock and the sleeper all waits of the asserts and actions in the
+ * current thread go through.
+ *
+ * <p>By default waits read {@link System#nanoTime()} and sleep with
+ * {@link TimeUnit#sleep(long)}. Opening a timing with another clock and
+ * sleeper, e.g. a fake clock that a fake sleeper advances, lets tests check
+ * timeouts, polling and {@link Deadline}s without sleeping.</p>
+ *
+ * <pre>
+ * try (WaitTiming timing = WaitTiming.open(fakeClock, fakeClock)) {
+ *     within(5, SECONDS).assertTextEquals("Saved", status);
+ * }
+ * </pre>
+ */
+public final class WaitTiming implements AutoCloseable {
+
+    public interface Clock {
+        /**
+         * @return the current time in nanoseconds from some fixed but
+         * arbitrary origin, like {@link System#nanoTime()}
+         */
+        long nanoTime();
+    }
+
+    public interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    public static final Clock SYSTEM_CLOCK = new Clock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    public static final Sleeper SYSTEM_SLEEPER = new Sleeper() {
+        @Override
+        public void sleep(long nanos) throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    };
+
+    private static final WaitTiming SYSTEM = new WaitTiming(SYSTEM_CLOCK, SYSTEM_SLEEPER, null);
+    private static final ThreadLocal<WaitTiming> CURRENT = new ThreadLocal<>();
+
+    private final Clock clock;
+    private final Sleeper sleeper;
+    private final WaitTiming previous;
+    private final Thread thread;
+    private boolean closed;
+
+    private WaitTiming(Clock clock, Sleeper sleeper, WaitTiming previous) {
+        if (clock == null || sleeper == null) {
+            throw new IllegalArgumentException("clock and sleeper must not be null");
+        }
+        this.clock = clock;
+        this.sleeper = sleeper;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+    }
+
+    /**
+     * Makes the waits in the current thread use the clock and sleeper until
+     * the returned timing is closed.
+     */
+    public static WaitTiming open(Clock clock, Sleeper sleeper) {
+        WaitTiming timing = new WaitTiming(clock, sleeper, CURRENT.get());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * @return the timing open in the current thread or the system timing if
+     * there is none
+     */
+    public static WaitTiming current() {
+        WaitTiming timing = CURRENT.get();
+        return timing != null ? timing : SYSTEM;
+    }
+
+    public Clock clock() {
+        return clock;
+    }
+
+    public Sleeper sleeper() {
+        return sleeper;
+    }
+
+    public long nanoTime() {
+        return clock.nanoTime();
+    }
+
+    public boolean isSystem() {
+        return clock == SYSTEM_CLOCK && sleeper == SYSTEM_SLEEPER;
+    }
+
+    /**
+     * Closes the timing and restores the timing that was open when this
+     * timing was opened.
+     */
+    @Override
+    public void close() {
+        if (closed || thread != Thread.currentThread() || this == SYSTEM) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.github.webdriverextensions.webdriverasserts;
 
 import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
 import com.github.webdriverextensions.webdriverasserts.internal.NumberUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.ObserverWait;
+import com.github.webdriverextensions.webdriverasserts.internal.QuietWait;
+import com.github.webdriverextensions.webdriverasserts.internal.TextPredicates;
+import com.github.webdriverextensions.webdriverasserts.internal.Waits;
 import com.google.common.base.Predicate;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -10,7 +15,6 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.BrowserType;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.io.File;
 import java.io.IOException;
@@ -18,150 +22,254 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import static com.github.webdriverextensions.webdriverasserts.internal.BotUtils.asNanos;
+import static com.github.webdriverextensions.webdriverasserts.internal.Instrumentation.instrument;
 import static com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote;
 import static org.apache.commons.lang3.math.NumberUtils.createDouble;
 
 public class WebDriverActions {
 
-    private static InheritableThreadLocal<WebDriver> threadLocalDriver = new InheritableThreadLocal<>();
+    private static final long DEFAULT_SLEEP_IN_MILLIS = 500;
 
     public static void removeDriver() {
-        threadLocalDriver.remove();
+        DriverContext.remove();
     }
 
     public static void setDriver(WebDriver driver) {
-        threadLocalDriver.set(driver);
+        DriverContext.set(driver);
     }
 
     /* Driver */
     private static WebDriver driver() {
-        if (threadLocalDriver.get() == null) {
-            throw new WebDriverException("Driver in WebDriverActions is not set. Please set the driver with WebDriverActions.setDriver(...) method before using the WebDriverActions asserts. Note that the driver will be thread safe since ThreadLocal is used so don't worry about thread safety.");
-        }
-        return threadLocalDriver.get();
+        return DriverContext.get().driver();
     }
 
 
 
     /* Click */
     public static void click(WebElement webElement) {
-        webElement.click();
+        Invocation invocation = Invocation.start("WebDriverActions.click");
+        try {
+            instrument(webElement).click();
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Double Click */
     public static void doubleClick(WebElement webElement) {
-	Actions action = new Actions(driver());
-	action.doubleClick(webElement).perform();
+        Invocation invocation = Invocation.start("WebDriverActions.doubleClick");
+        try {
+            Actions action = new Actions(instrument(driver()));
+            action.doubleClick(webElement).perform();
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Type */
     public static void type(String text, WebElement webElement) {
-        if (text == null) {
-            return;
+        Invocation invocation = Invocation.start("WebDriverActions.type");
+        try {
+            if (text == null) {
+                return;
+            }
+            instrument(webElement).sendKeys(text);
+        } finally {
+            invocation.end();
         }
-        webElement.sendKeys(text);
     }
 
     public static void type(double number, WebElement webElement) {
-        type(NumberUtils.toString(number), webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.type");
+        try {
+            type(NumberUtils.toString(number), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Clear */
     public static void clear(WebElement webElement) {
-        webElement.clear();
+        Invocation invocation = Invocation.start("WebDriverActions.clear");
+        try {
+            instrument(webElement).clear();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void clearAndType(String text, WebElement webElement) {
-        clear(webElement);
-        type(text, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.clearAndType");
+        try {
+            clear(webElement);
+            type(text, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void clearAndType(double number, WebElement webElement) {
-        clear(webElement);
-        type(number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.clearAndType");
+        try {
+            clear(webElement);
+            type(number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Press Keys */
     public static void pressEnter(WebElement webElement) {
-        pressKeys(webElement, Keys.ENTER);
+        Invocation invocation = Invocation.start("WebDriverActions.pressEnter");
+        try {
+            pressKeys(webElement, Keys.ENTER);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void pressKeys(WebElement webElement, CharSequence... keys) {
-        webElement.sendKeys(keys);
+        Invocation invocation = Invocation.start("WebDriverActions.pressKeys");
+        try {
+            instrument(webElement).sendKeys(keys);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Select/Deselect */
     public static void select(WebElement webElement) {
-        if (isDeselected(webElement)) {
-            webElement.click();
+        Invocation invocation = Invocation.start("WebDriverActions.select");
+        try {
+            if (isDeselected(webElement)) {
+                instrument(webElement).click();
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void deselect(WebElement webElement) {
-        if (isSelected(webElement)) {
-            webElement.click();
+        Invocation invocation = Invocation.start("WebDriverActions.deselect");
+        try {
+            if (isSelected(webElement)) {
+                instrument(webElement).click();
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void selectOption(String text, WebElement webElement) {
-        new Select(webElement).selectByVisibleText(text);
+        Invocation invocation = Invocation.start("WebDriverActions.selectOption");
+        try {
+            new Select(instrument(webElement)).selectByVisibleText(text);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void deselectOption(String text, WebElement webElement) {
-        new Select(webElement).deselectByVisibleText(text);
+        Invocation invocation = Invocation.start("WebDriverActions.deselectOption");
+        try {
+            new Select(instrument(webElement)).deselectByVisibleText(text);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void selectAllOptions(WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            select(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.selectAllOptions");
+        try {
+            List<WebElement> options = new Select(instrument(webElement)).getOptions();
+            for (WebElement option : options) {
+                select(webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void deselectAllOptions(WebElement webElement) {
-        new Select(webElement).deselectAll();
+        Invocation invocation = Invocation.start("WebDriverActions.deselectAllOptions");
+        try {
+            new Select(instrument(webElement)).deselectAll();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void selectOptionWithValue(String value, WebElement webElement) {
-        new Select(webElement).selectByValue(value);
+        Invocation invocation = Invocation.start("WebDriverActions.selectOptionWithValue");
+        try {
+            new Select(instrument(webElement)).selectByValue(value);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void deselectOptionWithValue(String value, WebElement webElement) {
-        new Select(webElement).deselectByValue(value);
+        Invocation invocation = Invocation.start("WebDriverActions.deselectOptionWithValue");
+        try {
+            new Select(instrument(webElement)).deselectByValue(value);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void selectOptionWithIndex(int index, WebElement webElement) {
-        new Select(webElement).selectByIndex(index);
+        Invocation invocation = Invocation.start("WebDriverActions.selectOptionWithIndex");
+        try {
+            new Select(instrument(webElement)).selectByIndex(index);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void deselectOptionWithIndex(int index, WebElement webElement) {
-        new Select(webElement).selectByIndex(index);
+        Invocation invocation = Invocation.start("WebDriverActions.deselectOptionWithIndex");
+        try {
+            new Select(instrument(webElement)).selectByIndex(index);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Check/Uncheck */
     public static void check(WebElement webElement) {
-        if (isUnchecked(webElement)) {
-            click(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.check");
+        try {
+            if (isUnchecked(webElement)) {
+                click(webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void uncheck(WebElement webElement) {
-        if (isChecked(webElement)) {
-            click(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.uncheck");
+        try {
+            if (isChecked(webElement)) {
+                click(webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
@@ -169,320 +277,740 @@ public class WebDriverActions {
 
     /* Navigation */
     public static void navigateBack() {
-        driver().navigate().back();
+        Invocation invocation = Invocation.start("WebDriverActions.navigateBack");
+        try {
+            instrument(driver()).navigate().back();
+        } finally {
+            invocation.end();
+        }
     }
     public static void navigateForward() {
-        driver().navigate().forward();
+        Invocation invocation = Invocation.start("WebDriverActions.navigateForward");
+        try {
+            instrument(driver()).navigate().forward();
+        } finally {
+            invocation.end();
+        }
     }
     public static void navigateRefresh() {
-        driver().navigate().refresh();
+        Invocation invocation = Invocation.start("WebDriverActions.navigateRefresh");
+        try {
+            instrument(driver()).navigate().refresh();
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Wait For */
+    /**
+     * Sleeps for the time or until the {@link Deadline} of the thread,
+     * whichever comes first.
+     *
+     * @throws WaitInterruptedException if the thread is interrupted, the
+     * interrupt status is kept
+     */
     public static void waitFor(double seconds) {
-        long nanos = (long) (seconds * 1000000000);
-        if (seconds > 0) {
-            try {
-                TimeUnit.NANOSECONDS.sleep(nanos);
-            } catch (InterruptedException ex) {
-                // Swallow exception
-                ex.printStackTrace();
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.waitFor");
+        try {
+            waitFor(seconds, TimeUnit.SECONDS);
+        } finally {
+            invocation.end();
         }
     }
 
+    /**
+     * @see #waitFor(double)
+     */
     public static void waitFor(double time, TimeUnit unit) {
-        if (time <= 0) {
-            return;
-        }
+        Invocation invocation = Invocation.start("WebDriverActions.waitFor");
         try {
-            TimeUnit.NANOSECONDS.sleep(asNanos(time, unit));
-        } catch (InterruptedException ex) {
-            // Swallow exception
-            ex.printStackTrace();
+            if (time <= 0) {
+                return;
+            }
+            Waits.sleepUntil(Waits.deadlineAfter(asNanos(time, unit)));
+        } finally {
+            invocation.end();
         }
     }
 
     public static void waitForElementToDisplay(WebElement webElement) {
-        waitForElementToDisplay(webElement, 30);
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementToDisplay");
+        try {
+            waitForElementToDisplay(webElement, 30);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementToDisplay(WebElement webElement, long secondsToWait) {
-        WebDriverWait wait = new WebDriverWait(driver(), secondsToWait);
-        wait.until(ExpectedConditions.visibilityOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementToDisplay");
+        try {
+            ObserverWait.waitForElementToDisplay(driver(), webElement, secondsToWait, TimeUnit.SECONDS, DEFAULT_SLEEP_IN_MILLIS);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementToDisplay(WebElement webElement, double timeToWait, TimeUnit unit) {
-        WebDriverWait wait = new WebDriverWait(driver(), asNanos(timeToWait, unit));
-        wait.until(ExpectedConditions.visibilityOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementToDisplay");
+        try {
+            ObserverWait.waitForElementToDisplay(driver(), webElement, timeToWait, unit, DEFAULT_SLEEP_IN_MILLIS);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementToDisplay(WebElement webElement, long secondsToWait, long sleepInMillis) {
-        WebDriverWait wait = new WebDriverWait(driver(), secondsToWait, sleepInMillis);
-        wait.until(ExpectedConditions.visibilityOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementToDisplay");
+        try {
+            ObserverWait.waitForElementToDisplay(driver(), webElement, secondsToWait, TimeUnit.SECONDS, sleepInMillis);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementToDisplay(WebElement webElement, double timeToWait, TimeUnit unit, long sleepInMillis) {
-        WebDriverWait wait = new WebDriverWait(driver(), asNanos(timeToWait, unit), sleepInMillis);
-        wait.until(ExpectedConditions.visibilityOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementToDisplay");
+        try {
+            ObserverWait.waitForElementToDisplay(driver(), webElement, timeToWait, unit, sleepInMillis);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementsToDisplay(List<WebElement> webElements) {
-        waitForElementsToDisplay((List<WebElement>) webElements, 30);
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementsToDisplay");
+        try {
+            waitForElementsToDisplay((List<WebElement>) webElements, 30);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementsToDisplay(List<WebElement> webElements, long secondsToWait) {
-        WebDriverWait wait = new WebDriverWait(driver(), secondsToWait);
-        wait.until(ExpectedConditions.visibilityOfAllElements((List<WebElement>) webElements));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementsToDisplay");
+        try {
+            ObserverWait.waitForElementsToDisplay(driver(), webElements, secondsToWait, TimeUnit.SECONDS, DEFAULT_SLEEP_IN_MILLIS);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitForElementsToDisplay(List<WebElement> webElements, long secondsToWait, long sleepInMillis) {
-        WebDriverWait wait = new WebDriverWait(driver(), secondsToWait, sleepInMillis);
-        wait.until(ExpectedConditions.visibilityOfAllElements((List<WebElement>) webElements));
+        Invocation invocation = Invocation.start("WebDriverActions.waitForElementsToDisplay");
+        try {
+            ObserverWait.waitForElementsToDisplay(driver(), webElements, secondsToWait, TimeUnit.SECONDS, sleepInMillis);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    /**
+     * Waits until the DOM of the page has not changed for 500 ms, for at most
+     * 30 seconds.
+     */
+    public static void waitForDomQuiet() {
+        Invocation invocation = Invocation.start("WebDriverActions.waitForDomQuiet");
+        try {
+            waitForDomQuiet(500, 30000, TimeUnit.MILLISECONDS);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void waitForDomQuiet(double quietPeriod, double timeout, TimeUnit unit) {
+        Invocation invocation = Invocation.start("WebDriverActions.waitForDomQuiet");
+        try {
+            QuietWait.waitForDomQuiet(driver(), quietPeriod, timeout, unit);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    /**
+     * Starts counting the fetch and XHR requests of the current page for
+     * {@link #waitForNetworkIdle()}. Call it after the page is loaded and
+     * before the action that sends the requests to wait for, e.g.
+     *
+     * <pre>
+     * trackNetwork();
+     * click(searchButton);
+     * waitForNetworkIdle();
+     * </pre>
+     *
+     * Without it the requests are counted from the first network wait in the
+     * page, so a request sent before that is only seen when it ends.
+     */
+    public static void trackNetwork() {
+        Invocation invocation = Invocation.start("WebDriverActions.trackNetwork");
+        try {
+            QuietWait.trackNetwork(driver());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    /**
+     * Waits until no fetch or XHR request has been pending in the page for
+     * 500 ms, for at most 30 seconds. Requests are counted from
+     * {@link #trackNetwork()} or else from the first network wait in the
+     * page, a request sent before that delays the wait only once it ends.
+     */
+    public static void waitForNetworkIdle() {
+        Invocation invocation = Invocation.start("WebDriverActions.waitForNetworkIdle");
+        try {
+            waitForNetworkIdle(500, 30000, TimeUnit.MILLISECONDS);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void waitForNetworkIdle(double quietPeriod, double timeout, TimeUnit unit) {
+        Invocation invocation = Invocation.start("WebDriverActions.waitForNetworkIdle");
+        try {
+            QuietWait.waitForNetworkIdle(driver(), quietPeriod, timeout, unit);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Wait Until */
     public static void waitUntil(Predicate<WebDriver> perdicate) {
-	waitUntil(perdicate, 30);
+        Invocation invocation = Invocation.start("WebDriverActions.waitUntil");
+        try {
+            waitUntil(perdicate, 30);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void waitUntil(Predicate<WebDriver> perdicate, long secondsToWait) {
-	new WebDriverWait(driver(), secondsToWait).until(perdicate);
+        Invocation invocation = Invocation.start("WebDriverActions.waitUntil");
+        try {
+            ObserverWait.waitUntil(driver(), perdicate, secondsToWait, TimeUnit.SECONDS);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    /**
+     * @param sleepInMillis the least time between two evaluations of the
+     * predicate, however often the page changes
+     */
+    public static void waitUntil(Predicate<WebDriver> perdicate, long secondsToWait, long sleepInMillis) {
+        Invocation invocation = Invocation.start("WebDriverActions.waitUntil");
+        try {
+            ObserverWait.waitUntil(driver(), perdicate, secondsToWait, TimeUnit.SECONDS, sleepInMillis);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Scrolling */
     public static Object scrollTo(WebElement webElement) {
-        return executeJavascript("arguments[0].scrollIntoView(true);", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.scrollTo");
+        try {
+            return executeJavascript("arguments[0].scrollIntoView(true);", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Execute Javascript */
     public static Object executeJavascript(String script, Object... arguments) {
-        return ((JavascriptExecutor) driver()).executeScript(script, arguments);
+        Invocation invocation = Invocation.start("WebDriverActions.executeJavascript");
+        try {
+            return DriverContext.get().javascriptExecutor().executeScript(script, arguments);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static Object executeJavascriptAsynchronously(String script, Object... arguments) {
-        return ((JavascriptExecutor) driver()).executeAsyncScript(script, arguments);
+        Invocation invocation = Invocation.start("WebDriverActions.executeJavascriptAsynchronously");
+        try {
+            return DriverContext.get().javascriptExecutor().executeAsyncScript(script, arguments);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Browser */
     public static String browser() {
-        return ((HasCapabilities) driver()).getCapabilities().getBrowserName();
+        Invocation invocation = Invocation.start("WebDriverActions.browser");
+        try {
+            return DriverContext.get().capabilities().getBrowserName();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIs(String browserName) {
-        return StringUtils.equalsIgnoreCase(browser(), browserName);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIs");
+        try {
+            return DriverContext.get().capabilities().browserIs(browserName);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNot(String browserName) {
-        return !browserIs(browserName);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNot");
+        try {
+            return !browserIs(browserName);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsAndroid() {
-        return browserIs(BrowserType.ANDROID);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsAndroid");
+        try {
+            return browserIs(BrowserType.ANDROID);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotAndroid() {
-        return !browserIsAndroid();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotAndroid");
+        try {
+            return !browserIsAndroid();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsChrome() {
-        return browserIs(BrowserType.CHROME) || browserIs(BrowserType.GOOGLECHROME);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsChrome");
+        try {
+            DriverCapabilities capabilities = DriverContext.get().capabilities();
+            return capabilities.browserIs(BrowserType.CHROME) || capabilities.browserIs(BrowserType.GOOGLECHROME);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotChrome() {
-        return !browserIsChrome();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotChrome");
+        try {
+            return !browserIsChrome();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsEdge() {
-        return browserIs(BrowserType.EDGE);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsEdge");
+        try {
+            return browserIs(BrowserType.EDGE);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotEdge() {
-        return !browserIsEdge();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotEdge");
+        try {
+            return !browserIsEdge();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsFirefox() {
-        return browserIs(BrowserType.FIREFOX);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsFirefox");
+        try {
+            return browserIs(BrowserType.FIREFOX);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotFirefox() {
-        return !browserIsFirefox();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotFirefox");
+        try {
+            return !browserIsFirefox();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsHtmlUnit() {
-        return browserIs(BrowserType.HTMLUNIT);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsHtmlUnit");
+        try {
+            return browserIs(BrowserType.HTMLUNIT);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotHtmlUnit() {
-        return !browserIsHtmlUnit();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotHtmlUnit");
+        try {
+            return !browserIsHtmlUnit();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsIPad() {
-        return browserIs(BrowserType.IPAD);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsIPad");
+        try {
+            return browserIs(BrowserType.IPAD);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotIPad() {
-        return !browserIsIPad();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotIPad");
+        try {
+            return !browserIsIPad();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsIPhone() {
-        return browserIs(BrowserType.IPHONE);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsIPhone");
+        try {
+            return browserIs(BrowserType.IPHONE);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotIPhone() {
-        return !browserIsIPhone();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotIPhone");
+        try {
+            return !browserIsIPhone();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsInternetExplorer() {
-        return browserIs(BrowserType.IE) || browserIs(BrowserType.IEXPLORE);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsInternetExplorer");
+        try {
+            DriverCapabilities capabilities = DriverContext.get().capabilities();
+            return capabilities.browserIs(BrowserType.IE) || capabilities.browserIs(BrowserType.IEXPLORE);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotInternetExplorer() {
-        return !browserIsInternetExplorer();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotInternetExplorer");
+        try {
+            return !browserIsInternetExplorer();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsOpera() {
-        return browserIs(BrowserType.OPERA);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsOpera");
+        try {
+            return browserIs(BrowserType.OPERA);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotOpera() {
-        return !browserIsOpera();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotOpera");
+        try {
+            return !browserIsOpera();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsPhantomJS() {
-        return browserIs(BrowserType.PHANTOMJS);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsPhantomJS");
+        try {
+            return browserIs(BrowserType.PHANTOMJS);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotPhantomJS() {
-        return !browserIsPhantomJS();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotPhantomJS");
+        try {
+            return !browserIsPhantomJS();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsSafari() {
-        return browserIs(BrowserType.SAFARI);
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsSafari");
+        try {
+            return browserIs(BrowserType.SAFARI);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean browserIsNotSafari() {
-        return !browserIsSafari();
+        Invocation invocation = Invocation.start("WebDriverActions.browserIsNotSafari");
+        try {
+            return !browserIsSafari();
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Version */
     public static String version() {
-        return ((HasCapabilities) driver()).getCapabilities().getVersion();
+        Invocation invocation = Invocation.start("WebDriverActions.version");
+        try {
+            return DriverContext.get().capabilities().getVersion();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean versionIs(String version) {
-        return StringUtils.equalsIgnoreCase(version(), version);
+        Invocation invocation = Invocation.start("WebDriverActions.versionIs");
+        try {
+            return DriverContext.get().capabilities().versionIs(version);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean versionIsNot(String version) {
-        return !versionIs(version);
+        Invocation invocation = Invocation.start("WebDriverActions.versionIsNot");
+        try {
+            return !versionIs(version);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Platform */
     public static Platform platform() {
-        return ((HasCapabilities) driver()).getCapabilities().getPlatform();
+        Invocation invocation = Invocation.start("WebDriverActions.platform");
+        try {
+            return DriverContext.get().capabilities().getPlatform();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIs(Platform platform) {
-        return platform().is(platform);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIs");
+        try {
+            return DriverContext.get().capabilities().platformIs(platform);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNot(Platform platform) {
-        return !platformIs(platform);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNot");
+        try {
+            return !platformIs(platform);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsAndroid() {
-        return platformIs(Platform.ANDROID);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsAndroid");
+        try {
+            return platformIs(Platform.ANDROID);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotAndroid() {
-        return !platformIsAndroid();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotAndroid");
+        try {
+            return !platformIsAndroid();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsLinux() {
-        return platformIs(Platform.LINUX);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsLinux");
+        try {
+            return platformIs(Platform.LINUX);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotLinux() {
-        return !platformIsLinux();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotLinux");
+        try {
+            return !platformIsLinux();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsMac() {
-        return platformIs(Platform.MAC);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsMac");
+        try {
+            return platformIs(Platform.MAC);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotMac() {
-        return !platformIsMac();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotMac");
+        try {
+            return !platformIsMac();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsUnix() {
-        return platformIs(Platform.UNIX);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsUnix");
+        try {
+            return platformIs(Platform.UNIX);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotUnix() {
-        return !platformIsUnix();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotUnix");
+        try {
+            return !platformIsUnix();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsWindows() {
-        return platformIs(Platform.WINDOWS);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsWindows");
+        try {
+            return platformIs(Platform.WINDOWS);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotWindows() {
-        return !platformIsWindows();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotWindows");
+        try {
+            return !platformIsWindows();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsWin8() {
-        return platformIs(Platform.WIN8);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsWin8");
+        try {
+            return platformIs(Platform.WIN8);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotWin8() {
-        return !platformIsWin8();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotWin8");
+        try {
+            return !platformIsWin8();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsWin8_1() {
-        return platformIs(Platform.WIN8_1);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsWin8_1");
+        try {
+            return platformIs(Platform.WIN8_1);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotWin8_1() {
-        return !platformIsWin8_1();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotWin8_1");
+        try {
+            return !platformIsWin8_1();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsWin10() {
-        return platformIs(Platform.WIN10);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsWin10");
+        try {
+            return platformIs(Platform.WIN10);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotWin10() {
-        return !platformIsWin10();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotWin10");
+        try {
+            return !platformIsWin10();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsVista() {
-        return platformIs(Platform.VISTA);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsVista");
+        try {
+            return platformIs(Platform.VISTA);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotVista() {
-        return !platformIsVista();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotVista");
+        try {
+            return !platformIsVista();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsXP() {
-        return platformIs(Platform.XP);
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsXP");
+        try {
+            return platformIs(Platform.XP);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean platformIsNotXP() {
-        return !platformIsXP();
+        Invocation invocation = Invocation.start("WebDriverActions.platformIsNotXP");
+        try {
+            return !platformIsXP();
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -496,12 +1024,17 @@ public class WebDriverActions {
      * @param fileName the filename of the screenshot file without the file extension
      */
     public static void takeScreenshot(String fileName) {
-        File screenshotFile = ((TakesScreenshot) driver()).getScreenshotAs(OutputType.FILE);
-        String filePath = getScreenshotFilePath(fileName);
+        Invocation invocation = Invocation.start("WebDriverActions.takeScreenshot");
         try {
-            FileUtils.copyFile(screenshotFile, new File(filePath));
-        } catch (IOException ex) {
-            throw new RuntimeException("Failed to save screenshot to " + quote(filePath), ex);
+            File screenshotFile = DriverContext.get().takesScreenshot().getScreenshotAs(OutputType.FILE);
+            String filePath = getScreenshotFilePath(fileName);
+            try {
+                FileUtils.copyFile(screenshotFile, new File(filePath));
+            } catch (IOException ex) {
+                throw new RuntimeException("Failed to save screenshot to " + quote(filePath), ex);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
@@ -512,183 +1045,477 @@ public class WebDriverActions {
 
     /* To String */
     public static String htmlOf(WebElement webElement) {
-        return BotUtils.htmlOf(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.htmlOf");
+        try {
+            return BotUtils.htmlOf(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static String htmlOf(List<WebElement> webElements) {
-        StringBuilder builder = new StringBuilder();
-        for (WebElement webElement : webElements) {
-            builder.append(htmlOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.htmlOf");
+        try {
+            StringBuilder builder = new StringBuilder();
+            for (WebElement webElement : webElements) {
+                builder.append(htmlOf(webElement));
+            }
+            return builder.toString();
+        } finally {
+            invocation.end();
         }
-        return builder.toString();
     }
 
 
 
     /* Is Displayed */
     public static boolean isDisplayed(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.isDisplayed");
         try {
-            return webElement.isDisplayed();
-        } catch (NoSuchElementException e) {
-            return false;
+            try {
+                return instrument(webElement).isDisplayed();
+            } catch (NoSuchElementException e) {
+                return false;
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean isNotDisplayed(WebElement webElement) {
-        return !isDisplayed(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.isNotDisplayed");
+        try {
+            return !isDisplayed(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean isDisplayed(WebElement webElement, long secondsToWait) {
+        Invocation invocation = Invocation.start("WebDriverActions.isDisplayed");
         try {
-            WebElement foundWebElement = new WebDriverWait(driver(), secondsToWait).until(ExpectedConditions.visibilityOf(webElement));
+            try {
+                WebElement foundWebElement = Waits.until(Waits.webDriverWait(driver(), Waits.deadlineAfter(TimeUnit.SECONDS.toNanos(secondsToWait)), DEFAULT_SLEEP_IN_MILLIS), ExpectedConditions.visibilityOf(webElement));
 
-            return foundWebElement != null;
-        } catch (RuntimeException e) {
-            return false;
+                return foundWebElement != null;
+            } catch (WaitInterruptedException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean isNotDisplayed(WebElement webElement, long secondsToWait) {
-        return !isDisplayed(webElement, secondsToWait);
+        Invocation invocation = Invocation.start("WebDriverActions.isNotDisplayed");
+        try {
+            return !isDisplayed(webElement, secondsToWait);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Size */
     public static int sizeOf(Collection collection) {
-        return collection.size();
+        Invocation invocation = Invocation.start("WebDriverActions.sizeOf");
+        try {
+            return collection.size();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeEquals(int number, Collection collection) {
-        return BotUtils.isEqual((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeEquals");
+        try {
+            return BotUtils.isEqual((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeNotEquals(int number, Collection collection) {
-        return BotUtils.notEquals((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeNotEquals");
+        try {
+            return BotUtils.notEquals((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeLessThan(int number, Collection collection) {
-        return BotUtils.lessThan((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeLessThan");
+        try {
+            return BotUtils.lessThan((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeLessThanOrEquals(int number, Collection collection) {
-        return BotUtils.lessThanOrEquals((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeLessThanOrEquals");
+        try {
+            return BotUtils.lessThanOrEquals((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeGreaterThan(int number, Collection collection) {
-        return BotUtils.greaterThan((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeGreaterThan");
+        try {
+            return BotUtils.greaterThan((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean sizeGreaterThanOrEquals(int number, Collection collection) {
-        return BotUtils.greaterThanOrEquals((double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverActions.sizeGreaterThanOrEquals");
+        try {
+            return BotUtils.greaterThanOrEquals((double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Count */
+    public static int countOf(By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countOf");
+        try {
+            return BotUtils.countOf(by);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countEquals");
+        try {
+            return BotUtils.isEqual((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countNotEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countNotEquals");
+        try {
+            return BotUtils.notEquals((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countLessThan(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countLessThan");
+        try {
+            return BotUtils.lessThan((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countLessThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countLessThanOrEquals");
+        try {
+            return BotUtils.lessThanOrEquals((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countGreaterThan(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countGreaterThan");
+        try {
+            return BotUtils.greaterThan((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean countGreaterThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverActions.countGreaterThanOrEquals");
+        try {
+            return BotUtils.greaterThanOrEquals((double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
     }
 
 
     /* Current Url */
     public static String currentUrl() {
-        return driver().getCurrentUrl();
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrl");
+        try {
+            return instrument(driver()).getCurrentUrl();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlEquals(String url) {
-        return BotUtils.isEqual(url, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlEquals");
+        try {
+            return BotUtils.isEqual(url, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlNotEquals(String url) {
-        return BotUtils.notEquals(url, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotEquals");
+        try {
+            return BotUtils.notEquals(url, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlContains(String searchText) {
-        return BotUtils.contains(searchText, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlContains");
+        try {
+            return BotUtils.contains(searchText, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlNotContains(String searchText) {
-        return BotUtils.notContains(searchText, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotContains");
+        try {
+            return BotUtils.notContains(searchText, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlStartsWith(String prefix) {
-        return BotUtils.startsWith(prefix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlStartsWith");
+        try {
+            return BotUtils.startsWith(prefix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlNotStartsWith(String prefix) {
-        return BotUtils.notStartsWith(prefix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotStartsWith");
+        try {
+            return BotUtils.notStartsWith(prefix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlEndsWith(String suffix) {
-        return BotUtils.endsWith(suffix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlEndsWith");
+        try {
+            return BotUtils.endsWith(suffix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlNotEndsWith(String suffix) {
-        return BotUtils.notEndsWith(suffix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotEndsWith");
+        try {
+            return BotUtils.notEndsWith(suffix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlMatches(String regExp) {
-        return BotUtils.matches(regExp, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlMatches");
+        try {
+            return BotUtils.matches(regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean currentUrlMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlMatches");
+        try {
+            return BotUtils.matches(regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean currentUrlNotMatches(String regExp) {
-        return BotUtils.notMatches(regExp, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean currentUrlNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverActions.currentUrlNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Title */
     public static String title() {
-        return driver().getTitle();
+        Invocation invocation = Invocation.start("WebDriverActions.title");
+        try {
+            return instrument(driver()).getTitle();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleEquals(String title) {
-        return BotUtils.isEqual(title, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleEquals");
+        try {
+            return BotUtils.isEqual(title, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleNotEquals(String title) {
-        return BotUtils.notEquals(title, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotEquals");
+        try {
+            return BotUtils.notEquals(title, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleContains(String searchText) {
-        return BotUtils.contains(searchText, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleContains");
+        try {
+            return BotUtils.contains(searchText, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleNotContains(String searchText) {
-        return BotUtils.notContains(searchText, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotContains");
+        try {
+            return BotUtils.notContains(searchText, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleStartsWith(String prefix) {
-        return BotUtils.startsWith(prefix, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleStartsWith");
+        try {
+            return BotUtils.startsWith(prefix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleNotStartsWith(String prefix) {
-        return BotUtils.notStartsWith(prefix, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotStartsWith");
+        try {
+            return BotUtils.notStartsWith(prefix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleEndsWith(String suffix) {
-        return BotUtils.endsWith(suffix, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleEndsWith");
+        try {
+            return BotUtils.endsWith(suffix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleNotEndsWith(String suffix) {
-        return BotUtils.notEndsWith(suffix, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotEndsWith");
+        try {
+            return BotUtils.notEndsWith(suffix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleMatches(String regExp) {
-        return BotUtils.matches(regExp, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleMatches");
+        try {
+            return BotUtils.matches(regExp, title());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean titleMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverActions.titleMatches");
+        try {
+            return BotUtils.matches(regExp, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean titleNotMatches(String regExp) {
-        return BotUtils.notMatches(regExp, title());
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, title());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean titleNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverActions.titleNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, title());
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Tag Name */
     public static String tagNameOf(WebElement webElement) {
-        return webElement.getTagName();
+        Invocation invocation = Invocation.start("WebDriverActions.tagNameOf");
+        try {
+            return instrument(webElement).getTagName();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean tagNameEquals(String value, WebElement webElement) {
-        return BotUtils.isEqual(value, tagNameOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.tagNameEquals");
+        try {
+            return BotUtils.isEqual(value, tagNameOf(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean tagNameNotEquals(String value, WebElement webElement) {
-        return BotUtils.notEquals(value, tagNameOf(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.tagNameNotEquals");
+        try {
+            return BotUtils.notEquals(value, tagNameOf(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -717,99 +1544,227 @@ public class WebDriverActions {
      * @return the id attribute
      */
     public static String attributeIn(String name, WebElement webElement) {
-        return webElement.getAttribute(name);
+        Invocation invocation = Invocation.start("WebDriverActions.attributeIn");
+        try {
+            return instrument(webElement).getAttribute(name);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasAttribute(String name, WebElement webElement) {
-        return webElement.getAttribute(name) != null;
+        Invocation invocation = Invocation.start("WebDriverActions.hasAttribute");
+        try {
+            return instrument(webElement).getAttribute(name) != null;
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotAttribute(String name, WebElement webElement) {
-        return !hasAttribute(name, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotAttribute");
+        try {
+            return !hasAttribute(name, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeEquals(String name, String value, WebElement webElement) {
-        return BotUtils.isEqual(value, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeEquals");
+        try {
+            return BotUtils.isEqual(value, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotEquals(String name, String value, WebElement webElement) {
-        return BotUtils.notEquals(value, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotEquals");
+        try {
+            return BotUtils.notEquals(value, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeContains(String name, String searchText, WebElement webElement) {
-        return BotUtils.contains(searchText, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeContains");
+        try {
+            return BotUtils.contains(searchText, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotContains(String name, String searchText, WebElement webElement) {
-        return BotUtils.notContains(searchText, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotContains");
+        try {
+            return BotUtils.notContains(searchText, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeStartsWith(String name, String prefix, WebElement webElement) {
-        return BotUtils.startsWith(prefix, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeStartsWith");
+        try {
+            return BotUtils.startsWith(prefix, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotStartsWith(String name, String prefix, WebElement webElement) {
-        return BotUtils.notStartsWith(prefix, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotStartsWith");
+        try {
+            return BotUtils.notStartsWith(prefix, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeEndsWith(String name, String suffix, WebElement webElement) {
-        return BotUtils.endsWith(suffix, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeEndsWith");
+        try {
+            return BotUtils.endsWith(suffix, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotEndsWith(String name, String suffix, WebElement webElement) {
-        return BotUtils.notEndsWith(suffix, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotEndsWith");
+        try {
+            return BotUtils.notEndsWith(suffix, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeMatches(String name, String regExp, WebElement webElement) {
-        return BotUtils.matches(regExp, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeMatches");
+        try {
+            return BotUtils.matches(regExp, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean attributeMatches(String name, Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.attributeMatches");
+        try {
+            return BotUtils.matches(regExp, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotMatches(String name, String regExp, WebElement webElement) {
-        return BotUtils.notMatches(regExp, attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean attributeNotMatches(String name, Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotMatches");
+        try {
+            return BotUtils.notMatches(regExp, attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Attribute as Number */
     public static double attributeInAsNumber(String name, WebElement webElement) {
-        return createDouble(attributeIn(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeInAsNumber");
+        try {
+            return createDouble(attributeIn(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeIsNumber(String name, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.attributeIsNumber");
         try {
-            attributeInAsNumber(name, webElement);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
+            try {
+                attributeInAsNumber(name, webElement);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean attributeIsNotNumber(String name, WebElement webElement) {
-        return !attributeIsNumber(name, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.attributeIsNotNumber");
+        try {
+            return !attributeIsNumber(name, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeEquals(String name, double number, WebElement webElement) {
-        return BotUtils.isEqual(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeEquals");
+        try {
+            return BotUtils.isEqual(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeNotEquals(String name, double number, WebElement webElement) {
-        return BotUtils.notEquals(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeNotEquals");
+        try {
+            return BotUtils.notEquals(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeLessThan(String name, double number, WebElement webElement) {
-        return BotUtils.lessThan(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeLessThan");
+        try {
+            return BotUtils.lessThan(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeLessThanOrEquals(String name, double number, WebElement webElement) {
-        return BotUtils.lessThanOrEquals(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeLessThanOrEquals");
+        try {
+            return BotUtils.lessThanOrEquals(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeGreaterThan(String name, double number, WebElement webElement) {
-        return BotUtils.greaterThan(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeGreaterThan");
+        try {
+            return BotUtils.greaterThan(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean attributeGreaterThanOrEquals(String name, double number, WebElement webElement) {
-        return BotUtils.greaterThanOrEquals(number, attributeInAsNumber(name, webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.attributeGreaterThanOrEquals");
+        try {
+            return BotUtils.greaterThanOrEquals(number, attributeInAsNumber(name, webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -838,55 +1793,138 @@ public class WebDriverActions {
      * @return the id attribute
      */
     public static String idIn(WebElement webElement) {
-        return attributeIn("id", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idIn");
+        try {
+            return attributeIn("id", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasId(WebElement webElement) {
-        return hasAttribute("id", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasId");
+        try {
+            return hasAttribute("id", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotId(WebElement webElement) {
-        return hasNotAttribute("id", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotId");
+        try {
+            return hasNotAttribute("id", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idEquals(String value, WebElement webElement) {
-        return attributeEquals("id", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idEquals");
+        try {
+            return attributeEquals("id", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idNotEquals(String value, WebElement webElement) {
-        return attributeNotEquals("id", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idNotEquals");
+        try {
+            return attributeNotEquals("id", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idContains(String searchText, WebElement webElement) {
-        return attributeContains("id", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idContains");
+        try {
+            return attributeContains("id", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idNotContains(String searchText, WebElement webElement) {
-        return attributeNotContains("id", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idNotContains");
+        try {
+            return attributeNotContains("id", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idStartsWith(String prefix, WebElement webElement) {
-        return attributeStartsWith("id", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idStartsWith");
+        try {
+            return attributeStartsWith("id", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idNotStartsWith(String prefix, WebElement webElement) {
-        return attributeNotStartsWith("id", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idNotStartsWith");
+        try {
+            return attributeNotStartsWith("id", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idEndsWith(String suffix, WebElement webElement) {
-        return attributeEndsWith("id", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idEndsWith");
+        try {
+            return attributeEndsWith("id", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idNotEndsWith(String suffix, WebElement webElement) {
-        return attributeNotEndsWith("id", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idNotEndsWith");
+        try {
+            return attributeNotEndsWith("id", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idMatches(String regExp, WebElement webElement) {
-        return attributeMatches("id", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idMatches");
+        try {
+            return attributeMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean idMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.idMatches");
+        try {
+            return attributeMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean idNotMatches(String regExp, WebElement webElement) {
-        return attributeNotMatches("id", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.idNotMatches");
+        try {
+            return attributeNotMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean idNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.idNotMatches");
+        try {
+            return attributeNotMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -915,55 +1953,138 @@ public class WebDriverActions {
      * @return the name attribute
      */
     public static String nameIn(WebElement webElement) {
-        return attributeIn("name", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameIn");
+        try {
+            return attributeIn("name", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasName(WebElement webElement) {
-        return hasAttribute("name", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasName");
+        try {
+            return hasAttribute("name", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotName(WebElement webElement) {
-        return hasNotAttribute("name", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotName");
+        try {
+            return hasNotAttribute("name", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameEquals(String value, WebElement webElement) {
-        return attributeEquals("name", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameEquals");
+        try {
+            return attributeEquals("name", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameNotEquals(String value, WebElement webElement) {
-        return attributeNotEquals("name", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotEquals");
+        try {
+            return attributeNotEquals("name", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameContains(String searchText, WebElement webElement) {
-        return attributeContains("name", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameContains");
+        try {
+            return attributeContains("name", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameNotContains(String searchText, WebElement webElement) {
-        return attributeNotContains("name", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotContains");
+        try {
+            return attributeNotContains("name", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameStartsWith(String prefix, WebElement webElement) {
-        return attributeStartsWith("name", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameStartsWith");
+        try {
+            return attributeStartsWith("name", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameNotStartsWith(String prefix, WebElement webElement) {
-        return attributeNotStartsWith("name", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotStartsWith");
+        try {
+            return attributeNotStartsWith("name", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameEndsWith(String suffix, WebElement webElement) {
-        return attributeEndsWith("name", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameEndsWith");
+        try {
+            return attributeEndsWith("name", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameNotEndsWith(String suffix, WebElement webElement) {
-        return attributeNotEndsWith("name", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotEndsWith");
+        try {
+            return attributeNotEndsWith("name", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameMatches(String regExp, WebElement webElement) {
-        return attributeMatches("name", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameMatches");
+        try {
+            return attributeMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean nameMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.nameMatches");
+        try {
+            return attributeMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean nameNotMatches(String regExp, WebElement webElement) {
-        return attributeNotMatches("name", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotMatches");
+        try {
+            return attributeNotMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean nameNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.nameNotMatches");
+        try {
+            return attributeNotMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -992,7 +2113,12 @@ public class WebDriverActions {
      * @return the class attribute
      */
     public static String classIn(WebElement webElement) {
-        return attributeIn("class", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.classIn");
+        try {
+            return attributeIn("class", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     /**
@@ -1019,85 +2145,174 @@ public class WebDriverActions {
      * @return the classes in the class attribute
      */
     public static List<String> classesIn(WebElement webElement) {
-        return Arrays.asList(StringUtils.split(classIn(webElement)));
+        Invocation invocation = Invocation.start("WebDriverActions.classesIn");
+        try {
+            return Arrays.asList(StringUtils.split(classIn(webElement)));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClass(WebElement webElement) {
-        return hasAttribute("class", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasClass");
+        try {
+            return hasAttribute("class", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotClass(WebElement webElement) {
-        return hasNotAttribute("class", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClass");
+        try {
+            return hasNotAttribute("class", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClass(String className, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.isEqual(className, clazz)) {
-                return true;
+        Invocation invocation = Invocation.start("WebDriverActions.hasClass");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.isEqual(className, clazz)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotClass(String className, WebElement webElement) {
-        return !hasClass(className, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClass");
+        try {
+            return !hasClass(className, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClassContaining(String searchText, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.contains(searchText, clazz)) {
-                return true;
+        Invocation invocation = Invocation.start("WebDriverActions.hasClassContaining");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.contains(searchText, clazz)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotClassContaining(String searchText, WebElement webElement) {
-        return !hasClassContaining(searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClassContaining");
+        try {
+            return !hasClassContaining(searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClassStartingWith(String prefix, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.startsWith(prefix, clazz)) {
-                return true;
+        Invocation invocation = Invocation.start("WebDriverActions.hasClassStartingWith");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.startsWith(prefix, clazz)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotClassStartingWith(String prefix, WebElement webElement) {
-        return !hasClassStartingWith(prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClassStartingWith");
+        try {
+            return !hasClassStartingWith(prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClassEndingWith(String suffix, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.endsWith(suffix, clazz)) {
-                return true;
+        Invocation invocation = Invocation.start("WebDriverActions.hasClassEndingWith");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.endsWith(suffix, clazz)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotClassEndingWith(String suffix, WebElement webElement) {
-        return !hasClassEndingWith(suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClassEndingWith");
+        try {
+            return !hasClassEndingWith(suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasClassMatching(String regExp, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.matches(regExp, clazz)) {
-                return true;
+        Invocation invocation = Invocation.start("WebDriverActions.hasClassMatching");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.matches(regExp, clazz)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean hasClassMatching(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.hasClassMatching");
+        try {
+            List<String> classes = classesIn(webElement);
+            for (String clazz : classes) {
+                if (BotUtils.matches(regExp, clazz)) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotClassMatching(String regExp, WebElement webElement) {
-        return !hasClassMatching(regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClassMatching");
+        try {
+            return !hasClassMatching(regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean hasNotClassMatching(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotClassMatching");
+        try {
+            return !hasClassMatching(regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1126,55 +2341,138 @@ public class WebDriverActions {
      * @return the value attribute
      */
     public static String valueIn(WebElement webElement) {
-        return attributeIn("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueIn");
+        try {
+            return attributeIn("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasValue(WebElement webElement) {
-        return hasAttribute("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasValue");
+        try {
+            return hasAttribute("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotValue(WebElement webElement) {
-        return hasNotAttribute("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotValue");
+        try {
+            return hasNotAttribute("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueEquals(String value, WebElement webElement) {
-        return attributeEquals("value", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueEquals");
+        try {
+            return attributeEquals("value", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotEquals(String value, WebElement webElement) {
-        return attributeNotEquals("value", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotEquals");
+        try {
+            return attributeNotEquals("value", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueContains(String searchText, WebElement webElement) {
-        return attributeContains("value", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueContains");
+        try {
+            return attributeContains("value", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotContains(String searchText, WebElement webElement) {
-        return attributeNotContains("value", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotContains");
+        try {
+            return attributeNotContains("value", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueStartsWith(String prefix, WebElement webElement) {
-        return attributeStartsWith("value", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueStartsWith");
+        try {
+            return attributeStartsWith("value", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotStartsWith(String prefix, WebElement webElement) {
-        return attributeNotStartsWith("value", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotStartsWith");
+        try {
+            return attributeNotStartsWith("value", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueEndsWith(String suffix, WebElement webElement) {
-        return attributeEndsWith("value", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueEndsWith");
+        try {
+            return attributeEndsWith("value", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotEndsWith(String suffix, WebElement webElement) {
-        return attributeNotEndsWith("value", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotEndsWith");
+        try {
+            return attributeNotEndsWith("value", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueMatches(String regExp, WebElement webElement) {
-        return attributeMatches("value", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueMatches");
+        try {
+            return attributeMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean valueMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.valueMatches");
+        try {
+            return attributeMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotMatches(String regExp, WebElement webElement) {
-        return attributeNotMatches("value", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotMatches");
+        try {
+            return attributeNotMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean valueNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotMatches");
+        try {
+            return attributeNotMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1212,39 +2510,84 @@ public class WebDriverActions {
      * @return the value attribute as a number
      */
     public static double valueInAsNumber(WebElement webElement) {
-        return attributeInAsNumber("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueInAsNumber");
+        try {
+            return attributeInAsNumber("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueIsNumber(WebElement webElement) {
-        return attributeIsNumber("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueIsNumber");
+        try {
+            return attributeIsNumber("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueIsNotNumber(WebElement webElement) {
-        return attributeIsNotNumber("value", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueIsNotNumber");
+        try {
+            return attributeIsNotNumber("value", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueEquals(double number, WebElement webElement) {
-        return attributeEquals("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueEquals");
+        try {
+            return attributeEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueNotEquals(double number, WebElement webElement) {
-        return attributeNotEquals("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueNotEquals");
+        try {
+            return attributeNotEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueLessThan(double number, WebElement webElement) {
-        return attributeLessThan("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueLessThan");
+        try {
+            return attributeLessThan("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueLessThanOrEquals(double number, WebElement webElement) {
-        return attributeLessThanOrEquals("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueLessThanOrEquals");
+        try {
+            return attributeLessThanOrEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueGreaterThan(double number, WebElement webElement) {
-        return attributeGreaterThan("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueGreaterThan");
+        try {
+            return attributeGreaterThan("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean valueGreaterThanOrEquals(double number, WebElement webElement) {
-        return attributeGreaterThanOrEquals("value", number, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.valueGreaterThanOrEquals");
+        try {
+            return attributeGreaterThanOrEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1273,55 +2616,138 @@ public class WebDriverActions {
      * @return the href attribute
      */
     public static String hrefIn(WebElement webElement) {
-        return attributeIn("href", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefIn");
+        try {
+            return attributeIn("href", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasHref(WebElement webElement) {
-        return hasAttribute("href", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasHref");
+        try {
+            return hasAttribute("href", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotHref(WebElement webElement) {
-        return hasNotAttribute("href", webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotHref");
+        try {
+            return hasNotAttribute("href", webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefEquals(String value, WebElement webElement) {
-        return attributeEquals("href", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefEquals");
+        try {
+            return attributeEquals("href", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefNotEquals(String value, WebElement webElement) {
-        return attributeNotEquals("href", value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotEquals");
+        try {
+            return attributeNotEquals("href", value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefContains(String searchText, WebElement webElement) {
-        return attributeContains("href", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefContains");
+        try {
+            return attributeContains("href", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefNotContains(String searchText, WebElement webElement) {
-        return attributeNotContains("href", searchText, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotContains");
+        try {
+            return attributeNotContains("href", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefStartsWith(String prefix, WebElement webElement) {
-        return attributeStartsWith("href", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefStartsWith");
+        try {
+            return attributeStartsWith("href", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefNotStartsWith(String prefix, WebElement webElement) {
-        return attributeNotStartsWith("href", prefix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotStartsWith");
+        try {
+            return attributeNotStartsWith("href", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefEndsWith(String suffix, WebElement webElement) {
-        return attributeEndsWith("href", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefEndsWith");
+        try {
+            return attributeEndsWith("href", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefNotEndsWith(String suffix, WebElement webElement) {
-        return attributeNotEndsWith("href", suffix, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotEndsWith");
+        try {
+            return attributeNotEndsWith("href", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefMatches(String regExp, WebElement webElement) {
-        return attributeMatches("href", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefMatches");
+        try {
+            return attributeMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean hrefMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.hrefMatches");
+        try {
+            return attributeMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hrefNotMatches(String regExp, WebElement webElement) {
-        return attributeNotMatches("href", regExp, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotMatches");
+        try {
+            return attributeNotMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean hrefNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.hrefNotMatches");
+        try {
+            return attributeNotMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1357,88 +2783,231 @@ public class WebDriverActions {
      * @return the visible text
      */
     public static String textIn(WebElement webElement) {
-        // Text is trimmed to normalize behavior since Chrome and PhantomJS driver incorrectly returns spaces around the text (Not according the the WebElement tetText docs), see bug report https://github.com/seleniumhq/selenium-google-code-issue-archive/issues/7473 remove this when bug is solved!
-        return StringUtils.trim(webElement.getText());
+        Invocation invocation = Invocation.start("WebDriverActions.textIn");
+        try {
+            // Text is trimmed to normalize behavior since Chrome and PhantomJS driver incorrectly returns spaces around the text (Not according the the WebElement tetText docs), see bug report https://github.com/seleniumhq/selenium-google-code-issue-archive/issues/7473 remove this when bug is solved!
+            return StringUtils.trim(instrument(webElement).getText());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasText(WebElement webElement) {
-        return BotUtils.notEquals("", textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.hasText");
+        try {
+            return BotUtils.notEquals("", textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean hasNotText(WebElement webElement) {
-        return BotUtils.isEqual("", textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotText");
+        try {
+            return BotUtils.isEqual("", textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textEquals(String text, WebElement webElement) {
-        return BotUtils.isEqual(text, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textEquals");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.EQUALS, text, webElement);
+            return holds != null ? holds : BotUtils.isEqual(text, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotEquals(String text, WebElement webElement) {
-        return BotUtils.notEquals(text, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotEquals");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.EQUALS, text, webElement);
+            return holds != null ? !holds : BotUtils.notEquals(text, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textEqualsIgnoreCase(String text, WebElement webElement) {
-        return BotUtils.equalsIgnoreCase(text, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textEqualsIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.EQUALS_IGNORE_CASE, text, webElement);
+            return holds != null ? holds : BotUtils.equalsIgnoreCase(text, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotEqualsIgnoreCase(String text, WebElement webElement) {
-        return BotUtils.notEqualsIgnoreCase(text, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotEqualsIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.EQUALS_IGNORE_CASE, text, webElement);
+            return holds != null ? !holds : BotUtils.notEqualsIgnoreCase(text, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textContains(String searchText, WebElement webElement) {
-        return BotUtils.contains(searchText, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textContains");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.CONTAINS, searchText, webElement);
+            return holds != null ? holds : BotUtils.contains(searchText, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotContains(String searchText, WebElement webElement) {
-        return BotUtils.notContains(searchText, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotContains");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.CONTAINS, searchText, webElement);
+            return holds != null ? !holds : BotUtils.notContains(searchText, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textContainsIgnoreCase(String searchText, WebElement webElement) {
-        return BotUtils.containsIgnoreCase(searchText, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textContainsIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.CONTAINS_IGNORE_CASE, searchText, webElement);
+            return holds != null ? holds : BotUtils.containsIgnoreCase(searchText, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotContainsIgnoreCase(String searchText, WebElement webElement) {
-        return BotUtils.notContainsIgnoreCase(searchText, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotContainsIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.CONTAINS_IGNORE_CASE, searchText, webElement);
+            return holds != null ? !holds : BotUtils.notContainsIgnoreCase(searchText, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textStartsWith(String prefix, WebElement webElement) {
-        return BotUtils.startsWith(prefix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textStartsWith");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.STARTS_WITH, prefix, webElement);
+            return holds != null ? holds : BotUtils.startsWith(prefix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotStartsWith(String prefix, WebElement webElement) {
-        return BotUtils.notStartsWith(prefix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotStartsWith");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.STARTS_WITH, prefix, webElement);
+            return holds != null ? !holds : BotUtils.notStartsWith(prefix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textStartsWithIgnoreCase(String prefix, WebElement webElement) {
-        return BotUtils.startsWithIgnoreCase(prefix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textStartsWithIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.STARTS_WITH_IGNORE_CASE, prefix, webElement);
+            return holds != null ? holds : BotUtils.startsWithIgnoreCase(prefix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotStartsWithIgnoreCase(String prefix, WebElement webElement) {
-        return BotUtils.notStartsWithIgnoreCase(prefix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotStartsWithIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.STARTS_WITH_IGNORE_CASE, prefix, webElement);
+            return holds != null ? !holds : BotUtils.notStartsWithIgnoreCase(prefix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textEndsWith(String suffix, WebElement webElement) {
-        return BotUtils.endsWith(suffix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textEndsWith");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.ENDS_WITH, suffix, webElement);
+            return holds != null ? holds : BotUtils.endsWith(suffix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotEndsWith(String suffix, WebElement webElement) {
-        return BotUtils.notEndsWith(suffix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotEndsWith");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.ENDS_WITH, suffix, webElement);
+            return holds != null ? !holds : BotUtils.notEndsWith(suffix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textEndsWithIgnoreCase(String suffix, WebElement webElement) {
-        return BotUtils.endsWithIgnoreCase(suffix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textEndsWithIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.ENDS_WITH_IGNORE_CASE, suffix, webElement);
+            return holds != null ? holds : BotUtils.endsWithIgnoreCase(suffix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotEndsWithIgnoreCase(String suffix, WebElement webElement) {
-        return BotUtils.notEndsWithIgnoreCase(suffix, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotEndsWithIgnoreCase");
+        try {
+            Boolean holds = TextPredicates.holds(TextPredicates.Predicate.ENDS_WITH_IGNORE_CASE, suffix, webElement);
+            return holds != null ? !holds : BotUtils.notEndsWithIgnoreCase(suffix, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textMatches(String regExp, WebElement webElement) {
-        return BotUtils.matches(regExp, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textMatches");
+        try {
+            Boolean holds = TextPredicates.matches(regExp, webElement);
+            return holds != null ? holds : BotUtils.matches(regExp, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean textMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.textMatches");
+        try {
+            Boolean holds = TextPredicates.matches(regExp, webElement);
+            return holds != null ? holds : BotUtils.matches(regExp, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotMatches(String regExp, WebElement webElement) {
-        return BotUtils.notMatches(regExp, textIn(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotMatches");
+        try {
+            Boolean holds = TextPredicates.matches(regExp, webElement);
+            return holds != null ? !holds : BotUtils.notMatches(regExp, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static boolean textNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.textNotMatches");
+        try {
+            Boolean holds = TextPredicates.matches(regExp, webElement);
+            return holds != null ? !holds : BotUtils.notMatches(regExp, textIn(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1485,51 +3054,101 @@ public class WebDriverActions {
     }
 
     public static boolean textIsNumber(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.textIsNumber");
         try {
-            textInAsNumber(webElement);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
+            try {
+                textInAsNumber(webElement);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean textIsNotNumber(WebElement webElement) {
-        return !textIsNumber(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.textIsNotNumber");
+        try {
+            return !textIsNumber(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textEquals(double number, WebElement webElement) {
-        return BotUtils.isEqual(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textEquals");
+        try {
+            return BotUtils.isEqual(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textNotEquals(double number, WebElement webElement) {
-        return BotUtils.notEquals(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textNotEquals");
+        try {
+            return BotUtils.notEquals(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textLessThan(double number, WebElement webElement) {
-        return BotUtils.lessThan(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textLessThan");
+        try {
+            return BotUtils.lessThan(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textLessThanOrEquals(double number, WebElement webElement) {
-        return BotUtils.lessThanOrEquals(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textLessThanOrEquals");
+        try {
+            return BotUtils.lessThanOrEquals(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textGreaterThan(double number, WebElement webElement) {
-        return BotUtils.greaterThan(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textGreaterThan");
+        try {
+            return BotUtils.greaterThan(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean textGreaterThanOrEquals(double number, WebElement webElement) {
-        return BotUtils.greaterThanOrEquals(number, textInAsNumber(webElement));
+        Invocation invocation = Invocation.start("WebDriverActions.textGreaterThanOrEquals");
+        try {
+            return BotUtils.greaterThanOrEquals(number, textInAsNumber(webElement));
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Selected/Deselected */
     public static boolean isSelected(WebElement webElement) {
-        return webElement.isSelected();
+        Invocation invocation = Invocation.start("WebDriverActions.isSelected");
+        try {
+            return instrument(webElement).isSelected();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean isDeselected(WebElement webElement) {
-        return !isSelected(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.isDeselected");
+        try {
+            return !isSelected(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
@@ -1537,207 +3156,239 @@ public class WebDriverActions {
 
     /* Checked/Unchecked */
     public static boolean isChecked(WebElement webElement) {
-        return webElement.isSelected();
+        Invocation invocation = Invocation.start("WebDriverActions.isChecked");
+        try {
+            return instrument(webElement).isSelected();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean isUnchecked(WebElement webElement) {
-        return !isChecked(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.isUnchecked");
+        try {
+            return !isChecked(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Enabled/Disabled */
     public static boolean isEnabled(WebElement webElement) {
-        return webElement.isEnabled();
+        Invocation invocation = Invocation.start("WebDriverActions.isEnabled");
+        try {
+            return instrument(webElement).isEnabled();
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean isDisabled(WebElement webElement) {
-        return !isEnabled(webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.isDisabled");
+        try {
+            return !isEnabled(webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Option */
+    public static SelectSnapshot selectSnapshotOf(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverActions.selectSnapshotOf");
+        try {
+            return BotUtils.selectSnapshotOf(webElement, driver());
+        } finally {
+            invocation.end();
+        }
+    }
+
     public static boolean hasOption(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.hasOption");
+        try {
+            return selectSnapshotOf(webElement).hasOption(text);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotOption(String text, WebElement webElement) {
-        return !hasOption(text, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotOption");
+        try {
+            return !hasOption(text, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean optionIsEnabled(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isEnabled(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionIsEnabled");
+        try {
+            return selectSnapshotOf(webElement).optionIsEnabled(text);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionIsDisabled(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isDisabled(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionIsDisabled");
+        try {
+            return selectSnapshotOf(webElement).optionIsDisabled(text);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionIsSelected(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isSelected(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionIsSelected");
+        try {
+            return selectSnapshotOf(webElement).optionIsSelected(text);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionIsDeselected(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isDeselected(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionIsDeselected");
+        try {
+            return selectSnapshotOf(webElement).optionIsDeselected(text);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean allOptionsAreSelected(WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (isDeselected(option)) {
-                return false;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.allOptionsAreSelected");
+        try {
+            return selectSnapshotOf(webElement).allOptionsAreSelected();
+        } finally {
+            invocation.end();
         }
-        return true;
     }
 
     public static boolean noOptionIsSelected(WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (isSelected(option)) {
-                return false;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.noOptionIsSelected");
+        try {
+            return selectSnapshotOf(webElement).noOptionIsSelected();
+        } finally {
+            invocation.end();
         }
-        return true;
     }
 
 
 
     /* Option Value */
     public static boolean hasOptionWithValue(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.hasOptionWithValue");
+        try {
+            return selectSnapshotOf(webElement).hasOptionWithValue(value);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean hasNotOptionWithValue(String value, WebElement webElement) {
-        return !hasOptionWithValue(value, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotOptionWithValue");
+        try {
+            return !hasOptionWithValue(value, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean optionWithValueIsEnabled(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isEnabled(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithValueIsEnabled");
+        try {
+            return selectSnapshotOf(webElement).optionWithValueIsEnabled(value);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionWithValueIsDisabled(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isDisabled(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithValueIsDisabled");
+        try {
+            return selectSnapshotOf(webElement).optionWithValueIsDisabled(value);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionWithValueIsSelected(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isSelected(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithValueIsSelected");
+        try {
+            return selectSnapshotOf(webElement).optionWithValueIsSelected(value);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
     public static boolean optionWithValueIsDeselected(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isDeselected(option)) {
-                return true;
-            }
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithValueIsDeselected");
+        try {
+            return selectSnapshotOf(webElement).optionWithValueIsDeselected(value);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
 
 
     /* Option Index */
     public static boolean hasOptionWithIndex(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+        Invocation invocation = Invocation.start("WebDriverActions.hasOptionWithIndex");
         try {
-            return options.get(index) != null;
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            return selectSnapshotOf(webElement).hasOptionWithIndex(index);
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean hasNotOptionWithIndex(int index, WebElement webElement) {
-        return !hasOptionWithIndex(index, webElement);
+        Invocation invocation = Invocation.start("WebDriverActions.hasNotOptionWithIndex");
+        try {
+            return !hasOptionWithIndex(index, webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static boolean optionWithIndexIsEnabled(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithIndexIsEnabled");
         try {
-            return isEnabled(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            return selectSnapshotOf(webElement).optionWithIndexIsEnabled(index);
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean optionWithIndexIsDisabled(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithIndexIsDisabled");
         try {
-            return isDisabled(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            return selectSnapshotOf(webElement).optionWithIndexIsDisabled(index);
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean optionWithIndexIsSelected(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithIndexIsSelected");
         try {
-            return isSelected(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            return selectSnapshotOf(webElement).optionWithIndexIsSelected(index);
+        } finally {
+            invocation.end();
         }
     }
 
     public static boolean optionWithIndexIsDeselected(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+        Invocation invocation = Invocation.start("WebDriverActions.optionWithIndexIsDeselected");
         try {
-            return isDeselected(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            return selectSnapshotOf(webElement).optionWithIndexIsDeselected(index);
+        } finally {
+            invocation.end();
         }
     }
 }
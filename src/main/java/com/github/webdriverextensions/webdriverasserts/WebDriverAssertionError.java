@@ -1,25 +1,124 @@
 package com.github.webdriverextensions.webdriverasserts;
 
-import static com.github.webdriverextensions.webdriverasserts.internal.BotUtils.htmlOf;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
 import com.github.webdriverextensions.webdriverasserts.internal.NumberUtils;
 import com.github.webdriverextensions.webdriverasserts.internal.StringUtils;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+/**
+ * Thrown when a {@link WebDriverAsserts} assert fails.
+ *
+ * <p>The detail message is built the first time {@link #getMessage()} or
+ * {@link #toString()} is called and then reused. An error that is caught and
+ * discarded never renders the html of its element so it never pays the round
+ * trip to the browser. The driver that is set when the error is created is
+ * used for the rendering. If the html can no longer be rendered, e.g. since the
+ * driver has quit, the message tells so instead of failing.</p>
+ */
 public class WebDriverAssertionError extends java.lang.AssertionError {
 
     private static final String INDENT = "    ";
 
+    private final String detailMessage;
+    private final transient WebElement webElement;
+    private final transient WebDriver driver;
+    private final transient ElementSnapshot snapshot;
+    private final String name;
+    private final String value;
+    private String message;
+
+    public WebDriverAssertionError(String detailMessage) {
+        this(detailMessage, null, null, null, null);
+    }
+
     public WebDriverAssertionError(String detailMessage, WebElement webElement) {
-        super(detailMessage + (webElement != null ? StringUtils.indent("\nElement: " + htmlOf(webElement), INDENT) : ""));
+        this(detailMessage, webElement, null, null, null);
+    }
+
+    public WebDriverAssertionError(String detailMessage, ElementSnapshot snapshot) {
+        this(detailMessage, null, snapshot, null, null);
     }
 
     public WebDriverAssertionError(String detailMessage, String name, String value) {
-        super(detailMessage + StringUtils.indent("\n" + name + ": " + value, INDENT));
+        this(detailMessage, null, null, name, value);
     }
 
     public WebDriverAssertionError(String detailMessage, String name, double actual) {
-        super(detailMessage + StringUtils.indent("\n" + name + ": " + NumberUtils.toString(actual), INDENT));
+        this(detailMessage, null, null, name, NumberUtils.toString(actual));
+    }
+
+    private WebDriverAssertionError(String detailMessage, WebElement webElement, ElementSnapshot snapshot, String name, String value) {
+        this.detailMessage = detailMessage;
+        this.webElement = webElement;
+        DriverContext context = webElement != null ? DriverContext.current() : null;
+        this.driver = context != null ? context.driver() : null;
+        this.snapshot = snapshot;
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Creates an error that does not capture a stack trace. Use it where the
+     * error is created often and its stack trace is never read, e.g. in retry
+     * loops.
+     */
+    public static WebDriverAssertionError withoutStackTrace(String detailMessage, WebElement webElement) {
+        return new WithoutStackTrace(detailMessage, webElement);
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (message == null) {
+            message = detailMessage + details();
+        }
+        return message;
     }
 
+    private String details() {
+        if (webElement != null) {
+            return StringUtils.indent("\nElement: " + htmlOfElement(), INDENT);
+        }
+        if (snapshot != null) {
+            return StringUtils.indent("\nElement: " + BotUtils.htmlOf(snapshot), INDENT);
+        }
+        if (name != null) {
+            return StringUtils.indent("\n" + name + ": " + value, INDENT);
+        }
+        return "";
+    }
+
+    private String htmlOfElement() {
+        if (driver == null) {
+            return "html not available since no driver was set";
+        }
+        try {
+            return BotUtils.htmlOf(webElement, driver);
+        } catch (WebDriverException e) {
+            return "html not available since " + e.getClass().getSimpleName() + " was thrown when rendering it";
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    private static class WithoutStackTrace extends WebDriverAssertionError {
+
+        private static final long serialVersionUID = 1L;
+
+        WithoutStackTrace(String detailMessage, WebElement webElement) {
+            super(detailMessage, webElement);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
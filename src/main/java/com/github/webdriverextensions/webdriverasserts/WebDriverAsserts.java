@@ -3,34 +3,99 @@ package com.github.webdriverextensions.webdriverasserts;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+import com.github.webdriverextensions.webdriverasserts.internal.Poller;
+import com.github.webdriverextensions.webdriverasserts.internal.TextPredicates;
+import com.github.webdriverextensions.webdriverasserts.internal.TextPredicates.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import static org.apache.commons.lang3.math.NumberUtils.*;
 
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import static com.github.webdriverextensions.webdriverasserts.internal.StringUtils.*;
+import static com.github.webdriverextensions.webdriverasserts.internal.Instrumentation.instrument;
 
 public class WebDriverAsserts {
 
-    private static InheritableThreadLocal<WebDriver> threadLocalDriver = new InheritableThreadLocal<>();
-
     public static void removeDriver() {
-        threadLocalDriver.remove();
+        DriverContext.remove();
     }
 
     public static void setDriver(WebDriver driver) {
-        threadLocalDriver.set(driver);
+        DriverContext.set(driver);
     }
 
     public static WebDriver getDriver() {
-        if (threadLocalDriver.get() == null) {
-            throw new WebDriverException("Driver in WebDriverActions is not set. Please set the driver with WebDriverActions.setDriver(...) method before using the WebDriverActions asserts. Note that the driver will be thread safe since ThreadLocal is used so don't worry about thread safety.");
+        return DriverContext.get().driver();
+    }
+
+
+
+    /* Within */
+    public static WithinAsserts within(double seconds) {
+        return within(seconds, TimeUnit.SECONDS);
+    }
+
+    public static WithinAsserts within(double time, TimeUnit unit) {
+        return new WithinAsserts(time, unit);
+    }
+
+
+
+    /* Soft Asserts */
+    public static SoftAsserts softAsserts() {
+        return new SoftAsserts();
+    }
+
+
+
+    /* Async */
+    /**
+     * @return asserts on the driver that run in the background and return
+     * futures
+     */
+    public static AsyncAsserts async(WebDriver driver) {
+        return new AsyncAsserts(null, driver, null);
+    }
+
+    /**
+     * @param name the name of the session, e.g. the user it is logged in as,
+     * added to the assert names of failures
+     */
+    public static AsyncAsserts async(String name, WebDriver driver) {
+        return new AsyncAsserts(name, driver, null);
+    }
+
+    /**
+     * @param executor runs the asserts, one at a time for each driver
+     */
+    public static AsyncAsserts async(String name, WebDriver driver, Executor executor) {
+        return new AsyncAsserts(name, driver, executor);
+    }
+
+
+
+    /* Snapshot */
+    public static ElementSnapshot snapshotOf(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.snapshotOf");
+        try {
+            return BotUtils.snapshotOf(webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static SelectSnapshot selectSnapshotOf(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.selectSnapshotOf");
+        try {
+            return BotUtils.selectSnapshotOf(webElement);
+        } finally {
+            invocation.end();
         }
-        return threadLocalDriver.get();
     }
 
 
@@ -38,7 +103,7 @@ public class WebDriverAsserts {
     /* Is Displayed */
     private static boolean isDisplayed(WebElement webElement) {
         try {
-            return webElement.isDisplayed();
+            return instrument(webElement).isDisplayed();
         } catch (NoSuchElementException e) {
             return false;
         }
@@ -48,14 +113,13 @@ public class WebDriverAsserts {
         return !isDisplayed(webElement);
     }
 
-    private static boolean isDisplayed(WebElement webElement, long secondsToWait) {
-        try {
-            WebElement foundWebElement = new WebDriverWait(getDriver(), secondsToWait).until(ExpectedConditions.visibilityOf(webElement));
-
-            return foundWebElement != null;
-        } catch (RuntimeException e) {
-            return false;
-        }
+    private static boolean isDisplayed(final WebElement webElement, long secondsToWait) {
+        return Poller.poll(new Poller.Condition() {
+            @Override
+            public boolean holds() {
+                return isDisplayed(webElement);
+            }
+        }, secondsToWait, TimeUnit.SECONDS);
     }
 
     private static boolean isNotDisplayed(WebElement webElement, long secondsToWait) {
@@ -63,26 +127,118 @@ public class WebDriverAsserts {
     }
 
     public static void assertIsDisplayed(WebElement webElement) {
-        if (isNotDisplayed(webElement)) {
-            throw new WebDriverAssertionError("Element is not displayed", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDisplayed");
+        try {
+            if (isNotDisplayed(webElement)) {
+                throw new WebDriverAssertionError("Element is not displayed", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertIsNotDisplayed(WebElement webElement) {
-        if (isDisplayed(webElement)) {
-            throw new WebDriverAssertionError("Element is displayed when it shouldn't", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsNotDisplayed");
+        try {
+            if (isDisplayed(webElement)) {
+                throw new WebDriverAssertionError("Element is displayed when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertIsDisplayed(WebElement webElement, long secondsToWait) {
-        if (isNotDisplayed(webElement, secondsToWait)) {
-            throw new WebDriverAssertionError("Element is not displayed within " + secondsToWait + " seconds", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDisplayed");
+        try {
+            if (isNotDisplayed(webElement, secondsToWait)) {
+                throw new WebDriverAssertionError("Element is not displayed within " + secondsToWait + " seconds", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertIsNotDisplayed(WebElement webElement, long secondsToWait) {
-        if (isDisplayed(webElement, secondsToWait)) {
-            throw new WebDriverAssertionError("Element is displayed within " + secondsToWait + " seconds when it shouldn't", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsNotDisplayed");
+        try {
+            if (isDisplayed(webElement, secondsToWait)) {
+                throw new WebDriverAssertionError("Element is displayed within " + secondsToWait + " seconds when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private static boolean isDisplayed(ElementSnapshot snapshot) {
+        return snapshot.isDisplayed();
+    }
+
+    private static boolean isNotDisplayed(ElementSnapshot snapshot) {
+        return !isDisplayed(snapshot);
+    }
+
+    public static void assertIsDisplayed(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDisplayed");
+        try {
+            if (isNotDisplayed(snapshot)) {
+                throw new WebDriverAssertionError("Element is not displayed", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIsNotDisplayed(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsNotDisplayed");
+        try {
+            if (isDisplayed(snapshot)) {
+                throw new WebDriverAssertionError("Element is displayed when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllDisplayed(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllDisplayed");
+        try {
+            BotUtils.assertAll("assertIsDisplayed()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisplayed(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyDisplayed(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyDisplayed");
+        try {
+            BotUtils.assertAny("assertIsDisplayed()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisplayed(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneDisplayed(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneDisplayed");
+        try {
+            BotUtils.assertNone("assertIsDisplayed()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisplayed(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
@@ -90,146 +246,447 @@ public class WebDriverAsserts {
 
     /* Size */
     public static void assertSizeEquals(int number, Collection collection) {
-        BotUtils.assertEquals("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeEquals");
+        try {
+            BotUtils.assertEquals("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertSizeNotEquals(int number, Collection collection) {
-        BotUtils.assertNotEquals("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeNotEquals");
+        try {
+            BotUtils.assertNotEquals("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertSizeLessThan(int number, Collection collection) {
-        BotUtils.assertLessThan("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeLessThan");
+        try {
+            BotUtils.assertLessThan("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertSizeLessThanOrEquals(int number, Collection collection) {
-        BotUtils.assertLessThanOrEquals("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertSizeGreaterThan(int number, Collection collection) {
-        BotUtils.assertGreaterThan("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeGreaterThan");
+        try {
+            BotUtils.assertGreaterThan("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertSizeGreaterThanOrEquals(int number, Collection collection) {
-        BotUtils.assertGreaterThanOrEquals("Size", (double) number, (double) collection.size());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertSizeGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals("Size", (double) number, (double) collection.size());
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Count */
+    private static int countOf(By by) {
+        return BotUtils.countOf(by);
+    }
+
+    public static void assertCountEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountEquals");
+        try {
+            BotUtils.assertEquals("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCountNotEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountNotEquals");
+        try {
+            BotUtils.assertNotEquals("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCountLessThan(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountLessThan");
+        try {
+            BotUtils.assertLessThan("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCountLessThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCountGreaterThan(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountGreaterThan");
+        try {
+            BotUtils.assertGreaterThan("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCountGreaterThanOrEquals(int number, By by) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCountGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals("Count of " + by, (double) number, (double) countOf(by));
+        } finally {
+            invocation.end();
+        }
     }
 
 
     /* Current Url */
     private static String currentUrl() {
-        return getDriver().getCurrentUrl();
+        return instrument(getDriver()).getCurrentUrl();
     }
 
     public static void assertCurrentUrlEquals(String url) {
-        BotUtils.assertEquals("Current url", url, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlEquals");
+        try {
+            BotUtils.assertEquals("Current url", url, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlNotEquals(String url) {
-        BotUtils.assertNotEquals("Current url", url, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotEquals");
+        try {
+            BotUtils.assertNotEquals("Current url", url, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlContains(String searchText) {
-        BotUtils.assertContains("Current url", searchText, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlContains");
+        try {
+            BotUtils.assertContains("Current url", searchText, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlNotContains(String searchText) {
-        BotUtils.assertNotContains("Current url", searchText, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotContains");
+        try {
+            BotUtils.assertNotContains("Current url", searchText, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlStartsWith(String prefix) {
-        BotUtils.assertStartsWith("Current url", prefix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlStartsWith");
+        try {
+            BotUtils.assertStartsWith("Current url", prefix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlNotStartsWith(String prefix) {
-        BotUtils.assertNotStartsWith("Current url", prefix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotStartsWith");
+        try {
+            BotUtils.assertNotStartsWith("Current url", prefix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlEndsWith(String suffix) {
-        BotUtils.assertEndsWith("Current url", suffix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlEndsWith");
+        try {
+            BotUtils.assertEndsWith("Current url", suffix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlNotEndsWith(String suffix) {
-        BotUtils.assertNotEndsWith("Current url", suffix, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotEndsWith");
+        try {
+            BotUtils.assertNotEndsWith("Current url", suffix, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlMatches(String regExp) {
-        BotUtils.assertMatches("Current url", regExp, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlMatches");
+        try {
+            BotUtils.assertMatches("Current url", regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCurrentUrlMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlMatches");
+        try {
+            BotUtils.assertMatches("Current url", regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertCurrentUrlNotMatches(String regExp) {
-        BotUtils.assertNotMatches("Current url", regExp, currentUrl());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotMatches");
+        try {
+            BotUtils.assertNotMatches("Current url", regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertCurrentUrlNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertCurrentUrlNotMatches");
+        try {
+            BotUtils.assertNotMatches("Current url", regExp, currentUrl());
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Title */
     private static String title() {
-        return getDriver().getTitle();
+        return instrument(getDriver()).getTitle();
     }
 
     public static void assertTitleEquals(String title) {
-        BotUtils.assertEquals("Title", title, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleEquals");
+        try {
+            BotUtils.assertEquals("Title", title, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleNotEquals(String title) {
-        BotUtils.assertNotEquals("Title", title, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotEquals");
+        try {
+            BotUtils.assertNotEquals("Title", title, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleContains(String searchText) {
-        BotUtils.assertContains("Title", searchText, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleContains");
+        try {
+            BotUtils.assertContains("Title", searchText, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleNotContains(String searchText) {
-        BotUtils.assertNotContains("Title", searchText, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotContains");
+        try {
+            BotUtils.assertNotContains("Title", searchText, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleStartsWith(String prefix) {
-        BotUtils.assertStartsWith("Title", prefix, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleStartsWith");
+        try {
+            BotUtils.assertStartsWith("Title", prefix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleNotStartsWith(String prefix) {
-        BotUtils.assertNotStartsWith("Title", prefix, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotStartsWith");
+        try {
+            BotUtils.assertNotStartsWith("Title", prefix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleEndsWith(String suffix) {
-        BotUtils.assertEndsWith("Title", suffix, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleEndsWith");
+        try {
+            BotUtils.assertEndsWith("Title", suffix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleNotEndsWith(String suffix) {
-        BotUtils.assertNotEndsWith("Title", suffix, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotEndsWith");
+        try {
+            BotUtils.assertNotEndsWith("Title", suffix, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleMatches(String regExp) {
-        BotUtils.assertMatches("Title", regExp, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleMatches");
+        try {
+            BotUtils.assertMatches("Title", regExp, title());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTitleMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleMatches");
+        try {
+            BotUtils.assertMatches("Title", regExp, title());
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTitleNotMatches(String regExp) {
-        BotUtils.assertNotMatches("Title", regExp, title());
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotMatches");
+        try {
+            BotUtils.assertNotMatches("Title", regExp, title());
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTitleNotMatches(Pattern regExp) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTitleNotMatches");
+        try {
+            BotUtils.assertNotMatches("Title", regExp, title());
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Tag Name */
     private static String tagNameOf(WebElement webElement) {
-        return webElement.getTagName();
+        return instrument(webElement).getTagName();
     }
 
     public static void assertTagNameEquals(String value, WebElement webElement) {
-        BotUtils.assertEquals("Tag name", value, tagNameOf(webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTagNameEquals");
+        try {
+            BotUtils.assertEquals("Tag name", value, tagNameOf(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertTagNameNotEquals(String value, WebElement webElement) {
-        BotUtils.assertNotEquals("Tag name", value, tagNameOf(webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTagNameNotEquals");
+        try {
+            BotUtils.assertNotEquals("Tag name", value, tagNameOf(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private static String tagNameOf(ElementSnapshot snapshot) {
+        return snapshot.getTagName();
+    }
+
+    public static void assertTagNameEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTagNameEquals");
+        try {
+            BotUtils.assertEquals("Tag name", value, tagNameOf(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTagNameNotEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTagNameNotEquals");
+        try {
+            BotUtils.assertNotEquals("Tag name", value, tagNameOf(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllTagNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTagNameEquals");
+        try {
+            BotUtils.assertAll("assertTagNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTagNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyTagNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTagNameEquals");
+        try {
+            BotUtils.assertAny("assertTagNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTagNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneTagNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTagNameEquals");
+        try {
+            BotUtils.assertNone("assertTagNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTagNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
     /* Attribute */
     private static String attributeIn(String name, WebElement webElement) {
-        return webElement.getAttribute(name);
+        return instrument(webElement).getAttribute(name);
     }
 
     private static boolean hasAttribute(String name, WebElement webElement) {
-        return webElement.getAttribute(name) != null;
+        return instrument(webElement).getAttribute(name) != null;
     }
 
     private static boolean hasNotAttribute(String name, WebElement webElement) {
@@ -241,662 +698,5607 @@ public class WebDriverAsserts {
     }
 
     public static void assertHasAttribute(String name, WebElement webElement) {
-        if (hasNotAttribute(name, webElement)) {
-            throw new WebDriverAssertionError("Element does not have attribute " + quote(name), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasAttribute");
+        try {
+            if (hasNotAttribute(name, webElement)) {
+                throw new WebDriverAssertionError("Element does not have attribute " + quote(name), webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertHasNotAttribute(String name, WebElement webElement) {
-        if (hasAttribute(name, webElement)) {
-            throw new WebDriverAssertionError("Element has attribute " + quote(name) + " when it shouldn't", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotAttribute");
+        try {
+            if (hasAttribute(name, webElement)) {
+                throw new WebDriverAssertionError("Element has attribute " + quote(name) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertAttributeEquals(String name, String value, WebElement webElement) {
-        BotUtils.assertEquals("Element attribute " + name, value, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEquals");
+        try {
+            BotUtils.assertEquals("Element attribute " + name, value, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeNotEquals(String name, String value, WebElement webElement) {
-        BotUtils.assertNotEquals("Element attribute " + name, value, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEquals");
+        try {
+            BotUtils.assertNotEquals("Element attribute " + name, value, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeContains(String name, String searchText, WebElement webElement) {
-        BotUtils.assertContains("Element attribute " + name, searchText, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeContains");
+        try {
+            BotUtils.assertContains("Element attribute " + name, searchText, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeNotContains(String name, String searchText, WebElement webElement) {
-        BotUtils.assertNotContains("Element attribute " + name, searchText, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotContains");
+        try {
+            BotUtils.assertNotContains("Element attribute " + name, searchText, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeStartsWith(String name, String prefix, WebElement webElement) {
-        BotUtils.assertStartsWith("Element attribute " + name, prefix, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeStartsWith");
+        try {
+            BotUtils.assertStartsWith("Element attribute " + name, prefix, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeNotStartsWith(String name, String prefix, WebElement webElement) {
-        BotUtils.assertNotStartsWith("Element attribute " + name, prefix, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotStartsWith");
+        try {
+            BotUtils.assertNotStartsWith("Element attribute " + name, prefix, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeEndsWith(String name, String suffix, WebElement webElement) {
-        BotUtils.assertEndsWith("Element attribute " + name, suffix, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEndsWith");
+        try {
+            BotUtils.assertEndsWith("Element attribute " + name, suffix, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeNotEndsWith(String name, String suffix, WebElement webElement) {
-        BotUtils.assertNotEndsWith("Element attribute " + name, suffix, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEndsWith");
+        try {
+            BotUtils.assertNotEndsWith("Element attribute " + name, suffix, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeMatches(String name, String regExp, WebElement webElement) {
-        BotUtils.assertMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeMatches");
+        try {
+            BotUtils.assertMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeMatches(String name, Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeMatches");
+        try {
+            BotUtils.assertMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeNotMatches(String name, String regExp, WebElement webElement) {
-        BotUtils.assertNotMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotMatches");
+        try {
+            BotUtils.assertNotMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
+    public static void assertAttributeNotMatches(String name, Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotMatches");
+        try {
+            BotUtils.assertNotMatches("Element attribute " + name, regExp, attributeIn(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
 
+    private static String attributeIn(String name, ElementSnapshot snapshot) {
+        return snapshot.getAttribute(name);
+    }
 
-    /* Attribute as Number */
-    private static double attributeInAsNumber(String name, WebElement webElement) {
-        return createDouble(attributeIn(name, webElement));
+    private static boolean hasAttribute(String name, ElementSnapshot snapshot) {
+        return snapshot.getAttribute(name) != null;
     }
 
-    private static boolean attributeIsNumber(String name, WebElement webElement) {
+    private static boolean hasNotAttribute(String name, ElementSnapshot snapshot) {
+        return !hasAttribute(name, snapshot);
+    }
+
+    public static void assertHasAttribute(String name, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasAttribute");
         try {
-            attributeInAsNumber(name, webElement);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
+            if (hasNotAttribute(name, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have attribute " + quote(name), snapshot);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    private static boolean attributeIsNotNumber(String name, WebElement webElement) {
-        return !attributeIsNumber(name, webElement);
+    public static void assertHasNotAttribute(String name, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotAttribute");
+        try {
+            if (hasAttribute(name, snapshot)) {
+                throw new WebDriverAssertionError("Element has attribute " + quote(name) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertAttributeIsNumber(String name, WebElement webElement) {
-        if (attributeIsNotNumber(name, webElement)) {
-            throw new WebDriverAssertionError("Element attribute " + name + " is not a number", webElement);
+    public static void assertAttributeEquals(String name, String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEquals");
+        try {
+            BotUtils.assertEquals("Element attribute " + name, value, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertAttributeIsNotNumber(String name, WebElement webElement) {
-        if (attributeIsNumber(name, webElement)) {
-            throw new WebDriverAssertionError("Element attribute " + name + " is a number when it shouldn't", webElement);
+    public static void assertAttributeNotEquals(String name, String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEquals");
+        try {
+            BotUtils.assertNotEquals("Element attribute " + name, value, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertAttributeEquals(String name, double number, WebElement webElement) {
-        BotUtils.assertEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+    public static void assertAttributeContains(String name, String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeContains");
+        try {
+            BotUtils.assertContains("Element attribute " + name, searchText, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertAttributeNotEquals(String name, double number, WebElement webElement) {
-        BotUtils.assertNotEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+    public static void assertAttributeNotContains(String name, String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotContains");
+        try {
+            BotUtils.assertNotContains("Element attribute " + name, searchText, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertAttributeLessThan(String name, double number, WebElement webElement) {
-        BotUtils.assertLessThan(name, number, attributeInAsNumber(name, webElement), webElement);
+    public static void assertAttributeStartsWith(String name, String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeStartsWith");
+        try {
+            BotUtils.assertStartsWith("Element attribute " + name, prefix, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertAttributeLessThanOrEquals(String name, double number, WebElement webElement) {
-        BotUtils.assertLessThanOrEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+    public static void assertAttributeNotStartsWith(String name, String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotStartsWith");
+        try {
+            BotUtils.assertNotStartsWith("Element attribute " + name, prefix, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertAttributeGreaterThan(String name, double number, WebElement webElement) {
-        BotUtils.assertGreaterThan(name, number, attributeInAsNumber(name, webElement), webElement);
+    public static void assertAttributeEndsWith(String name, String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEndsWith");
+        try {
+            BotUtils.assertEndsWith("Element attribute " + name, suffix, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeNotEndsWith(String name, String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEndsWith");
+        try {
+            BotUtils.assertNotEndsWith("Element attribute " + name, suffix, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeMatches(String name, String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeMatches");
+        try {
+            BotUtils.assertMatches("Element attribute " + name, regExp, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeMatches(String name, Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeMatches");
+        try {
+            BotUtils.assertMatches("Element attribute " + name, regExp, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeNotMatches(String name, String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotMatches");
+        try {
+            BotUtils.assertNotMatches("Element attribute " + name, regExp, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeNotMatches(String name, Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotMatches");
+        try {
+            BotUtils.assertNotMatches("Element attribute " + name, regExp, attributeIn(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasAttribute(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasAttribute");
+        try {
+            BotUtils.assertAll("assertHasAttribute(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasAttribute(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasAttribute(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasAttribute");
+        try {
+            BotUtils.assertAny("assertHasAttribute(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasAttribute(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasAttribute(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasAttribute");
+        try {
+            BotUtils.assertNone("assertHasAttribute(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasAttribute(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeEquals(final String name, final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeEquals");
+        try {
+            BotUtils.assertAll("assertAttributeEquals(" + quote(name) + ", " + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeEquals(final String name, final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeEquals");
+        try {
+            BotUtils.assertAny("assertAttributeEquals(" + quote(name) + ", " + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeEquals(final String name, final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeEquals");
+        try {
+            BotUtils.assertNone("assertAttributeEquals(" + quote(name) + ", " + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeContains(final String name, final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeContains");
+        try {
+            BotUtils.assertAll("assertAttributeContains(" + quote(name) + ", " + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeContains(name, searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeContains(final String name, final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeContains");
+        try {
+            BotUtils.assertAny("assertAttributeContains(" + quote(name) + ", " + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeContains(name, searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeContains(final String name, final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeContains");
+        try {
+            BotUtils.assertNone("assertAttributeContains(" + quote(name) + ", " + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeContains(name, searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeStartsWith(final String name, final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeStartsWith");
+        try {
+            BotUtils.assertAll("assertAttributeStartsWith(" + quote(name) + ", " + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeStartsWith(name, prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeStartsWith(final String name, final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeStartsWith");
+        try {
+            BotUtils.assertAny("assertAttributeStartsWith(" + quote(name) + ", " + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeStartsWith(name, prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeStartsWith(final String name, final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeStartsWith");
+        try {
+            BotUtils.assertNone("assertAttributeStartsWith(" + quote(name) + ", " + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeStartsWith(name, prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeEndsWith(final String name, final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeEndsWith");
+        try {
+            BotUtils.assertAll("assertAttributeEndsWith(" + quote(name) + ", " + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEndsWith(name, suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeEndsWith(final String name, final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeEndsWith");
+        try {
+            BotUtils.assertAny("assertAttributeEndsWith(" + quote(name) + ", " + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEndsWith(name, suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeEndsWith(final String name, final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeEndsWith");
+        try {
+            BotUtils.assertNone("assertAttributeEndsWith(" + quote(name) + ", " + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEndsWith(name, suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeMatches(final String name, final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeMatches");
+        try {
+            BotUtils.assertAll("assertAttributeMatches(" + quote(name) + ", " + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeMatches(final String name, final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeMatches");
+        try {
+            BotUtils.assertAny("assertAttributeMatches(" + quote(name) + ", " + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeMatches(final String name, final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeMatches");
+        try {
+            BotUtils.assertNone("assertAttributeMatches(" + quote(name) + ", " + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeMatches(final String name, final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeMatches");
+        try {
+            BotUtils.assertAll("assertAttributeMatches(" + quote(name) + ", " + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeMatches(final String name, final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeMatches");
+        try {
+            BotUtils.assertAny("assertAttributeMatches(" + quote(name) + ", " + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeMatches(final String name, final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeMatches");
+        try {
+            BotUtils.assertNone("assertAttributeMatches(" + quote(name) + ", " + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeMatches(name, regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Attribute as Number */
+    private static double attributeInAsNumber(String name, WebElement webElement) {
+        return createDouble(attributeIn(name, webElement));
+    }
+
+    private static boolean attributeIsNumber(String name, WebElement webElement) {
+        try {
+            attributeInAsNumber(name, webElement);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean attributeIsNotNumber(String name, WebElement webElement) {
+        return !attributeIsNumber(name, webElement);
+    }
+
+    public static void assertAttributeIsNumber(String name, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeIsNumber");
+        try {
+            if (attributeIsNotNumber(name, webElement)) {
+                throw new WebDriverAssertionError("Element attribute " + name + " is not a number", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeIsNotNumber(String name, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeIsNotNumber");
+        try {
+            if (attributeIsNumber(name, webElement)) {
+                throw new WebDriverAssertionError("Element attribute " + name + " is a number when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeEquals(String name, double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEquals");
+        try {
+            BotUtils.assertEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeNotEquals(String name, double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEquals");
+        try {
+            BotUtils.assertNotEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeLessThan(String name, double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeLessThan");
+        try {
+            BotUtils.assertLessThan(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeLessThanOrEquals(String name, double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeGreaterThan(String name, double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeGreaterThan");
+        try {
+            BotUtils.assertGreaterThan(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
     public static void assertAttributeGreaterThanOrEquals(String name, double number, WebElement webElement) {
-        BotUtils.assertGreaterThanOrEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals(name, number, attributeInAsNumber(name, webElement), webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private static double attributeInAsNumber(String name, ElementSnapshot snapshot) {
+        return createDouble(attributeIn(name, snapshot));
+    }
+
+    private static boolean attributeIsNumber(String name, ElementSnapshot snapshot) {
+        try {
+            attributeInAsNumber(name, snapshot);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean attributeIsNotNumber(String name, ElementSnapshot snapshot) {
+        return !attributeIsNumber(name, snapshot);
+    }
+
+    public static void assertAttributeIsNumber(String name, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeIsNumber");
+        try {
+            if (attributeIsNotNumber(name, snapshot)) {
+                throw new WebDriverAssertionError("Element attribute " + name + " is not a number", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeIsNotNumber(String name, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeIsNotNumber");
+        try {
+            if (attributeIsNumber(name, snapshot)) {
+                throw new WebDriverAssertionError("Element attribute " + name + " is a number when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeEquals(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeEquals");
+        try {
+            BotUtils.assertEquals(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeNotEquals(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeNotEquals");
+        try {
+            BotUtils.assertNotEquals(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeLessThan(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeLessThan");
+        try {
+            BotUtils.assertLessThan(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeLessThanOrEquals(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeGreaterThan(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeGreaterThan");
+        try {
+            BotUtils.assertGreaterThan(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAttributeGreaterThanOrEquals(String name, double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAttributeGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals(name, number, attributeInAsNumber(name, snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeIsNumber(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeIsNumber");
+        try {
+            BotUtils.assertAll("assertAttributeIsNumber(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeIsNumber(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeIsNumber(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeIsNumber");
+        try {
+            BotUtils.assertAny("assertAttributeIsNumber(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeIsNumber(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeIsNumber(final String name, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeIsNumber");
+        try {
+            BotUtils.assertNone("assertAttributeIsNumber(" + quote(name) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeIsNumber(name, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeEquals");
+        try {
+            BotUtils.assertAll("assertAttributeEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeEquals");
+        try {
+            BotUtils.assertAny("assertAttributeEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeEquals");
+        try {
+            BotUtils.assertNone("assertAttributeEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeLessThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeLessThan");
+        try {
+            BotUtils.assertAll("assertAttributeLessThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeLessThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeLessThan");
+        try {
+            BotUtils.assertAny("assertAttributeLessThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeLessThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeLessThan");
+        try {
+            BotUtils.assertNone("assertAttributeLessThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeLessThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeLessThanOrEquals");
+        try {
+            BotUtils.assertAll("assertAttributeLessThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeLessThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeLessThanOrEquals");
+        try {
+            BotUtils.assertAny("assertAttributeLessThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeLessThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeLessThanOrEquals");
+        try {
+            BotUtils.assertNone("assertAttributeLessThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeLessThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeGreaterThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeGreaterThan");
+        try {
+            BotUtils.assertAll("assertAttributeGreaterThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeGreaterThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeGreaterThan");
+        try {
+            BotUtils.assertAny("assertAttributeGreaterThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeGreaterThan(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeGreaterThan");
+        try {
+            BotUtils.assertNone("assertAttributeGreaterThan(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThan(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllAttributeGreaterThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllAttributeGreaterThanOrEquals");
+        try {
+            BotUtils.assertAll("assertAttributeGreaterThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyAttributeGreaterThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyAttributeGreaterThanOrEquals");
+        try {
+            BotUtils.assertAny("assertAttributeGreaterThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneAttributeGreaterThanOrEquals(final String name, final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneAttributeGreaterThanOrEquals");
+        try {
+            BotUtils.assertNone("assertAttributeGreaterThanOrEquals(" + quote(name) + ", " + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertAttributeGreaterThanOrEquals(name, number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Id */
+    public static void assertIdEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdEquals");
+        try {
+            assertAttributeEquals("id", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotEquals");
+        try {
+            assertAttributeNotEquals("id", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdContains");
+        try {
+            assertAttributeContains("id", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotContains");
+        try {
+            assertAttributeNotContains("id", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdStartsWith");
+        try {
+            assertAttributeStartsWith("id", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("id", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdEndsWith");
+        try {
+            assertAttributeEndsWith("id", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("id", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdMatches");
+        try {
+            assertAttributeMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdMatches");
+        try {
+            assertAttributeMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotMatches");
+        try {
+            assertAttributeNotMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotMatches");
+        try {
+            assertAttributeNotMatches("id", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdEquals");
+        try {
+            assertAttributeEquals("id", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotEquals");
+        try {
+            assertAttributeNotEquals("id", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdContains");
+        try {
+            assertAttributeContains("id", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotContains");
+        try {
+            assertAttributeNotContains("id", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdStartsWith");
+        try {
+            assertAttributeStartsWith("id", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("id", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdEndsWith");
+        try {
+            assertAttributeEndsWith("id", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("id", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdMatches");
+        try {
+            assertAttributeMatches("id", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdMatches");
+        try {
+            assertAttributeMatches("id", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotMatches");
+        try {
+            assertAttributeNotMatches("id", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertIdNotMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIdNotMatches");
+        try {
+            assertAttributeNotMatches("id", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdEquals");
+        try {
+            BotUtils.assertAll("assertIdEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdEquals");
+        try {
+            BotUtils.assertAny("assertIdEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdEquals");
+        try {
+            BotUtils.assertNone("assertIdEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdContains");
+        try {
+            BotUtils.assertAll("assertIdContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdContains");
+        try {
+            BotUtils.assertAny("assertIdContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdContains");
+        try {
+            BotUtils.assertNone("assertIdContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdStartsWith");
+        try {
+            BotUtils.assertAll("assertIdStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdStartsWith");
+        try {
+            BotUtils.assertAny("assertIdStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdStartsWith");
+        try {
+            BotUtils.assertNone("assertIdStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdEndsWith");
+        try {
+            BotUtils.assertAll("assertIdEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdEndsWith");
+        try {
+            BotUtils.assertAny("assertIdEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdEndsWith");
+        try {
+            BotUtils.assertNone("assertIdEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdMatches");
+        try {
+            BotUtils.assertAll("assertIdMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdMatches");
+        try {
+            BotUtils.assertAny("assertIdMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdMatches");
+        try {
+            BotUtils.assertNone("assertIdMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllIdMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllIdMatches");
+        try {
+            BotUtils.assertAll("assertIdMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyIdMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyIdMatches");
+        try {
+            BotUtils.assertAny("assertIdMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneIdMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneIdMatches");
+        try {
+            BotUtils.assertNone("assertIdMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIdMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Name */
+    public static void assertNameEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameEquals");
+        try {
+            assertAttributeEquals("name", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotEquals");
+        try {
+            assertAttributeNotEquals("name", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameContains");
+        try {
+            assertAttributeContains("name", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotContains");
+        try {
+            assertAttributeNotContains("name", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameStartsWith");
+        try {
+            assertAttributeStartsWith("name", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("name", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameEndsWith");
+        try {
+            assertAttributeEndsWith("name", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("name", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameMatches");
+        try {
+            assertAttributeMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameMatches");
+        try {
+            assertAttributeMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotMatches");
+        try {
+            assertAttributeNotMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotMatches");
+        try {
+            assertAttributeNotMatches("name", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameEquals");
+        try {
+            assertAttributeEquals("name", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotEquals");
+        try {
+            assertAttributeNotEquals("name", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameContains");
+        try {
+            assertAttributeContains("name", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotContains");
+        try {
+            assertAttributeNotContains("name", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameStartsWith");
+        try {
+            assertAttributeStartsWith("name", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("name", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameEndsWith");
+        try {
+            assertAttributeEndsWith("name", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("name", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameMatches");
+        try {
+            assertAttributeMatches("name", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameMatches");
+        try {
+            assertAttributeMatches("name", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotMatches");
+        try {
+            assertAttributeNotMatches("name", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNameNotMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNameNotMatches");
+        try {
+            assertAttributeNotMatches("name", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameEquals");
+        try {
+            BotUtils.assertAll("assertNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameEquals");
+        try {
+            BotUtils.assertAny("assertNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameEquals");
+        try {
+            BotUtils.assertNone("assertNameEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameContains");
+        try {
+            BotUtils.assertAll("assertNameContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameContains");
+        try {
+            BotUtils.assertAny("assertNameContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameContains");
+        try {
+            BotUtils.assertNone("assertNameContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameStartsWith");
+        try {
+            BotUtils.assertAll("assertNameStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameStartsWith");
+        try {
+            BotUtils.assertAny("assertNameStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameStartsWith");
+        try {
+            BotUtils.assertNone("assertNameStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameEndsWith");
+        try {
+            BotUtils.assertAll("assertNameEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameEndsWith");
+        try {
+            BotUtils.assertAny("assertNameEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameEndsWith");
+        try {
+            BotUtils.assertNone("assertNameEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameMatches");
+        try {
+            BotUtils.assertAll("assertNameMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameMatches");
+        try {
+            BotUtils.assertAny("assertNameMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameMatches");
+        try {
+            BotUtils.assertNone("assertNameMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllNameMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllNameMatches");
+        try {
+            BotUtils.assertAll("assertNameMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyNameMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyNameMatches");
+        try {
+            BotUtils.assertAny("assertNameMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneNameMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneNameMatches");
+        try {
+            BotUtils.assertNone("assertNameMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertNameMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Class */
+    private static String classIn(WebElement webElement) {
+        return attributeIn("class", webElement);
+    }
+
+    private static List<String> classesIn(WebElement webElement) {
+        return Arrays.asList(StringUtils.split(classIn(webElement)));
+    }
+
+    private static boolean hasClass(String className, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.isEqual(className, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClass(String className, WebElement webElement) {
+        return !hasClass(className, webElement);
+    }
+
+    private static boolean hasClassContaining(String searchText, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.contains(searchText, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassContaining(String searchText, WebElement webElement) {
+        return !hasClassContaining(searchText, webElement);
+    }
+
+    private static boolean hasClassStartingWith(String prefix, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.startsWith(prefix, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassStartingWith(String prefix, WebElement webElement) {
+        return !hasClassStartingWith(prefix, webElement);
+    }
+
+    private static boolean hasClassEndingWith(String suffix, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.endsWith(suffix, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassEndingWith(String suffix, WebElement webElement) {
+        return !hasClassEndingWith(suffix, webElement);
+    }
+
+    private static boolean hasClassMatching(String regExp, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.matches(regExp, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasClassMatching(Pattern regExp, WebElement webElement) {
+        List<String> classes = classesIn(webElement);
+        for (String clazz : classes) {
+            if (BotUtils.matches(regExp, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassMatching(String regExp, WebElement webElement) {
+        return !hasClassMatching(regExp, webElement);
+    }
+
+    private static boolean hasNotClassMatching(Pattern regExp, WebElement webElement) {
+        return !hasClassMatching(regExp, webElement);
+    }
+
+    public static void assertHasClass(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClass");
+        try {
+            assertHasAttribute("class", webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClass(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClass");
+        try {
+            assertHasNotAttribute("class", webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClass(String className, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClass");
+        try {
+            if (hasNotClass(className, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class " + quote(className.trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClass(String className, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClass");
+        try {
+            if (hasClass(className, webElement)) {
+                throw new WebDriverAssertionError("Element has class " + quote(className.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassContaining(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassContaining");
+        try {
+            if (hasNotClassContaining(searchText, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class containing text " + quote(searchText.trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassContaining(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassContaining");
+        try {
+            if (hasClassContaining(searchText, webElement)) {
+                throw new WebDriverAssertionError("Element has class containing text " + quote(searchText.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassStartingWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassStartingWith");
+        try {
+            if (hasNotClassStartingWith(prefix, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class containing prefix " + quote(prefix.trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassStartingWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassStartingWith");
+        try {
+            if (hasClassStartingWith(prefix, webElement)) {
+                throw new WebDriverAssertionError("Element has class containing prefix " + quote(prefix.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassEndingWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassEndingWith");
+        try {
+            if (hasNotClassEndingWith(suffix, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class containing suffix " + quote(suffix.trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassEndingWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassEndingWith");
+        try {
+            if (hasClassEndingWith(suffix, webElement)) {
+                throw new WebDriverAssertionError("Element has class containing suffix " + quote(suffix.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassMatching(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassMatching");
+        try {
+            if (hasNotClassMatching(regExp, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class matching regExp " + quote(regExp.trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassMatching(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassMatching");
+        try {
+            if (hasNotClassMatching(regExp, webElement)) {
+                throw new WebDriverAssertionError("Element does not have class matching regExp " + quote(regExp.pattern().trim()), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassMatching(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassMatching");
+        try {
+            if (hasClassMatching(regExp, webElement)) {
+                throw new WebDriverAssertionError("Element has class matching regExp " + quote(regExp.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassMatching(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassMatching");
+        try {
+            if (hasClassMatching(regExp, webElement)) {
+                throw new WebDriverAssertionError("Element has class matching regExp " + quote(regExp.pattern().trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private static List<String> classesIn(ElementSnapshot snapshot) {
+        return snapshot.getClasses();
+    }
+
+    private static boolean hasClass(String className, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.isEqual(className, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClass(String className, ElementSnapshot snapshot) {
+        return !hasClass(className, snapshot);
+    }
+
+    private static boolean hasClassContaining(String searchText, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.contains(searchText, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassContaining(String searchText, ElementSnapshot snapshot) {
+        return !hasClassContaining(searchText, snapshot);
+    }
+
+    private static boolean hasClassStartingWith(String prefix, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.startsWith(prefix, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassStartingWith(String prefix, ElementSnapshot snapshot) {
+        return !hasClassStartingWith(prefix, snapshot);
+    }
+
+    private static boolean hasClassEndingWith(String suffix, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.endsWith(suffix, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassEndingWith(String suffix, ElementSnapshot snapshot) {
+        return !hasClassEndingWith(suffix, snapshot);
+    }
+
+    private static boolean hasClassMatching(String regExp, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.matches(regExp, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasClassMatching(Pattern regExp, ElementSnapshot snapshot) {
+        List<String> classes = classesIn(snapshot);
+        for (String clazz : classes) {
+            if (BotUtils.matches(regExp, clazz)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasNotClassMatching(String regExp, ElementSnapshot snapshot) {
+        return !hasClassMatching(regExp, snapshot);
+    }
+
+    private static boolean hasNotClassMatching(Pattern regExp, ElementSnapshot snapshot) {
+        return !hasClassMatching(regExp, snapshot);
+    }
+
+    public static void assertHasClass(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClass");
+        try {
+            assertHasAttribute("class", snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClass(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClass");
+        try {
+            assertHasNotAttribute("class", snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClass(String className, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClass");
+        try {
+            if (hasNotClass(className, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class " + quote(className.trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClass(String className, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClass");
+        try {
+            if (hasClass(className, snapshot)) {
+                throw new WebDriverAssertionError("Element has class " + quote(className.trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassContaining(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassContaining");
+        try {
+            if (hasNotClassContaining(searchText, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class containing text " + quote(searchText.trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassContaining(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassContaining");
+        try {
+            if (hasClassContaining(searchText, snapshot)) {
+                throw new WebDriverAssertionError("Element has class containing text " + quote(searchText.trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassStartingWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassStartingWith");
+        try {
+            if (hasNotClassStartingWith(prefix, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class containing prefix " + quote(prefix.trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassStartingWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassStartingWith");
+        try {
+            if (hasClassStartingWith(prefix, snapshot)) {
+                throw new WebDriverAssertionError("Element has class containing prefix " + quote(prefix.trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassEndingWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassEndingWith");
+        try {
+            if (hasNotClassEndingWith(suffix, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class containing suffix " + quote(suffix.trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassEndingWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassEndingWith");
+        try {
+            if (hasClassEndingWith(suffix, snapshot)) {
+                throw new WebDriverAssertionError("Element has class containing suffix " + quote(suffix.trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassMatching(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassMatching");
+        try {
+            if (hasNotClassMatching(regExp, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class matching regExp " + quote(regExp.trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasClassMatching(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasClassMatching");
+        try {
+            if (hasNotClassMatching(regExp, snapshot)) {
+                throw new WebDriverAssertionError("Element does not have class matching regExp " + quote(regExp.pattern().trim()), snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassMatching(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassMatching");
+        try {
+            if (hasClassMatching(regExp, snapshot)) {
+                throw new WebDriverAssertionError("Element has class matching regExp " + quote(regExp.trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotClassMatching(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotClassMatching");
+        try {
+            if (hasClassMatching(regExp, snapshot)) {
+                throw new WebDriverAssertionError("Element has class matching regExp " + quote(regExp.pattern().trim()) + " when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClass(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClass");
+        try {
+            BotUtils.assertAll("assertHasClass()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClass(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClass");
+        try {
+            BotUtils.assertAny("assertHasClass()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClass(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClass");
+        try {
+            BotUtils.assertNone("assertHasClass()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClass(final String className, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClass");
+        try {
+            BotUtils.assertAll("assertHasClass(" + quote(className) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(className, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClass(final String className, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClass");
+        try {
+            BotUtils.assertAny("assertHasClass(" + quote(className) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(className, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClass(final String className, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClass");
+        try {
+            BotUtils.assertNone("assertHasClass(" + quote(className) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClass(className, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClassContaining(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClassContaining");
+        try {
+            BotUtils.assertAll("assertHasClassContaining(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassContaining(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClassContaining(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClassContaining");
+        try {
+            BotUtils.assertAny("assertHasClassContaining(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassContaining(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClassContaining(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClassContaining");
+        try {
+            BotUtils.assertNone("assertHasClassContaining(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassContaining(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClassStartingWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClassStartingWith");
+        try {
+            BotUtils.assertAll("assertHasClassStartingWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassStartingWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClassStartingWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClassStartingWith");
+        try {
+            BotUtils.assertAny("assertHasClassStartingWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassStartingWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClassStartingWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClassStartingWith");
+        try {
+            BotUtils.assertNone("assertHasClassStartingWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassStartingWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClassEndingWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClassEndingWith");
+        try {
+            BotUtils.assertAll("assertHasClassEndingWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassEndingWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClassEndingWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClassEndingWith");
+        try {
+            BotUtils.assertAny("assertHasClassEndingWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassEndingWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClassEndingWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClassEndingWith");
+        try {
+            BotUtils.assertNone("assertHasClassEndingWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassEndingWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClassMatching(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClassMatching");
+        try {
+            BotUtils.assertAll("assertHasClassMatching(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClassMatching(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClassMatching");
+        try {
+            BotUtils.assertAny("assertHasClassMatching(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClassMatching(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClassMatching");
+        try {
+            BotUtils.assertNone("assertHasClassMatching(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllHasClassMatching(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasClassMatching");
+        try {
+            BotUtils.assertAll("assertHasClassMatching(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyHasClassMatching(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasClassMatching");
+        try {
+            BotUtils.assertAny("assertHasClassMatching(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneHasClassMatching(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasClassMatching");
+        try {
+            BotUtils.assertNone("assertHasClassMatching(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasClassMatching(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value */
+    private static boolean valueEquals(String value, WebElement webElement) {
+        return attributeEquals("value", value, webElement);
+    }
+
+    public static void assertValueEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEquals");
+        try {
+            assertAttributeEquals("value", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEquals");
+        try {
+            assertAttributeNotEquals("value", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueContains");
+        try {
+            assertAttributeContains("value", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotContains");
+        try {
+            assertAttributeNotContains("value", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueStartsWith");
+        try {
+            assertAttributeStartsWith("value", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("value", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEndsWith");
+        try {
+            assertAttributeEndsWith("value", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("value", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueMatches");
+        try {
+            assertAttributeMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueMatches");
+        try {
+            assertAttributeMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotMatches");
+        try {
+            assertAttributeNotMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotMatches");
+        try {
+            assertAttributeNotMatches("value", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEquals");
+        try {
+            assertAttributeEquals("value", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEquals");
+        try {
+            assertAttributeNotEquals("value", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueContains");
+        try {
+            assertAttributeContains("value", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotContains");
+        try {
+            assertAttributeNotContains("value", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueStartsWith");
+        try {
+            assertAttributeStartsWith("value", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("value", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEndsWith");
+        try {
+            assertAttributeEndsWith("value", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("value", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueMatches");
+        try {
+            assertAttributeMatches("value", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueMatches");
+        try {
+            assertAttributeMatches("value", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotMatches");
+        try {
+            assertAttributeNotMatches("value", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotMatches");
+        try {
+            assertAttributeNotMatches("value", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueEquals");
+        try {
+            BotUtils.assertAll("assertValueEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueEquals");
+        try {
+            BotUtils.assertAny("assertValueEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueEquals");
+        try {
+            BotUtils.assertNone("assertValueEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueContains");
+        try {
+            BotUtils.assertAll("assertValueContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueContains");
+        try {
+            BotUtils.assertAny("assertValueContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueContains");
+        try {
+            BotUtils.assertNone("assertValueContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueStartsWith");
+        try {
+            BotUtils.assertAll("assertValueStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueStartsWith");
+        try {
+            BotUtils.assertAny("assertValueStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueStartsWith");
+        try {
+            BotUtils.assertNone("assertValueStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueEndsWith");
+        try {
+            BotUtils.assertAll("assertValueEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueEndsWith");
+        try {
+            BotUtils.assertAny("assertValueEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueEndsWith");
+        try {
+            BotUtils.assertNone("assertValueEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueMatches");
+        try {
+            BotUtils.assertAll("assertValueMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueMatches");
+        try {
+            BotUtils.assertAny("assertValueMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueMatches");
+        try {
+            BotUtils.assertNone("assertValueMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueMatches");
+        try {
+            BotUtils.assertAll("assertValueMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueMatches");
+        try {
+            BotUtils.assertAny("assertValueMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueMatches");
+        try {
+            BotUtils.assertNone("assertValueMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value as Number */
+    public static void assertValueIsNumber(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueIsNumber");
+        try {
+            assertAttributeIsNumber("value", webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueIsNotNumber(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueIsNotNumber");
+        try {
+            assertAttributeIsNotNumber("value", webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEquals");
+        try {
+            assertAttributeEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEquals");
+        try {
+            assertAttributeNotEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueLessThan(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueLessThan");
+        try {
+            assertAttributeLessThan("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueLessThanOrEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueLessThanOrEquals");
+        try {
+            assertAttributeLessThanOrEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueGreaterThan(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueGreaterThan");
+        try {
+            assertAttributeGreaterThan("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueGreaterThanOrEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueGreaterThanOrEquals");
+        try {
+            assertAttributeGreaterThanOrEquals("value", number, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueIsNumber(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueIsNumber");
+        try {
+            assertAttributeIsNumber("value", snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueIsNotNumber(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueIsNotNumber");
+        try {
+            assertAttributeIsNotNumber("value", snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueEquals");
+        try {
+            assertAttributeEquals("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueNotEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueNotEquals");
+        try {
+            assertAttributeNotEquals("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueLessThan(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueLessThan");
+        try {
+            assertAttributeLessThan("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueLessThanOrEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueLessThanOrEquals");
+        try {
+            assertAttributeLessThanOrEquals("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueGreaterThan(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueGreaterThan");
+        try {
+            assertAttributeGreaterThan("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertValueGreaterThanOrEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertValueGreaterThanOrEquals");
+        try {
+            assertAttributeGreaterThanOrEquals("value", number, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueIsNumber");
+        try {
+            BotUtils.assertAll("assertValueIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueIsNumber");
+        try {
+            BotUtils.assertAny("assertValueIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueIsNumber");
+        try {
+            BotUtils.assertNone("assertValueIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueEquals");
+        try {
+            BotUtils.assertAll("assertValueEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueEquals");
+        try {
+            BotUtils.assertAny("assertValueEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueEquals");
+        try {
+            BotUtils.assertNone("assertValueEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueLessThan");
+        try {
+            BotUtils.assertAll("assertValueLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueLessThan");
+        try {
+            BotUtils.assertAny("assertValueLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueLessThan");
+        try {
+            BotUtils.assertNone("assertValueLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueLessThanOrEquals");
+        try {
+            BotUtils.assertAll("assertValueLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueLessThanOrEquals");
+        try {
+            BotUtils.assertAny("assertValueLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueLessThanOrEquals");
+        try {
+            BotUtils.assertNone("assertValueLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueGreaterThan");
+        try {
+            BotUtils.assertAll("assertValueGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueGreaterThan");
+        try {
+            BotUtils.assertAny("assertValueGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueGreaterThan");
+        try {
+            BotUtils.assertNone("assertValueGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAllValueGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllValueGreaterThanOrEquals");
+        try {
+            BotUtils.assertAll("assertValueGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertAnyValueGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyValueGreaterThanOrEquals");
+        try {
+            BotUtils.assertAny("assertValueGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneValueGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneValueGreaterThanOrEquals");
+        try {
+            BotUtils.assertNone("assertValueGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertValueGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Href */
+    public static void assertHrefEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefEquals");
+        try {
+            assertAttributeEquals("href", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotEquals(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotEquals");
+        try {
+            assertAttributeNotEquals("href", value, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefContains");
+        try {
+            assertAttributeContains("href", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotContains");
+        try {
+            assertAttributeNotContains("href", searchText, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefStartsWith");
+        try {
+            assertAttributeStartsWith("href", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("href", prefix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefEndsWith");
+        try {
+            assertAttributeEndsWith("href", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("href", suffix, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefMatches");
+        try {
+            assertAttributeMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefMatches");
+        try {
+            assertAttributeMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotMatches");
+        try {
+            assertAttributeNotMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotMatches");
+        try {
+            assertAttributeNotMatches("href", regExp, webElement);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefEquals");
+        try {
+            assertAttributeEquals("href", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotEquals(String value, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotEquals");
+        try {
+            assertAttributeNotEquals("href", value, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefContains");
+        try {
+            assertAttributeContains("href", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotContains");
+        try {
+            assertAttributeNotContains("href", searchText, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefStartsWith");
+        try {
+            assertAttributeStartsWith("href", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotStartsWith");
+        try {
+            assertAttributeNotStartsWith("href", prefix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefEndsWith");
+        try {
+            assertAttributeEndsWith("href", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotEndsWith");
+        try {
+            assertAttributeNotEndsWith("href", suffix, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefMatches");
+        try {
+            assertAttributeMatches("href", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefMatches");
+        try {
+            assertAttributeMatches("href", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotMatches");
+        try {
+            assertAttributeNotMatches("href", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHrefNotMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHrefNotMatches");
+        try {
+            assertAttributeNotMatches("href", regExp, snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
+    public static void assertAllHrefEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefEquals");
+        try {
+            BotUtils.assertAll("assertHrefEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
+    public static void assertAnyHrefEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefEquals");
+        try {
+            BotUtils.assertAny("assertHrefEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Id */
-    public static void assertIdEquals(String value, WebElement webElement) {
-        assertAttributeEquals("id", value, webElement);
+    public static void assertNoneHrefEquals(final String value, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefEquals");
+        try {
+            BotUtils.assertNone("assertHrefEquals(" + quote(value) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEquals(value, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdNotEquals(String value, WebElement webElement) {
-        assertAttributeNotEquals("id", value, webElement);
+    public static void assertAllHrefContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefContains");
+        try {
+            BotUtils.assertAll("assertHrefContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdContains(String searchText, WebElement webElement) {
-        assertAttributeContains("id", searchText, webElement);
+    public static void assertAnyHrefContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefContains");
+        try {
+            BotUtils.assertAny("assertHrefContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdNotContains(String searchText, WebElement webElement) {
-        assertAttributeNotContains("id", searchText, webElement);
+    public static void assertNoneHrefContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefContains");
+        try {
+            BotUtils.assertNone("assertHrefContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdStartsWith(String prefix, WebElement webElement) {
-        assertAttributeStartsWith("id", prefix, webElement);
+    public static void assertAllHrefStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefStartsWith");
+        try {
+            BotUtils.assertAll("assertHrefStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdNotStartsWith(String prefix, WebElement webElement) {
-        assertAttributeNotStartsWith("id", prefix, webElement);
+    public static void assertAnyHrefStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefStartsWith");
+        try {
+            BotUtils.assertAny("assertHrefStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdEndsWith(String suffix, WebElement webElement) {
-        assertAttributeEndsWith("id", suffix, webElement);
+    public static void assertNoneHrefStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefStartsWith");
+        try {
+            BotUtils.assertNone("assertHrefStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdNotEndsWith(String suffix, WebElement webElement) {
-        assertAttributeNotEndsWith("id", suffix, webElement);
+    public static void assertAllHrefEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefEndsWith");
+        try {
+            BotUtils.assertAll("assertHrefEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdMatches(String regExp, WebElement webElement) {
-        assertAttributeMatches("id", regExp, webElement);
+    public static void assertAnyHrefEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefEndsWith");
+        try {
+            BotUtils.assertAny("assertHrefEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIdNotMatches(String regExp, WebElement webElement) {
-        assertAttributeNotMatches("id", regExp, webElement);
+    public static void assertNoneHrefEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefEndsWith");
+        try {
+            BotUtils.assertNone("assertHrefEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
+    public static void assertAllHrefMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefMatches");
+        try {
+            BotUtils.assertAll("assertHrefMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
+    public static void assertAnyHrefMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefMatches");
+        try {
+            BotUtils.assertAny("assertHrefMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Name */
-    public static void assertNameEquals(String value, WebElement webElement) {
-        assertAttributeEquals("name", value, webElement);
+    public static void assertNoneHrefMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefMatches");
+        try {
+            BotUtils.assertNone("assertHrefMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertNameNotEquals(String value, WebElement webElement) {
-        assertAttributeNotEquals("name", value, webElement);
+    public static void assertAllHrefMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHrefMatches");
+        try {
+            BotUtils.assertAll("assertHrefMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertNameContains(String searchText, WebElement webElement) {
-        assertAttributeContains("name", searchText, webElement);
+    public static void assertAnyHrefMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHrefMatches");
+        try {
+            BotUtils.assertAny("assertHrefMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertNameNotContains(String searchText, WebElement webElement) {
-        assertAttributeNotContains("name", searchText, webElement);
+    public static void assertNoneHrefMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHrefMatches");
+        try {
+            BotUtils.assertNone("assertHrefMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHrefMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertNameStartsWith(String prefix, WebElement webElement) {
-        assertAttributeStartsWith("name", prefix, webElement);
+
+
+    /* Text */
+    private static String textIn(WebElement webElement) {
+        // Text is trimmed to normalize behavior since Chrome and PhantomJS driver incorrectly returns spaces around the text (Not according the the WebElement tetText docs), see bug report https://github.com/seleniumhq/selenium-google-code-issue-archive/issues/7473 remove this when bug is solved!
+        return StringUtils.trim(instrument(webElement).getText());
     }
 
-    public static void assertNameNotStartsWith(String prefix, WebElement webElement) {
-        assertAttributeNotStartsWith("name", prefix, webElement);
+    private static boolean hasText(WebElement webElement) {
+        return BotUtils.notEquals("", textIn(webElement));
     }
 
-    public static void assertNameEndsWith(String suffix, WebElement webElement) {
-        assertAttributeEndsWith("name", suffix, webElement);
+    private static boolean hasNotText(WebElement webElement) {
+        return BotUtils.isEqual("", textIn(webElement));
     }
 
-    public static void assertNameNotEndsWith(String suffix, WebElement webElement) {
-        assertAttributeNotEndsWith("name", suffix, webElement);
+    private static boolean textEquals(String text, WebElement webElement) {
+        return BotUtils.isEqual(text, textIn(webElement));
     }
 
-    public static void assertNameMatches(String regExp, WebElement webElement) {
-        assertAttributeMatches("name", regExp, webElement);
+    public static void assertHasText(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasText");
+        try {
+            if (hasNotText(webElement)) {
+                throw new WebDriverAssertionError("Element has no text", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertNameNotMatches(String regExp, WebElement webElement) {
-        assertAttributeNotMatches("name", regExp, webElement);
+    public static void assertHasNotText(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotText");
+        try {
+            if (hasText(webElement)) {
+                throw new WebDriverAssertionError("Element has text " + quote(textIn(webElement)) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
+    public static void assertTextEquals(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEquals");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.EQUALS, text, true, webElement)) {
+                BotUtils.assertEquals("Text", text, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
 
+    public static void assertTextNotEquals(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEquals");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.EQUALS, text, false, webElement)) {
+                BotUtils.assertNotEquals("Text", text, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Class */
-    private static String classIn(WebElement webElement) {
-        return attributeIn("class", webElement);
+    public static void assertTextEqualsIgnoreCase(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEqualsIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.EQUALS_IGNORE_CASE, text, true, webElement)) {
+                BotUtils.assertEqualsIgnoreCase("Text", text, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static List<String> classesIn(WebElement webElement) {
-        return Arrays.asList(StringUtils.split(classIn(webElement)));
+    public static void assertTextNotEqualsIgnoreCase(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEqualsIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.EQUALS_IGNORE_CASE, text, false, webElement)) {
+                BotUtils.assertNotEqualsIgnoreCase("Text", text, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasClass(String className, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.isEqual(className, clazz)) {
-                return true;
+    public static void assertTextContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextContains");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.CONTAINS, searchText, true, webElement)) {
+                BotUtils.assertContains("Text", searchText, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotContains(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotContains");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.CONTAINS, searchText, false, webElement)) {
+                BotUtils.assertNotContains("Text", searchText, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextContainsIgnoreCase(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextContainsIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.CONTAINS_IGNORE_CASE, searchText, true, webElement)) {
+                BotUtils.assertContainsIgnoreCase("Text", searchText, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotContainsIgnoreCase(String searchText, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotContainsIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.CONTAINS_IGNORE_CASE, searchText, false, webElement)) {
+                BotUtils.assertNotContainsIgnoreCase("Text", searchText, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextStartsWith");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.STARTS_WITH, prefix, true, webElement)) {
+                BotUtils.assertStartsWith("Text", prefix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotStartsWith(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotStartsWith");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.STARTS_WITH, prefix, false, webElement)) {
+                BotUtils.assertNotStartsWith("Text", prefix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextStartsWithIgnoreCase(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextStartsWithIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.STARTS_WITH_IGNORE_CASE, prefix, true, webElement)) {
+                BotUtils.assertStartsWithIgnoreCase("Text", prefix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotStartsWithIgnoreCase(String prefix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotStartsWithIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.STARTS_WITH_IGNORE_CASE, prefix, false, webElement)) {
+                BotUtils.assertNotStartsWithIgnoreCase("Text", prefix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEndsWith");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.ENDS_WITH, suffix, true, webElement)) {
+                BotUtils.assertEndsWith("Text", suffix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotEndsWith(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEndsWith");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.ENDS_WITH, suffix, false, webElement)) {
+                BotUtils.assertNotEndsWith("Text", suffix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextEndsWithIgnoreCase(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEndsWithIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.ENDS_WITH_IGNORE_CASE, suffix, true, webElement)) {
+                BotUtils.assertEndsWithIgnoreCase("Text", suffix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotEndsWithIgnoreCase(String suffix, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEndsWithIgnoreCase");
+        try {
+            if (!TextPredicates.assertedInBrowser(Predicate.ENDS_WITH_IGNORE_CASE, suffix, false, webElement)) {
+                BotUtils.assertNotEndsWithIgnoreCase("Text", suffix, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextMatches");
+        try {
+            if (!TextPredicates.assertedMatchesInBrowser(regExp, true, webElement)) {
+                BotUtils.assertMatches("Text", regExp, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextMatches");
+        try {
+            if (!TextPredicates.assertedMatchesInBrowser(regExp, true, webElement)) {
+                BotUtils.assertMatches("Text", regExp, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotMatches(String regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotMatches");
+        try {
+            if (!TextPredicates.assertedMatchesInBrowser(regExp, false, webElement)) {
+                BotUtils.assertNotMatches("Text", regExp, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotMatches(Pattern regExp, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotMatches");
+        try {
+            if (!TextPredicates.assertedMatchesInBrowser(regExp, false, webElement)) {
+                BotUtils.assertNotMatches("Text", regExp, textIn(webElement), webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    private static String textIn(ElementSnapshot snapshot) {
+        return snapshot.getText();
+    }
+
+    private static boolean hasText(ElementSnapshot snapshot) {
+        return BotUtils.notEquals("", textIn(snapshot));
+    }
+
+    private static boolean hasNotText(ElementSnapshot snapshot) {
+        return BotUtils.isEqual("", textIn(snapshot));
+    }
+
+    public static void assertHasText(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasText");
+        try {
+            if (hasNotText(snapshot)) {
+                throw new WebDriverAssertionError("Element has no text", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertHasNotText(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotText");
+        try {
+            if (hasText(snapshot)) {
+                throw new WebDriverAssertionError("Element has text " + quote(textIn(snapshot)) + " when it shouldn't", snapshot);
             }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextEquals(String text, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEquals");
+        try {
+            BotUtils.assertEquals("Text", text, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotEquals(String text, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEquals");
+        try {
+            BotUtils.assertNotEquals("Text", text, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextEqualsIgnoreCase(String text, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEqualsIgnoreCase");
+        try {
+            BotUtils.assertEqualsIgnoreCase("Text", text, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotEqualsIgnoreCase(String text, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEqualsIgnoreCase");
+        try {
+            BotUtils.assertNotEqualsIgnoreCase("Text", text, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextContains");
+        try {
+            BotUtils.assertContains("Text", searchText, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotContains(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotContains");
+        try {
+            BotUtils.assertNotContains("Text", searchText, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextContainsIgnoreCase(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextContainsIgnoreCase");
+        try {
+            BotUtils.assertContainsIgnoreCase("Text", searchText, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotContainsIgnoreCase(String searchText, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotContainsIgnoreCase");
+        try {
+            BotUtils.assertNotContainsIgnoreCase("Text", searchText, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextStartsWith");
+        try {
+            BotUtils.assertStartsWith("Text", prefix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertTextNotStartsWith(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotStartsWith");
+        try {
+            BotUtils.assertNotStartsWith("Text", prefix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotClass(String className, WebElement webElement) {
-        return !hasClass(className, webElement);
+    public static void assertTextStartsWithIgnoreCase(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextStartsWithIgnoreCase");
+        try {
+            BotUtils.assertStartsWithIgnoreCase("Text", prefix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasClassContaining(String searchText, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.contains(searchText, clazz)) {
-                return true;
-            }
+    public static void assertTextNotStartsWithIgnoreCase(String prefix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotStartsWithIgnoreCase");
+        try {
+            BotUtils.assertNotStartsWithIgnoreCase("Text", prefix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotClassContaining(String searchText, WebElement webElement) {
-        return !hasClassContaining(searchText, webElement);
+    public static void assertTextEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEndsWith");
+        try {
+            BotUtils.assertEndsWith("Text", suffix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasClassStartingWith(String prefix, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.startsWith(prefix, clazz)) {
-                return true;
-            }
+    public static void assertTextNotEndsWith(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEndsWith");
+        try {
+            BotUtils.assertNotEndsWith("Text", suffix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotClassStartingWith(String prefix, WebElement webElement) {
-        return !hasClassStartingWith(prefix, webElement);
+    public static void assertTextEndsWithIgnoreCase(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEndsWithIgnoreCase");
+        try {
+            BotUtils.assertEndsWithIgnoreCase("Text", suffix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasClassEndingWith(String suffix, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.endsWith(suffix, clazz)) {
-                return true;
-            }
+    public static void assertTextNotEndsWithIgnoreCase(String suffix, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEndsWithIgnoreCase");
+        try {
+            BotUtils.assertNotEndsWithIgnoreCase("Text", suffix, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotClassEndingWith(String suffix, WebElement webElement) {
-        return !hasClassEndingWith(suffix, webElement);
+    public static void assertTextMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextMatches");
+        try {
+            BotUtils.assertMatches("Text", regExp, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasClassMatching(String regExp, WebElement webElement) {
-        List<String> classes = classesIn(webElement);
-        for (String clazz : classes) {
-            if (BotUtils.matches(regExp, clazz)) {
-                return true;
-            }
+    public static void assertTextMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextMatches");
+        try {
+            BotUtils.assertMatches("Text", regExp, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotClassMatching(String regExp, WebElement webElement) {
-        return !hasClassMatching(regExp, webElement);
+    public static void assertTextNotMatches(String regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotMatches");
+        try {
+            BotUtils.assertNotMatches("Text", regExp, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHasClass(WebElement webElement) {
-        assertHasAttribute("class", webElement);
+    public static void assertTextNotMatches(Pattern regExp, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotMatches");
+        try {
+            BotUtils.assertNotMatches("Text", regExp, textIn(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHasNotClass(WebElement webElement) {
-        assertHasNotAttribute("class", webElement);
+    public static void assertAllHasText(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllHasText");
+        try {
+            BotUtils.assertAll("assertHasText()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasText(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHasClass(String className, WebElement webElement) {
-        if (hasNotClass(className, webElement)) {
-            throw new WebDriverAssertionError("Element does not have class " + quote(className.trim()), webElement);
+    public static void assertAnyHasText(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyHasText");
+        try {
+            BotUtils.assertAny("assertHasText()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasText(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotClass(String className, WebElement webElement) {
-        if (hasClass(className, webElement)) {
-            throw new WebDriverAssertionError("Element has class " + quote(className.trim()) + " when it shouldn't", webElement);
+    public static void assertNoneHasText(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneHasText");
+        try {
+            BotUtils.assertNone("assertHasText()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertHasText(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasClassContaining(String searchText, WebElement webElement) {
-        if (hasNotClassContaining(searchText, webElement)) {
-            throw new WebDriverAssertionError("Element does not have class containing text " + quote(searchText.trim()), webElement);
+    public static void assertAllTextEquals(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextEquals");
+        try {
+            BotUtils.assertAll("assertTextEquals(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotClassContaining(String searchText, WebElement webElement) {
-        if (hasClassContaining(searchText, webElement)) {
-            throw new WebDriverAssertionError("Element has class containing text " + quote(searchText.trim()) + " when it shouldn't", webElement);
+    public static void assertAnyTextEquals(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextEquals");
+        try {
+            BotUtils.assertAny("assertTextEquals(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasClassStartingWith(String prefix, WebElement webElement) {
-        if (hasNotClassStartingWith(prefix, webElement)) {
-            throw new WebDriverAssertionError("Element does not have class containing prefix " + quote(prefix.trim()), webElement);
+    public static void assertNoneTextEquals(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextEquals");
+        try {
+            BotUtils.assertNone("assertTextEquals(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotClassStartingWith(String prefix, WebElement webElement) {
-        if (hasClassStartingWith(prefix, webElement)) {
-            throw new WebDriverAssertionError("Element has class containing prefix " + quote(prefix.trim()) + " when it shouldn't", webElement);
+    public static void assertAllTextEqualsIgnoreCase(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextEqualsIgnoreCase");
+        try {
+            BotUtils.assertAll("assertTextEqualsIgnoreCase(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEqualsIgnoreCase(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasClassEndingWith(String suffix, WebElement webElement) {
-        if (hasNotClassEndingWith(suffix, webElement)) {
-            throw new WebDriverAssertionError("Element does not have class containing suffix " + quote(suffix.trim()), webElement);
+    public static void assertAnyTextEqualsIgnoreCase(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextEqualsIgnoreCase");
+        try {
+            BotUtils.assertAny("assertTextEqualsIgnoreCase(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEqualsIgnoreCase(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotClassEndingWith(String suffix, WebElement webElement) {
-        if (hasClassEndingWith(suffix, webElement)) {
-            throw new WebDriverAssertionError("Element has class containing suffix " + quote(suffix.trim()) + " when it shouldn't", webElement);
+    public static void assertNoneTextEqualsIgnoreCase(final String text, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextEqualsIgnoreCase");
+        try {
+            BotUtils.assertNone("assertTextEqualsIgnoreCase(" + quote(text) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEqualsIgnoreCase(text, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasClassMatching(String regExp, WebElement webElement) {
-        if (hasNotClassMatching(regExp, webElement)) {
-            throw new WebDriverAssertionError("Element does not have class matching regExp " + quote(regExp.trim()), webElement);
+    public static void assertAllTextContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextContains");
+        try {
+            BotUtils.assertAll("assertTextContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotClassMatching(String regExp, WebElement webElement) {
-        if (hasClassMatching(regExp, webElement)) {
-            throw new WebDriverAssertionError("Element has class matching regExp " + quote(regExp.trim()) + " when it shouldn't", webElement);
+    public static void assertAnyTextContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextContains");
+        try {
+            BotUtils.assertAny("assertTextContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
+    public static void assertNoneTextContains(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextContains");
+        try {
+            BotUtils.assertNone("assertTextContains(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContains(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
+    public static void assertAllTextContainsIgnoreCase(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextContainsIgnoreCase");
+        try {
+            BotUtils.assertAll("assertTextContainsIgnoreCase(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContainsIgnoreCase(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Value */
-    private static boolean valueEquals(String value, WebElement webElement) {
-        return attributeEquals("value", value, webElement);
+    public static void assertAnyTextContainsIgnoreCase(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextContainsIgnoreCase");
+        try {
+            BotUtils.assertAny("assertTextContainsIgnoreCase(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContainsIgnoreCase(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueEquals(String value, WebElement webElement) {
-        assertAttributeEquals("value", value, webElement);
+    public static void assertNoneTextContainsIgnoreCase(final String searchText, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextContainsIgnoreCase");
+        try {
+            BotUtils.assertNone("assertTextContainsIgnoreCase(" + quote(searchText) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextContainsIgnoreCase(searchText, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotEquals(String value, WebElement webElement) {
-        assertAttributeNotEquals("value", value, webElement);
+    public static void assertAllTextStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextStartsWith");
+        try {
+            BotUtils.assertAll("assertTextStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueContains(String searchText, WebElement webElement) {
-        assertAttributeContains("value", searchText, webElement);
+    public static void assertAnyTextStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextStartsWith");
+        try {
+            BotUtils.assertAny("assertTextStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotContains(String searchText, WebElement webElement) {
-        assertAttributeNotContains("value", searchText, webElement);
+    public static void assertNoneTextStartsWith(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextStartsWith");
+        try {
+            BotUtils.assertNone("assertTextStartsWith(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWith(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueStartsWith(String prefix, WebElement webElement) {
-        assertAttributeStartsWith("value", prefix, webElement);
+    public static void assertAllTextStartsWithIgnoreCase(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextStartsWithIgnoreCase");
+        try {
+            BotUtils.assertAll("assertTextStartsWithIgnoreCase(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWithIgnoreCase(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotStartsWith(String prefix, WebElement webElement) {
-        assertAttributeNotStartsWith("value", prefix, webElement);
+    public static void assertAnyTextStartsWithIgnoreCase(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextStartsWithIgnoreCase");
+        try {
+            BotUtils.assertAny("assertTextStartsWithIgnoreCase(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWithIgnoreCase(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueEndsWith(String suffix, WebElement webElement) {
-        assertAttributeEndsWith("value", suffix, webElement);
+    public static void assertNoneTextStartsWithIgnoreCase(final String prefix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextStartsWithIgnoreCase");
+        try {
+            BotUtils.assertNone("assertTextStartsWithIgnoreCase(" + quote(prefix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextStartsWithIgnoreCase(prefix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotEndsWith(String suffix, WebElement webElement) {
-        assertAttributeNotEndsWith("value", suffix, webElement);
+    public static void assertAllTextEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextEndsWith");
+        try {
+            BotUtils.assertAll("assertTextEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueMatches(String regExp, WebElement webElement) {
-        assertAttributeMatches("value", regExp, webElement);
+    public static void assertAnyTextEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextEndsWith");
+        try {
+            BotUtils.assertAny("assertTextEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotMatches(String regExp, WebElement webElement) {
-        assertAttributeNotMatches("value", regExp, webElement);
+    public static void assertNoneTextEndsWith(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextEndsWith");
+        try {
+            BotUtils.assertNone("assertTextEndsWith(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWith(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
+    public static void assertAllTextEndsWithIgnoreCase(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextEndsWithIgnoreCase");
+        try {
+            BotUtils.assertAll("assertTextEndsWithIgnoreCase(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWithIgnoreCase(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
+    public static void assertAnyTextEndsWithIgnoreCase(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextEndsWithIgnoreCase");
+        try {
+            BotUtils.assertAny("assertTextEndsWithIgnoreCase(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWithIgnoreCase(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Value as Number */
-    public static void assertValueIsNumber(WebElement webElement) {
-        assertAttributeIsNumber("value", webElement);
+    public static void assertNoneTextEndsWithIgnoreCase(final String suffix, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextEndsWithIgnoreCase");
+        try {
+            BotUtils.assertNone("assertTextEndsWithIgnoreCase(" + quote(suffix) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEndsWithIgnoreCase(suffix, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueIsNotNumber(WebElement webElement) {
-        assertAttributeIsNotNumber("value", webElement);
+    public static void assertAllTextMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextMatches");
+        try {
+            BotUtils.assertAll("assertTextMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueEquals(double number, WebElement webElement) {
-        assertAttributeEquals("value", number, webElement);
+    public static void assertAnyTextMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextMatches");
+        try {
+            BotUtils.assertAny("assertTextMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueNotEquals(double number, WebElement webElement) {
-        assertAttributeNotEquals("value", number, webElement);
+    public static void assertNoneTextMatches(final String regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextMatches");
+        try {
+            BotUtils.assertNone("assertTextMatches(" + quote(regExp) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueLessThan(double number, WebElement webElement) {
-        assertAttributeLessThan("value", number, webElement);
+    public static void assertAllTextMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextMatches");
+        try {
+            BotUtils.assertAll("assertTextMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueLessThanOrEquals(double number, WebElement webElement) {
-        assertAttributeLessThanOrEquals("value", number, webElement);
+    public static void assertAnyTextMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextMatches");
+        try {
+            BotUtils.assertAny("assertTextMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueGreaterThan(double number, WebElement webElement) {
-        assertAttributeGreaterThan("value", number, webElement);
+    public static void assertNoneTextMatches(final Pattern regExp, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextMatches");
+        try {
+            BotUtils.assertNone("assertTextMatches(" + quote(regExp.pattern()) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextMatches(regExp, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertValueGreaterThanOrEquals(double number, WebElement webElement) {
-        assertAttributeGreaterThanOrEquals("value", number, webElement);
+
+
+    /* Text as Number */
+    private static double textInAsNumber(WebElement webElement) {
+        return createDouble(textIn(webElement));
     }
 
+    private static boolean textIsNumber(WebElement webElement) {
+        try {
+            textInAsNumber(webElement);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 
+    private static boolean textIsNotNumber(WebElement webElement) {
+        return !textIsNumber(webElement);
+    }
 
-    /* Href */
-    public static void assertHrefEquals(String value, WebElement webElement) {
-        assertAttributeEquals("href", value, webElement);
+    public static void assertTextIsNumber(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextIsNumber");
+        try {
+            if (textIsNotNumber(webElement)) {
+                throw new WebDriverAssertionError("Element text is not a number", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefNotEquals(String value, WebElement webElement) {
-        assertAttributeNotEquals("href", value, webElement);
+    public static void assertTextIsNotNumber(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextIsNotNumber");
+        try {
+            if (textIsNumber(webElement)) {
+                throw new WebDriverAssertionError("Element text is a number when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefContains(String searchText, WebElement webElement) {
-        assertAttributeContains("href", searchText, webElement);
+    public static void assertTextEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEquals");
+        try {
+            BotUtils.assertEquals("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefNotContains(String searchText, WebElement webElement) {
-        assertAttributeNotContains("href", searchText, webElement);
+    public static void assertTextNotEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEquals");
+        try {
+            BotUtils.assertNotEquals("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefStartsWith(String prefix, WebElement webElement) {
-        assertAttributeStartsWith("href", prefix, webElement);
+    public static void assertTextLessThan(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextLessThan");
+        try {
+            BotUtils.assertLessThan("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefNotStartsWith(String prefix, WebElement webElement) {
-        assertAttributeNotStartsWith("href", prefix, webElement);
+    public static void assertTextLessThanOrEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefEndsWith(String suffix, WebElement webElement) {
-        assertAttributeEndsWith("href", suffix, webElement);
+    public static void assertTextGreaterThan(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextGreaterThan");
+        try {
+            BotUtils.assertGreaterThan("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefNotEndsWith(String suffix, WebElement webElement) {
-        assertAttributeNotEndsWith("href", suffix, webElement);
+    public static void assertTextGreaterThanOrEquals(double number, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals("Text", number, textInAsNumber(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHrefMatches(String regExp, WebElement webElement) {
-        assertAttributeMatches("href", regExp, webElement);
+    private static double textInAsNumber(ElementSnapshot snapshot) {
+        return createDouble(textIn(snapshot));
     }
 
-    public static void assertHrefNotMatches(String regExp, WebElement webElement) {
-        assertAttributeNotMatches("href", regExp, webElement);
+    private static boolean textIsNumber(ElementSnapshot snapshot) {
+        try {
+            textInAsNumber(snapshot);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
+    private static boolean textIsNotNumber(ElementSnapshot snapshot) {
+        return !textIsNumber(snapshot);
+    }
 
+    public static void assertTextIsNumber(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextIsNumber");
+        try {
+            if (textIsNotNumber(snapshot)) {
+                throw new WebDriverAssertionError("Element text is not a number", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
 
-    /* Text */
-    private static String textIn(WebElement webElement) {
-        // Text is trimmed to normalize behavior since Chrome and PhantomJS driver incorrectly returns spaces around the text (Not according the the WebElement tetText docs), see bug report https://github.com/seleniumhq/selenium-google-code-issue-archive/issues/7473 remove this when bug is solved!
-        return StringUtils.trim(webElement.getText());
+    public static void assertTextIsNotNumber(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextIsNotNumber");
+        try {
+            if (textIsNumber(snapshot)) {
+                throw new WebDriverAssertionError("Element text is a number when it shouldn't", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasText(WebElement webElement) {
-        return BotUtils.notEquals("", textIn(webElement));
+    public static void assertTextEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEquals");
+        try {
+            BotUtils.assertEquals("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean hasNotText(WebElement webElement) {
-        return BotUtils.isEqual("", textIn(webElement));
+    public static void assertTextNotEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextNotEquals");
+        try {
+            BotUtils.assertNotEquals("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean textEquals(String text, WebElement webElement) {
-        return BotUtils.isEqual(text, textIn(webElement));
+    public static void assertTextLessThan(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextLessThan");
+        try {
+            BotUtils.assertLessThan("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertHasText(WebElement webElement) {
-        if (hasNotText(webElement)) {
-            throw new WebDriverAssertionError("Element has no text", webElement);
+    public static void assertTextLessThanOrEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextLessThanOrEquals");
+        try {
+            BotUtils.assertLessThanOrEquals("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotText(WebElement webElement) {
-        if (hasText(webElement)) {
-            throw new WebDriverAssertionError("Element has text " + quote(textIn(webElement)) + " when it shouldn't", webElement);
+    public static void assertTextGreaterThan(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextGreaterThan");
+        try {
+            BotUtils.assertGreaterThan("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertTextEquals(String text, WebElement webElement) {
-        BotUtils.assertEquals("Text", text, textIn(webElement), webElement);
+    public static void assertTextGreaterThanOrEquals(double number, ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertTextGreaterThanOrEquals");
+        try {
+            BotUtils.assertGreaterThanOrEquals("Text", number, textInAsNumber(snapshot), snapshot);
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotEquals(String text, WebElement webElement) {
-        BotUtils.assertNotEquals("Text", text, textIn(webElement), webElement);
+    public static void assertAllTextIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextIsNumber");
+        try {
+            BotUtils.assertAll("assertTextIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextEqualsIgnoreCase(String text, WebElement webElement) {
-        BotUtils.assertEqualsIgnoreCase("Text", text, textIn(webElement), webElement);
+    public static void assertAnyTextIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextIsNumber");
+        try {
+            BotUtils.assertAny("assertTextIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotEqualsIgnoreCase(String text, WebElement webElement) {
-        BotUtils.assertNotEqualsIgnoreCase("Text", text, textIn(webElement), webElement);
+    public static void assertNoneTextIsNumber(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextIsNumber");
+        try {
+            BotUtils.assertNone("assertTextIsNumber()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextIsNumber(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextContains(String searchText, WebElement webElement) {
-        BotUtils.assertContains("Text", searchText, textIn(webElement), webElement);
+    public static void assertAllTextEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextEquals");
+        try {
+            BotUtils.assertAll("assertTextEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotContains(String searchText, WebElement webElement) {
-        BotUtils.assertNotContains("Text", searchText, textIn(webElement), webElement);
+    public static void assertAnyTextEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextEquals");
+        try {
+            BotUtils.assertAny("assertTextEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public static void assertNoneTextEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextEquals");
+        try {
+            BotUtils.assertNone("assertTextEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextContainsIgnoreCase(String searchText, WebElement webElement) {
-        BotUtils.assertContainsIgnoreCase("Text", searchText, textIn(webElement), webElement);
+    public static void assertAllTextLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextLessThan");
+        try {
+            BotUtils.assertAll("assertTextLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotContainsIgnoreCase(String searchText, WebElement webElement) {
-        BotUtils.assertNotContainsIgnoreCase("Text", searchText, textIn(webElement), webElement);
+    public static void assertAnyTextLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextLessThan");
+        try {
+            BotUtils.assertAny("assertTextLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextStartsWith(String prefix, WebElement webElement) {
-        BotUtils.assertStartsWith("Text", prefix, textIn(webElement), webElement);
+    public static void assertNoneTextLessThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextLessThan");
+        try {
+            BotUtils.assertNone("assertTextLessThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotStartsWith(String prefix, WebElement webElement) {
-        BotUtils.assertNotStartsWith("Text", prefix, textIn(webElement), webElement);
+    public static void assertAllTextLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextLessThanOrEquals");
+        try {
+            BotUtils.assertAll("assertTextLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextStartsWithIgnoreCase(String prefix, WebElement webElement) {
-        BotUtils.assertStartsWithIgnoreCase("Text", prefix, textIn(webElement), webElement);
+    public static void assertAnyTextLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextLessThanOrEquals");
+        try {
+            BotUtils.assertAny("assertTextLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotStartsWithIgnoreCase(String prefix, WebElement webElement) {
-        BotUtils.assertNotStartsWithIgnoreCase("Text", prefix, textIn(webElement), webElement);
+    public static void assertNoneTextLessThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextLessThanOrEquals");
+        try {
+            BotUtils.assertNone("assertTextLessThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextLessThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextEndsWith(String suffix, WebElement webElement) {
-        BotUtils.assertEndsWith("Text", suffix, textIn(webElement), webElement);
+    public static void assertAllTextGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextGreaterThan");
+        try {
+            BotUtils.assertAll("assertTextGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotEndsWith(String suffix, WebElement webElement) {
-        BotUtils.assertNotEndsWith("Text", suffix, textIn(webElement), webElement);
+    public static void assertAnyTextGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextGreaterThan");
+        try {
+            BotUtils.assertAny("assertTextGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextEndsWithIgnoreCase(String suffix, WebElement webElement) {
-        BotUtils.assertEndsWithIgnoreCase("Text", suffix, textIn(webElement), webElement);
+    public static void assertNoneTextGreaterThan(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextGreaterThan");
+        try {
+            BotUtils.assertNone("assertTextGreaterThan(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThan(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotEndsWithIgnoreCase(String suffix, WebElement webElement) {
-        BotUtils.assertNotEndsWithIgnoreCase("Text", suffix, textIn(webElement), webElement);
+    public static void assertAllTextGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllTextGreaterThanOrEquals");
+        try {
+            BotUtils.assertAll("assertTextGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextMatches(String regExp, WebElement webElement) {
-        BotUtils.assertMatches("Text", regExp, textIn(webElement), webElement);
+    public static void assertAnyTextGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyTextGreaterThanOrEquals");
+        try {
+            BotUtils.assertAny("assertTextGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextNotMatches(String regExp, WebElement webElement) {
-        BotUtils.assertNotMatches("Text", regExp, textIn(webElement), webElement);
+    public static void assertNoneTextGreaterThanOrEquals(final double number, List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneTextGreaterThanOrEquals");
+        try {
+            BotUtils.assertNone("assertTextGreaterThanOrEquals(" + quote(number) + ")", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertTextGreaterThanOrEquals(number, snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
 
 
-    /* Text as Number */
-    private static double textInAsNumber(WebElement webElement) {
-        return createDouble(textIn(webElement));
-    }
-
-    private static boolean textIsNumber(WebElement webElement) {
-        try {
-            textInAsNumber(webElement);
-            return true;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+    /* Selected/Deselected */
+    private static boolean isSelected(WebElement webElement) {
+        return instrument(webElement).isSelected();
     }
 
-    private static boolean textIsNotNumber(WebElement webElement) {
-        return !textIsNumber(webElement);
+    private static boolean isDeselected(WebElement webElement) {
+        return !isSelected(webElement);
     }
 
-    public static void assertTextIsNumber(WebElement webElement) {
-        if (textIsNotNumber(webElement)) {
-            throw new WebDriverAssertionError("Element text is not a number", webElement);
+    public static void assertIsSelected(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsSelected");
+        try {
+            if (isDeselected(webElement)) {
+                throw new WebDriverAssertionError("Element is not selected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertTextIsNotNumber(WebElement webElement) {
-        if (textIsNumber(webElement)) {
-            throw new WebDriverAssertionError("Element text is a number when it shouldn't", webElement);
+    public static void assertIsDeselected(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDeselected");
+        try {
+            if (isSelected(webElement)) {
+                throw new WebDriverAssertionError("Element is not deselected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertTextEquals(double number, WebElement webElement) {
-        BotUtils.assertEquals("Text", number, textInAsNumber(webElement), webElement);
+    private static boolean isSelected(ElementSnapshot snapshot) {
+        return snapshot.isSelected();
     }
 
-    public static void assertTextNotEquals(double number, WebElement webElement) {
-        BotUtils.assertNotEquals("Text", number, textInAsNumber(webElement), webElement);
+    private static boolean isDeselected(ElementSnapshot snapshot) {
+        return !isSelected(snapshot);
     }
 
-    public static void assertTextLessThan(double number, WebElement webElement) {
-        BotUtils.assertLessThan("Text", number, textInAsNumber(webElement), webElement);
+    public static void assertIsSelected(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsSelected");
+        try {
+            if (isDeselected(snapshot)) {
+                throw new WebDriverAssertionError("Element is not selected", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextLessThanOrEquals(double number, WebElement webElement) {
-        BotUtils.assertLessThanOrEquals("Text", number, textInAsNumber(webElement), webElement);
+    public static void assertIsDeselected(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDeselected");
+        try {
+            if (isSelected(snapshot)) {
+                throw new WebDriverAssertionError("Element is not deselected", snapshot);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextGreaterThan(double number, WebElement webElement) {
-        BotUtils.assertGreaterThan("Text", number, textInAsNumber(webElement), webElement);
+    public static void assertAllSelected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllSelected");
+        try {
+            BotUtils.assertAll("assertIsSelected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsSelected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertTextGreaterThanOrEquals(double number, WebElement webElement) {
-        BotUtils.assertGreaterThanOrEquals("Text", number, textInAsNumber(webElement), webElement);
+    public static void assertAnySelected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnySelected");
+        try {
+            BotUtils.assertAny("assertIsSelected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsSelected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-
-
-    /* Selected/Deselected */
-    private static boolean isSelected(WebElement webElement) {
-        return webElement.isSelected();
+    public static void assertNoneSelected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneSelected");
+        try {
+            BotUtils.assertNone("assertIsSelected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsSelected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean isDeselected(WebElement webElement) {
-        return !isSelected(webElement);
+    public static void assertAllDeselected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllDeselected");
+        try {
+            BotUtils.assertAll("assertIsDeselected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDeselected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    public static void assertIsSelected(WebElement webElement) {
-        if (isDeselected(webElement)) {
-            throw new WebDriverAssertionError("Element is not selected", webElement);
+    public static void assertAnyDeselected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyDeselected");
+        try {
+            BotUtils.assertAny("assertIsDeselected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDeselected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertIsDeselected(WebElement webElement) {
-        if (isSelected(webElement)) {
-            throw new WebDriverAssertionError("Element is not deselected", webElement);
+    public static void assertNoneDeselected(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneDeselected");
+        try {
+            BotUtils.assertNone("assertIsDeselected()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDeselected(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
 
 
-
     /* Checked/Unchecked */
     private static boolean isChecked(WebElement webElement) {
-        return webElement.isSelected();
+        return instrument(webElement).isSelected();
     }
 
     private static boolean isUnchecked(WebElement webElement) {
@@ -904,355 +6306,550 @@ public class WebDriverAsserts {
     }
 
     public static void assertIsChecked(WebElement webElement) {
-        if (isUnchecked(webElement)) {
-            throw new WebDriverAssertionError("Element is not checked", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsChecked");
+        try {
+            if (isUnchecked(webElement)) {
+                throw new WebDriverAssertionError("Element is not checked", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertIsUnchecked(WebElement webElement) {
-        if (isChecked(webElement)) {
-            throw new WebDriverAssertionError("Element is not unchecked", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsUnchecked");
+        try {
+            if (isChecked(webElement)) {
+                throw new WebDriverAssertionError("Element is not unchecked", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-
-
-    /* Enabled/Disabled */
-    private static boolean isEnabled(WebElement webElement) {
-        return webElement.isEnabled();
+    private static boolean isChecked(ElementSnapshot snapshot) {
+        return snapshot.isSelected();
     }
 
-    private static boolean isDisabled(WebElement webElement) {
-        return !isEnabled(webElement);
+    private static boolean isUnchecked(ElementSnapshot snapshot) {
+        return !isChecked(snapshot);
     }
 
-    public static void assertIsEnabled(WebElement webElement) {
-        if (isDisabled(webElement)) {
-            throw new WebDriverAssertionError("Element is not enabled", webElement);
+    public static void assertIsChecked(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsChecked");
+        try {
+            if (isUnchecked(snapshot)) {
+                throw new WebDriverAssertionError("Element is not checked", snapshot);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertIsDisabled(WebElement webElement) {
-        if (isEnabled(webElement)) {
-            throw new WebDriverAssertionError("Element is not disabled", webElement);
+    public static void assertIsUnchecked(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsUnchecked");
+        try {
+            if (isChecked(snapshot)) {
+                throw new WebDriverAssertionError("Element is not unchecked", snapshot);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-
-
-    /* Option */
-    private static boolean hasOption(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option)) {
-                return true;
-            }
+    public static void assertAllChecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllChecked");
+        try {
+            BotUtils.assertAll("assertIsChecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsChecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean hasNotOption(String text, WebElement webElement) {
-        return !hasOption(text, webElement);
+    public static void assertAnyChecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyChecked");
+        try {
+            BotUtils.assertAny("assertIsChecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsChecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean optionIsEnabled(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isEnabled(option)) {
-                return true;
-            }
+    public static void assertNoneChecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneChecked");
+        try {
+            BotUtils.assertNone("assertIsChecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsChecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionIsDisabled(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isDisabled(option)) {
-                return true;
-            }
+    public static void assertAllUnchecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllUnchecked");
+        try {
+            BotUtils.assertAll("assertIsUnchecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsUnchecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionIsSelected(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isSelected(option)) {
-                return true;
-            }
+    public static void assertAnyUnchecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyUnchecked");
+        try {
+            BotUtils.assertAny("assertIsUnchecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsUnchecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionIsDeselected(String text, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (textEquals(text, option) && isDeselected(option)) {
-                return true;
-            }
+    public static void assertNoneUnchecked(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneUnchecked");
+        try {
+            BotUtils.assertNone("assertIsUnchecked()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsUnchecked(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean allOptionsAreSelected(WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (isDeselected(option)) {
-                return false;
+
+
+    /* Enabled/Disabled */
+    private static boolean isEnabled(WebElement webElement) {
+        return instrument(webElement).isEnabled();
+    }
+
+    private static boolean isDisabled(WebElement webElement) {
+        return !isEnabled(webElement);
+    }
+
+    public static void assertIsEnabled(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsEnabled");
+        try {
+            if (isDisabled(webElement)) {
+                throw new WebDriverAssertionError("Element is not enabled", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return true;
     }
 
-    private static boolean noOptionIsSelected(WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (isSelected(option)) {
-                return false;
+    public static void assertIsDisabled(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDisabled");
+        try {
+            if (isEnabled(webElement)) {
+                throw new WebDriverAssertionError("Element is not disabled", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return true;
     }
 
-    public static void assertHasOption(String text, WebElement webElement) {
-        if (hasNotOption(text, webElement)) {
-            throw new WebDriverAssertionError("Element has no option " + quote(text.trim()), webElement);
+    private static boolean isEnabled(ElementSnapshot snapshot) {
+        return snapshot.isEnabled();
+    }
+
+    private static boolean isDisabled(ElementSnapshot snapshot) {
+        return !isEnabled(snapshot);
+    }
+
+    public static void assertIsEnabled(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsEnabled");
+        try {
+            if (isDisabled(snapshot)) {
+                throw new WebDriverAssertionError("Element is not enabled", snapshot);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotOption(String text, WebElement webElement) {
-        if (hasOption(text, webElement)) {
-            throw new WebDriverAssertionError("Element has option " + quote(text.trim()) + " when it shouldn't", webElement);
+    public static void assertIsDisabled(ElementSnapshot snapshot) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertIsDisabled");
+        try {
+            if (isEnabled(snapshot)) {
+                throw new WebDriverAssertionError("Element is not disabled", snapshot);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionIsEnabled(String text, WebElement webElement) {
-        assertHasOption(text, webElement);
-        if (optionIsDisabled(text, webElement)) {
-            throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not enabled", webElement);
+    public static void assertAllEnabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllEnabled");
+        try {
+            BotUtils.assertAll("assertIsEnabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsEnabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionIsDisabled(String text, WebElement webElement) {
-        assertHasOption(text, webElement);
-        if (optionIsEnabled(text, webElement)) {
-            throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not disabled", webElement);
+    public static void assertAnyEnabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyEnabled");
+        try {
+            BotUtils.assertAny("assertIsEnabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsEnabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionIsSelected(String text, WebElement webElement) {
-        assertHasOption(text, webElement);
-        if (optionIsDeselected(text, webElement)) {
-            throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not selected", webElement);
+    public static void assertNoneEnabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneEnabled");
+        try {
+            BotUtils.assertNone("assertIsEnabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsEnabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionIsDeselected(String text, WebElement webElement) {
-        assertHasOption(text, webElement);
-        if (optionIsSelected(text, webElement)) {
-            throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not deselected", webElement);
+    public static void assertAllDisabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllDisabled");
+        try {
+            BotUtils.assertAll("assertIsDisabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertAllOptionsAreSelected(WebElement webElement) {
-        if (!allOptionsAreSelected(webElement)) {
-            throw new WebDriverAssertionError("All options are not selected", webElement);
+    public static void assertAnyDisabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAnyDisabled");
+        try {
+            BotUtils.assertAny("assertIsDisabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertNoOptionIsSelected(WebElement webElement) {
-        if (!noOptionIsSelected(webElement)) {
-            throw new WebDriverAssertionError("All options are not deselected", webElement);
+    public static void assertNoneDisabled(List<WebElement> webElements) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoneDisabled");
+        try {
+            BotUtils.assertNone("assertIsDisabled()", webElements, new BotUtils.SnapshotAssert() {
+                @Override
+                public void assertOn(ElementSnapshot snapshot) {
+                    assertIsDisabled(snapshot);
+                }
+            });
+        } finally {
+            invocation.end();
         }
     }
 
 
 
-    /* Option Value */
-    private static boolean hasOptionWithValue(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option)) {
-                return true;
-            }
+    /* Option */
+    private static void assertHasOption(String text, SelectSnapshot select, WebElement webElement) {
+        if (!select.hasOption(text)) {
+            throw new WebDriverAssertionError("Element has no option " + quote(text.trim()), webElement);
         }
-        return false;
     }
 
-    private static boolean hasNotOptionWithValue(String value, WebElement webElement) {
-        return !hasOptionWithValue(value, webElement);
+    public static void assertHasOption(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasOption");
+        try {
+            assertHasOption(text, selectSnapshotOf(webElement), webElement);
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean optionWithValueIsEnabled(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isEnabled(option)) {
-                return true;
+    public static void assertHasNotOption(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotOption");
+        try {
+            if (selectSnapshotOf(webElement).hasOption(text)) {
+                throw new WebDriverAssertionError("Element has option " + quote(text.trim()) + " when it shouldn't", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionWithValueIsDisabled(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isDisabled(option)) {
-                return true;
+    public static void assertOptionIsEnabled(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionIsEnabled");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOption(text, select, webElement);
+            if (select.optionIsDisabled(text)) {
+                throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not enabled", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionWithValueIsSelected(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isSelected(option)) {
-                return true;
+    public static void assertOptionIsDisabled(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionIsDisabled");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOption(text, select, webElement);
+            if (select.optionIsEnabled(text)) {
+                throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not disabled", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    private static boolean optionWithValueIsDeselected(String value, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        for (WebElement option : options) {
-            if (valueEquals(value, option) && isDeselected(option)) {
-                return true;
+    public static void assertOptionIsSelected(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionIsSelected");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOption(text, select, webElement);
+            if (select.optionIsDeselected(text)) {
+                throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not selected", webElement);
             }
+        } finally {
+            invocation.end();
         }
-        return false;
     }
 
-    public static void assertHasOptionWithValue(String value, WebElement webElement) {
-        if (hasNotOptionWithValue(value, webElement)) {
-            throw new WebDriverAssertionError("Element has no option with value " + quote(value.trim()), webElement);
+    public static void assertOptionIsDeselected(String text, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionIsDeselected");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOption(text, select, webElement);
+            if (select.optionIsSelected(text)) {
+                throw new WebDriverAssertionError("Option " + quote(text.trim()) + " is not deselected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertHasNotOptionWithValue(String value, WebElement webElement) {
-        if (hasOptionWithValue(value, webElement)) {
-            throw new WebDriverAssertionError("Element has option with value " + quote(value.trim()) + " when it shouldn't", webElement);
+    public static void assertAllOptionsAreSelected(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertAllOptionsAreSelected");
+        try {
+            if (!selectSnapshotOf(webElement).allOptionsAreSelected()) {
+                throw new WebDriverAssertionError("All options are not selected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionWithValueIsEnabled(String value, WebElement webElement) {
-        assertHasOptionWithValue(value, webElement);
-        if (optionWithValueIsDisabled(value, webElement)) {
-            throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not enabled", webElement);
+    public static void assertNoOptionIsSelected(WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertNoOptionIsSelected");
+        try {
+            if (!selectSnapshotOf(webElement).noOptionIsSelected()) {
+                throw new WebDriverAssertionError("All options are not deselected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    public static void assertOptionWithValueIsDisabled(String value, WebElement webElement) {
-        assertHasOptionWithValue(value, webElement);
-        if (optionWithValueIsEnabled(value, webElement)) {
-            throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not disabled", webElement);
-        }
-    }
 
-    public static void assertOptionWithValueIsSelected(String value, WebElement webElement) {
-        assertHasOptionWithValue(value, webElement);
-        if (optionWithValueIsDeselected(value, webElement)) {
-            throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not selected", webElement);
+
+    /* Option Value */
+    private static void assertHasOptionWithValue(String value, SelectSnapshot select, WebElement webElement) {
+        if (!select.hasOptionWithValue(value)) {
+            throw new WebDriverAssertionError("Element has no option with value " + quote(value.trim()), webElement);
         }
     }
 
-    public static void assertOptionWithValueIsDeselected(String value, WebElement webElement) {
-        assertHasOptionWithValue(value, webElement);
-        if (optionWithValueIsSelected(value, webElement)) {
-            throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not deselected", webElement);
+    public static void assertHasOptionWithValue(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasOptionWithValue");
+        try {
+            assertHasOptionWithValue(value, selectSnapshotOf(webElement), webElement);
+        } finally {
+            invocation.end();
         }
     }
 
-
-
-    /* Option Index */
-    private static boolean hasOptionWithIndex(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+    public static void assertHasNotOptionWithValue(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotOptionWithValue");
         try {
-            return options.get(index) != null;
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            if (selectSnapshotOf(webElement).hasOptionWithValue(value)) {
+                throw new WebDriverAssertionError("Element has option with value " + quote(value.trim()) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    private static boolean hasNotOptionWithIndex(int index, WebElement webElement) {
-        return !hasOptionWithIndex(index, webElement);
+    public static void assertOptionWithValueIsEnabled(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithValueIsEnabled");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithValue(value, select, webElement);
+            if (select.optionWithValueIsDisabled(value)) {
+                throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not enabled", webElement);
+            }
+        } finally {
+            invocation.end();
+        }
     }
 
-    private static boolean optionWithIndexIsEnabled(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+    public static void assertOptionWithValueIsDisabled(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithValueIsDisabled");
         try {
-            return isEnabled(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithValue(value, select, webElement);
+            if (select.optionWithValueIsEnabled(value)) {
+                throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not disabled", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    private static boolean optionWithIndexIsDisabled(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+    public static void assertOptionWithValueIsSelected(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithValueIsSelected");
         try {
-            return isDisabled(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithValue(value, select, webElement);
+            if (select.optionWithValueIsDeselected(value)) {
+                throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not selected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    private static boolean optionWithIndexIsSelected(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
+    public static void assertOptionWithValueIsDeselected(String value, WebElement webElement) {
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithValueIsDeselected");
         try {
-            return isSelected(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithValue(value, select, webElement);
+            if (select.optionWithValueIsSelected(value)) {
+                throw new WebDriverAssertionError("Option with value " + quote(value.trim()) + " is not deselected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
-    private static boolean optionWithIndexIsDeselected(int index, WebElement webElement) {
-        List<WebElement> options = new Select(webElement).getOptions();
-        try {
-            return isDeselected(options.get(index));
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+
+
+    /* Option Index */
+    private static void assertHasOptionWithIndex(int index, SelectSnapshot select, WebElement webElement) {
+        if (!select.hasOptionWithIndex(index)) {
+            throw new WebDriverAssertionError("Element  has no option with index " + quote(index), webElement);
         }
     }
 
     public static void assertHasOptionWithIndex(int index, WebElement webElement) {
-        if (hasNotOptionWithIndex(index, webElement)) {
-            throw new WebDriverAssertionError("Element  has no option with index " + quote(index), webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasOptionWithIndex");
+        try {
+            assertHasOptionWithIndex(index, selectSnapshotOf(webElement), webElement);
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertHasNotOptionWithIndex(int index, WebElement webElement) {
-        if (hasOptionWithIndex(index, webElement)) {
-            throw new WebDriverAssertionError("Element has option with index " + quote(index) + " when it shouldn't", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertHasNotOptionWithIndex");
+        try {
+            if (selectSnapshotOf(webElement).hasOptionWithIndex(index)) {
+                throw new WebDriverAssertionError("Element has option with index " + quote(index) + " when it shouldn't", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertOptionWithIndexIsEnabled(int index, WebElement webElement) {
-        assertHasOptionWithIndex(index, webElement);
-        if (optionWithIndexIsDisabled(index, webElement)) {
-            throw new WebDriverAssertionError("Option with index " + quote(index) + " is not enabled", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithIndexIsEnabled");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithIndex(index, select, webElement);
+            if (select.optionWithIndexIsDisabled(index)) {
+                throw new WebDriverAssertionError("Option with index " + quote(index) + " is not enabled", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertOptionWithIndexIsDisabled(int index, WebElement webElement) {
-        assertHasOptionWithIndex(index, webElement);
-        if (optionWithIndexIsEnabled(index, webElement)) {
-            throw new WebDriverAssertionError("Option with index " + quote(index) + " is not disabled", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithIndexIsDisabled");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithIndex(index, select, webElement);
+            if (select.optionWithIndexIsEnabled(index)) {
+                throw new WebDriverAssertionError("Option with index " + quote(index) + " is not disabled", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertOptionWithIndexIsSelected(int index, WebElement webElement) {
-        assertHasOptionWithIndex(index, webElement);
-        if (optionWithIndexIsDeselected(index, webElement)) {
-            throw new WebDriverAssertionError("Option with index " + quote(index) + " is not selected", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithIndexIsSelected");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithIndex(index, select, webElement);
+            if (select.optionWithIndexIsDeselected(index)) {
+                throw new WebDriverAssertionError("Option with index " + quote(index) + " is not selected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 
     public static void assertOptionWithIndexIsDeselected(int index, WebElement webElement) {
-        assertHasOptionWithIndex(index, webElement);
-        if (optionWithIndexIsSelected(index, webElement)) {
-            throw new WebDriverAssertionError("Option with index " + quote(index) + " is not deselected", webElement);
+        Invocation invocation = Invocation.start("WebDriverAsserts.assertOptionWithIndexIsDeselected");
+        try {
+            SelectSnapshot select = selectSnapshotOf(webElement);
+            assertHasOptionWithIndex(index, select, webElement);
+            if (select.optionWithIndexIsSelected(index)) {
+                throw new WebDriverAssertionError("Option with index " + quote(index) + " is not deselected", webElement);
+            }
+        } finally {
+            invocation.end();
         }
     }
 }
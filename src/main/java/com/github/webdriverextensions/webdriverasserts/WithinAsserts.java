@@ -0,0 +1,3149 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.internal.BotUtils;
+import com.github.webdriverextensions.webdriverasserts.internal.Instrumentation;
+import com.github.webdriverextensions.webdriverasserts.internal.Invocation;
+import com.github.webdriverextensions.webdriverasserts.internal.Poller;
+import com.github.webdriverextensions.webdriverasserts.internal.Poller.Condition;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import static com.github.webdriverextensions.webdriverasserts.WebDriverActions.*;
+
+/**
+ * Asserts that wait for the asserted state. Get one with
+ * {@link WebDriverAsserts#within(double, TimeUnit)}.
+ *
+ * <p>Each assert polls the same predicate as the matching
+ * {@link WebDriverActions} method with an exponentially growing, jittered
+ * delay (see {@link Poller}) until it holds. Only when the time is up is the
+ * matching {@link WebDriverAsserts} assert run, so a
+ * {@link WebDriverAssertionError} is built at most once per assert.</p>
+ *
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * {@code
+ * within(5, SECONDS).assertTextEquals("Saved", statusSpan);}</pre>
+ * </p>
+ */
+public class WithinAsserts {
+
+    private final double time;
+    private final TimeUnit unit;
+
+    WithinAsserts(double time, TimeUnit unit) {
+        this.time = time;
+        this.unit = unit;
+    }
+
+    private boolean poll(Condition condition) {
+        return Poller.poll(condition, time, unit);
+    }
+
+    private static String currentUrl() {
+        return Instrumentation.instrument(WebDriverAsserts.getDriver()).getCurrentUrl();
+    }
+
+    private static String title() {
+        return Instrumentation.instrument(WebDriverAsserts.getDriver()).getTitle();
+    }
+
+
+
+    /* Is Displayed */
+    public void assertIsDisplayed(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsDisplayed");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isDisplayed(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsDisplayed(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsNotDisplayed(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsNotDisplayed");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isNotDisplayed(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsNotDisplayed(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Size */
+    public void assertSizeEquals(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeEquals(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeEquals(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeNotEquals(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeNotEquals(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeNotEquals(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeLessThan(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeLessThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeLessThan(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeLessThan(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeLessThanOrEquals(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeLessThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeLessThanOrEquals(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeLessThanOrEquals(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeGreaterThan(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeGreaterThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeGreaterThan(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeGreaterThan(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertSizeGreaterThanOrEquals(final int number, final Collection collection) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertSizeGreaterThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return sizeGreaterThanOrEquals(number, collection);
+                }
+            })) {
+                WebDriverAsserts.assertSizeGreaterThanOrEquals(number, collection);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Count */
+    public void assertCountEquals(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countEquals(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountEquals(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountNotEquals(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countNotEquals(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountNotEquals(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountLessThan(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountLessThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countLessThan(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountLessThan(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountLessThanOrEquals(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountLessThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countLessThanOrEquals(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountLessThanOrEquals(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountGreaterThan(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountGreaterThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countGreaterThan(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountGreaterThan(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCountGreaterThanOrEquals(final int number, final By by) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCountGreaterThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return countGreaterThanOrEquals(number, by);
+                }
+            })) {
+                WebDriverAsserts.assertCountGreaterThanOrEquals(number, by);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Current Url */
+    public void assertCurrentUrlEquals(final String url) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.isEqual(url, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlEquals(url);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotEquals(final String url) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notEquals(url, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotEquals(url);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlContains(final String searchText) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.contains(searchText, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlContains(searchText);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotContains(final String searchText) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notContains(searchText, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotContains(searchText);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlStartsWith(final String prefix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.startsWith(prefix, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlStartsWith(prefix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotStartsWith(final String prefix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notStartsWith(prefix, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotStartsWith(prefix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlEndsWith(final String suffix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.endsWith(suffix, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlEndsWith(suffix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotEndsWith(final String suffix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notEndsWith(suffix, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotEndsWith(suffix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlMatches(final String regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.matches(regExp, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlMatches(final Pattern regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.matches(regExp, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotMatches(final String regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notMatches(regExp, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertCurrentUrlNotMatches(final Pattern regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertCurrentUrlNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notMatches(regExp, currentUrl());
+                }
+            })) {
+                WebDriverAsserts.assertCurrentUrlNotMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Title */
+    public void assertTitleEquals(final String title) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.isEqual(title, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleEquals(title);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotEquals(final String title) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notEquals(title, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotEquals(title);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleContains(final String searchText) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.contains(searchText, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleContains(searchText);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotContains(final String searchText) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notContains(searchText, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotContains(searchText);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleStartsWith(final String prefix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.startsWith(prefix, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleStartsWith(prefix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotStartsWith(final String prefix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notStartsWith(prefix, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotStartsWith(prefix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleEndsWith(final String suffix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.endsWith(suffix, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleEndsWith(suffix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotEndsWith(final String suffix) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notEndsWith(suffix, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotEndsWith(suffix);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleMatches(final String regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.matches(regExp, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleMatches(final Pattern regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.matches(regExp, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotMatches(final String regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notMatches(regExp, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTitleNotMatches(final Pattern regExp) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTitleNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return BotUtils.notMatches(regExp, title());
+                }
+            })) {
+                WebDriverAsserts.assertTitleNotMatches(regExp);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Tag Name */
+    public void assertTagNameEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTagNameEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return tagNameEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTagNameEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTagNameNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTagNameNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return tagNameNotEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTagNameNotEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Attribute */
+    public void assertHasAttribute(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasAttribute");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasAttribute(name, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasAttribute(name, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotAttribute(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotAttribute");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotAttribute(name, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotAttribute(name, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEquals(final String name, final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeEquals(name, value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeEquals(name, value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEquals(final String name, final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotEquals(name, value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotEquals(name, value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeContains(final String name, final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeContains(name, searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeContains(name, searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotContains(final String name, final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotContains(name, searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotContains(name, searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeStartsWith(final String name, final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeStartsWith(name, prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeStartsWith(name, prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotStartsWith(final String name, final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotStartsWith(name, prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotStartsWith(name, prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEndsWith(final String name, final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeEndsWith(name, suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeEndsWith(name, suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEndsWith(final String name, final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotEndsWith(name, suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotEndsWith(name, suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeMatches(final String name, final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeMatches(name, regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeMatches(name, regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeMatches(name, regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotMatches(final String name, final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotMatches(name, regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotMatches(final String name, final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotMatches(name, regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotMatches(name, regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Attribute as Number */
+    public void assertAttributeIsNumber(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeIsNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeIsNumber(name, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeIsNumber(name, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeIsNotNumber(final String name, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeIsNotNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeIsNotNumber(name, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeIsNotNumber(name, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeEquals(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeEquals(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeNotEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeNotEquals(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeNotEquals(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeLessThan(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeLessThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeLessThan(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeLessThan(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeLessThanOrEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeLessThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeLessThanOrEquals(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeLessThanOrEquals(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeGreaterThan(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeGreaterThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeGreaterThan(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeGreaterThan(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAttributeGreaterThanOrEquals(final String name, final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAttributeGreaterThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return attributeGreaterThanOrEquals(name, number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertAttributeGreaterThanOrEquals(name, number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Id */
+    public void assertIdEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIdNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIdNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return idNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIdNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Name */
+    public void assertNameEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNameNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNameNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return nameNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertNameNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Class */
+    public void assertHasClass(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClass");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClass(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClass(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClass(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClass");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClass(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClass(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClass(final String className, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClass");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClass(className, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClass(className, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClass(final String className, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClass");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClass(className, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClass(className, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassContaining(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClassContaining");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClassContaining(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClassContaining(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassContaining(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClassContaining");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClassContaining(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClassContaining(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassStartingWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClassStartingWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClassStartingWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClassStartingWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassStartingWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClassStartingWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClassStartingWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClassStartingWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassEndingWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClassEndingWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClassEndingWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClassEndingWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassEndingWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClassEndingWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClassEndingWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClassEndingWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassMatching(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClassMatching");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClassMatching(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasClassMatching(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasClassMatching");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasClassMatching(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasClassMatching(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassMatching(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClassMatching");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClassMatching(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotClassMatching(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotClassMatching");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotClassMatching(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotClassMatching(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value */
+    public void assertValueEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Value as Number */
+    public void assertValueIsNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueIsNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueIsNumber(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueIsNumber(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueIsNotNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueIsNotNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueIsNotNumber(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueIsNotNumber(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueNotEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueNotEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueNotEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueLessThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueLessThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueLessThan(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueLessThan(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueLessThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueLessThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueLessThanOrEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueLessThanOrEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueGreaterThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueGreaterThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueGreaterThan(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueGreaterThan(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertValueGreaterThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertValueGreaterThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return valueGreaterThanOrEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertValueGreaterThanOrEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Href */
+    public void assertHrefEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotEquals(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotEquals(value, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotEquals(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHrefNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHrefNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hrefNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHrefNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Text */
+    public void assertHasText(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasText");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasText(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasText(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotText(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotText");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return hasNotText(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotText(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEquals(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textEquals(text, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextEquals(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEquals(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotEquals(text, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotEquals(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEqualsIgnoreCase(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextEqualsIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textEqualsIgnoreCase(text, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextEqualsIgnoreCase(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEqualsIgnoreCase(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotEqualsIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotEqualsIgnoreCase(text, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotEqualsIgnoreCase(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotContains(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotContains");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotContains(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotContains(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextContainsIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textContainsIgnoreCase(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextContainsIgnoreCase(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotContainsIgnoreCase(final String searchText, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotContainsIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotContainsIgnoreCase(searchText, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotContainsIgnoreCase(searchText, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotStartsWith(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotStartsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotStartsWith(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotStartsWith(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextStartsWithIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textStartsWithIgnoreCase(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextStartsWithIgnoreCase(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotStartsWithIgnoreCase(final String prefix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotStartsWithIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotStartsWithIgnoreCase(prefix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotStartsWithIgnoreCase(prefix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEndsWith(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotEndsWith");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotEndsWith(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotEndsWith(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextEndsWithIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textEndsWithIgnoreCase(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextEndsWithIgnoreCase(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEndsWithIgnoreCase(final String suffix, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotEndsWithIgnoreCase");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotEndsWithIgnoreCase(suffix, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotEndsWithIgnoreCase(suffix, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotMatches(final String regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotMatches(final Pattern regExp, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotMatches");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotMatches(regExp, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotMatches(regExp, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Text as Number */
+    public void assertTextIsNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextIsNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textIsNumber(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextIsNumber(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextIsNotNumber(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextIsNotNumber");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textIsNotNumber(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextIsNotNumber(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextNotEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextNotEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textNotEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextNotEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextLessThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextLessThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textLessThan(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextLessThan(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextLessThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextLessThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textLessThanOrEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextLessThanOrEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextGreaterThan(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextGreaterThan");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textGreaterThan(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextGreaterThan(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertTextGreaterThanOrEquals(final double number, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertTextGreaterThanOrEquals");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return textGreaterThanOrEquals(number, webElement);
+                }
+            })) {
+                WebDriverAsserts.assertTextGreaterThanOrEquals(number, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Selected/Deselected */
+    public void assertIsSelected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isSelected(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsSelected(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsDeselected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsDeselected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isDeselected(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsDeselected(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Checked/Unchecked */
+    public void assertIsChecked(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsChecked");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isChecked(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsChecked(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsUnchecked(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsUnchecked");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isUnchecked(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsUnchecked(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Enabled/Disabled */
+    public void assertIsEnabled(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsEnabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isEnabled(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsEnabled(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertIsDisabled(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertIsDisabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    return isDisabled(webElement);
+                }
+            })) {
+                WebDriverAsserts.assertIsDisabled(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option */
+    public void assertHasOption(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasOption");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOption(text);
+                }
+            })) {
+                WebDriverAsserts.assertHasOption(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOption(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotOption");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return !select.hasOption(text);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotOption(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsEnabled(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionIsEnabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOption(text) && !select.optionIsDisabled(text);
+                }
+            })) {
+                WebDriverAsserts.assertOptionIsEnabled(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsDisabled(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionIsDisabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOption(text) && !select.optionIsEnabled(text);
+                }
+            })) {
+                WebDriverAsserts.assertOptionIsDisabled(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsSelected(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionIsSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOption(text) && !select.optionIsDeselected(text);
+                }
+            })) {
+                WebDriverAsserts.assertOptionIsSelected(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionIsDeselected(final String text, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionIsDeselected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOption(text) && !select.optionIsSelected(text);
+                }
+            })) {
+                WebDriverAsserts.assertOptionIsDeselected(text, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertAllOptionsAreSelected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertAllOptionsAreSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.allOptionsAreSelected();
+                }
+            })) {
+                WebDriverAsserts.assertAllOptionsAreSelected(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertNoOptionIsSelected(final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertNoOptionIsSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.noOptionIsSelected();
+                }
+            })) {
+                WebDriverAsserts.assertNoOptionIsSelected(webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option Value */
+    public void assertHasOptionWithValue(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasOptionWithValue");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithValue(value);
+                }
+            })) {
+                WebDriverAsserts.assertHasOptionWithValue(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOptionWithValue(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotOptionWithValue");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return !select.hasOptionWithValue(value);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotOptionWithValue(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsEnabled(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithValueIsEnabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithValue(value) && !select.optionWithValueIsDisabled(value);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithValueIsEnabled(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsDisabled(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithValueIsDisabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithValue(value) && !select.optionWithValueIsEnabled(value);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithValueIsDisabled(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsSelected(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithValueIsSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithValue(value) && !select.optionWithValueIsDeselected(value);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithValueIsSelected(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithValueIsDeselected(final String value, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithValueIsDeselected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithValue(value) && !select.optionWithValueIsSelected(value);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithValueIsDeselected(value, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+
+
+    /* Option Index */
+    public void assertHasOptionWithIndex(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasOptionWithIndex");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithIndex(index);
+                }
+            })) {
+                WebDriverAsserts.assertHasOptionWithIndex(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertHasNotOptionWithIndex(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertHasNotOptionWithIndex");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return !select.hasOptionWithIndex(index);
+                }
+            })) {
+                WebDriverAsserts.assertHasNotOptionWithIndex(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsEnabled(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithIndexIsEnabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithIndex(index) && !select.optionWithIndexIsDisabled(index);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithIndexIsEnabled(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsDisabled(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithIndexIsDisabled");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithIndex(index) && !select.optionWithIndexIsEnabled(index);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithIndexIsDisabled(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsSelected(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithIndexIsSelected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithIndex(index) && !select.optionWithIndexIsDeselected(index);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithIndexIsSelected(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+
+    public void assertOptionWithIndexIsDeselected(final int index, final WebElement webElement) {
+        Invocation invocation = Invocation.start("WithinAsserts.assertOptionWithIndexIsDeselected");
+        try {
+            if (!poll(new Condition() {
+                @Override
+                public boolean holds() {
+                    SelectSnapshot select = BotUtils.selectSnapshotOf(webElement);
+                    return select.hasOptionWithIndex(index) && !select.optionWithIndexIsSelected(index);
+                }
+            })) {
+                WebDriverAsserts.assertOptionWithIndexIsDeselected(index, webElement);
+            }
+        } finally {
+            invocation.end();
+        }
+    }
+}
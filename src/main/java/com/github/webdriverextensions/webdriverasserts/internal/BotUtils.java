@@ -1,34 +1,96 @@
 package com.github.webdriverextensions.webdriverasserts.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+import com.github.webdriverextensions.webdriverasserts.DriverContext;
+import com.github.webdriverextensions.webdriverasserts.ElementSnapshot;
+import com.github.webdriverextensions.webdriverasserts.SelectSnapshot;
 import com.github.webdriverextensions.webdriverasserts.WebDriverAssertionError;
-import com.github.webdriverextensions.webdriverasserts.WebDriverAsserts;
 import org.apache.commons.lang3.StringUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
 
 public class BotUtils {
 
     private BotUtils() {}
 
     /* Html */
+    /**
+     * The maximum number of characters of inner html included when an
+     * element is rendered as html. Can be changed by setting the system
+     * property {@code webdriverextensions.htmlmaxlength}.
+     */
+    public static final int DEFAULT_HTML_MAX_LENGTH = 2000;
+
+    private static final String HTML_SCRIPT =
+            "var element = arguments[0];"
+            + "var maxLength = arguments[1];"
+            + "var attrsString = '';"
+            + "for (var attr, i=0, attrs=element.attributes, l=attrs.length; i<l; i++) {"
+            + "    var attr = attrs.item(i);"
+            + "    if (i != 0) {"
+            + "        attrsString = attrsString + ' ';"
+            + "    }"
+            + "    attrsString = attrsString + attr.nodeName + '=\"' + attr.nodeValue + '\"';"
+            + "}"
+            + "var innerHtml = element.innerHTML;"
+            + "return {"
+            + "    tagName: element.tagName.toLowerCase(),"
+            + "    attributes: attrsString,"
+            + "    innerHtml: innerHtml.length > maxLength ? innerHtml.substring(0, maxLength) : innerHtml,"
+            + "    truncated: innerHtml.length > maxLength"
+            + "};";
+
+    public static int htmlMaxLength() {
+        return Integer.getInteger("webdriverextensions.htmlmaxlength", DEFAULT_HTML_MAX_LENGTH);
+    }
+
     public static String htmlOf(WebElement webElement) {
         if (webElement == null) {
             return "Element is null";
         }
-        String innerHtml = innerHtmlOf(webElement);
+        return htmlOf(webElement, DriverContext.get().driver());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static String htmlOf(WebElement webElement, WebDriver driver) {
+        if (webElement == null) {
+            return "Element is null";
+        }
+        Map<String, Object> html = (Map<String, Object>) executeJavascript(driver, HTML_SCRIPT, webElement, htmlMaxLength());
+        String tagName = (String) html.get("tagName");
+        String attributes = (String) html.get("attributes");
+        String innerHtml = (String) html.get("innerHtml");
+        if (Boolean.TRUE.equals(html.get("truncated"))) {
+            innerHtml = innerHtml + "...";
+        }
         if (StringUtils.isBlank(innerHtml)) {
-            return "<" + tagNameOf(webElement) + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.prependSpaceIfNotBlank(attributesIn(webElement)) + " />";
+            return "<" + tagName + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.prependSpaceIfNotBlank(attributes) + " />";
         }
-        return "<" + tagNameOf(webElement) + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.prependSpaceIfNotBlank(attributesIn(webElement)) + ">"
+        return "<" + tagName + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.prependSpaceIfNotBlank(attributes) + ">"
                 + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.surroundNewLinesIfContainsNewLine(innerHtml)
-                + "</" + tagNameOf(webElement) + ">";
+                + "</" + tagName + ">";
+
+    }
 
+    public static String htmlOf(ElementSnapshot snapshot) {
+        if (snapshot == null) {
+            return "Element is null";
+        }
+        return "<" + snapshot.getTagName() + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.prependSpaceIfNotBlank(attributesIn(snapshot)) + " />";
     }
 
     public static String tagNameOf(WebElement webElement) {
-        return webElement.getTagName();
+        return Instrumentation.instrument(webElement).getTagName();
     }
 
     public static String innerHtmlOf(WebElement webElement) {
@@ -39,7 +101,11 @@ public class BotUtils {
 
     /* Execute Javascript */
     public static Object executeJavascript(String script, Object... arguments) {
-        return ((JavascriptExecutor) WebDriverAsserts.getDriver()).executeScript(script, arguments);
+        return DriverContext.get().javascriptExecutor().executeScript(script, arguments);
+    }
+
+    public static Object executeJavascript(WebDriver driver, String script, Object... arguments) {
+        return ((JavascriptExecutor) Instrumentation.instrument(driver)).executeScript(script, arguments);
     }
 
 
@@ -60,6 +126,426 @@ public class BotUtils {
 
 
 
+    public static String attributesIn(ElementSnapshot snapshot) {
+        StringBuilder attrsString = new StringBuilder();
+        for (Map.Entry<String, String> attribute : snapshot.getAttributes().entrySet()) {
+            if (attrsString.length() != 0) {
+                attrsString.append(' ');
+            }
+            attrsString.append(attribute.getKey()).append("=\"").append(attribute.getValue()).append('"');
+        }
+        return attrsString.toString();
+    }
+
+
+
+    /* Snapshot */
+    /**
+     * Javascript functions {@code isShown(element)} and {@code hasSize(element)}
+     * approximating {@link WebElement#isDisplayed()} in the page.
+     */
+    static final String IS_SHOWN_FUNCTION =
+            "function isShown(e) {"
+            + "    var tagName = e.tagName.toLowerCase();"
+            + "    if (tagName == 'option' || tagName == 'optgroup') {"
+            + "        var select = e.parentElement;"
+            + "        while (select && select.tagName.toLowerCase() != 'select') {"
+            + "            select = select.parentElement;"
+            + "        }"
+            + "        return !!select && isShown(select);"
+            + "    }"
+            + "    if (tagName == 'input' && String(e.type).toLowerCase() == 'hidden' || tagName == 'noscript') {"
+            + "        return false;"
+            + "    }"
+            + "    if (!e.ownerDocument.documentElement.contains(e)) {"
+            + "        return false;"
+            + "    }"
+            + "    for (var n = e; n && n.nodeType == 1; n = n.parentElement) {"
+            + "        var style = window.getComputedStyle(n);"
+            + "        if (style.display == 'none' || style.opacity == '0') {"
+            + "            return false;"
+            + "        }"
+            + "    }"
+            + "    var visibility = window.getComputedStyle(e).visibility;"
+            + "    if (visibility == 'hidden' || visibility == 'collapse') {"
+            + "        return false;"
+            + "    }"
+            + "    return hasSize(e);"
+            + "}"
+            + "function hasSize(e) {"
+            + "    var rect = e.getBoundingClientRect();"
+            + "    if (rect.width > 0 && rect.height > 0) {"
+            + "        return true;"
+            + "    }"
+            + "    for (var i = 0; i < e.children.length; i++) {"
+            + "        if (hasSize(e.children[i])) {"
+            + "            return true;"
+            + "        }"
+            + "    }"
+            + "    return false;"
+            + "}";
+
+    /**
+     * Javascript function {@code attributeOf(element, name)} resolving an
+     * attribute like {@link WebElement#getAttribute(String)}, i.e. the
+     * property if it is a string, number or boolean, the absolute url for the
+     * {@code href} of links and the {@code src} of images and "true" or null
+     * for boolean attributes.
+     */
+    private static final String ATTRIBUTE_FUNCTION =
+            "var BOOLEAN_ATTRIBUTES = ['allowfullscreen', 'allowpaymentrequest', 'allowusermedia', 'async', 'autofocus',"
+            + "        'autoplay', 'checked', 'compact', 'complete', 'controls', 'declare', 'default', 'defaultchecked',"
+            + "        'defaultselected', 'defer', 'disabled', 'draggable', 'ended', 'formnovalidate', 'hidden',"
+            + "        'indeterminate', 'iscontenteditable', 'ismap', 'itemscope', 'loop', 'multiple', 'muted', 'nohref',"
+            + "        'noresize', 'noshade', 'novalidate', 'nowrap', 'open', 'paused', 'pubdate', 'readonly', 'required',"
+            + "        'reversed', 'scoped', 'seamless', 'seeking', 'selected', 'spellcheck', 'truespeed', 'willvalidate'];"
+            + "function isSelectable(e) {"
+            + "    var tagName = e.tagName.toLowerCase();"
+            + "    return tagName == 'option' || tagName == 'input' && /^(checkbox|radio)$/i.test(e.type);"
+            + "}"
+            + "function attributeOf(e, attribute) {"
+            + "    var name = attribute.toLowerCase();"
+            + "    var tagName = e.tagName.toLowerCase();"
+            + "    if (name == 'style') {"
+            + "        return e.style && typeof e.style.cssText == 'string' ? e.style.cssText : e.getAttribute(attribute);"
+            + "    }"
+            + "    if ((name == 'selected' || name == 'checked') && isSelectable(e)) {"
+            + "        return isSelected(e) ? 'true' : null;"
+            + "    }"
+            + "    if (tagName == 'img' && name == 'src' || tagName == 'a' && name == 'href') {"
+            + "        var url = e.getAttribute(attribute);"
+            + "        return url ? String(e[name]) : url;"
+            + "    }"
+            + "    var property = {'class': 'className', 'readonly': 'readOnly'}[attribute] || attribute;"
+            + "    if (BOOLEAN_ATTRIBUTES.indexOf(name) != -1) {"
+            + "        return e.getAttribute(attribute) !== null || e[property] ? 'true' : null;"
+            + "    }"
+            + "    var value = e[property];"
+            + "    if (value === undefined || value === null || typeof value == 'object' || typeof value == 'function') {"
+            + "        value = e.getAttribute(attribute);"
+            + "    }"
+            + "    return value === undefined || value === null ? null : String(value);"
+            + "}";
+
+    private static final String SNAPSHOT_FUNCTION =
+            IS_SHOWN_FUNCTION
+            + "function isEnabled(e) {"
+            + "    if (e.disabled === true) {"
+            + "        return false;"
+            + "    }"
+            + "    for (var n = e.parentElement; n; n = n.parentElement) {"
+            + "        if (n.disabled === true && /^(select|optgroup|fieldset)$/i.test(n.tagName)) {"
+            + "            return false;"
+            + "        }"
+            + "    }"
+            + "    return true;"
+            + "}"
+            + "function isSelected(e) {"
+            + "    var tagName = e.tagName.toLowerCase();"
+            + "    if (tagName == 'option') {"
+            + "        return !!e.selected;"
+            + "    }"
+            + "    if (tagName == 'input' && /^(checkbox|radio)$/i.test(e.type)) {"
+            + "        return !!e.checked;"
+            + "    }"
+            + "    return false;"
+            + "}"
+            + ATTRIBUTE_FUNCTION
+            // The visible text like getText(), which unlike innerText trims
+            // each line, has no empty lines between blocks and no nbsp
+            + "function textOf(e) {"
+            + "    var lines = (e.innerText || '').replace(/\\r\\n?/g, '\\n').split('\\n');"
+            + "    var text = [];"
+            + "    for (var i = 0; i < lines.length; i++) {"
+            + "        var line = lines[i].replace(/^[^\\S\\xa0]+|[^\\S\\xa0]+$/g, '');"
+            + "        if (line != '') {"
+            + "            text.push(line);"
+            + "        }"
+            + "    }"
+            + "    return text.join('\\n').replace(/\\xa0/g, ' ');"
+            + "}"
+            + "function snapshotOf(element) {"
+            + "    var attributes = {};"
+            + "    for (var i = 0; i < element.attributes.length; i++) {"
+            + "        var value = attributeOf(element, element.attributes[i].name);"
+            + "        if (value !== null) {"
+            + "            attributes[element.attributes[i].name] = value;"
+            + "        }"
+            + "    }"
+            + "    if (isSelectable(element) && isSelected(element)) {"
+            + "        attributes[element.tagName.toLowerCase() == 'option' ? 'selected' : 'checked'] = 'true';"
+            + "    }"
+            + "    var displayed = isShown(element);"
+            + "    return {"
+            + "        tagName: element.tagName.toLowerCase(),"
+            + "        attributes: attributes,"
+            + "        text: displayed ? textOf(element) : '',"
+            + "        value: typeof element.value == 'string' ? element.value : element.getAttribute('value'),"
+            + "        displayed: displayed,"
+            + "        enabled: isEnabled(element),"
+            + "        selected: isSelected(element)"
+            + "    };"
+            + "}";
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var element = arguments[0];"
+            + SNAPSHOT_FUNCTION
+            + "return snapshotOf(element);";
+
+    private static final String SNAPSHOTS_SCRIPT =
+            "var elements = arguments[0];"
+            + SNAPSHOT_FUNCTION
+            + "var snapshots = [];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "    snapshots.push(snapshotOf(elements[i]));"
+            + "}"
+            + "return snapshots;";
+
+    @SuppressWarnings("unchecked")
+    public static ElementSnapshot snapshotOf(WebElement webElement) {
+        return toSnapshot((Map<String, Object>) executeJavascript(SNAPSHOT_SCRIPT, webElement));
+    }
+
+    /**
+     * Captures the state of all elements with a single javascript call.
+     *
+     * @return the snapshots in the order of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ElementSnapshot> snapshotsOf(List<WebElement> webElements) {
+        if (webElements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Map<String, Object>> snapshots = (List<Map<String, Object>>) executeJavascript(SNAPSHOTS_SCRIPT, webElements);
+        List<ElementSnapshot> elementSnapshots = new ArrayList<>(snapshots.size());
+        for (Map<String, Object> snapshot : snapshots) {
+            elementSnapshots.add(toSnapshot(snapshot));
+        }
+        return elementSnapshots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementSnapshot toSnapshot(Map<String, Object> snapshot) {
+        Map<String, Object> attributes = (Map<String, Object>) snapshot.get("attributes");
+        Map<String, String> attributeValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            attributeValues.put(attribute.getKey(), String.valueOf(attribute.getValue()));
+        }
+        return new ElementSnapshot(
+                (String) snapshot.get("tagName"),
+                attributeValues,
+                (String) snapshot.get("text"),
+                (String) snapshot.get("value"),
+                Boolean.TRUE.equals(snapshot.get("displayed")),
+                Boolean.TRUE.equals(snapshot.get("enabled")),
+                Boolean.TRUE.equals(snapshot.get("selected")));
+    }
+
+
+
+    /* Select Snapshot */
+    private static final String SELECT_SNAPSHOT_SCRIPT =
+            "var select = arguments[0];"
+            + "var tagName = select.tagName.toLowerCase();"
+            + "if (tagName != 'select') {"
+            + "    return {tagName: tagName, options: []};"
+            + "}"
+            + "var options = [];"
+            + "for (var i = 0; i < select.options.length; i++) {"
+            + "    var option = select.options[i];"
+            + "    var enabled = !option.disabled && !select.disabled"
+            + "            && !(option.parentElement && option.parentElement.tagName.toLowerCase() == 'optgroup' && option.parentElement.disabled);"
+            + "    options.push({text: option.text, value: option.value, enabled: enabled, selected: option.selected});"
+            + "}"
+            + "return {tagName: tagName, options: options};";
+
+    public static SelectSnapshot selectSnapshotOf(WebElement webElement) {
+        return selectSnapshotOf(webElement, DriverContext.get().driver());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static SelectSnapshot selectSnapshotOf(WebElement webElement, WebDriver driver) {
+        Map<String, Object> select = (Map<String, Object>) executeJavascript(driver, SELECT_SNAPSHOT_SCRIPT, webElement);
+        String tagName = (String) select.get("tagName");
+        if (!"select".equals(tagName)) {
+            throw new UnexpectedTagNameException("select", tagName);
+        }
+        List<Map<String, Object>> options = (List<Map<String, Object>>) select.get("options");
+        List<SelectSnapshot.Option> snapshotOptions = new ArrayList<>(options.size());
+        for (int index = 0; index < options.size(); index++) {
+            Map<String, Object> option = options.get(index);
+            snapshotOptions.add(new SelectSnapshot.Option(
+                    (String) option.get("text"),
+                    (String) option.get("value"),
+                    index,
+                    Boolean.TRUE.equals(option.get("enabled")),
+                    Boolean.TRUE.equals(option.get("selected"))));
+        }
+        return new SelectSnapshot(snapshotOptions);
+    }
+
+
+
+    /* Count */
+    private static final String COUNT_SCRIPT =
+            "var type = arguments[0];"
+            + "var selector = arguments[1];"
+            + "if (type == 'xpath') {"
+            + "    var nodes = document.evaluate(selector, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "    for (var i = 0; i < nodes.snapshotLength; i++) {"
+            + "        if (nodes.snapshotItem(i).nodeType != 1) {"
+            + "            return nodes.snapshotItem(i).nodeName;"
+            + "        }"
+            + "    }"
+            + "    return nodes.snapshotLength;"
+            + "}"
+            + "return document.querySelectorAll(selector).length;";
+
+    /**
+     * Counts the elements found by the locator in the browser, without
+     * finding them. Locators that have no css or xpath equivalent, e.g.
+     * {@link By#linkText(String)}, are counted by finding the elements.
+     *
+     * @throws InvalidSelectorException if an xpath selects other nodes than
+     * elements, e.g. text nodes, like finding the elements would
+     */
+    public static int countOf(By by) {
+        String xpath = valueOf(by, By.ByXPath.class, "By.xpath: ");
+        if (xpath != null) {
+            Object count = executeJavascript(COUNT_SCRIPT, "xpath", xpath);
+            if (count instanceof String) {
+                throw new InvalidSelectorException("The result of the xpath expression \"" + xpath + "\" is a " + count + " node. It should be an element.");
+            }
+            return ((Number) count).intValue();
+        }
+        String cssSelector = cssSelectorOf(by);
+        if (cssSelector != null) {
+            return ((Number) executeJavascript(COUNT_SCRIPT, "css", cssSelector)).intValue();
+        }
+        return Instrumentation.instrument(DriverContext.get().driver()).findElements(by).size();
+    }
+
+    private static String cssSelectorOf(By by) {
+        String value;
+        if ((value = valueOf(by, By.ByCssSelector.class, "By.cssSelector: ")) != null) {
+            return value;
+        }
+        if ((value = valueOf(by, By.ById.class, "By.id: ")) != null) {
+            return "[id=" + cssString(value) + "]";
+        }
+        if ((value = valueOf(by, By.ByName.class, "By.name: ")) != null) {
+            return "[name=" + cssString(value) + "]";
+        }
+        if ((value = valueOf(by, By.ByClassName.class, "By.className: ")) != null) {
+            return "[class~=" + cssString(value) + "]";
+        }
+        if ((value = valueOf(by, By.ByTagName.class, "By.tagName: ")) != null) {
+            return value;
+        }
+        return null;
+    }
+
+    private static String valueOf(By by, Class<? extends By> type, String prefix) {
+        // The locators keep their value private, but print it
+        String string = by.toString();
+        return by.getClass() == type && string.startsWith(prefix) ? string.substring(prefix.length()) : null;
+    }
+
+    private static String cssString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+
+
+    /* Element Collections */
+    public interface SnapshotAssert {
+        void assertOn(ElementSnapshot snapshot);
+    }
+
+    /**
+     * Asserts that all elements pass the assert. The elements are captured
+     * with a single javascript call and asserted in the JVM.
+     *
+     * @param description the assert, e.g. {@code assertTextEquals("Saved")}
+     */
+    public static void assertAll(String description, List<WebElement> webElements, SnapshotAssert snapshotAssert) {
+        List<ElementSnapshot> snapshots = snapshotsOf(webElements);
+        List<Integer> failingIndexes = new ArrayList<>();
+        StringBuilder failures = new StringBuilder();
+        for (int index = 0; index < snapshots.size(); index++) {
+            String failure = failureOf(snapshotAssert, snapshots.get(index));
+            if (failure != null) {
+                failingIndexes.add(index);
+                failures.append(elementDetails(index, failure));
+            }
+        }
+        if (!failingIndexes.isEmpty()) {
+            throw new WebDriverAssertionError(description + " failed for " + failingIndexes.size() + " of " + snapshots.size()
+                    + " elements at indexes " + failingIndexes + failures);
+        }
+    }
+
+    /**
+     * Asserts that at least one element passes the assert.
+     *
+     * @see #assertAll(String, List, SnapshotAssert)
+     */
+    public static void assertAny(String description, List<WebElement> webElements, SnapshotAssert snapshotAssert) {
+        List<ElementSnapshot> snapshots = snapshotsOf(webElements);
+        if (snapshots.isEmpty()) {
+            throw new WebDriverAssertionError(description + " failed since there are no elements");
+        }
+        StringBuilder failures = new StringBuilder();
+        for (int index = 0; index < snapshots.size(); index++) {
+            String failure = failureOf(snapshotAssert, snapshots.get(index));
+            if (failure == null) {
+                return;
+            }
+            failures.append(elementDetails(index, failure));
+        }
+        throw new WebDriverAssertionError(description + " failed for all " + snapshots.size() + " elements" + failures);
+    }
+
+    /**
+     * Asserts that no element passes the assert.
+     *
+     * @see #assertAll(String, List, SnapshotAssert)
+     */
+    public static void assertNone(String description, List<WebElement> webElements, SnapshotAssert snapshotAssert) {
+        List<ElementSnapshot> snapshots = snapshotsOf(webElements);
+        List<Integer> passingIndexes = new ArrayList<>();
+        StringBuilder passing = new StringBuilder();
+        for (int index = 0; index < snapshots.size(); index++) {
+            if (failureOf(snapshotAssert, snapshots.get(index)) == null) {
+                passingIndexes.add(index);
+                passing.append(elementDetails(index, "Element: " + htmlOf(snapshots.get(index))));
+            }
+        }
+        if (!passingIndexes.isEmpty()) {
+            throw new WebDriverAssertionError(description + " passed for " + passingIndexes.size() + " of " + snapshots.size()
+                    + " elements at indexes " + passingIndexes + " when it shouldn't" + passing);
+        }
+    }
+
+    private static String failureOf(SnapshotAssert snapshotAssert, ElementSnapshot snapshot) {
+        try {
+            snapshotAssert.assertOn(snapshot);
+            return null;
+        } catch (WebDriverAssertionError e) {
+            return e.getMessage();
+        } catch (RuntimeException e) {
+            // E.g. the NumberFormatException of a number assert on a text that is not a number
+            return e.getClass().getSimpleName() + ": " + e.getMessage()
+                    + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.indent("\nElement: " + htmlOf(snapshot), "    ");
+        }
+    }
+
+    private static String elementDetails(int index, String details) {
+        return com.github.webdriverextensions.webdriverasserts.internal.StringUtils.indent("\n[" + index + "] " + details, "    ");
+    }
+
+
+
     /* String Equals */
     public static boolean isEqual(String text1, String text2) {
         return StringUtils.equals(text1, text2);
@@ -129,14 +615,28 @@ public class BotUtils {
         if (text == null || regularExpression == null) {
             return false;
         }
-        return text.matches(regularExpression);
+        return PatternCache.compile(regularExpression).matcher(text).matches();
+    }
+
+    public static boolean matches(Pattern pattern, String text) {
+        if (text == null || pattern == null) {
+            return false;
+        }
+        return pattern.matcher(text).matches();
     }
 
     public static boolean notMatches(String regularExpression, String text) {
         if (text == null || regularExpression == null) {
             return true;
         }
-        return !text.matches(regularExpression);
+        return !PatternCache.compile(regularExpression).matcher(text).matches();
+    }
+
+    public static boolean notMatches(Pattern pattern, String text) {
+        if (text == null || pattern == null) {
+            return true;
+        }
+        return !pattern.matcher(text).matches();
     }
 
     public static void assertEquals(String name, String expected, String actual) {
@@ -158,12 +658,24 @@ public class BotUtils {
         }
     }
 
+    public static void assertMatches(String name, Pattern regExp, String actual) {
+        if (notMatches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is not matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()), name, actual);
+        }
+    }
+
     public static void assertNotMatches(String name, String regExp, String actual) {
         if (matches(regExp, actual)) {
             throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp) + " when it shouldn't", name, actual);
         }
     }
 
+    public static void assertNotMatches(String name, Pattern regExp, String actual) {
+        if (matches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()) + " when it shouldn't", name, actual);
+        }
+    }
+
     public static void assertContains(String name, String searchText, String actual) {
         if (notContains(searchText, actual)) {
             throw new WebDriverAssertionError(name + " is not containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText), name, actual);
@@ -230,12 +742,24 @@ public class BotUtils {
         }
     }
 
+    public static void assertMatches(String name, Pattern regExp, String actual, WebElement webElement) {
+        if (notMatches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is not matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()), webElement);
+        }
+    }
+
     public static void assertNotMatches(String name, String regExp, String actual, WebElement webElement) {
         if (matches(regExp, actual)) {
             throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp) + " when it shouldn't", webElement);
         }
     }
 
+    public static void assertNotMatches(String name, Pattern regExp, String actual, WebElement webElement) {
+        if (matches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()) + " when it shouldn't", webElement);
+        }
+    }
+
     public static void assertContains(String name, String searchText, String actual, WebElement webElement) {
         if (notContains(searchText, actual)) {
             throw new WebDriverAssertionError(name + " is not containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText), webElement);
@@ -308,6 +832,126 @@ public class BotUtils {
         }
     }
 
+    public static void assertEquals(String name, String expected, String actual, ElementSnapshot snapshot) {
+        if (notEquals(expected, actual)) {
+            throw new WebDriverAssertionError(name + " is not equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(expected), snapshot);
+        }
+    }
+
+    public static void assertNotEquals(String name, String notExpected, String actual, ElementSnapshot snapshot) {
+        if (isEqual(notExpected, actual)) {
+            throw new WebDriverAssertionError(name + " is equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(notExpected) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertEqualsIgnoreCase(String name, String expected, String actual, ElementSnapshot snapshot) {
+        if (notEqualsIgnoreCase(expected, actual)) {
+            throw new WebDriverAssertionError(name + " is not equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(expected), snapshot);
+        }
+    }
+
+    public static void assertNotEqualsIgnoreCase(String name, String notExpected, String actual, ElementSnapshot snapshot) {
+        if (equalsIgnoreCase(notExpected, actual)) {
+            throw new WebDriverAssertionError(name + " is equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(notExpected) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertMatches(String name, String regExp, String actual, ElementSnapshot snapshot) {
+        if (notMatches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is not matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp), snapshot);
+        }
+    }
+
+    public static void assertMatches(String name, Pattern regExp, String actual, ElementSnapshot snapshot) {
+        if (notMatches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is not matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()), snapshot);
+        }
+    }
+
+    public static void assertNotMatches(String name, String regExp, String actual, ElementSnapshot snapshot) {
+        if (matches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertNotMatches(String name, Pattern regExp, String actual, ElementSnapshot snapshot) {
+        if (matches(regExp, actual)) {
+            throw new WebDriverAssertionError(name + " is matching " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(regExp.pattern()) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertContains(String name, String searchText, String actual, ElementSnapshot snapshot) {
+        if (notContains(searchText, actual)) {
+            throw new WebDriverAssertionError(name + " is not containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText), snapshot);
+        }
+    }
+
+    public static void assertNotContains(String name, String searchText, String actual, ElementSnapshot snapshot) {
+        if (contains(searchText, actual)) {
+            throw new WebDriverAssertionError(name + " is containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertContainsIgnoreCase(String name, String searchText, String actual, ElementSnapshot snapshot) {
+        if (notContainsIgnoreCase(searchText, actual)) {
+            throw new WebDriverAssertionError(name + " is not containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText), snapshot);
+        }
+    }
+
+    public static void assertNotContainsIgnoreCase(String name, String searchText, String actual, ElementSnapshot snapshot) {
+        if (containsIgnoreCase(searchText, actual)) {
+            throw new WebDriverAssertionError(name + " is containing " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(searchText) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertStartsWith(String name, String prefix, String actual, ElementSnapshot snapshot) {
+        if (notStartsWith(prefix, actual)) {
+            throw new WebDriverAssertionError(name + " is not starting with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(prefix), snapshot);
+        }
+    }
+
+    public static void assertNotStartsWith(String name, String prefix, String actual, ElementSnapshot snapshot) {
+        if (startsWith(prefix, actual)) {
+            throw new WebDriverAssertionError(name + " is starting with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(prefix) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertStartsWithIgnoreCase(String name, String prefix, String actual, ElementSnapshot snapshot) {
+        if (notStartsWithIgnoreCase(prefix, actual)) {
+            throw new WebDriverAssertionError(name + " is not starting with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(prefix), snapshot);
+        }
+    }
+
+    public static void assertNotStartsWithIgnoreCase(String name, String prefix, String actual, ElementSnapshot snapshot) {
+        if (startsWithIgnoreCase(prefix, actual)) {
+            throw new WebDriverAssertionError(name + " is starting with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(prefix) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertEndsWith(String name, String suffix, String actual, ElementSnapshot snapshot) {
+        if (notEndsWith(suffix, actual)) {
+            throw new WebDriverAssertionError(name + " is not ending with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(suffix), snapshot);
+        }
+    }
+
+    public static void assertNotEndsWith(String name, String suffix, String actual, ElementSnapshot snapshot) {
+        if (endsWith(suffix, actual)) {
+            throw new WebDriverAssertionError(name + " is ending with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(suffix) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertEndsWithIgnoreCase(String name, String suffix, String actual, ElementSnapshot snapshot) {
+        if (notEndsWithIgnoreCase(suffix, actual)) {
+            throw new WebDriverAssertionError(name + " is not ending with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(suffix), snapshot);
+        }
+    }
+
+    public static void assertNotEndsWithIgnoreCase(String name, String suffix, String actual, ElementSnapshot snapshot) {
+        if (endsWithIgnoreCase(suffix, actual)) {
+            throw new WebDriverAssertionError(name + " is ending with " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(suffix) + " when it shouldn't", snapshot);
+        }
+    }
+
 
 
     /* Double Equals */
@@ -407,31 +1051,50 @@ public class BotUtils {
         }
     }
 
+    public static void assertEquals(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (notEquals(number, actual)) {
+            throw new WebDriverAssertionError(name + " is not equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number), snapshot);
+        }
+    }
+
+    public static void assertNotEquals(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (isEqual(number, actual)) {
+            throw new WebDriverAssertionError(name + " is equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number) + " when it shouldn't", snapshot);
+        }
+    }
+
+    public static void assertLessThan(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (greaterThanOrEquals(number, actual)) {
+            throw new WebDriverAssertionError(name + " is not less than " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number), snapshot);
+        }
+    }
+
+    public static void assertLessThanOrEquals(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (greaterThan(number, actual)) {
+            throw new WebDriverAssertionError(name + " is not less than or equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number), snapshot);
+        }
+    }
+
+    public static void assertGreaterThan(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (lessThanOrEquals(number, actual)) {
+            throw new WebDriverAssertionError(name + " is not greater than " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number), snapshot);
+        }
+    }
+
+    public static void assertGreaterThanOrEquals(String name, double number, double actual, ElementSnapshot snapshot) {
+        if (lessThan(number, actual)) {
+            throw new WebDriverAssertionError(name + " is not greater than or equal to " + com.github.webdriverextensions.webdriverasserts.internal.StringUtils.quote(number), snapshot);
+        }
+    }
+
+    /**
+     * Converts the time to nanoseconds, exactly for whole times and saturating
+     * at {@link Long#MAX_VALUE} like {@link TimeUnit#toNanos(long)}.
+     */
     public static long asNanos(double time, TimeUnit unit) {
-        long nanos = 0;
-        switch (unit) {
-            case DAYS:
-                nanos = (long) (time * 24 * 60 * 60 * 1000000000);
-                break;
-            case HOURS:
-                nanos = (long) (time * 60 * 60 * 1000000000);
-                break;
-            case MINUTES:
-                nanos = (long) (time * 60 * 1000000000);
-                break;
-            case SECONDS:
-                nanos = (long) (time * 1000000000);
-                break;
-            case MILLISECONDS:
-                nanos = (long) (time * 1000000);
-                break;
-            case MICROSECONDS:
-                nanos = (long) (time * 1000);
-                break;
-            case NANOSECONDS:
-                nanos = (long) (time);
-                break;
-        }
-        return nanos;
+        if (time == Math.rint(time) && Math.abs(time) < Long.MAX_VALUE) {
+            return unit.toNanos((long) time);
+        }
+        return (long) (time * unit.toNanos(1));
     }
 }
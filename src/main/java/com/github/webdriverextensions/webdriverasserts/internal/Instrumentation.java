@@ -0,0 +1,309 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.webdriverextensions.webdriverasserts.CommandEvent;
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+import org.apache.commons.lang3.ClassUtils;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+/**
+ * Wraps drivers and elements so that each command sent through them is
+ * timed and passed to the {@link CommandListeners}.
+ *
+ * <p>The asserts and actions send their commands through
+ * {@link #instrument(WebElement)} and {@link #instrument(WebDriver)}. When no
+ * listener is registered these return what they are given so that commands
+ * cost nothing extra. Elements and lists of elements returned by commands and
+ * the objects returned by {@code navigate()}, {@code manage()} and the like
+ * are wrapped too. Arguments are unwrapped before they are passed on.</p>
+ *
+ * <p>Page factory elements look themselves up with the driver they were
+ * initialized with before each command, bypassing the wrappers. These
+ * lookups are passed to the listeners as {@code findElement} and
+ * {@code findElements} commands when an instrumented page factory element
+ * is used or a page factory element or list is passed as an argument, unless
+ * the element is cached with {@code @CacheLookup} and already found.</p>
+ */
+public class Instrumentation {
+
+    private static final Set<String> ACCESSORS = new HashSet<>(Arrays.asList(
+            "navigate", "manage", "switchTo", "timeouts", "window", "ime", "logs",
+            "getKeyboard", "getMouse", "getTouch", "getCoordinates"));
+
+    private static final Field HANDLER_LOCATOR = field(LocatingElementHandler.class, "locator");
+    private static final Field LIST_HANDLER_LOCATOR = field(LocatingElementListHandler.class, "locator");
+    private static final Field SHOULD_CACHE = field(DefaultElementLocator.class, "shouldCache");
+    private static final Field CACHED_ELEMENT = field(DefaultElementLocator.class, "cachedElement");
+    private static final Field CACHED_ELEMENT_LIST = field(DefaultElementLocator.class, "cachedElementList");
+
+    private Instrumentation() {}
+
+    public static WebElement instrument(WebElement webElement) {
+        if (webElement == null || CommandListeners.isEmpty() || webElement instanceof Instrumented) {
+            return webElement;
+        }
+        return (WebElement) proxy(webElement);
+    }
+
+    public static WebDriver instrument(WebDriver driver) {
+        if (driver == null || CommandListeners.isEmpty() || driver instanceof Instrumented) {
+            return driver;
+        }
+        return (WebDriver) proxy(driver);
+    }
+
+    /**
+     * @return the object an instrumented object wraps or the object itself if
+     * it is not instrumented
+     */
+    public static Object uninstrumented(Object object) {
+        return object instanceof Instrumented ? ((Instrumented) object).uninstrumented() : object;
+    }
+
+    private static Object proxy(final Object target) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>(ClassUtils.getAllInterfaces(target.getClass()));
+        interfaces.add(Instrumented.class);
+        if (target instanceof WebElement) {
+            // Lets drivers unwrap instrumented elements passed as script arguments
+            interfaces.add(WrapsElement.class);
+        }
+        try {
+            return Proxy.newProxyInstance(Instrumentation.class.getClassLoader(), interfaces.toArray(new Class<?>[interfaces.size()]), new InvocationHandler() {
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    return Instrumentation.invoke(target, method, args);
+                }
+            });
+        } catch (IllegalArgumentException e) {
+            // Some interface is not visible from here, leave the target as is
+            return target;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Instrumented.class) {
+            return target;
+        }
+        if (method.getDeclaringClass() == WrapsElement.class) {
+            if (isPageFactoryElement(target)) {
+                return located((WebElement) target);
+            }
+            return target instanceof WrapsElement ? ((WrapsElement) target).getWrappedElement() : target;
+        }
+        if (method.getDeclaringClass() == Object.class || name.equals("getWrappedDriver")) {
+            return invokeTarget(target, method, uninstrumentedArgs(args));
+        }
+        Object[] targetArgs = uninstrumentedArgs(args);
+        if (isPageFactoryElement(target)) {
+            // Looks the element up like the page factory proxy would, but counted
+            target = located((WebElement) target);
+        }
+        if (ACCESSORS.contains(name)) {
+            Object accessed = invokeTarget(target, method, targetArgs);
+            return accessed != null && method.getReturnType().isInterface() ? proxy(accessed) : accessed;
+        }
+        String script = name.startsWith("execute") && targetArgs != null && targetArgs.length > 0 && targetArgs[0] instanceof String ? (String) targetArgs[0] : null;
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = invokeTarget(target, method, targetArgs);
+            return instrumentedResult(result);
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            CommandListeners.notify(new CommandEvent(name, script, System.nanoTime() - start, result, failure));
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Object instrumentedResult(Object result) {
+        if (result instanceof WebElement) {
+            return instrument((WebElement) result);
+        }
+        if (result instanceof List) {
+            List<?> list = (List<?>) result;
+            if (list.isEmpty() || !(list.get(0) instanceof WebElement)) {
+                return result;
+            }
+            List<Object> instrumented = new ArrayList<>(list.size());
+            for (Object element : list) {
+                instrumented.add(element instanceof WebElement ? instrument((WebElement) element) : element);
+            }
+            return instrumented;
+        }
+        return result;
+    }
+
+    /**
+     * Also looks up the page factory elements and lists among the arguments
+     * so that the lookups the driver would make unwrapping them are counted.
+     */
+    private static Object[] uninstrumentedArgs(Object[] args) throws Throwable {
+        if (args == null) {
+            return null;
+        }
+        Object[] uninstrumented = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] != null && args[i].getClass() == Object[].class) {
+                uninstrumented[i] = uninstrumentedArgs((Object[]) args[i]);
+            } else if (args[i] instanceof List) {
+                uninstrumented[i] = uninstrumentedList((List<?>) args[i]);
+            } else {
+                uninstrumented[i] = uninstrumentedArg(uninstrumented(args[i]));
+            }
+        }
+        return uninstrumented;
+    }
+
+    private static Object uninstrumentedList(List<?> list) throws Throwable {
+        if (isPageFactoryList(list)) {
+            return located(list);
+        }
+        List<Object> uninstrumented = null;
+        for (int i = 0; i < list.size(); i++) {
+            Object element = list.get(i);
+            Object uninstrumentedElement = uninstrumentedArg(uninstrumented(element));
+            if (uninstrumentedElement != element && uninstrumented == null) {
+                uninstrumented = new ArrayList<Object>(list.subList(0, i));
+            }
+            if (uninstrumented != null) {
+                uninstrumented.add(uninstrumentedElement);
+            }
+        }
+        return uninstrumented != null ? uninstrumented : list;
+    }
+
+    private static Object uninstrumentedArg(Object arg) throws Throwable {
+        return isPageFactoryElement(arg) ? located((WebElement) arg) : arg;
+    }
+
+
+
+    /* Page Factory */
+    private static boolean isPageFactoryElement(Object object) {
+        return object instanceof WebElement && Proxy.isProxyClass(object.getClass())
+                && Proxy.getInvocationHandler(object) instanceof LocatingElementHandler;
+    }
+
+    private static boolean isPageFactoryList(Object object) {
+        return object instanceof List && Proxy.isProxyClass(object.getClass())
+                && Proxy.getInvocationHandler(object) instanceof LocatingElementListHandler;
+    }
+
+    /**
+     * @return the element a page factory element finds, passing the lookup
+     * to the listeners unless the element is cached
+     */
+    private static WebElement located(WebElement pageFactoryElement) throws Throwable {
+        WrapsElement wrapsElement = (WrapsElement) pageFactoryElement;
+        if (isCached(locatorOf(Proxy.getInvocationHandler(pageFactoryElement), HANDLER_LOCATOR), CACHED_ELEMENT)) {
+            return wrapsElement.getWrappedElement();
+        }
+        long start = System.nanoTime();
+        WebElement result = null;
+        Throwable failure = null;
+        try {
+            result = wrapsElement.getWrappedElement();
+            return result;
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            CommandListeners.notify(new CommandEvent("findElement", null, System.nanoTime() - start, result, failure));
+        }
+    }
+
+    /**
+     * @return the elements a page factory list finds, passing the lookup to
+     * the listeners unless the list is cached
+     */
+    private static List<Object> located(List<?> pageFactoryList) throws Throwable {
+        if (isCached(locatorOf(Proxy.getInvocationHandler(pageFactoryList), LIST_HANDLER_LOCATOR), CACHED_ELEMENT_LIST)) {
+            return new ArrayList<Object>(pageFactoryList);
+        }
+        long start = System.nanoTime();
+        List<Object> result = null;
+        Throwable failure = null;
+        try {
+            // Copying calls toArray once, i.e. looks the list up once
+            result = new ArrayList<Object>(pageFactoryList);
+            return result;
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            CommandListeners.notify(new CommandEvent("findElements", null, System.nanoTime() - start, result, failure));
+        }
+    }
+
+    private static Object locatorOf(InvocationHandler handler, Field locatorField) {
+        try {
+            return locatorField != null ? locatorField.get(handler) : null;
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the locator is a {@link DefaultElementLocator} that
+     * caches and has found its element, i.e. will not send a command. Other
+     * and unreadable locators are taken to send one.
+     */
+    private static boolean isCached(Object locator, Field cachedField) {
+        if (!(locator instanceof DefaultElementLocator) || SHOULD_CACHE == null || cachedField == null) {
+            return false;
+        }
+        try {
+            return SHOULD_CACHE.getBoolean(locator) && cachedField.get(locator) != null;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the private field made accessible or null if the Selenium
+     * version at hand has no such field
+     */
+    private static Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Implemented by the wrappers.
+     */
+    public interface Instrumented {
+        Object uninstrumented();
+    }
+}
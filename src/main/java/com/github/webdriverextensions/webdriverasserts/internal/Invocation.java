@@ -0,0 +1,99 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import com.github.webdriverextensions.webdriverasserts.AssertionEvent;
+import com.github.webdriverextensions.webdriverasserts.CommandEvent;
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+
+/**
+ * A call of a public assert or action, timed and passed to the
+ * {@link com.github.webdriverextensions.webdriverasserts.AssertionListener}s
+ * when it ends. The call running in a thread names the assertion of the
+ * commands and waits of that thread.
+ *
+ * <pre>
+ * Invocation invocation = Invocation.start("WebDriverAsserts.assertTextEquals");
+ * try {
+ *     ...
+ * } finally {
+ *     invocation.end();
+ * }
+ * </pre>
+ *
+ * <p>Calls made by a call, e.g. {@code assertIdEquals} calling
+ * {@code assertAttributeEquals}, are part of the outermost call. When no
+ * listener is registered starting and ending a call only reads a few
+ * volatile fields.</p>
+ */
+public final class Invocation {
+
+    private static final Invocation NONE = new Invocation(null, 0);
+    private static final ThreadLocal<Invocation> CURRENT = new ThreadLocal<>();
+
+    private final String assertion;
+    private final long start;
+    private int depth;
+    private int commands;
+    private int scripts;
+
+    private Invocation(String assertion, long start) {
+        this.assertion = assertion;
+        this.start = start;
+    }
+
+    /**
+     * @param assertion the class and method called, e.g.
+     * {@code WebDriverAsserts.assertTextEquals}
+     */
+    public static Invocation start(String assertion) {
+        if (CommandListeners.isEmpty() && !CommandListeners.hasWaitListeners()) {
+            return NONE;
+        }
+        Invocation current = CURRENT.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+        Invocation invocation = new Invocation(assertion, System.nanoTime());
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    /**
+     * @return the outermost assert or action running in the current thread,
+     * e.g. {@code WebDriverAsserts.assertTextEquals}, or
+     * {@link CommandEvent#NO_ASSERTION}
+     */
+    public static String current() {
+        Invocation current = CURRENT.get();
+        return current != null ? current.assertion : CommandEvent.NO_ASSERTION;
+    }
+
+    /**
+     * Counts a command towards the call running in the current thread, if
+     * any.
+     */
+    public static void sent(CommandEvent event) {
+        Invocation current = CURRENT.get();
+        if (current != null) {
+            current.commands++;
+            if (event.isScript()) {
+                current.scripts++;
+            }
+        }
+    }
+
+    public void end() {
+        if (this == NONE) {
+            return;
+        }
+        if (depth > 0) {
+            depth--;
+            return;
+        }
+        CURRENT.remove();
+        if (!CommandListeners.hasAssertionListeners()) {
+            return;
+        }
+        CommandListeners.notify(new AssertionEvent(assertion, System.nanoTime() - start, commands, scripts));
+    }
+}
@@ -0,0 +1,436 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+import com.github.webdriverextensions.webdriverasserts.WaitEvent;
+import com.google.common.base.Predicate;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Waits that let the page tell when to look again instead of polling from
+ * the JVM.
+ *
+ * <p>Each wait runs an asynchronous script that installs a
+ * {@code MutationObserver} (and an {@code IntersectionObserver} when the
+ * browser has one) and calls back as soon as the awaited elements are shown,
+ * or for {@link #waitUntil} as soon as the DOM changes. A wait therefore
+ * costs a few round trips instead of one per poll tick and returns as soon as
+ * the page changes. Elements count as shown when the page tells they are, which
+ * approximates {@link WebElement#isDisplayed()}, so that a wait costs one
+ * script per look however many elements it waits for. {@link #waitUntil}
+ * evaluates its predicate at most once per {@code sleepInMillis} though, so
+ * pages that keep mutating do not have it evaluated back to back.</p>
+ *
+ * <p>Elements that are shown already are told with one script before any
+ * observer is installed. Asynchronous scripts are bound by the script timeout
+ * of the driver, which the waits leave as it is. Longer waits run their
+ * script again each time it is about to time out. Selenium can not read the
+ * script timeout of a session, so it is taken to be the
+ * {@code webdriverextensions.scripttimeoutmillis} system property if set, the
+ * script timeout in the {@code timeouts} capability of the session if it has
+ * one and the 30 seconds browsers default to else. Scripts that the driver
+ * times out sooner are run again as well.</p>
+ *
+ * <p>Browsers without {@code MutationObserver}, drivers that cannot run
+ * asynchronous scripts and pages that navigate away during the wait fall
+ * back to a {@link WebDriverWait} for the remaining time. When waiting for
+ * elements it checks all of them with one script per poll. A wait for
+ * elements that times out reports the ones still hidden.</p>
+ *
+ * <p>Waits end at the {@link com.github.webdriverextensions.webdriverasserts.Deadline}
+ * of the thread if that comes first and throw a
+ * {@link com.github.webdriverextensions.webdriverasserts.WaitInterruptedException}
+ * if the thread is interrupted.</p>
+ */
+public class ObserverWait {
+
+    /**
+     * The longest time a {@link #waitUntil} waits for a DOM change before
+     * evaluating the predicate again. Bounds the delay for changes that are
+     * not DOM mutations, e.g. cookies or alerts.
+     */
+    public static final long MAX_MUTATION_WAIT_MILLIS = 500;
+
+    /**
+     * The least time between two evaluations of the predicate of a
+     * {@link #waitUntil} that is not given one.
+     */
+    public static final long MIN_EVALUATION_INTERVAL_MILLIS = 100;
+
+    private static final long SCRIPT_TIMEOUT_MARGIN_MILLIS = 1000;
+    private static final long DEFAULT_SCRIPT_TIMEOUT_MILLIS = 30000;
+    private static final int MAX_REPORTED_HIDDEN = 20;
+
+    private static final String SHOWN = "shown";
+    private static final String MUTATED = "mutated";
+    private static final String TIMEOUT = "timeout";
+    private static final String UNSUPPORTED = "unsupported";
+
+    private static final String WAIT_SCRIPT =
+            "var elements = arguments[0];"
+            + "var timeout = arguments[1];"
+            + "var callback = arguments[arguments.length - 1];"
+            + BotUtils.IS_SHOWN_FUNCTION
+            + "function allShown() {"
+            + "    for (var i = 0; i < elements.length; i++) {"
+            + "        if (!isShown(elements[i])) {"
+            + "            return false;"
+            + "        }"
+            + "    }"
+            + "    return true;"
+            + "}"
+            + "if (typeof MutationObserver == 'undefined') {"
+            + "    callback('" + UNSUPPORTED + "');"
+            + "    return;"
+            + "}"
+            + "if (elements && allShown()) {"
+            + "    callback('" + SHOWN + "');"
+            + "    return;"
+            + "}"
+            + "var done = false;"
+            + "var observers = [];"
+            + "var timers = [];"
+            + "function finish(result) {"
+            + "    if (done) {"
+            + "        return;"
+            + "    }"
+            + "    done = true;"
+            + "    for (var i = 0; i < observers.length; i++) {"
+            + "        observers[i].disconnect();"
+            + "    }"
+            + "    clearTimeout(timers[0]);"
+            + "    clearInterval(timers[1]);"
+            + "    callback(result);"
+            + "}"
+            + "function changed() {"
+            + "    if (!elements) {"
+            + "        finish('" + MUTATED + "');"
+            + "    } else if (allShown()) {"
+            + "        finish('" + SHOWN + "');"
+            + "    }"
+            + "}"
+            + "var mutationObserver = new MutationObserver(changed);"
+            + "mutationObserver.observe(document.documentElement, {attributes: true, childList: true, characterData: true, subtree: true});"
+            + "observers.push(mutationObserver);"
+            + "if (elements && typeof IntersectionObserver != 'undefined') {"
+            + "    var intersectionObserver = new IntersectionObserver(changed);"
+            + "    for (var i = 0; i < elements.length; i++) {"
+            + "        intersectionObserver.observe(elements[i]);"
+            + "    }"
+            + "    observers.push(intersectionObserver);"
+            + "}"
+            + "timers.push(setTimeout(function() {"
+            + "    finish('" + TIMEOUT + "');"
+            + "}, timeout));"
+            // Style changes like css transitions do not mutate the DOM, look again now and then
+            + "timers.push(elements ? setInterval(changed, 250) : null);";
+
+    private static final String HIDDEN_SCRIPT =
+            "var elements = arguments[0];"
+            + "var hidden = [];"
+            + BotUtils.IS_SHOWN_FUNCTION
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "    if (!isShown(elements[i])) {"
+            + "        hidden.push(i);"
+            + "    }"
+            + "}"
+            + "return hidden;";
+
+    private ObserverWait() {}
+
+    public static void waitForElementToDisplay(WebDriver driver, WebElement webElement, double time, TimeUnit unit, long sleepInMillis) {
+        List<WebElement> webElements = new ArrayList<>(1);
+        webElements.add(webElement);
+        waitForElementsToDisplay(driver, webElements, time, unit, sleepInMillis);
+    }
+
+    public static void waitForElementsToDisplay(WebDriver driver, List<WebElement> webElements, double time, TimeUnit unit, long sleepInMillis) {
+        long start = Waits.nanoTime();
+        Polls polls = new Polls();
+        boolean satisfied = false;
+        try {
+            waitForElementsToDisplay(driver, webElements, time, unit, sleepInMillis, polls);
+            satisfied = true;
+        } finally {
+            waited("visibility", time, unit, start, polls, satisfied);
+        }
+    }
+
+    public static void waitUntil(WebDriver driver, Predicate<WebDriver> predicate, double time, TimeUnit unit) {
+        waitUntil(driver, predicate, time, unit, MIN_EVALUATION_INTERVAL_MILLIS);
+    }
+
+    public static void waitUntil(WebDriver driver, Predicate<WebDriver> predicate, double time, TimeUnit unit, long sleepInMillis) {
+        long start = Waits.nanoTime();
+        Polls polls = new Polls();
+        boolean satisfied = false;
+        try {
+            waitUntil(driver, predicate, time, unit, sleepInMillis, polls);
+            satisfied = true;
+        } finally {
+            waited("predicate", time, unit, start, polls, satisfied);
+        }
+    }
+
+    private static void waitForElementsToDisplay(WebDriver driver, List<WebElement> webElements, double time, TimeUnit unit, long sleepInMillis, Polls polls) {
+        long deadline = Waits.deadlineAfter(BotUtils.asNanos(time, unit));
+        if (shown(driver, webElements, polls)) {
+            return;
+        }
+        long scriptMillis = scriptMillis(driver);
+        while (true) {
+            Waits.checkInterrupted();
+            polls.count++;
+            long remainingMillis = Math.min(remainingMillis(deadline), scriptMillis);
+            List<WebElement> elements;
+            try {
+                // Resolves lazy page factory elements, which may not be in the page yet
+                elements = new ArrayList<>(webElements);
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                elements = null;
+            }
+            String result;
+            try {
+                result = waitInPage(driver, elements != null && !elements.isEmpty() ? elements : null, remainingMillis);
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                result = waitInPage(driver, null, remainingMillis);
+            } catch (TimeoutException e) {
+                // The driver timed out the script before the page did
+                result = TIMEOUT;
+            } catch (WebDriverException e) {
+                Waits.checkInterrupted();
+                result = UNSUPPORTED;
+            }
+            if (UNSUPPORTED.equals(result)) {
+                fallback(driver, webElements, deadline, sleepInMillis, polls, time, unit);
+                return;
+            }
+            if (SHOWN.equals(result)) {
+                return;
+            }
+            if (remainingMillis(deadline) <= 0) {
+                throw visibilityTimeout(time, unit, webElements, hiddenAfterTimeout(driver, webElements));
+            }
+        }
+    }
+
+    private static void waitUntil(WebDriver driver, Predicate<WebDriver> predicate, double time, TimeUnit unit, long sleepInMillis, Polls polls) {
+        long deadline = Waits.deadlineAfter(BotUtils.asNanos(time, unit));
+        Predicate<WebDriver> counted = counted(predicate, polls);
+        long scriptMillis = -1;
+        while (!counted.apply(driver)) {
+            long evaluated = Waits.nanoTime();
+            long remainingMillis = remainingMillis(deadline);
+            if (remainingMillis <= 0) {
+                throw new TimeoutException("Timed out after " + secondsOf(time, unit) + " seconds waiting for " + predicate);
+            }
+            Waits.checkInterrupted();
+            if (scriptMillis < 0) {
+                scriptMillis = scriptMillis(driver);
+            }
+            String result;
+            try {
+                result = waitInPage(driver, null, Math.min(Math.min(remainingMillis, MAX_MUTATION_WAIT_MILLIS), scriptMillis));
+            } catch (WebDriverException e) {
+                Waits.checkInterrupted();
+                // E.g. the page navigated away, which is a change too, or the
+                // driver timed out the script, after which it is looked again
+                result = MUTATED;
+            }
+            if (UNSUPPORTED.equals(result)) {
+                Waits.until(Waits.webDriverWait(driver, deadline, sleepInMillis), counted);
+                return;
+            }
+            long sleepNanos = Math.min(evaluated + TimeUnit.MILLISECONDS.toNanos(sleepInMillis) - Waits.nanoTime(), Waits.remainingNanos(deadline));
+            if (sleepNanos > 0) {
+                Waits.sleep(sleepNanos);
+            }
+        }
+    }
+
+    private static String waitInPage(WebDriver driver, List<WebElement> webElements, long timeoutMillis) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return UNSUPPORTED;
+        }
+        return (String) ((JavascriptExecutor) Instrumentation.instrument(driver)).executeAsyncScript(WAIT_SCRIPT, webElements, Math.max(timeoutMillis, 0));
+    }
+
+    /**
+     * @return whether all elements are shown, told with one script if the
+     * driver can run scripts
+     */
+    private static boolean shown(WebDriver driver, List<WebElement> webElements, Polls polls) {
+        polls.count++;
+        try {
+            // Resolves lazy page factory elements, which may not be in the page yet
+            List<WebElement> elements = new ArrayList<>(webElements);
+            return !elements.isEmpty() && hiddenIn(driver, elements).isEmpty();
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            // Not in the page yet
+            return false;
+        }
+    }
+
+    /**
+     * @return the indexes of the elements that are not shown, checked with
+     * one script if the driver can run scripts and element by element else
+     */
+    private static List<Integer> hiddenIn(WebDriver driver, List<WebElement> webElements) {
+        // Resolves lazy page factory elements, which may not be in the page yet
+        List<WebElement> elements = new ArrayList<>(webElements);
+        if (driver instanceof JavascriptExecutor) {
+            try {
+                List<?> indexes = (List<?>) ((JavascriptExecutor) Instrumentation.instrument(driver)).executeScript(HIDDEN_SCRIPT, elements);
+                List<Integer> hidden = new ArrayList<>(indexes.size());
+                for (Object index : indexes) {
+                    hidden.add(((Number) index).intValue());
+                }
+                return hidden;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                throw e;
+            } catch (WebDriverException e) {
+                Waits.checkInterrupted();
+                // The driver can not run scripts, ask it element by element
+            }
+        }
+        return notDisplayedIn(elements);
+    }
+
+    /**
+     * @return the indexes of the elements that the driver tells are not
+     * displayed, asked element by element
+     */
+    private static List<Integer> notDisplayedIn(List<WebElement> elements) {
+        List<Integer> notDisplayed = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            if (!Instrumentation.instrument(elements.get(i)).isDisplayed()) {
+                notDisplayed.add(i);
+            }
+        }
+        return notDisplayed;
+    }
+
+    /**
+     * @return the hidden elements or null if they could not be told
+     */
+    private static List<Integer> hiddenAfterTimeout(WebDriver driver, List<WebElement> webElements) {
+        try {
+            return hiddenIn(driver, webElements);
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static void fallback(final WebDriver driver, final List<WebElement> webElements, long deadline, long sleepInMillis, Polls polls, double time, TimeUnit unit) {
+        final Hidden lastHidden = new Hidden();
+        try {
+            Waits.until(Waits.webDriverWait(driver, deadline, sleepInMillis), counted(new Predicate<WebDriver>() {
+                @Override
+                public boolean apply(WebDriver driver) {
+                    try {
+                        List<Integer> hidden = hiddenIn(driver, webElements);
+                        lastHidden.indexes = hidden;
+                        return hidden.isEmpty();
+                    } catch (StaleElementReferenceException e) {
+                        return false;
+                    }
+                }
+
+                @Override
+                public String toString() {
+                    return "visibility of " + webElements;
+                }
+            }, polls));
+        } catch (TimeoutException e) {
+            throw visibilityTimeout(time, unit, webElements, lastHidden.indexes);
+        }
+    }
+
+    private static TimeoutException visibilityTimeout(double time, TimeUnit unit, List<WebElement> webElements, List<Integer> hidden) {
+        StringBuilder message = new StringBuilder("Timed out after " + secondsOf(time, unit) + " seconds waiting for visibility of " + webElements);
+        if (hidden == null) {
+            message.append("\n    Elements not found");
+        } else {
+            message.append("\n    ").append(hidden.size()).append(" of ").append(webElements.size()).append(" elements still hidden:");
+            for (int i = 0; i < hidden.size() && i < MAX_REPORTED_HIDDEN; i++) {
+                message.append("\n        [").append(hidden.get(i)).append("] ").append(webElements.get(hidden.get(i)));
+            }
+            if (hidden.size() > MAX_REPORTED_HIDDEN) {
+                message.append("\n        ...");
+            }
+        }
+        return new TimeoutException(message.toString());
+    }
+
+    private static Predicate<WebDriver> counted(final Predicate<WebDriver> predicate, final Polls polls) {
+        return new Predicate<WebDriver>() {
+            @Override
+            public boolean apply(WebDriver driver) {
+                polls.count++;
+                return predicate.apply(driver);
+            }
+
+            @Override
+            public String toString() {
+                return predicate.toString();
+            }
+        };
+    }
+
+    static void waited(String condition, double time, TimeUnit unit, long start, Polls polls, boolean satisfied) {
+        if (CommandListeners.hasWaitListeners()) {
+            CommandListeners.notify(new WaitEvent(condition, BotUtils.asNanos(time, unit), Waits.nanoTime() - start, polls.count, satisfied));
+        }
+    }
+
+    static class Polls {
+        int count;
+    }
+
+    private static class Hidden {
+        List<Integer> indexes;
+    }
+
+    /**
+     * @return the longest time an asynchronous script may wait in the page,
+     * the script timeout of the session less a margin for the round trip
+     */
+    static long scriptMillis(WebDriver driver) {
+        long scriptTimeoutMillis = scriptTimeoutMillis(driver);
+        return Math.max(scriptTimeoutMillis - Math.min(SCRIPT_TIMEOUT_MARGIN_MILLIS, scriptTimeoutMillis / 2), 1);
+    }
+
+    private static long scriptTimeoutMillis(WebDriver driver) {
+        Long configured = Long.getLong("webdriverextensions.scripttimeoutmillis");
+        if (configured != null) {
+            return configured;
+        }
+        if (driver instanceof HasCapabilities) {
+            Object timeouts = ((HasCapabilities) driver).getCapabilities().getCapability("timeouts");
+            if (timeouts instanceof Map && ((Map<?, ?>) timeouts).get("script") instanceof Number) {
+                return ((Number) ((Map<?, ?>) timeouts).get("script")).longValue();
+            }
+        }
+        return DEFAULT_SCRIPT_TIMEOUT_MILLIS;
+    }
+
+    static String secondsOf(double time, TimeUnit unit) {
+        return NumberUtils.toString(BotUtils.asNanos(time, unit) / 1000000000.0);
+    }
+
+    private static long remainingMillis(long deadline) {
+        return Waits.remainingMillis(deadline);
+    }
+}
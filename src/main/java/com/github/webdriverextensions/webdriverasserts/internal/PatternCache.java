@@ -0,0 +1,43 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Compiled regular expressions shared by all matches asserts.
+ *
+ * <p>Holds at most {@link #maxSize()} patterns and evicts the least recently
+ * used ones beyond that. The size defaults to {@link #DEFAULT_MAX_SIZE} and
+ * can be set with the {@code webdriverextensions.patterncachesize} system
+ * property.</p>
+ */
+public class PatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final Cache<String, Pattern> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(maxSize())
+            .build();
+
+    private PatternCache() {}
+
+    public static int maxSize() {
+        return Integer.getInteger("webdriverextensions.patterncachesize", DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if the regular
+     * expression is invalid, invalid expressions are not cached
+     */
+    public static Pattern compile(String regularExpression) {
+        Pattern pattern = CACHE.getIfPresent(regularExpression);
+        if (pattern == null) {
+            // Compiling the same pattern twice in a race is harmless
+            pattern = Pattern.compile(regularExpression);
+            CACHE.put(regularExpression, pattern);
+        }
+        return pattern;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.CommandListeners;
+import com.github.webdriverextensions.webdriverasserts.WaitEvent;
+import com.github.webdriverextensions.webdriverasserts.WaitInterruptedException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+/**
+ * Polls a {@link Condition} until it holds or a timeout passes.
+ *
+ * <p>The first poll is made right away. The delay between the following polls
+ * starts at {@link #INITIAL_DELAY_MILLIS} and doubles up to
+ * {@link #MAX_DELAY_MILLIS}. Each delay is randomly shortened by up to half
+ * (jitter) so that parallel tests polling the same grid do not end up in
+ * lockstep. Elements that are not found or stale and texts that are not yet
+ * numbers count as the condition not holding yet.</p>
+ */
+public class Poller {
+
+    public static final long INITIAL_DELAY_MILLIS = 10;
+    public static final long MAX_DELAY_MILLIS = 500;
+
+    private Poller() {}
+
+    public interface Condition {
+        boolean holds();
+    }
+
+    /**
+     * Polls until the timeout passes or the {@link com.github.webdriverextensions.webdriverasserts.Deadline}
+     * of the thread is reached, whichever comes first.
+     *
+     * @return true if the condition held before the timeout passed, false if
+     * it did not
+     * @throws com.github.webdriverextensions.webdriverasserts.WaitInterruptedException
+     * if the thread is interrupted while waiting
+     */
+    public static boolean poll(Condition condition, double time, TimeUnit unit) {
+        long timeoutNanos = BotUtils.asNanos(time, unit);
+        long start = Waits.nanoTime();
+        long deadline = Waits.deadlineAfter(timeoutNanos);
+        long delayMillis = INITIAL_DELAY_MILLIS;
+        int polls = 0;
+        while (true) {
+            polls++;
+            if (holds(condition)) {
+                return polled(true, timeoutNanos, start, polls);
+            }
+            long remainingNanos = Waits.remainingNanos(deadline);
+            if (remainingNanos <= 0) {
+                return polled(false, timeoutNanos, start, polls);
+            }
+            long sleepNanos = Math.min(TimeUnit.MILLISECONDS.toNanos(jitter(delayMillis)), remainingNanos);
+            try {
+                Waits.sleep(sleepNanos);
+            } catch (WaitInterruptedException e) {
+                polled(false, timeoutNanos, start, polls);
+                throw e;
+            }
+            delayMillis = Math.min(delayMillis * 2, MAX_DELAY_MILLIS);
+        }
+    }
+
+    private static boolean polled(boolean satisfied, long timeoutNanos, long start, int polls) {
+        if (CommandListeners.hasWaitListeners()) {
+            CommandListeners.notify(new WaitEvent("condition", timeoutNanos, Waits.nanoTime() - start, polls, satisfied));
+        }
+        return satisfied;
+    }
+
+    private static boolean holds(Condition condition) {
+        try {
+            return condition.holds();
+        } catch (NotFoundException | StaleElementReferenceException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static long jitter(long delayMillis) {
+        return delayMillis / 2 + ThreadLocalRandom.current().nextLong(delayMillis / 2 + 1);
+    }
+}
@@ -0,0 +1,317 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Waits until the page has been idle for a quiet period, i.e. has not
+ * changed its DOM, or has had no fetch or XHR request pending, for that long.
+ *
+ * <p>The page is watched by one asynchronous script that counts mutations
+ * with a {@code MutationObserver} and calls back as soon as the page has been
+ * quiet for the period, so a wait usually costs a single round trip.
+ * Requests are counted by wrapping {@code XMLHttpRequest.prototype.send} and
+ * {@code fetch}, either by {@link #trackNetwork(WebDriver)} or else the first
+ * time a network wait runs in a page. Requests started before that are not
+ * counted as pending, but the wait notes when they end through the resource
+ * timing entries of the page and waits the quiet period from there. A page
+ * that is still loading is never quiet.</p>
+ *
+ * <p>Browsers without {@code MutationObserver} and drivers that cannot run
+ * asynchronous scripts fall back to polling a fingerprint of the DOM and the
+ * number of pending requests with a script. If the page navigates away
+ * during the wait the wait starts over in the new page. Any other failure of
+ * the script, e.g. a lost session ({@code NoSuchSessionException},
+ * {@code UnreachableBrowserException}) or a javascript error, is thrown right
+ * away. A wait that times out while the page keeps navigating has the last
+ * failure as its cause. Like the
+ * {@link ObserverWait}s these waits leave the script timeout of the session as
+ * it is and run their script again when it is about to time out, which starts
+ * the quiet period over.</p>
+ */
+public class QuietWait {
+
+    private static final long MAX_POLL_DELAY_MILLIS = 250;
+
+    private static final String QUIET = "quiet";
+    private static final String TIMEOUT = "timeout";
+    private static final String UNSUPPORTED = "unsupported";
+
+    private static final String NETWORK_TRACKER =
+            "function resourceCount() {"
+            + "    return window.performance && performance.getEntriesByType ? performance.getEntriesByType('resource').length : 0;"
+            + "}"
+            // Requests started before the tracker add a resource entry when they end
+            + "function noteResources() {"
+            + "    var resources = resourceCount();"
+            + "    if (resources != network.resources) {"
+            + "        network.resources = resources;"
+            + "        network.last = new Date().getTime();"
+            + "    }"
+            + "}"
+            + "var network = window.__webdriverextensionsNetwork;"
+            + "if (trackNetwork && !network) {"
+            + "    network = window.__webdriverextensionsNetwork = {pending: 0, last: new Date().getTime(), resources: resourceCount()};"
+            + "    var started = function() {"
+            + "        network.pending++;"
+            + "        network.last = new Date().getTime();"
+            + "    };"
+            + "    var ended = function() {"
+            + "        network.pending--;"
+            + "        network.last = new Date().getTime();"
+            + "    };"
+            + "    if (window.XMLHttpRequest) {"
+            + "        var send = XMLHttpRequest.prototype.send;"
+            + "        XMLHttpRequest.prototype.send = function() {"
+            + "            var pending = true;"
+            + "            var end = function() {"
+            + "                if (pending) {"
+            + "                    pending = false;"
+            + "                    ended();"
+            + "                }"
+            + "            };"
+            + "            started();"
+            + "            this.addEventListener('loadend', end);"
+            + "            try {"
+            + "                return send.apply(this, arguments);"
+            + "            } catch (e) {"
+            + "                end();"
+            + "                throw e;"
+            + "            }"
+            + "        };"
+            + "    }"
+            + "    if (window.fetch) {"
+            + "        var fetch = window.fetch;"
+            + "        window.fetch = function() {"
+            + "            started();"
+            + "            try {"
+            + "                return fetch.apply(this, arguments).then(function(response) {"
+            + "                    ended();"
+            + "                    return response;"
+            + "                }, function(error) {"
+            + "                    ended();"
+            + "                    throw error;"
+            + "                });"
+            + "            } catch (e) {"
+            + "                ended();"
+            + "                throw e;"
+            + "            }"
+            + "        };"
+            + "    }"
+            + "}";
+
+    private static final String QUIET_SCRIPT =
+            "var trackDom = arguments[0];"
+            + "var trackNetwork = arguments[1];"
+            + "var quietPeriod = arguments[2];"
+            + "var timeout = arguments[3];"
+            + "var callback = arguments[arguments.length - 1];"
+            + "if (typeof MutationObserver == 'undefined') {"
+            + "    callback('" + UNSUPPORTED + "');"
+            + "    return;"
+            + "}"
+            + NETWORK_TRACKER
+            + "var start = new Date().getTime();"
+            + "var lastMutation = start;"
+            + "var observer = new MutationObserver(function() {"
+            + "    lastMutation = new Date().getTime();"
+            + "});"
+            + "if (trackDom) {"
+            + "    observer.observe(document.documentElement, {attributes: true, childList: true, characterData: true, subtree: true});"
+            + "}"
+            + "var timer;"
+            + "function check() {"
+            + "    var now = new Date().getTime();"
+            + "    var quietSince = trackDom ? lastMutation : start;"
+            + "    if (trackNetwork) {"
+            + "        noteResources();"
+            + "        quietSince = network.pending > 0 ? now : Math.max(quietSince, network.last);"
+            + "    }"
+            + "    if (document.readyState != 'complete') {"
+            + "        quietSince = now;"
+            + "    }"
+            + "    var result = now - quietSince >= quietPeriod ? '" + QUIET + "' : now - start >= timeout ? '" + TIMEOUT + "' : null;"
+            + "    if (result) {"
+            + "        observer.disconnect();"
+            + "        clearInterval(timer);"
+            + "        callback(result);"
+            + "    }"
+            + "}"
+            + "timer = setInterval(check, Math.max(Math.min(quietPeriod / 4, " + MAX_POLL_DELAY_MILLIS + "), 1));";
+
+    private static final String ACTIVITY_SCRIPT =
+            "var trackDom = arguments[0];"
+            + "var trackNetwork = arguments[1];"
+            + NETWORK_TRACKER
+            + "var fingerprint = 0;"
+            + "if (trackDom) {"
+            + "    var html = document.documentElement.outerHTML;"
+            + "    for (var i = 0; i < html.length; i++) {"
+            + "        fingerprint = (fingerprint * 31 + html.charCodeAt(i)) | 0;"
+            + "    }"
+            + "}"
+            + "if (trackNetwork) {"
+            + "    noteResources();"
+            + "}"
+            + "return {"
+            + "    fingerprint: String(fingerprint),"
+            + "    last: trackNetwork ? network.last : 0,"
+            + "    pending: trackNetwork ? network.pending : 0,"
+            + "    loading: document.readyState != 'complete'"
+            + "};";
+
+    private static final String TRACK_NETWORK_SCRIPT =
+            "var trackNetwork = true;"
+            + NETWORK_TRACKER;
+
+    private QuietWait() {}
+
+    /**
+     * Starts counting the requests of the current page if they are not
+     * counted yet.
+     */
+    public static void trackNetwork(WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new WebDriverException(driver.getClass().getSimpleName() + " can not run the scripts needed to track the network");
+        }
+        ((JavascriptExecutor) Instrumentation.instrument(driver)).executeScript(TRACK_NETWORK_SCRIPT);
+    }
+
+    public static void waitForDomQuiet(WebDriver driver, double quietPeriod, double timeout, TimeUnit unit) {
+        waitForQuiet(driver, true, false, quietPeriod, timeout, unit);
+    }
+
+    public static void waitForNetworkIdle(WebDriver driver, double quietPeriod, double timeout, TimeUnit unit) {
+        waitForQuiet(driver, false, true, quietPeriod, timeout, unit);
+    }
+
+    private static void waitForQuiet(WebDriver driver, boolean trackDom, boolean trackNetwork, double quietPeriod, double timeout, TimeUnit unit) {
+        long start = Waits.nanoTime();
+        ObserverWait.Polls polls = new ObserverWait.Polls();
+        boolean satisfied = false;
+        try {
+            waitForQuiet(driver, trackDom, trackNetwork, BotUtils.asNanos(quietPeriod, unit), timeout, unit, polls);
+            satisfied = true;
+        } finally {
+            ObserverWait.waited(trackDom ? "dom quiet" : "network idle", timeout, unit, start, polls, satisfied);
+        }
+    }
+
+    private static void waitForQuiet(WebDriver driver, boolean trackDom, boolean trackNetwork, long quietNanos, double timeout, TimeUnit unit, ObserverWait.Polls polls) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new WebDriverException(driver.getClass().getSimpleName() + " can not run the scripts needed to wait for the page to be quiet");
+        }
+        JavascriptExecutor javascriptExecutor = (JavascriptExecutor) Instrumentation.instrument(driver);
+        long deadline = Waits.deadlineAfter(BotUtils.asNanos(timeout, unit));
+        long scriptMillis = ObserverWait.scriptMillis(driver);
+        long quietMillis = TimeUnit.NANOSECONDS.toMillis(quietNanos);
+        WebDriverException navigation = null;
+        while (true) {
+            Waits.checkInterrupted();
+            polls.count++;
+            String result;
+            try {
+                result = (String) javascriptExecutor.executeAsyncScript(QUIET_SCRIPT, trackDom, trackNetwork, quietMillis, Math.max(Math.min(Waits.remainingMillis(deadline), scriptMillis), 0));
+            } catch (UnsupportedCommandException e) {
+                result = UNSUPPORTED;
+            } catch (TimeoutException e) {
+                // The driver timed out the script before the page did
+                result = null;
+            } catch (WebDriverException e) {
+                Waits.checkInterrupted();
+                if (!navigatedAway(e)) {
+                    throw e;
+                }
+                // Start over in the new page
+                navigation = e;
+                long remainingNanos = Waits.remainingNanos(deadline);
+                if (remainingNanos > 0) {
+                    Waits.sleep(Math.min(pollDelayNanos(quietNanos), remainingNanos));
+                }
+                result = null;
+            }
+            if (QUIET.equals(result)) {
+                return;
+            }
+            if (UNSUPPORTED.equals(result)) {
+                poll(javascriptExecutor, trackDom, trackNetwork, quietNanos, deadline, timeout, unit, polls);
+                return;
+            }
+            // The script times out before the session does, look again while the wait lasts
+            if (Waits.remainingNanos(deadline) <= 0) {
+                throw timeout(trackDom, quietNanos, timeout, unit, navigation);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void poll(JavascriptExecutor javascriptExecutor, boolean trackDom, boolean trackNetwork, long quietNanos, long deadline, double timeout, TimeUnit unit, ObserverWait.Polls polls) {
+        long delayNanos = pollDelayNanos(quietNanos);
+        long quietSince = Waits.nanoTime();
+        String lastFingerprint = null;
+        WebDriverException navigation = null;
+        while (true) {
+            Waits.checkInterrupted();
+            polls.count++;
+            long now;
+            try {
+                Map<String, Object> activity = (Map<String, Object>) javascriptExecutor.executeScript(ACTIVITY_SCRIPT, trackDom, trackNetwork);
+                now = Waits.nanoTime();
+                String fingerprint = activity.get("fingerprint") + " " + activity.get("last");
+                boolean busy = ((Number) activity.get("pending")).longValue() > 0 || Boolean.TRUE.equals(activity.get("loading"));
+                if (busy || !fingerprint.equals(lastFingerprint)) {
+                    quietSince = now;
+                    lastFingerprint = fingerprint;
+                }
+            } catch (WebDriverException e) {
+                Waits.checkInterrupted();
+                if (!navigatedAway(e)) {
+                    throw e;
+                }
+                navigation = e;
+                now = Waits.nanoTime();
+                quietSince = now;
+                lastFingerprint = null;
+            }
+            if (now - quietSince >= quietNanos) {
+                return;
+            }
+            long remainingNanos = Waits.remainingNanos(deadline);
+            if (remainingNanos <= 0) {
+                throw timeout(trackDom, quietNanos, timeout, unit, navigation);
+            }
+            Waits.sleep(Math.min(delayNanos, remainingNanos));
+        }
+    }
+
+    private static long pollDelayNanos(long quietNanos) {
+        return Math.max(Math.min(quietNanos / 4, TimeUnit.MILLISECONDS.toNanos(MAX_POLL_DELAY_MILLIS)), TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * @return whether the script failed since the page it ran in was unloaded
+     */
+    private static boolean navigatedAway(WebDriverException e) {
+        if (e instanceof StaleElementReferenceException) {
+            return true;
+        }
+        // Drivers tell it apart by message only, e.g. "document unloaded while
+        // waiting for result" or "Document was unloaded during execution"
+        String message = e.getMessage() != null ? e.getMessage().toLowerCase(Locale.ENGLISH) : "";
+        return message.contains("unloaded") || message.contains("navigated");
+    }
+
+    private static TimeoutException timeout(boolean trackDom, long quietNanos, double timeout, TimeUnit unit, WebDriverException navigation) {
+        return new TimeoutException("Timed out after " + ObserverWait.secondsOf(timeout, unit) + " seconds waiting for "
+                + (trackDom ? "the DOM to be quiet" : "the network to be idle") + " for "
+                + NumberUtils.toString(quietNanos / 1000000.0) + " ms", navigation);
+    }
+}
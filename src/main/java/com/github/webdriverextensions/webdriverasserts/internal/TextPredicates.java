@@ -0,0 +1,387 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.WebDriverAssertionError;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Evaluates the text predicates, e.g. contains and starts with, in the page so
+ * that only whether the predicate holds and a short excerpt of the text are
+ * sent back instead of the whole text.
+ *
+ * <p>The text asserts and actions use this when the
+ * {@code webdriverextensions.textinbrowser} system property is true. The page
+ * text is the trimmed {@code innerText} of the element, or empty if the
+ * element is not displayed, with non breaking spaces replaced by spaces like
+ * {@link WebElement#getText()} does. It can differ from
+ * {@link WebElement#getText()} in how whitespace inside the text is
+ * collapsed.</p>
+ *
+ * <p>Regular expressions are translated to javascript {@code RegExp}s when
+ * they mean the same in both, see {@link #jsRegExpOf(Pattern)}. Other
+ * expressions and texts with characters outside the Basic Multilingual Plane
+ * are matched in Java as before. Failure messages contain at most
+ * {@link #excerptLength()} characters of the text, the
+ * {@code webdriverextensions.textexcerptlength} system property sets it.</p>
+ */
+public class TextPredicates {
+
+    public static final int DEFAULT_EXCERPT_LENGTH = 200;
+
+    private static final String TEXT_PREDICATE_SCRIPT =
+            "var element = arguments[0];"
+            + "var predicate = arguments[1];"
+            + "var expected = arguments[2];"
+            + "var expectedToHold = arguments[3];"
+            + "var excerptLength = arguments[4];"
+            + BotUtils.IS_SHOWN_FUNCTION
+            + "function fold(s) {"
+            + "    var folded = s.toUpperCase().toLowerCase();"
+            + "    if (folded.length == s.length) {"
+            + "        return folded;"
+            + "    }"
+            + "    var chars = [];"
+            + "    for (var i = 0; i < s.length; i++) {"
+            + "        var c = s.charAt(i);"
+            + "        var f = c.toUpperCase().toLowerCase();"
+            + "        chars.push(f.length == 1 ? f : c);"
+            + "    }"
+            + "    return chars.join('');"
+            + "}"
+            + "function startsWith(text, prefix) {"
+            + "    return text.lastIndexOf(prefix, 0) === 0;"
+            + "}"
+            + "function endsWith(text, suffix) {"
+            + "    return text.length >= suffix.length && text.indexOf(suffix, text.length - suffix.length) !== -1;"
+            + "}"
+            + "var text = isShown(element) ? (element.innerText || '').replace(/\\u00a0/g, ' ').replace(/^[\\x00-\\x20]+|[\\x00-\\x20]+$/g, '') : '';"
+            + "var holds;"
+            + "switch (predicate) {"
+            + "    case 'EQUALS': holds = text === expected; break;"
+            + "    case 'EQUALS_IGNORE_CASE': holds = text.length == expected.length && fold(text) === fold(expected); break;"
+            + "    case 'CONTAINS': holds = text.indexOf(expected) !== -1; break;"
+            + "    case 'CONTAINS_IGNORE_CASE': holds = fold(text).indexOf(fold(expected)) !== -1; break;"
+            + "    case 'STARTS_WITH': holds = startsWith(text, expected); break;"
+            + "    case 'STARTS_WITH_IGNORE_CASE': holds = startsWith(fold(text), fold(expected)); break;"
+            + "    case 'ENDS_WITH': holds = endsWith(text, expected); break;"
+            + "    case 'ENDS_WITH_IGNORE_CASE': holds = endsWith(fold(text), fold(expected)); break;"
+            + "    case 'MATCHES':"
+            + "        if (/[\\ud800-\\udfff]/.test(text)) {"
+            + "            return null;"
+            + "        }"
+            + "        holds = new RegExp(expected).test(text);"
+            + "        break;"
+            + "}"
+            + "var excerpt = '';"
+            + "if (holds !== expectedToHold) {"
+            + "    var fromEnd = predicate.indexOf('ENDS_WITH') == 0;"
+            + "    excerpt = text.length <= excerptLength ? text : fromEnd ? text.substring(text.length - excerptLength) : text.substring(0, excerptLength);"
+            + "}"
+            + "return {holds: holds, length: text.length, excerpt: excerpt};";
+
+    private TextPredicates() {}
+
+    public static boolean inBrowser() {
+        return Boolean.getBoolean("webdriverextensions.textinbrowser");
+    }
+
+    public static int excerptLength() {
+        return Integer.getInteger("webdriverextensions.textexcerptlength", DEFAULT_EXCERPT_LENGTH);
+    }
+
+    /**
+     * Evaluates the predicate in the page.
+     *
+     * @param expectedToHold true if the caller expects the predicate to hold,
+     * an excerpt of the text is only sent back if it does not
+     * @return the result or null if the predicate can not be evaluated in the
+     * page, e.g. since expected is null
+     */
+    public static Result evaluate(Predicate predicate, String expected, boolean expectedToHold, WebElement webElement) {
+        if (expected == null || predicate == Predicate.MATCHES) {
+            return null;
+        }
+        return evaluateScript(predicate, expected, expectedToHold, webElement);
+    }
+
+    /**
+     * Matches the regular expression in the page.
+     *
+     * @return the result or null if the regular expression or the text can not
+     * be matched in the page
+     */
+    public static Result evaluateMatches(Pattern regExp, boolean expectedToHold, WebElement webElement) {
+        String jsRegExp = regExp != null ? jsRegExpOf(regExp) : null;
+        if (jsRegExp == null) {
+            return null;
+        }
+        return evaluateScript(Predicate.MATCHES, jsRegExp, expectedToHold, webElement);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Result evaluateScript(Predicate predicate, String expected, boolean expectedToHold, WebElement webElement) {
+        Map<String, Object> result = (Map<String, Object>) BotUtils.executeJavascript(TEXT_PREDICATE_SCRIPT, webElement, predicate.name(), expected, expectedToHold, excerptLength());
+        if (result == null) {
+            return null;
+        }
+        return new Result(predicate,
+                Boolean.TRUE.equals(result.get("holds")),
+                ((Number) result.get("length")).intValue(),
+                (String) result.get("excerpt"));
+    }
+
+    /**
+     * Asserts the text predicate in the page if {@link #inBrowser()} is true.
+     *
+     * @param expectedToHold true to assert that the predicate holds, false to
+     * assert that it does not
+     * @return true if the predicate was evaluated in the page and the assert
+     * passed, false if it was not evaluated and the caller should assert it
+     * itself
+     * @throws WebDriverAssertionError if the assert failed
+     */
+    public static boolean assertedInBrowser(Predicate predicate, String expected, boolean expectedToHold, WebElement webElement) {
+        if (!inBrowser()) {
+            return false;
+        }
+        return assertResult(evaluate(predicate, expected, expectedToHold, webElement), expected, expectedToHold, webElement);
+    }
+
+    /**
+     * @see #assertedInBrowser(Predicate, String, boolean, WebElement)
+     */
+    public static boolean assertedMatchesInBrowser(String regExp, boolean expectedToHold, WebElement webElement) {
+        if (!inBrowser() || regExp == null) {
+            return false;
+        }
+        return assertedMatchesInBrowser(PatternCache.compile(regExp), expectedToHold, webElement);
+    }
+
+    /**
+     * @see #assertedInBrowser(Predicate, String, boolean, WebElement)
+     */
+    public static boolean assertedMatchesInBrowser(Pattern regExp, boolean expectedToHold, WebElement webElement) {
+        if (!inBrowser() || regExp == null) {
+            return false;
+        }
+        return assertResult(evaluateMatches(regExp, expectedToHold, webElement), regExp.pattern(), expectedToHold, webElement);
+    }
+
+    /**
+     * @return the result of the predicate or null if {@link #inBrowser()} is
+     * false or the predicate can not be evaluated in the page
+     */
+    public static Boolean holds(Predicate predicate, String expected, WebElement webElement) {
+        if (!inBrowser()) {
+            return null;
+        }
+        Result result = evaluate(predicate, expected, true, webElement);
+        return result != null ? result.holds() : null;
+    }
+
+    /**
+     * @see #holds(Predicate, String, WebElement)
+     */
+    public static Boolean matches(String regExp, WebElement webElement) {
+        if (!inBrowser() || regExp == null) {
+            return null;
+        }
+        return matches(PatternCache.compile(regExp), webElement);
+    }
+
+    /**
+     * @see #holds(Predicate, String, WebElement)
+     */
+    public static Boolean matches(Pattern regExp, WebElement webElement) {
+        if (!inBrowser()) {
+            return null;
+        }
+        Result result = evaluateMatches(regExp, true, webElement);
+        return result != null ? result.holds() : null;
+    }
+
+    private static boolean assertResult(Result result, String expected, boolean expectedToHold, WebElement webElement) {
+        if (result == null) {
+            return false;
+        }
+        if (result.holds() != expectedToHold) {
+            String message = expectedToHold
+                    ? "Text is not " + result.predicate.description + " " + StringUtils.quote(expected)
+                    : "Text is " + result.predicate.description + " " + StringUtils.quote(expected) + " when it shouldn't";
+            throw new WebDriverAssertionError(message + StringUtils.indent("\nText: " + result.excerpt(), "    "), webElement);
+        }
+        return true;
+    }
+
+    /**
+     * Translates a Java regular expression matched against the whole text to
+     * a javascript {@code RegExp} source that matches the same texts.
+     *
+     * <p>Only expressions without flags and built from literals, escaped
+     * punctuation, character classes, {@code \d}, {@code \D}, {@code \w},
+     * {@code \W}, {@code \s}, {@code \S}, groups, lookaheads and greedy and
+     * reluctant quantifiers are translated. {@code .} and {@code \s} are
+     * spelled out since they match other characters in javascript. Back
+     * references are not translated since a reference to a group that did not
+     * participate in the match fails in Java but matches the empty string in
+     * javascript.</p>
+     *
+     * @return the source or null if the expression may mean something else in
+     * javascript
+     */
+    public static String jsRegExpOf(Pattern regExp) {
+        if (regExp.flags() != 0) {
+            return null;
+        }
+        String source = regExp.pattern();
+        StringBuilder js = new StringBuilder("^(?:");
+        boolean inClass = false;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            char next = i + 1 < source.length() ? source.charAt(i + 1) : 0;
+            if (Character.isSurrogate(c)) {
+                return null;
+            }
+            if (c == '\\') {
+                if (next == 0) {
+                    return null;
+                }
+                i++;
+                if ("dDwW".indexOf(next) != -1) {
+                    js.append(c).append(next);
+                } else if ("tnrf".indexOf(next) != -1) {
+                    js.append(c).append(next);
+                } else if (next == 's') {
+                    js.append(inClass ? " \\t\\n\\x0B\\f\\r" : "[ \\t\\n\\x0B\\f\\r]");
+                } else if (next == 'S' && !inClass) {
+                    js.append("[^ \\t\\n\\x0B\\f\\r]");
+                } else if (next == 'x' && isHex(source, i + 1, 2)) {
+                    js.append(source, i - 1, i + 3);
+                    i += 2;
+                } else if (next == 'u' && isHex(source, i + 1, 4)) {
+                    js.append(source, i - 1, i + 5);
+                    i += 4;
+                } else if (next < 128 && !Character.isLetterOrDigit(next)) {
+                    js.append(c).append(next);
+                } else {
+                    return null;
+                }
+            } else if (inClass) {
+                if (c == '[' || c == '&' && next == '&') {
+                    return null;
+                }
+                if (c == ']') {
+                    inClass = false;
+                }
+                js.append(c);
+            } else if (c == '[') {
+                inClass = true;
+                js.append(c);
+                if (next == '^') {
+                    js.append(next);
+                    i++;
+                    next = i + 1 < source.length() ? source.charAt(i + 1) : 0;
+                }
+                if (next == ']') {
+                    return null;
+                }
+            } else if (c == '(' && next == '?') {
+                char kind = i + 2 < source.length() ? source.charAt(i + 2) : 0;
+                if (kind != ':' && kind != '=' && kind != '!') {
+                    return null;
+                }
+                js.append(c);
+            } else if ((c == '*' || c == '+' || c == '?' || c == '}') && next == '+') {
+                // Possessive quantifier
+                return null;
+            } else if (c == '.') {
+                js.append("[^\\n\\r\\u0085\\u2028\\u2029]");
+            } else if (c == '$' && next != 0) {
+                return null;
+            } else {
+                js.append(c);
+            }
+        }
+        if (inClass) {
+            return null;
+        }
+        return js.append(")$").toString();
+    }
+
+    private static boolean isHex(String source, int start, int length) {
+        if (start + length > source.length()) {
+            return false;
+        }
+        for (int i = start; i < start + length; i++) {
+            if (Character.digit(source.charAt(i), 16) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+
+    /* Predicate */
+    public enum Predicate {
+        EQUALS("equal to"),
+        EQUALS_IGNORE_CASE("equal to"),
+        CONTAINS("containing"),
+        CONTAINS_IGNORE_CASE("containing"),
+        STARTS_WITH("starting with"),
+        STARTS_WITH_IGNORE_CASE("starting with"),
+        ENDS_WITH("ending with"),
+        ENDS_WITH_IGNORE_CASE("ending with"),
+        MATCHES("matching");
+
+        private final String description;
+
+        Predicate(String description) {
+            this.description = description;
+        }
+    }
+
+
+
+    /* Result */
+    public static class Result {
+
+        private final Predicate predicate;
+        private final boolean holds;
+        private final int length;
+        private final String excerpt;
+
+        Result(Predicate predicate, boolean holds, int length, String excerpt) {
+            this.predicate = predicate;
+            this.holds = holds;
+            this.length = length;
+            this.excerpt = excerpt;
+        }
+
+        public boolean holds() {
+            return holds;
+        }
+
+        /**
+         * @return the length of the whole text
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @return the quoted excerpt, marked with ... where the text was cut,
+         * and the length of the text if it was cut
+         */
+        public String excerpt() {
+            if (excerpt.length() >= length) {
+                return StringUtils.quote(excerpt);
+            }
+            boolean fromEnd = predicate == Predicate.ENDS_WITH || predicate == Predicate.ENDS_WITH_IGNORE_CASE;
+            return (fromEnd ? "..." + StringUtils.quote(excerpt) : StringUtils.quote(excerpt) + "...")
+                    + " (" + length + " characters)";
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.Deadline;
+import com.github.webdriverextensions.webdriverasserts.WaitInterruptedException;
+import com.github.webdriverextensions.webdriverasserts.WaitTiming;
+import com.google.common.base.Function;
+import com.google.common.base.Predicate;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Clock;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * The timing all waits go through: reading the time, deadlines, sleeping and
+ * {@link WebDriverWait}s.
+ *
+ * <p>Time is read from and sleeping done by the {@link WaitTiming} of the
+ * current thread, in nanoseconds. Deadlines are bounded by the
+ * {@link Deadline} of the current thread. Sleeping keeps the interrupt status
+ * of the thread and throws a {@link WaitInterruptedException} when it is
+ * interrupted.</p>
+ */
+public class Waits {
+
+    private Waits() {}
+
+    public static long nanoTime() {
+        return WaitTiming.current().nanoTime();
+    }
+
+    /**
+     * @return the {@link #nanoTime()} the timeout from now passes at, or
+     * the deadline of the current thread if that comes first
+     */
+    public static long deadlineAfter(long timeoutNanos) {
+        long deadline = nanoTime() + Math.min(Math.max(timeoutNanos, 0), Long.MAX_VALUE / 2);
+        Deadline current = Deadline.current();
+        if (current != null && current.nanoTime() - deadline < 0) {
+            return current.nanoTime();
+        }
+        return deadline;
+    }
+
+    public static long remainingNanos(long deadline) {
+        return deadline - nanoTime();
+    }
+
+    public static long remainingMillis(long deadline) {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos(deadline));
+    }
+
+    /**
+     * @throws WaitInterruptedException if the thread is interrupted, the
+     * interrupt status is kept
+     */
+    public static void sleep(long nanos) {
+        try {
+            WaitTiming.current().sleeper().sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WaitInterruptedException("Interrupted while waiting", e);
+        }
+    }
+
+    public static void sleepUntil(long deadline) {
+        long remainingNanos = remainingNanos(deadline);
+        if (remainingNanos > 0) {
+            sleep(remainingNanos);
+        }
+    }
+
+    /**
+     * @throws WaitInterruptedException if the thread is interrupted, the
+     * interrupt status is kept
+     */
+    public static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new WaitInterruptedException("Interrupted while waiting", new InterruptedException());
+        }
+    }
+
+    /**
+     * @return a {@link WebDriverWait} that times out at the deadline to the
+     * millisecond, not rounded to whole seconds, and uses the
+     * {@link WaitTiming} of the current thread
+     */
+    public static FluentWait<WebDriver> webDriverWait(WebDriver driver, long deadline, long sleepInMillis) {
+        WaitTiming timing = WaitTiming.current();
+        WebDriverWait wait = timing.isSystem()
+                ? new WebDriverWait(driver, 0, sleepInMillis)
+                : new WebDriverWait(driver, new TimingClock(timing), new TimingSleeper(timing), 0, sleepInMillis);
+        return wait.withTimeout(Math.max(remainingMillis(deadline), 0), TimeUnit.MILLISECONDS);
+    }
+
+    public static <V> V until(FluentWait<WebDriver> wait, Function<? super WebDriver, V> isTrue) {
+        try {
+            return wait.until(isTrue);
+        } catch (WebDriverException e) {
+            throw interrupted(e);
+        }
+    }
+
+    public static void until(FluentWait<WebDriver> wait, Predicate<WebDriver> isTrue) {
+        try {
+            wait.until(isTrue);
+        } catch (WebDriverException e) {
+            throw interrupted(e);
+        }
+    }
+
+    // FluentWait wraps the InterruptedException of its sleeper and keeps the
+    // interrupt status
+    private static RuntimeException interrupted(WebDriverException e) {
+        if (e.getCause() instanceof InterruptedException) {
+            return new WaitInterruptedException("Interrupted while waiting", (InterruptedException) e.getCause());
+        }
+        return e;
+    }
+
+
+
+    private static class TimingClock implements Clock {
+
+        private final WaitTiming timing;
+
+        TimingClock(WaitTiming timing) {
+            this.timing = timing;
+        }
+
+        @Override
+        public long now() {
+            return TimeUnit.NANOSECONDS.toMillis(timing.nanoTime());
+        }
+
+        @Override
+        public long laterBy(long durationInMillis) {
+            return now() + durationInMillis;
+        }
+
+        @Override
+        public boolean isNowBefore(long endInMillis) {
+            return now() < endInMillis;
+        }
+    }
+
+    private static class TimingSleeper implements Sleeper {
+
+        private final WaitTiming timing;
+
+        TimingSleeper(WaitTiming timing) {
+            this.timing = timing;
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            timing.sleeper().sleep(duration.in(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncAssertsTest {
+
+    @After
+    public void tearDown() {
+        DriverContext.remove();
+    }
+
+    @Test
+    public void assertsOnDifferentDriversOverlap() throws Exception {
+        AsyncAsserts alice = WebDriverAsserts.async("alice", slowDriver("Alice"));
+        AsyncAsserts bob = WebDriverAsserts.async("bob", slowDriver("Bob"));
+        long start = System.nanoTime();
+        AsyncAsserts.allOf(
+                alice.assertTitleEquals("Alice"),
+                bob.assertTitleEquals("Bob")).get(5, TimeUnit.SECONDS);
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(550));
+        assertNull(DriverContext.current());
+    }
+
+    @Test
+    public void assertsOnOneDriverRunInOrderAndAllFailuresAreListed() {
+        AsyncAsserts alice = WebDriverAsserts.async("alice", slowDriver("Alice"));
+        AsyncAsserts bob = WebDriverAsserts.async(slowDriver("Bob"));
+        ListenableFuture<Void> first = alice.assertTitleEquals("Bob");
+        ListenableFuture<Void> second = alice.assertTitleEquals("Alice");
+        ListenableFuture<Void> third = bob.assertTitleNotEquals("Bob");
+        assertTrue(!second.isDone() || first.isDone());
+        try {
+            AsyncAsserts.assertAll(first, second, third);
+            fail("Expected a SoftAssertionError");
+        } catch (SoftAssertionError e) {
+            assertEquals(Arrays.asList("assertTitleEquals on alice", "assertTitleNotEquals"), e.getAsserts());
+            assertTrue(e.getMessage(), e.getMessage().startsWith("2 of 3 asserts failed"));
+        }
+    }
+
+    @Test
+    public void allOfFailsWithTheFailedAsserts() throws InterruptedException {
+        try {
+            AsyncAsserts.allOf(WebDriverAsserts.async(slowDriver("Alice")).assertTitleEquals("Bob")).get();
+            fail("Expected an ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals(Arrays.asList("assertTitleEquals"), ((SoftAssertionError) e.getCause()).getAsserts());
+        }
+    }
+
+    private static WebDriver slowDriver(final String title) {
+        return new DomWebDriver() {
+            @Override
+            public String getTitle() {
+                WebDriverActions.waitFor(300, TimeUnit.MILLISECONDS);
+                return title;
+            }
+        };
+    }
+}
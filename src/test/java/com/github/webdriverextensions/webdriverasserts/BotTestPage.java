@@ -75,6 +75,8 @@ public class BotTestPage {
     // Attributes
     @FindBy(css = "#prefixidsuffix")
     public WebElement attributesSpan;
+    @FindBy(css = "#relative-link")
+    public WebElement relativeLink;
 
     // Appended Span
     @FindBy(css = "#firstappended-span")
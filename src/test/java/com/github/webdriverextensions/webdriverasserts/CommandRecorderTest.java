@@ -0,0 +1,96 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommandRecorderTest {
+
+    private final RoundTripCounter counter = new RoundTripCounter();
+    private final CommandRecorder recorder = new CommandRecorder();
+    private final Thread thread = Thread.currentThread();
+    // Other tests run in parallel, only record the commands sent by this one
+    private final CommandListener listener = new CommandListener() {
+        @Override
+        public void onCommand(CommandEvent event) {
+            if (Thread.currentThread() == thread) {
+                recorder.onCommand(event);
+            }
+        }
+    };
+    private final AssertionListener assertionListener = new AssertionListener() {
+        @Override
+        public void onAssertion(AssertionEvent event) {
+            if (Thread.currentThread() == thread) {
+                recorder.onAssertion(event);
+            }
+        }
+    };
+
+    @Before
+    public void setUp() {
+        CommandListeners.add(listener);
+        CommandListeners.addAssertionListener(assertionListener);
+    }
+
+    @After
+    public void tearDown() {
+        CommandListeners.remove(listener);
+        CommandListeners.removeAssertionListener(assertionListener);
+        DriverContext.remove();
+    }
+
+    @Test
+    public void commandsAreAttributedToTheAssertion() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title", JavascriptExecutor.class));
+        WebDriverAsserts.assertTitleEquals("Title");
+        WebDriverAsserts.assertTitleEquals("Title");
+        WebDriverActions.executeJavascript("return 'Title';");
+
+        CommandRecorder.Stats assertTitleEquals = recorder.getAssertionStats().get("WebDriverAsserts.assertTitleEquals");
+        assertEquals(2, assertTitleEquals.getCommands());
+        assertEquals(0, assertTitleEquals.getScripts());
+        CommandRecorder.Stats executeJavascript = recorder.getAssertionStats().get("WebDriverActions.executeJavascript");
+        assertEquals(1, executeJavascript.getScripts());
+        assertEquals(3, recorder.getThreadStats().get(thread.getName()).getCommands());
+        assertEquals(3, counter.roundTrips());
+        assertTrue(recorder.summary().contains("WebDriverAsserts.assertTitleEquals"));
+    }
+
+    @Test
+    public void callsAreRecordedOncePerAssertion() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title", JavascriptExecutor.class));
+        for (int i = 0; i < 2; i++) {
+            WebDriverAsserts.assertTitleEquals("Title");
+        }
+
+        CommandRecorder.Stats assertTitleEquals = recorder.getAssertionStats().get("WebDriverAsserts.assertTitleEquals");
+        assertEquals(2, assertTitleEquals.getInvocations());
+        assertEquals(1.0, assertTitleEquals.getCommandsPerInvocation(), 0);
+        assertTrue(assertTitleEquals.getInvocationNanos() > 0);
+        assertTrue(assertTitleEquals.getInvocationPercentileNanos(99) > 0);
+        assertEquals(2, recorder.getThreadStats().get(thread.getName()).getInvocations());
+        assertTrue(recorder.summary().contains("cmds/call"));
+    }
+
+    @Test
+    public void percentilesAreBoundedByTheLatencies() {
+        for (int nanos = 1; nanos <= 1000; nanos++) {
+            recorder.onCommand(new CommandEvent("getText", null, nanos * 1000L, "Text", null));
+        }
+        CommandRecorder.Stats stats = recorder.getThreadStats().get(thread.getName());
+        assertWithin(500000, stats.getPercentileNanos(50));
+        assertWithin(950000, stats.getPercentileNanos(95));
+        assertWithin(990000, stats.getPercentileNanos(99));
+        assertEquals(500500000L, stats.getTotalNanos());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual + " should be within 12.5% above " + expected, actual >= expected && actual <= expected * 1.125);
+    }
+}
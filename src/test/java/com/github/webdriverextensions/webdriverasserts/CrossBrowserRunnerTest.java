@@ -0,0 +1,98 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CrossBrowserRunnerTest {
+
+    private final WebDriver chrome = driver("<title>Home</title>");
+    private final WebDriver firefox = driver("<title>Home</title>");
+    private final WebDriver edge = driver("<title>Start</title>");
+
+    @Test
+    public void checksRunOnEachDriverInParallel() {
+        // Each browser waits for the others to start the check, which only
+        // passes if all three run it at the same time
+        final CountDownLatch started = new CountDownLatch(3);
+        CrossBrowserResults results = new CrossBrowserRunner(Arrays.asList(chrome, firefox, edge))
+                .check("parallel", new Runnable() {
+                    @Override
+                    public void run() {
+                        started.countDown();
+                        try {
+                            assertTrue(started.await(10, TimeUnit.SECONDS));
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                    }
+                })
+                .check("title", new Runnable() {
+                    @Override
+                    public void run() {
+                        WebDriverActions.waitFor(300, TimeUnit.MILLISECONDS);
+                        WebDriverAsserts.assertTitleEquals("Home");
+                    }
+                })
+                .check("url", new Runnable() {
+                    @Override
+                    public void run() {
+                        WebDriverAsserts.assertCurrentUrlEquals("about:blank");
+                    }
+                })
+                .run();
+        assertTrue(results.get("parallel", "dom 1").passed());
+        assertTrue(results.get("parallel", "dom 1 (2)").passed());
+        assertTrue(results.get("parallel", "dom 1 (3)").passed());
+        assertEquals(Arrays.asList("dom 1", "dom 1 (2)", "dom 1 (3)"), results.getBrowsers());
+        assertTrue(results.get("title", "dom 1").passed());
+        assertFalse(results.get("title", "dom 1 (3)").passed());
+        assertTrue(results.get("url", "dom 1 (3)").passed());
+        assertTrue(results.get("title", "dom 1").getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals("           dom 1    dom 1 (2)   dom 1 (3)\n"
+                + "parallel   passed   passed      passed\n"
+                + "title      passed   passed      FAILED\n"
+                + "url        passed   passed      passed", results.toString());
+        try {
+            results.assertPassed();
+            fail("Expected a SoftAssertionError");
+        } catch (SoftAssertionError e) {
+            assertEquals(Arrays.asList("title on dom 1 (3)"), e.getAsserts());
+        }
+        assertNull(DriverContext.current());
+    }
+
+    @Test
+    public void blocksRunWithoutTheAddedChecks() {
+        CrossBrowserRunner runner = new CrossBrowserRunner(Arrays.asList(chrome, edge));
+        CrossBrowserResults home = runner.run(new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertTitleEquals("Home");
+            }
+        });
+        CrossBrowserResults url = runner.run(new Runnable() {
+            @Override
+            public void run() {
+                WebDriverAsserts.assertCurrentUrlEquals("about:blank");
+            }
+        });
+        assertFalse(home.get("check", "dom 1 (2)").passed());
+        url.assertPassed();
+    }
+
+    private static WebDriver driver(String html) {
+        DomWebDriver driver = new DomWebDriver();
+        driver.load(html);
+        return driver;
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.model.Statement;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DeadlineTest {
+
+    @Rule
+    public DeadlineRule deadline = new DeadlineRule(20, TimeUnit.SECONDS);
+
+    @After
+    public void tearDown() {
+        DriverContext.remove();
+        // Clears an interrupt a failed test may have left
+        Thread.interrupted();
+    }
+
+    @Test
+    public void deadlineCutsWaitsShort() {
+        long start = System.nanoTime();
+        try (Deadline deadline = Deadline.open(100, TimeUnit.MILLISECONDS)) {
+            WebDriverActions.waitFor(10);
+            assertTrue(deadline.isExpired());
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+    }
+
+    @Test
+    public void deadlineBoundsPolling() {
+        WebDriverAsserts.setDriver(new RoundTripCounter().stub(WebDriver.class, "Title"));
+        long start = System.nanoTime();
+        try (Deadline deadline = Deadline.open(200, TimeUnit.MILLISECONDS)) {
+            WebDriverAsserts.within(10, TimeUnit.SECONDS).assertTitleEquals("Other title");
+            fail("Expected the assert to fail");
+        } catch (WebDriverAssertionError e) {
+            assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        }
+    }
+
+    @Test
+    public void nestedDeadlineDoesNotExtendOuterDeadline() {
+        Deadline rule = Deadline.current();
+        try (Deadline outer = Deadline.open(1, TimeUnit.SECONDS)) {
+            try (Deadline inner = Deadline.open(1, TimeUnit.HOURS)) {
+                assertEquals(outer.nanoTime(), inner.nanoTime());
+                assertSame(inner, Deadline.current());
+            }
+            assertSame(outer, Deadline.current());
+        }
+        assertSame(rule, Deadline.current());
+    }
+
+    @Test
+    public void interruptedWaitThrowsAndKeepsInterruptStatus() {
+        Thread.currentThread().interrupt();
+        try {
+            WebDriverActions.waitFor(10);
+            fail("Expected WaitInterruptedException");
+        } catch (WaitInterruptedException e) {
+            assertTrue(e.getCause() instanceof InterruptedException);
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void interruptedPollThrowsAndKeepsInterruptStatus() {
+        WebDriverAsserts.setDriver(new RoundTripCounter().stub(WebDriver.class, "Title"));
+        Thread.currentThread().interrupt();
+        try {
+            WebDriverAsserts.within(10, TimeUnit.SECONDS).assertTitleEquals("Other title");
+            fail("Expected WaitInterruptedException");
+        } catch (WaitInterruptedException e) {
+            assertTrue(Thread.interrupted());
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    public void ruleClosesDeadline() throws Throwable {
+        final Deadline[] inTest = new Deadline[1];
+        new DeadlineRule(1, TimeUnit.MINUTES).apply(new Statement() {
+            @Override
+            public void evaluate() {
+                inTest[0] = Deadline.current();
+            }
+        }, null).evaluate();
+        assertTrue(inTest[0].remainingNanos() > 0);
+        assertFalse(inTest[0] == Deadline.current());
+    }
+}
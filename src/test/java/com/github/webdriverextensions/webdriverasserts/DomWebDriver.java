@@ -0,0 +1,516 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.logging.Logs;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+/**
+ * A {@link WebDriver} backed by an in-memory DOM parsed from html, for
+ * testing the asserts and actions without starting a browser.
+ *
+ * <p>Finds elements by id, name, class name, tag name and css selector. Tells
+ * if elements are displayed from the inline styles of the elements and their
+ * ancestors. Page scripts are not run. Of the scripts sent with
+ * {@link #executeScript(String, Object...)} only the scripts of the library
+ * are answered, they are recognized by their first statement and evaluated
+ * against the DOM in Java. Asynchronous scripts are answered as by a browser
+ * without {@code MutationObserver} which makes the waits fall back to
+ * polling. Use {@link #appendLater(String, String, long, TimeUnit)} to
+ * change the page while a test runs, like a page script would.</p>
+ */
+public class DomWebDriver implements WebDriver, JavascriptExecutor, HasCapabilities {
+
+    private static final String HTML_SCRIPT = "var element = arguments[0];var maxLength = arguments[1];";
+    private static final String SNAPSHOT_SCRIPT = "var element = arguments[0];function isShown(e)";
+    private static final String SNAPSHOTS_SCRIPT = "var elements = arguments[0];function isShown(e)";
+    private static final String SELECT_SNAPSHOT_SCRIPT = "var select = arguments[0];";
+    private static final String COUNT_SCRIPT = "var type = arguments[0];var selector = arguments[1];";
+    private static final String INNER_HTML_SCRIPT = "return arguments[0].innerHTML;";
+    private static final String SCROLL_INTO_VIEW_SCRIPT = "arguments[0].scrollIntoView(true);";
+    private static final String HIDDEN_SCRIPT = "var elements = arguments[0];var hidden = [];";
+    private static final String WAIT_SCRIPT = "var elements = arguments[0];var timeout = arguments[1];";
+    private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); }";
+    private static final String QUIET_SCRIPT = "var trackDom = arguments[0];var trackNetwork = arguments[1];";
+    private static final String TRACK_NETWORK_SCRIPT = "var trackNetwork = true;";
+
+    private final Capabilities capabilities = new DesiredCapabilities("dom", "1", Platform.ANY);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "DomWebDriver");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private Document document = Jsoup.parse("");
+    private String currentUrl = "about:blank";
+    private volatile long scriptTimeoutMillis = 30000;
+    private final Set<String> windowHandles = new LinkedHashSet<>(Collections.singleton("dom"));
+    private String windowHandle = "dom";
+    private volatile WebDriverException scriptFailure;
+
+    /* Loading */
+    @Override
+    public void get(String url) {
+        if ("about:blank".equals(url)) {
+            load("");
+            return;
+        }
+        try (InputStream in = new URL(url).openStream()) {
+            load(Jsoup.parse(in, "UTF-8", url), url);
+        } catch (IOException e) {
+            throw new WebDriverException("Could not load " + url, e);
+        }
+    }
+
+    public void load(String html) {
+        load(Jsoup.parse(html), "about:blank");
+    }
+
+    private synchronized void load(Document document, String url) {
+        this.document = document;
+        this.currentUrl = url;
+    }
+
+    /**
+     * Makes all scripts throw the exception, e.g. to act like a browser that
+     * crashed or a page that is unloading, or stop doing so with null.
+     */
+    public void failScripts(WebDriverException failure) {
+        scriptFailure = failure;
+    }
+
+    /**
+     * Appends html to the elements matching a css selector after a delay.
+     */
+    public void appendLater(final String cssSelector, final String html, long delay, TimeUnit unit) {
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (DomWebDriver.this) {
+                    document.select(cssSelector).append(html);
+                }
+            }
+        }, delay, unit);
+    }
+
+    @Override
+    public synchronized String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public synchronized String getTitle() {
+        return document.title();
+    }
+
+    @Override
+    public synchronized String getPageSource() {
+        return document.outerHtml();
+    }
+
+    /* Finding */
+    @Override
+    public List<WebElement> findElements(By by) {
+        return findElements(by, null);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return findElement(by, null);
+    }
+
+    synchronized List<WebElement> findElements(By by, Element root) {
+        Elements found = (root != null ? root : document).select(cssSelectorOf(by));
+        List<WebElement> webElements = new ArrayList<>(found.size());
+        for (Element element : found) {
+            if (element != root) {
+                webElements.add(new DomWebElement(this, element));
+            }
+        }
+        return webElements;
+    }
+
+    WebElement findElement(By by, Element root) {
+        List<WebElement> found = findElements(by, root);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + by);
+        }
+        return found.get(0);
+    }
+
+    private static String cssSelectorOf(By by) {
+        String description = by.toString();
+        int separator = description.indexOf(": ");
+        String type = description.substring(0, separator);
+        String value = description.substring(separator + 2);
+        switch (type) {
+            case "By.cssSelector":
+                return value;
+            case "By.id":
+                return "[id=\"" + value + "\"]";
+            case "By.name":
+                return "[name=\"" + value + "\"]";
+            case "By.className":
+                return "." + value;
+            case "By.tagName":
+                return value;
+            default:
+                throw new InvalidSelectorException(type + " is not supported by " + DomWebDriver.class.getSimpleName());
+        }
+    }
+
+    /* Javascript */
+    @Override
+    public synchronized Object executeScript(String script, Object... args) {
+        if (scriptFailure != null) {
+            throw scriptFailure;
+        }
+        if (script.startsWith(HTML_SCRIPT)) {
+            return htmlOf(elementOf(args[0]), ((Number) args[1]).intValue());
+        }
+        if (script.startsWith(SNAPSHOT_SCRIPT)) {
+            return snapshotOf(elementOf(args[0]));
+        }
+        if (script.startsWith(SNAPSHOTS_SCRIPT)) {
+            List<Map<String, Object>> snapshots = new ArrayList<>();
+            for (Object element : (List<?>) args[0]) {
+                snapshots.add(snapshotOf(elementOf(element)));
+            }
+            return snapshots;
+        }
+        if (script.startsWith(HIDDEN_SCRIPT)) {
+            List<Long> hidden = new ArrayList<>();
+            List<?> elements = (List<?>) args[0];
+            for (int i = 0; i < elements.size(); i++) {
+                if (!DomWebElement.isDisplayed(elementOf(elements.get(i)))) {
+                    hidden.add((long) i);
+                }
+            }
+            return hidden;
+        }
+        if (script.startsWith(SELECT_SNAPSHOT_SCRIPT)) {
+            return selectSnapshotOf(elementOf(args[0]));
+        }
+        if (script.startsWith(COUNT_SCRIPT) && "css".equals(args[0])) {
+            return (long) document.select((String) args[1]).size();
+        }
+        if (script.equals(INNER_HTML_SCRIPT)) {
+            return elementOf(args[0]).html();
+        }
+        if (script.equals(SCROLL_INTO_VIEW_SCRIPT)) {
+            return null;
+        }
+        if (script.startsWith(CLEAR_STORAGE_SCRIPT)) {
+            return null;
+        }
+        if (script.startsWith(TRACK_NETWORK_SCRIPT)) {
+            return null;
+        }
+        if (script.startsWith(QUIET_SCRIPT)) {
+            Map<String, Object> activity = new LinkedHashMap<>();
+            activity.put("fingerprint", String.valueOf(document.html().hashCode()));
+            activity.put("pending", 0L);
+            activity.put("last", 0L);
+            activity.put("loading", false);
+            return activity;
+        }
+        throw new UnsupportedCommandException("Script is not supported by " + getClass().getSimpleName() + ": " + script);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        if (scriptFailure != null) {
+            throw scriptFailure;
+        }
+        if (script.startsWith(WAIT_SCRIPT) || script.startsWith(QUIET_SCRIPT)) {
+            return "unsupported";
+        }
+        throw new UnsupportedCommandException("Script is not supported by " + getClass().getSimpleName() + ": " + script);
+    }
+
+    private static Element elementOf(Object argument) {
+        // Page factory elements are proxies, unwrap them like remote drivers do
+        while (argument instanceof WrapsElement) {
+            argument = ((WrapsElement) argument).getWrappedElement();
+        }
+        return ((DomWebElement) argument).element();
+    }
+
+    private static Map<String, Object> htmlOf(Element element, int maxLength) {
+        StringBuilder attributes = new StringBuilder();
+        for (Attribute attribute : element.attributes()) {
+            if (attributes.length() > 0) {
+                attributes.append(' ');
+            }
+            attributes.append(attribute.getKey()).append("=\"").append(attribute.getValue()).append('"');
+        }
+        String innerHtml = element.html();
+        Map<String, Object> html = new LinkedHashMap<>();
+        html.put("tagName", element.tagName());
+        html.put("attributes", attributes.toString());
+        html.put("innerHtml", innerHtml.length() > maxLength ? innerHtml.substring(0, maxLength) : innerHtml);
+        html.put("truncated", innerHtml.length() > maxLength);
+        return html;
+    }
+
+    private static Map<String, Object> snapshotOf(Element element) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (Attribute attribute : element.attributes()) {
+            String value = DomWebElement.attributeOf(element, attribute.getKey());
+            if (value != null) {
+                attributes.put(attribute.getKey(), value);
+            }
+        }
+        if (DomWebElement.isSelected(element)) {
+            attributes.put(element.tagName().equals("option") ? "selected" : "checked", "true");
+        }
+        boolean displayed = DomWebElement.isDisplayed(element);
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("tagName", element.tagName());
+        snapshot.put("attributes", attributes);
+        snapshot.put("text", displayed ? element.text() : "");
+        snapshot.put("value", DomWebElement.valueOf(element));
+        snapshot.put("displayed", displayed);
+        snapshot.put("enabled", DomWebElement.isEnabled(element));
+        snapshot.put("selected", DomWebElement.isSelected(element));
+        return snapshot;
+    }
+
+    private static Map<String, Object> selectSnapshotOf(Element select) {
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (Element option : select.select("option")) {
+            Map<String, Object> optionMap = new LinkedHashMap<>();
+            optionMap.put("text", option.text());
+            optionMap.put("value", DomWebElement.valueOf(option));
+            optionMap.put("enabled", DomWebElement.isEnabled(option));
+            optionMap.put("selected", DomWebElement.isSelected(option));
+            options.add(optionMap);
+        }
+        Map<String, Object> selectMap = new LinkedHashMap<>();
+        selectMap.put("tagName", select.tagName());
+        selectMap.put("options", options);
+        return selectMap;
+    }
+
+    /* Session */
+    @Override
+    public Capabilities getCapabilities() {
+        return capabilities;
+    }
+
+    @Override
+    public synchronized void close() {
+        windowHandles.remove(windowHandle);
+        if (windowHandles.isEmpty()) {
+            quit();
+        }
+    }
+
+    @Override
+    public void quit() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Opens a window showing the same page and switches to it, like a link
+     * opening a popup would.
+     */
+    public synchronized void openWindow(String handle) {
+        windowHandles.add(handle);
+        windowHandle = handle;
+    }
+
+    @Override
+    public synchronized Set<String> getWindowHandles() {
+        return new LinkedHashSet<>(windowHandles);
+    }
+
+    @Override
+    public synchronized String getWindowHandle() {
+        if (!windowHandles.contains(windowHandle)) {
+            throw new NoSuchWindowException("The window " + windowHandle + " is closed");
+        }
+        return windowHandle;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new DomTargetLocator(this);
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedCommandException("navigate");
+    }
+
+    @Override
+    public Options manage() {
+        return new DomOptions(this);
+    }
+
+    public long scriptTimeoutMillis() {
+        return scriptTimeoutMillis;
+    }
+
+    private static class DomTargetLocator implements TargetLocator {
+
+        private final DomWebDriver driver;
+
+        DomTargetLocator(DomWebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            synchronized (driver) {
+                if (!driver.windowHandles.contains(nameOrHandle)) {
+                    throw new NoSuchWindowException("No window " + nameOrHandle);
+                }
+                driver.windowHandle = nameOrHandle;
+                return driver;
+            }
+        }
+
+        @Override
+        public WebDriver frame(int index) {
+            throw new UnsupportedCommandException("frame");
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            throw new UnsupportedCommandException("frame");
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            throw new UnsupportedCommandException("frame");
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            throw new UnsupportedCommandException("parentFrame");
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return driver;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            throw new UnsupportedCommandException("activeElement");
+        }
+
+        @Override
+        public Alert alert() {
+            throw new UnsupportedCommandException("alert");
+        }
+    }
+
+    private static class DomOptions implements Options, Timeouts {
+
+        private final DomWebDriver driver;
+
+        DomOptions(DomWebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void addCookie(Cookie cookie) {
+            throw new UnsupportedCommandException("addCookie");
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+        }
+
+        @Override
+        public void deleteAllCookies() {
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return null;
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return this;
+        }
+
+        @Override
+        public ImeHandler ime() {
+            throw new UnsupportedCommandException("ime");
+        }
+
+        @Override
+        public Window window() {
+            throw new UnsupportedCommandException("window");
+        }
+
+        @Override
+        public Logs logs() {
+            throw new UnsupportedCommandException("logs");
+        }
+
+        @Override
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return this;
+        }
+
+        @Override
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            driver.scriptTimeoutMillis = unit.toMillis(time);
+            return this;
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * A {@link WebElement} of a {@link DomWebDriver} following the semantics of
+ * {@link WebElement} closely enough for the asserts and actions, e.g. boolean
+ * attributes are {@code "true"} or null and the text of hidden elements is
+ * empty.
+ */
+public class DomWebElement implements WebElement {
+
+    private static final List<String> BOOLEAN_ATTRIBUTES = Arrays.asList(
+            "async", "autofocus", "checked", "defer", "disabled", "hidden", "multiple", "readonly", "required", "selected");
+    private static final List<String> NOT_DISPLAYED_TAG_NAMES = Arrays.asList(
+            "head", "link", "meta", "noscript", "script", "style", "title");
+
+    private final DomWebDriver driver;
+    private final Element element;
+
+    DomWebElement(DomWebDriver driver, Element element) {
+        this.driver = driver;
+        this.element = element;
+    }
+
+    Element element() {
+        return element;
+    }
+
+    /* Commands */
+    @Override
+    public void click() {
+        synchronized (driver) {
+            String type = element.attr("type").toLowerCase();
+            if (element.tagName().equals("option")) {
+                Element select = selectOf(element);
+                if (select != null && !select.hasAttr("multiple")) {
+                    select.select("option").removeAttr("selected");
+                    element.attr("selected", "selected");
+                } else if (element.hasAttr("selected")) {
+                    element.removeAttr("selected");
+                } else {
+                    element.attr("selected", "selected");
+                }
+            } else if (element.tagName().equals("input") && type.equals("checkbox")) {
+                if (element.hasAttr("checked")) {
+                    element.removeAttr("checked");
+                } else {
+                    element.attr("checked", "checked");
+                }
+            } else if (element.tagName().equals("input") && type.equals("radio")) {
+                Element root = element.ownerDocument() != null ? element.ownerDocument() : element;
+                root.select("input[type=radio][name=\"" + element.attr("name") + "\"]").removeAttr("checked");
+                element.attr("checked", "checked");
+            }
+        }
+    }
+
+    @Override
+    public void submit() {
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        synchronized (driver) {
+            StringBuilder value = new StringBuilder(valueOf(element));
+            for (CharSequence keys : keysToSend) {
+                value.append(keys);
+            }
+            setValue(value.toString());
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (driver) {
+            setValue("");
+        }
+    }
+
+    private void setValue(String value) {
+        if (element.tagName().equals("textarea")) {
+            element.text(value);
+        } else {
+            element.attr("value", value);
+        }
+    }
+
+    /* Queries */
+    @Override
+    public String getTagName() {
+        return element.tagName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        synchronized (driver) {
+            return attributeOf(element, name);
+        }
+    }
+
+    @Override
+    public boolean isSelected() {
+        synchronized (driver) {
+            return isSelected(element);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        synchronized (driver) {
+            return isEnabled(element);
+        }
+    }
+
+    @Override
+    public String getText() {
+        synchronized (driver) {
+            return isDisplayed(element) ? element.text() : "";
+        }
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        synchronized (driver) {
+            return isDisplayed(element);
+        }
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by, element);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.findElement(by, element);
+    }
+
+    @Override
+    public Point getLocation() {
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return isDisplayed() ? new Dimension(100, 20) : new Dimension(0, 0);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        synchronized (driver) {
+            return inlineStyleOf(element, propertyName);
+        }
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedCommandException("getScreenshotAs");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DomWebElement && ((DomWebElement) other).element == element;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(element);
+    }
+
+    @Override
+    public String toString() {
+        return element.cssSelector();
+    }
+
+    /* Semantics */
+    static String attributeOf(Element element, String name) {
+        String attributeName = name.toLowerCase();
+        if (attributeName.equals("value")) {
+            return valueOf(element);
+        }
+        if (attributeName.equals("selected") || attributeName.equals("checked")) {
+            return isSelected(element) ? "true" : null;
+        }
+        if (BOOLEAN_ATTRIBUTES.contains(attributeName)) {
+            return element.hasAttr(attributeName) ? "true" : null;
+        }
+        if (attributeName.equals("href") && element.tagName().equals("a") || attributeName.equals("src") && element.tagName().equals("img")) {
+            return element.hasAttr(attributeName) ? element.absUrl(attributeName) : null;
+        }
+        if (attributeName.equals("classname")) {
+            attributeName = "class";
+        }
+        return element.hasAttr(attributeName) ? element.attr(attributeName) : null;
+    }
+
+    static boolean isDisplayed(Element element) {
+        if (element.tagName().equals("option") || element.tagName().equals("optgroup")) {
+            Element select = selectOf(element);
+            return select != null && isDisplayed(select);
+        }
+        if (element.tagName().equals("input") && element.attr("type").equalsIgnoreCase("hidden")) {
+            return false;
+        }
+        for (Element e = element; e != null; e = e.parent()) {
+            if (NOT_DISPLAYED_TAG_NAMES.contains(e.tagName())
+                    || e.hasAttr("hidden")
+                    || "none".equals(inlineStyleOf(e, "display"))
+                    || "hidden".equals(inlineStyleOf(e, "visibility"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isEnabled(Element element) {
+        if (element.hasAttr("disabled")) {
+            return false;
+        }
+        if (element.tagName().equals("option") || element.tagName().equals("optgroup")) {
+            Element parent = element.parent();
+            return parent == null || isEnabled(parent);
+        }
+        for (Element fieldset : element.parents()) {
+            if (fieldset.tagName().equals("fieldset") && fieldset.hasAttr("disabled")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isSelected(Element element) {
+        if (element.tagName().equals("option")) {
+            if (element.hasAttr("selected")) {
+                return true;
+            }
+            // A single select without selected options selects its first option
+            Element select = selectOf(element);
+            return select != null
+                    && !select.hasAttr("multiple")
+                    && select.select("option[selected]").isEmpty()
+                    && select.select("option").first() == element;
+        }
+        if (element.tagName().equals("input")) {
+            String type = element.attr("type").toLowerCase();
+            return (type.equals("checkbox") || type.equals("radio")) && element.hasAttr("checked");
+        }
+        return false;
+    }
+
+    static String valueOf(Element element) {
+        switch (element.tagName()) {
+            case "input":
+                return element.attr("value");
+            case "textarea":
+                return element.text();
+            case "option":
+                return element.hasAttr("value") ? element.attr("value") : element.text();
+            case "select":
+                for (Element option : element.select("option")) {
+                    if (isSelected(option)) {
+                        return valueOf(option);
+                    }
+                }
+                return "";
+            default:
+                return element.hasAttr("value") ? element.attr("value") : null;
+        }
+    }
+
+    private static Element selectOf(Element option) {
+        for (Element parent : option.parents()) {
+            if (parent.tagName().equals("select")) {
+                return parent;
+            }
+        }
+        return null;
+    }
+
+    private static String inlineStyleOf(Element element, String propertyName) {
+        for (String declaration : element.attr("style").split(";")) {
+            int colon = declaration.indexOf(':');
+            if (colon != -1 && declaration.substring(0, colon).trim().equalsIgnoreCase(propertyName)) {
+                return declaration.substring(colon + 1).trim().toLowerCase();
+            }
+        }
+        return "";
+    }
+}
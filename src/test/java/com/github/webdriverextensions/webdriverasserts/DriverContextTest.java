@@ -0,0 +1,88 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Instrumentation;
+import org.junit.After;
+import org.junit.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DriverContextTest {
+
+    private final RoundTripCounter counter = new RoundTripCounter();
+
+    @After
+    public void tearDown() {
+        DriverContext.remove();
+    }
+
+    @Test
+    public void driverIsSharedByAssertsAndActions() {
+        WebDriver driver = counter.stub(WebDriver.class, null);
+        WebDriverActions.setDriver(driver);
+        assertSame(driver, WebDriverAsserts.getDriver());
+        WebDriverAsserts.removeDriver();
+        assertNull(DriverContext.current());
+    }
+
+    @Test
+    public void closingRestoresPreviousDriver() {
+        WebDriver outer = counter.stub(WebDriver.class, null);
+        WebDriver inner = counter.stub(WebDriver.class, null);
+        WebDriverAsserts.setDriver(outer);
+        try (DriverContext context = DriverContext.open(inner)) {
+            assertSame(inner, WebDriverAsserts.getDriver());
+        }
+        assertSame(outer, WebDriverAsserts.getDriver());
+    }
+
+    @Test
+    public void viewsAreTheDriver() {
+        WebDriver driver = counter.stub(WebDriver.class, null, JavascriptExecutor.class);
+        try (DriverContext context = DriverContext.open(driver)) {
+            assertSame(driver, Instrumentation.uninstrumented(context.javascriptExecutor()));
+        }
+        assertNull(DriverContext.current());
+    }
+
+    @Test(expected = WebDriverException.class)
+    public void missingViewThrows() {
+        try (DriverContext context = DriverContext.open(counter.stub(WebDriver.class, null))) {
+            context.takesScreenshot();
+        }
+    }
+
+    @Test
+    public void driverIsNotInheritedByChildThreads() throws InterruptedException {
+        DriverContext.set(counter.stub(WebDriver.class, null));
+        final DriverContext[] inChild = new DriverContext[] {DriverContext.current()};
+        Thread child = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                inChild[0] = DriverContext.current();
+            }
+        });
+        child.start();
+        child.join();
+        assertNull(inChild[0]);
+    }
+
+    @Test
+    public void capabilitiesAreResolvedOnce() {
+        Capabilities capabilities = new DesiredCapabilities("chrome", "50", Platform.LINUX);
+        WebDriverActions.setDriver(counter.stub(WebDriver.class, capabilities, HasCapabilities.class));
+        assertTrue(WebDriverActions.browserIsChrome());
+        assertTrue(WebDriverActions.platformIsLinux());
+        assertTrue(WebDriverActions.versionIs("50"));
+        assertEquals(1, counter.roundTrips());
+    }
+}
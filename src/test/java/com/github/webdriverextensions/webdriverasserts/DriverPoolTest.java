@@ -0,0 +1,142 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.base.Supplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DriverPoolTest {
+
+    private final AtomicInteger started = new AtomicInteger();
+    private DriverPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new DriverPool(2, new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                started.incrementAndGet();
+                return new DomWebDriver();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+        DriverContext.remove();
+    }
+
+    @Test
+    public void warmUpStartsSessionsUpToTheSize() {
+        pool.warmUp(3);
+        assertEquals(2, started.get());
+        assertEquals(2, pool.idle());
+        pool.warmUp(2);
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    public void leaseSetsTheDriverAndReturnsAResetSession() {
+        WebDriver leased;
+        try (DriverPool.Lease lease = pool.lease()) {
+            leased = lease.driver();
+            assertSame(leased, WebDriverAsserts.getDriver());
+            ((DomWebDriver) leased).load("<p>Left by the test</p>");
+        }
+        assertNull(DriverContext.current());
+        assertEquals("about:blank", leased.getCurrentUrl());
+        try (DriverPool.Lease lease = pool.lease()) {
+            assertSame(leased, lease.driver());
+        }
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    public void resetClosesTheWindowsTheTestOpened() {
+        DomWebDriver leased;
+        try (DriverPool.Lease lease = pool.lease()) {
+            leased = (DomWebDriver) lease.driver();
+            leased.openWindow("popup");
+            leased.openWindow("tab");
+        }
+        assertEquals(Collections.singleton("dom"), leased.getWindowHandles());
+        assertEquals("dom", leased.getWindowHandle());
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    public void leaseTimesOutAtTheDeadline() {
+        try (DriverPool.Lease first = pool.lease();
+             DriverPool.Lease second = pool.lease();
+             Deadline deadline = Deadline.open(100, TimeUnit.MILLISECONDS)) {
+            long start = System.nanoTime();
+            try {
+                pool.lease(1, TimeUnit.MINUTES);
+                fail("Expected a TimeoutException");
+            } catch (TimeoutException e) {
+                assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+            }
+        }
+    }
+
+    @Test
+    public void discardedAndBrokenSessionsAreReplaced() {
+        WebDriver discarded;
+        try (DriverPool.Lease lease = pool.lease()) {
+            discarded = lease.driver();
+            lease.discard();
+        }
+        assertEquals(0, pool.sessions());
+        DriverPool brokenPool = new DriverPool(1, new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                started.incrementAndGet();
+                return new DomWebDriver() {
+                    @Override
+                    public Options manage() {
+                        throw new WebDriverException("Session is gone");
+                    }
+                };
+            }
+        });
+        try {
+            brokenPool.lease().close();
+            assertEquals(0, brokenPool.sessions());
+        } finally {
+            brokenPool.close();
+        }
+        try (DriverPool.Lease lease = pool.lease()) {
+            assertNotSame(discarded, lease.driver());
+        }
+        assertEquals(3, started.get());
+    }
+
+    @Test
+    public void leaseTimesOutWhenAllSessionsAreLeased() {
+        try (DriverPool.Lease first = pool.lease();
+             DriverPool.Lease second = pool.lease()) {
+            try {
+                pool.lease(100, TimeUnit.MILLISECONDS);
+                fail("Expected a TimeoutException");
+            } catch (TimeoutException e) {
+                assertSame(second.driver(), WebDriverAsserts.getDriver());
+            }
+        }
+        assertEquals(2, pool.idle());
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RoundTripBudgetTest {
+
+    @Rule
+    public RoundTripBudgetRule roundTripBudget = new RoundTripBudgetRule();
+
+    private final RoundTripCounter counter = new RoundTripCounter();
+
+    @After
+    public void tearDown() {
+        DriverContext.remove();
+    }
+
+    @Test
+    public void commandsWithinBudgetPass() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title"));
+        try (RoundTripBudget budget = RoundTripBudget.open(2)) {
+            WebDriverAsserts.assertTitleEquals("Title");
+            WebDriverAsserts.assertTitleEquals("Title");
+            assertEquals(2, budget.getCommands());
+        }
+        assertNull(RoundTripBudget.current());
+    }
+
+    @Test
+    public void exceedingBudgetFailsWithBreakdown() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title", JavascriptExecutor.class));
+        RoundTripBudget budget = RoundTripBudget.open(1);
+        WebDriverAsserts.assertTitleEquals("Title");
+        WebDriverActions.executeJavascript("return 'Title';");
+        try {
+            budget.close();
+            fail("Budget should be exceeded");
+        } catch (RoundTripBudgetExceededError e) {
+            assertEquals(2, e.getCommands());
+            assertTrue(e.getMessage(), e.getMessage().contains("2 commands (1 scripts) sent, 1 allowed"));
+            assertTrue(e.getMessage(), e.getMessage().contains("WebDriverAsserts.assertTitleEquals: getTitle 1"));
+            assertTrue(e.getMessage(), e.getMessage().contains("WebDriverActions.executeJavascript: executeScript 1"));
+        }
+    }
+
+    @Test
+    public void nestedBudgetsCountTowardsOuterBudget() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title"));
+        try (RoundTripBudget outer = RoundTripBudget.open(5)) {
+            try (RoundTripBudget inner = RoundTripBudget.open(1)) {
+                WebDriverAsserts.assertTitleEquals("Title");
+            }
+            WebDriverAsserts.assertTitleEquals("Title");
+            assertEquals(2, outer.getCommands());
+        }
+    }
+
+    @Test
+    @MaxRoundTrips(1)
+    public void ruleAppliesAnnotatedBudget() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "Title"));
+        WebDriverAsserts.assertTitleEquals("Title");
+        assertEquals(1, RoundTripBudget.current().getMaxCommands());
+    }
+
+    @Test
+    public void pageFactoryLookupsAreCounted() {
+        DomWebDriver driver = new DomWebDriver();
+        WebDriverAsserts.setDriver(driver);
+        BotTestPage botTestPage = PageFactory.initElements(driver, BotTestPage.class);
+        driver.get(botTestPage.url);
+        try (RoundTripBudget budget = RoundTripBudget.open(4)) {
+            WebDriverAsserts.assertTextEquals("prefixtextsuffix", botTestPage.textSpan);
+            WebDriverAsserts.assertIdEquals("text-span", botTestPage.textSpan);
+            // A lookup and a command per assert
+            assertEquals(4, budget.getCommands());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates stub drivers and elements that answer every command with a canned
+ * result and count the commands, i.e. the round trips a real driver would
+ * make.
+ */
+public class RoundTripCounter {
+
+    private int roundTrips;
+
+    public int roundTrips() {
+        return roundTrips;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T stub(Class<T> type, final Object result, Class<?>... otherTypes) {
+        Class<?>[] types = new Class<?>[otherTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(otherTypes, 0, types, 1, otherTypes.length);
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), types, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().equals("equals")) {
+                    return proxy == args[0];
+                }
+                if (method.getName().equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                if (method.getName().equals("toString")) {
+                    return "Stub " + method.getDeclaringClass().getSimpleName();
+                }
+                roundTrips++;
+                return result;
+            }
+        });
+    }
+}
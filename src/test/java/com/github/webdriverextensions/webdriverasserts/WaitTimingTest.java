@@ -0,0 +1,109 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.webdriverextensions.webdriverasserts.internal.Poller;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WaitTimingTest {
+
+    private final FakeTime time = new FakeTime();
+    private WaitTiming timing;
+
+    @Before
+    public void setUp() {
+        timing = WaitTiming.open(time, time);
+    }
+
+    @After
+    public void tearDown() {
+        timing.close();
+        DriverContext.remove();
+    }
+
+    @Test
+    public void waitForSleepsExactly() {
+        WebDriverActions.waitFor(1.5, TimeUnit.MILLISECONDS);
+        WebDriverActions.waitFor(2, TimeUnit.DAYS);
+        assertEquals(1500000L, (long) time.sleeps.get(0));
+        assertEquals(TimeUnit.DAYS.toNanos(2), (long) time.sleeps.get(1));
+    }
+
+    @Test
+    public void pollingBacksOffUntilTimeout() {
+        boolean held = Poller.poll(new Poller.Condition() {
+            @Override
+            public boolean holds() {
+                return false;
+            }
+        }, 2, TimeUnit.SECONDS);
+        assertFalse(held);
+        assertEquals(TimeUnit.SECONDS.toNanos(2), time.nanos);
+        for (long sleep : time.sleeps) {
+            assertTrue(sleep <= TimeUnit.MILLISECONDS.toNanos(Poller.MAX_DELAY_MILLIS));
+        }
+        assertTrue(time.sleeps.get(0) <= TimeUnit.MILLISECONDS.toNanos(Poller.INITIAL_DELAY_MILLIS));
+        assertTrue(time.sleeps.get(time.sleeps.size() - 2) >= TimeUnit.MILLISECONDS.toNanos(Poller.MAX_DELAY_MILLIS / 2));
+    }
+
+    @Test
+    public void pollingReturnsWhenConditionHolds() {
+        final long holdsAt = TimeUnit.MILLISECONDS.toNanos(300);
+        assertTrue(Poller.poll(new Poller.Condition() {
+            @Override
+            public boolean holds() {
+                return time.nanos >= holdsAt;
+            }
+        }, 10, TimeUnit.SECONDS));
+        assertTrue(time.nanos >= holdsAt);
+        assertTrue(time.nanos < holdsAt + TimeUnit.MILLISECONDS.toNanos(Poller.MAX_DELAY_MILLIS));
+    }
+
+    @Test
+    public void deadlinesAreReadFromTheClock() {
+        WebDriverAsserts.setDriver(new RoundTripCounter().stub(WebDriver.class, "Title"));
+        try (Deadline deadline = Deadline.open(250, TimeUnit.MILLISECONDS)) {
+            WebDriverAsserts.within(1, TimeUnit.HOURS).assertTitleEquals("Other title");
+            fail("Expected the assert to fail");
+        } catch (WebDriverAssertionError e) {
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(250), time.nanos);
+        }
+    }
+
+    @Test
+    public void timingsNest() {
+        FakeTime other = new FakeTime();
+        try (WaitTiming nested = WaitTiming.open(other, other)) {
+            assertSame(nested, WaitTiming.current());
+        }
+        assertSame(timing, WaitTiming.current());
+    }
+
+    private static class FakeTime implements WaitTiming.Clock, WaitTiming.Sleeper {
+
+        private final List<Long> sleeps = new ArrayList<>();
+        private long nanos;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        @Override
+        public void sleep(long nanos) {
+            sleeps.add(nanos);
+            this.nanos += nanos;
+        }
+    }
+}
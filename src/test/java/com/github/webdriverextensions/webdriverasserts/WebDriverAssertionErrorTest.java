@@ -0,0 +1,63 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.Assert.assertEquals;
+
+public class WebDriverAssertionErrorTest {
+
+    private RoundTripCounter counter;
+    private WebElement webElement;
+
+    @Before
+    public void setUp() {
+        counter = new RoundTripCounter();
+        Map<String, Object> html = new HashMap<>();
+        html.put("tagName", "span");
+        html.put("attributes", "id=\"some-id\"");
+        html.put("innerHtml", "");
+        html.put("truncated", false);
+        webElement = counter.stub(WebElement.class, null);
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, html, JavascriptExecutor.class));
+    }
+
+    @After
+    public void tearDown() {
+        WebDriverAsserts.removeDriver();
+    }
+
+    @Test
+    public void messageIsRenderedOnFirstUseOnly() {
+        WebDriverAssertionError error = new WebDriverAssertionError("Element is not displayed", webElement);
+        assertEquals(0, counter.roundTrips());
+
+        assertEquals("Element is not displayed\n    Element: <span id=\"some-id\" />", error.getMessage());
+        assertEquals("com.github.webdriverextensions.webdriverasserts.WebDriverAssertionError: " + error.getMessage(), error.toString());
+        assertEquals(1, counter.roundTrips());
+    }
+
+    @Test
+    public void messageIsRenderedWithTheDriverSetWhenCreated() {
+        WebDriverAssertionError error = new WebDriverAssertionError("Element is not displayed", webElement);
+        WebDriverAsserts.removeDriver();
+
+        assertEquals("Element is not displayed\n    Element: <span id=\"some-id\" />", error.getMessage());
+    }
+
+    @Test
+    public void withoutStackTraceCapturesNoStackTrace() {
+        WebDriverAssertionError error = WebDriverAssertionError.withoutStackTrace("Element is not displayed", webElement);
+
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals(0, counter.roundTrips());
+        assertEquals("Element is not displayed\n    Element: <span id=\"some-id\" />", error.getMessage());
+    }
+}
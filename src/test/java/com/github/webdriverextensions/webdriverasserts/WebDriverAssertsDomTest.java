@@ -0,0 +1,152 @@
+package com.github.webdriverextensions.webdriverasserts;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import com.google.common.base.Predicate;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs the {@link WebDriverAssertsTest} against a {@link DomWebDriver}
+ * instead of a browser.
+ */
+public class WebDriverAssertsDomTest extends WebDriverAssertsTest {
+
+    private DomWebDriver driver;
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        driver = new DomWebDriver();
+        WebDriverAsserts.setDriver(driver);
+        botTestPage = PageFactory.initElements(driver, BotTestPage.class);
+        driver.get(botTestPage.url);
+        // Does what the script of the page does since page scripts are not run,
+        // a little earlier so that the waits for the spans do not race them
+        driver.appendLater("body", "<span id=\"firstappended-span\" class=\"appended-span\">first apended span</span>", 1500, TimeUnit.MILLISECONDS);
+        driver.appendLater("body", "<span id=\"secondappended-span\" class=\"appended-span\">second apended span</span>", 3500, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        driver.quit();
+        WebDriverAsserts.removeDriver();
+    }
+
+    @Test
+    @Ignore("DomWebDriver does not evaluate xpaths")
+    @Override
+    public void countXpathTest() {
+    }
+
+    @Test
+    public void waitForElementsToDisplayReportsHiddenElements() {
+        driver.appendLater("body", "<span class=\"waited-span\">shown</span><span class=\"waited-span\" style=\"display: none\">hidden</span>", 0, TimeUnit.MILLISECONDS);
+        WebDriverActions.waitFor(200, TimeUnit.MILLISECONDS);
+        List<WebElement> spans = driver.findElements(By.cssSelector(".waited-span"));
+        CommandRecorder recorder = new CommandRecorder();
+        CommandListeners.add(recorder);
+        try {
+            WebDriverActions.waitForElementsToDisplay(spans, 1, 100);
+            fail("Expected a TimeoutException");
+        } catch (TimeoutException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("1 of 2 elements still hidden:\n        [1] "));
+        } finally {
+            CommandListeners.remove(recorder);
+        }
+        CommandRecorder.Stats stats = recorder.getThreadStats().get(Thread.currentThread().getName());
+        // One script per poll instead of one isDisplayed per element and poll
+        assertEquals(stats.getCommands(), stats.getScripts());
+    }
+
+    @Test
+    public void waitForDomQuietWaitsForTheLastChange() {
+        long start = System.nanoTime();
+        driver.appendLater("body", "<span>changed</span>", 100, TimeUnit.MILLISECONDS);
+        driver.appendLater("body", "<span>changed again</span>", 300, TimeUnit.MILLISECONDS);
+        WebDriverActions.waitForDomQuiet(300, 1200, TimeUnit.MILLISECONDS);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(550));
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void waitForDomQuietTimesOut() {
+        WebDriverActions.waitForDomQuiet(2, 0.2, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = NoSuchSessionException.class)
+    public void waitForDomQuietFailsWhenTheSessionIsGone() {
+        driver.failScripts(new NoSuchSessionException("Session is gone"));
+        WebDriverActions.waitForDomQuiet(300, 30000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void waitForDomQuietRetriesWhileThePageUnloads() {
+        WebDriverException unloaded = new WebDriverException("document unloaded while waiting for result");
+        driver.failScripts(unloaded);
+        try {
+            WebDriverActions.waitForDomQuiet(100, 300, TimeUnit.MILLISECONDS);
+            fail("Expected a TimeoutException");
+        } catch (TimeoutException e) {
+            assertEquals(unloaded, e.getCause());
+        } finally {
+            driver.failScripts(null);
+        }
+    }
+
+    @Test
+    public void waitForNetworkIdle() {
+        WebDriverActions.waitForNetworkIdle(100, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void waitForTrackedNetworkIdle() {
+        WebDriverActions.trackNetwork();
+        WebDriverActions.waitForNetworkIdle(100, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void waitForShownElementSendsOneScript() {
+        WebDriverActions.waitForElementToDisplay(botTestPage.textSpan, 10);
+        CommandRecorder recorder = new CommandRecorder();
+        CommandListeners.add(recorder);
+        try {
+            WebDriverActions.waitForElementToDisplay(botTestPage.textSpan, 10);
+        } finally {
+            CommandListeners.remove(recorder);
+        }
+        CommandRecorder.Stats stats = recorder.getThreadStats().get(Thread.currentThread().getName());
+        // The page factory lookup and the script telling it is shown
+        assertEquals(2, stats.getCommands());
+        assertEquals(1, stats.getScripts());
+    }
+
+    @Test
+    public void waitsLeaveTheScriptTimeoutAlone() {
+        driver.manage().timeouts().setScriptTimeout(5, TimeUnit.SECONDS);
+        WebDriverActions.waitForNetworkIdle(100, 10000, TimeUnit.MILLISECONDS);
+        WebDriverActions.waitForElementToDisplay(botTestPage.textSpan, 10);
+        WebDriverActions.waitUntil(new Predicate<WebDriver>() {
+            @Override
+            public boolean apply(WebDriver driver) {
+                return true;
+            }
+        }, 10);
+        assertEquals(5000, driver.scriptTimeoutMillis());
+    }
+}
@@ -3,28 +3,55 @@ package com.github.webdriverextensions.webdriverasserts;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import com.google.common.base.Supplier;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.PageFactory;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
 import static com.github.webdriverextensions.webdriverasserts.WebDriverAsserts.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class WebDriverAssertsTest {
 
+    // One session per surefire thread, started once for all tests
+    private static final DriverPool CHROME_DRIVERS = new DriverPool(4, new Supplier<WebDriver>() {
+        @Override
+        public WebDriver get() {
+            System.setProperty("webdriver.chrome.driver", "/Users/anders/Workspace/webdriverasserts/drivers/chromedriver-mac-32bit");
+            return new ChromeDriver();
+        }
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread("Quit Chrome drivers") {
+            @Override
+            public void run() {
+                CHROME_DRIVERS.close();
+            }
+        });
+    }
+
     BotTestPage botTestPage;
+    private DriverPool.Lease lease;
 
     @Before
     public void setUp() throws Exception {
-        System.setProperty("webdriver.chrome.driver", "/Users/anders/Workspace/webdriverasserts/drivers/chromedriver-mac-32bit");
-        ChromeDriver driver = new ChromeDriver();
-        WebDriverAsserts.setDriver(driver);
+        lease = CHROME_DRIVERS.lease();
+        WebDriver driver = lease.driver();
         botTestPage = PageFactory.initElements(driver, BotTestPage.class);
         driver.get(this.botTestPage.url);
     }
 
     @After
     public void tearDown() throws Exception {
-        WebDriverAsserts.getDriver().quit();
-        WebDriverAsserts.removeDriver();
+        lease.close();
     }
 
     /* Is Display */
@@ -36,6 +63,82 @@ public class WebDriverAssertsTest {
         assertIsDisplayed(botTestPage.secondAppendedSpan, 2);
     }
 
+    /* Within */
+    @Test
+    public void withinTest() {
+        within(3).assertIsDisplayed(botTestPage.firstAppendedSpan);
+        within(5, TimeUnit.SECONDS).assertTextEquals("second apended span", botTestPage.secondAppendedSpan);
+        within(1).assertSizeEquals(2, botTestPage.appendedSpans);
+    }
+
+    /* Soft Asserts */
+    @Test
+    public void softAssertsTest() {
+        // One script for the asserts plus a lookup per page factory element
+        try (RoundTripBudget budget = RoundTripBudget.open(3);
+             SoftAsserts softly = softAsserts()) {
+            softly.assertIsDisplayed(botTestPage.textSpan);
+            softly.assertTextEquals("prefixtextsuffix", botTestPage.textSpan);
+            softly.assertTagNameEquals("input", botTestPage.textInput);
+        }
+        try (SoftAsserts softly = softAsserts()) {
+            softly.assertIsDisplayed(botTestPage.textSpan);
+            softly.assertIsNotDisplayed(botTestPage.secondAppendedSpan);
+            softly.assertAttributeEquals("disabled", "true", botTestPage.selectOption3);
+            softly.assertAttributeEquals("checked", "true", botTestPage.checkbox1);
+            softly.assertHrefEndsWith("/html/bot-test.html", botTestPage.relativeLink);
+        }
+
+        SoftAsserts softly = softAsserts();
+        softly.assertTextEquals("wrong text", botTestPage.textSpan);
+        softly.assertTextEquals(42, botTestPage.textSpan);
+        softly.assertTitleEquals("wrong title");
+        softly.assertIsDisplayed(botTestPage.textSpan);
+        softly.assertTagNameEquals("span", botTestPage.textInput);
+        try {
+            softly.assertAll();
+            fail("Soft asserts should fail");
+        } catch (SoftAssertionError e) {
+            assertEquals(Arrays.asList("assertTextEquals", "assertTextEquals", "assertTitleEquals", "assertTagNameEquals"), e.getAsserts());
+            assertTrue(e.getFailures().get(1) instanceof NumberFormatException);
+        }
+    }
+
+    /* Element Collections */
+    @Test
+    public void elementCollectionTest() {
+        // One script per assert plus a lookup of the page factory list
+        try (RoundTripBudget budget = RoundTripBudget.open(8)) {
+            assertAllAttributeStartsWith("value", "option", botTestPage.selectAllOption);
+            assertAnyHasAttribute("disabled", botTestPage.selectAllOption);
+            assertAnyDisabled(botTestPage.selectAllOption);
+            assertNoneAttributeEquals("value", "option4value", botTestPage.selectAllOption);
+        }
+
+        // Attributes and text are resolved like getAttribute and getText
+        assertAnyAttributeEquals("disabled", "true", botTestPage.selectAllOption);
+        assertNoneAttributeEquals("disabled", "disabled", botTestPage.selectAllOption);
+        assertAnyAttributeEquals("selected", "true", botTestPage.selectAllOption);
+        assertAnyTextEquals(WebDriverActions.textIn(botTestPage.selectOption1), botTestPage.selectAllOption);
+
+        try {
+            assertAllAttributeEquals("value", "option1value", botTestPage.selectAllOption);
+            fail("Assert should fail");
+        } catch (WebDriverAssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("failed for 2 of 3 elements at indexes [1, 2]"));
+        }
+
+        // Texts that are not numbers fail number asserts element by element
+        assertNoneTextEquals(42, botTestPage.selectAllOption);
+        try {
+            assertAllTextEquals(42, botTestPage.selectAllOption);
+            fail("Assert should fail");
+        } catch (WebDriverAssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("failed for 3 of 3 elements at indexes [0, 1, 2]"));
+            assertTrue(e.getMessage(), e.getMessage().contains("NumberFormatException"));
+        }
+    }
+
     /* Size */
     @Test
     public void sizeTest() {
@@ -47,6 +150,40 @@ public class WebDriverAssertsTest {
         assertSizeGreaterThanOrEquals(3, botTestPage.selectAllOption);
     }
 
+    /* Count */
+    @Test
+    public void countTest() {
+        assertCountEquals(3, By.cssSelector("#select option"));
+        assertCountNotEquals(0, By.cssSelector("#select option"));
+        assertCountLessThan(4, By.cssSelector("#select option"));
+        assertCountLessThanOrEquals(3, By.cssSelector("#select option"));
+        assertCountGreaterThan(2, By.cssSelector("#select option"));
+        assertCountGreaterThanOrEquals(3, By.cssSelector("#select option"));
+        assertCountEquals(1, By.id("select"));
+        assertCountEquals(1, By.name("multiple-select"));
+        assertCountEquals(0, By.tagName("table"));
+
+        try {
+            assertCountEquals(2, By.cssSelector("#select option"));
+            fail("Assert should fail");
+        } catch (WebDriverAssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Count of By.cssSelector: #select option is not equal to"));
+        }
+    }
+
+    @Test
+    public void countXpathTest() {
+        assertCountEquals(3, By.xpath("//select[@id='select']/option"));
+        assertCountEquals(0, By.xpath("//table"));
+
+        try {
+            assertCountEquals(3, By.xpath("//select[@id='select']/option/text()"));
+            fail("Count should fail");
+        } catch (InvalidSelectorException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("is a #text node"));
+        }
+    }
+
     /* Url */
     @Test
     public void urlTest() {
@@ -265,6 +402,40 @@ public class WebDriverAssertsTest {
         assertIsDisabled(botTestPage.selectOption3);
     }
 
+    /* Snapshot */
+    @Test
+    public void snapshotTest() {
+        ElementSnapshot attributesSpan = snapshotOf(botTestPage.attributesSpan);
+        assertTagNameEquals("span", attributesSpan);
+        assertIdEquals("prefixidsuffix", attributesSpan);
+        assertNameStartsWith("prefixname", attributesSpan);
+        assertHasClass("prefixclass2suffix", attributesSpan);
+        assertHasNotClass("xxx", attributesSpan);
+        assertValueEquals("prefixvaluesuffix", attributesSpan);
+        assertHrefMatches(".*href.*", attributesSpan);
+
+        ElementSnapshot textSpan = snapshotOf(botTestPage.textSpan);
+        assertIsDisplayed(textSpan);
+        assertTextEquals("prefixtextsuffix", textSpan);
+        assertTextContainsIgnoreCase("TEXT", textSpan);
+
+        ElementSnapshot floatNumberInput = snapshotOf(botTestPage.floatNumberInput);
+        assertValueIsNumber(floatNumberInput);
+        assertValueGreaterThan(41.0, floatNumberInput);
+
+        assertIsChecked(snapshotOf(botTestPage.checkbox1));
+        assertIsUnchecked(snapshotOf(botTestPage.checkbox2));
+        assertIsSelected(snapshotOf(botTestPage.selectOption1));
+        assertIsDisabled(snapshotOf(botTestPage.selectOption3));
+
+        // Attributes and text are resolved like getAttribute and getText
+        assertAttributeEquals("checked", WebDriverActions.attributeIn("checked", botTestPage.checkbox1), snapshotOf(botTestPage.checkbox1));
+        assertAttributeEquals("disabled", WebDriverActions.attributeIn("disabled", botTestPage.selectOption3), snapshotOf(botTestPage.selectOption3));
+        assertHrefEquals(WebDriverActions.hrefIn(botTestPage.relativeLink), snapshotOf(botTestPage.relativeLink));
+        assertHrefEndsWith("/html/bot-test.html", snapshotOf(botTestPage.relativeLink));
+        assertTextEquals(WebDriverActions.textIn(botTestPage.textSpan), snapshotOf(botTestPage.textSpan));
+    }
+
     /* Option */
     @Test
     public void optionTest() {
@@ -0,0 +1,91 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.RoundTripCounter;
+import com.github.webdriverextensions.webdriverasserts.WebDriverAsserts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BotUtilsTest {
+
+    private RoundTripCounter counter;
+    private Map<String, Object> html;
+    private WebElement webElement;
+
+    @Before
+    public void setUp() {
+        counter = new RoundTripCounter();
+        html = new HashMap<>();
+        html.put("tagName", "div");
+        html.put("attributes", "id=\"some-id\"");
+        html.put("innerHtml", "<span>Some text</span>");
+        html.put("truncated", false);
+        webElement = counter.stub(WebElement.class, null);
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, html, JavascriptExecutor.class));
+    }
+
+    @After
+    public void tearDown() {
+        WebDriverAsserts.removeDriver();
+    }
+
+    @Test
+    public void htmlOfUsesOneRoundTrip() {
+        assertEquals("<div id=\"some-id\"><span>Some text</span></div>", BotUtils.htmlOf(webElement));
+        assertEquals(1, counter.roundTrips());
+    }
+
+    @Test
+    public void htmlOfElementByElementCommandsTookFourRoundTrips() {
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, "<span>Some text</span>", JavascriptExecutor.class));
+        // How htmlOf rendered a non empty element before it used one script
+        String innerHtml = BotUtils.innerHtmlOf(webElement);
+        String html = "<" + BotUtils.tagNameOf(webElement) + " " + BotUtils.attributesIn(webElement) + ">" + innerHtml + "</" + BotUtils.tagNameOf(webElement) + ">";
+        assertTrue(html.contains("<span>Some text</span>"));
+        assertEquals(4, counter.roundTrips());
+    }
+
+    @Test
+    public void nullNeitherMatchesNorIsMatched() {
+        assertFalse(BotUtils.matches("a.*", null));
+        assertFalse(BotUtils.matches((String) null, "abc"));
+        assertFalse(BotUtils.matches(Pattern.compile("a.*"), null));
+        assertTrue(BotUtils.notMatches("a.*", null));
+        assertTrue(BotUtils.notMatches((String) null, "abc"));
+        assertTrue(BotUtils.notMatches(Pattern.compile("a.*"), null));
+        assertFalse(BotUtils.notMatches("a.*", "abc"));
+    }
+
+    @Test
+    public void htmlOfMarksTruncatedInnerHtml() {
+        html.put("truncated", true);
+        assertEquals("<div id=\"some-id\"><span>Some text</span>...</div>", BotUtils.htmlOf(webElement));
+        assertEquals(1, counter.roundTrips());
+    }
+
+    @Test
+    public void htmlOfRendersEmptyElementAsSelfClosing() {
+        html.put("innerHtml", "");
+        assertEquals("<div id=\"some-id\" />", BotUtils.htmlOf(webElement));
+        assertEquals(1, counter.roundTrips());
+    }
+
+    @Test
+    public void matchesReusesCompiledPatterns() {
+        assertTrue(BotUtils.matches("some-.*", "some-id"));
+        assertFalse(BotUtils.matches("some-.*", "other-id"));
+        assertSame(PatternCache.compile("some-.*"), PatternCache.compile("some-.*"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.webdriverextensions.webdriverasserts.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.github.webdriverextensions.webdriverasserts.RoundTripCounter;
+import com.github.webdriverextensions.webdriverasserts.WebDriverAsserts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class TextPredicatesTest {
+
+    private RoundTripCounter counter;
+    private Map<String, Object> result;
+    private WebElement webElement;
+
+    @Before
+    public void setUp() {
+        counter = new RoundTripCounter();
+        result = new HashMap<>();
+        result.put("holds", false);
+        result.put("length", 500000L);
+        result.put("excerpt", "Lorem ipsum");
+        webElement = counter.stub(WebElement.class, null);
+        WebDriverAsserts.setDriver(counter.stub(WebDriver.class, result, JavascriptExecutor.class));
+    }
+
+    @After
+    public void tearDown() {
+        WebDriverAsserts.removeDriver();
+    }
+
+    @Test
+    public void evaluateSendsBackOnlyAnExcerpt() {
+        TextPredicates.Result contains = TextPredicates.evaluate(TextPredicates.Predicate.CONTAINS, "dolor", true, webElement);
+        assertFalse(contains.holds());
+        assertEquals("\"Lorem ipsum\"... (500000 characters)", contains.excerpt());
+        assertEquals("...\"Lorem ipsum\" (500000 characters)",
+                TextPredicates.evaluate(TextPredicates.Predicate.ENDS_WITH, "dolor", true, webElement).excerpt());
+        assertEquals(2, counter.roundTrips());
+    }
+
+    @Test
+    public void evaluateLeavesNullToJava() {
+        assertNull(TextPredicates.evaluate(TextPredicates.Predicate.CONTAINS, null, true, webElement));
+        assertNull(TextPredicates.evaluateMatches(Pattern.compile("a++"), true, webElement));
+        assertEquals(0, counter.roundTrips());
+    }
+
+    @Test
+    public void jsRegExpOfTranslatesCompatibleExpressions() {
+        assertEquals("^(?:Some text)$", jsRegExpOf("Some text"));
+        assertEquals("^(?:[^\\n\\r\\u0085\\u2028\\u2029]*\\d{2,}[a-z\\-]+?)$", jsRegExpOf(".*\\d{2,}[a-z\\-]+?"));
+        assertEquals("^(?:[ \\t\\n\\x0B\\f\\r][^ \\t\\n\\x0B\\f\\r][\\w \\t\\n\\x0B\\f\\r])$", jsRegExpOf("\\s\\S[\\w\\s]"));
+        assertEquals("^(?:(a|b)(?:c)(?=d)(?!e)\\x41\\u0042\\.)$", jsRegExpOf("(a|b)(?:c)(?=d)(?!e)\\x41\\u0042\\."));
+        assertEquals("^(?:^price \\$\\d+$)$", jsRegExpOf("^price \\$\\d+$"));
+    }
+
+    @Test
+    public void jsRegExpOfRejectsExpressionsMeaningSomethingElseInJavascript() {
+        assertNull(jsRegExpOf("a*+"));
+        assertNull(jsRegExpOf("(?>a)"));
+        assertNull(jsRegExpOf("(?i)a"));
+        assertNull(jsRegExpOf("(?<=a)b"));
+        assertNull(jsRegExpOf("\\Qa.b\\E"));
+        assertNull(jsRegExpOf("\\p{Lu}"));
+        assertNull(jsRegExpOf("\\bword\\b"));
+        assertNull(jsRegExpOf("\\Aa\\z"));
+        assertNull(jsRegExpOf("[a-z&&[^e]]"));
+        assertNull(jsRegExpOf("[a[b]]"));
+        assertNull(jsRegExpOf("[^\\S]"));
+        assertNull(jsRegExpOf("a$b"));
+        assertNull(jsRegExpOf("\\x{41}"));
+        assertNull(jsRegExpOf("\\11"));
+        assertNull(jsRegExpOf("(a|b)\\1"));
+        assertNull(jsRegExpOf("(a)?\\1b"));
+        assertNull(TextPredicates.jsRegExpOf(Pattern.compile("a", Pattern.CASE_INSENSITIVE)));
+    }
+
+    private static String jsRegExpOf(String regExp) {
+        return TextPredicates.jsRegExpOf(Pattern.compile(regExp));
+    }
+}